@@ -0,0 +1,10 @@
+package io.github.zorin95670.benchmark;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Spring Boot application of the benchmarks, backed by an in-memory H2 database.
+ */
+@SpringBootApplication
+public class BenchmarkApplication {
+}
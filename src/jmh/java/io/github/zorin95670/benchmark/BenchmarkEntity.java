@@ -0,0 +1,76 @@
+package io.github.zorin95670.benchmark;
+
+import io.github.zorin95670.predicate.FilterType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Entity filtered by the benchmarks, with one field of each common filter type.
+ */
+@Entity
+public class BenchmarkEntity {
+
+    /**
+     * Identifier of the entity.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @FilterType(type = Long.class)
+    private Long id;
+
+    /**
+     * Name of the entity.
+     */
+    @Column
+    @FilterType(type = String.class)
+    private String name;
+
+    /**
+     * A counter.
+     */
+    @Column
+    @FilterType(type = Integer.class)
+    private Integer count;
+
+    /**
+     * An amount.
+     */
+    @Column
+    @FilterType(type = Double.class)
+    private Double amount;
+
+    /**
+     * Creation date.
+     */
+    @Column
+    @FilterType(type = Date.class)
+    private Date createdAt;
+
+    /**
+     * A calendar day.
+     */
+    @Column
+    @FilterType(type = LocalDate.class)
+    private LocalDate day;
+
+    /**
+     * Whether the entity is active.
+     */
+    @Column
+    @FilterType(type = Boolean.class)
+    private Boolean active;
+
+    /**
+     * External reference.
+     */
+    @Column
+    @FilterType(type = UUID.class)
+    private UUID reference;
+}
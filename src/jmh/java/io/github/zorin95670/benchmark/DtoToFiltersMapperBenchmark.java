@@ -0,0 +1,140 @@
+package io.github.zorin95670.benchmark;
+
+import io.github.zorin95670.mapper.DtoToFiltersMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link DtoToFiltersMapper#toFilters(Object)} on a DTO holding the values of the fixture.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoToFiltersMapperBenchmark {
+
+    /**
+     * The filter map copied into the DTO.
+     */
+    @Param
+    private FilterFixture fixture;
+
+    /**
+     * The DTO to map.
+     */
+    private FilterDto dto;
+
+    /**
+     * DTO as bound from query parameters by a controller.
+     */
+    public static class FilterDto {
+
+        /**
+         * Identifier filters.
+         */
+        private List<String> id;
+
+        /**
+         * Name filters.
+         */
+        private List<String> name;
+
+        /**
+         * Counter filters.
+         */
+        private List<String> count;
+
+        /**
+         * Amount filters.
+         */
+        private List<String> amount;
+
+        /**
+         * Creation date filters.
+         */
+        private List<String> createdAt;
+
+        /**
+         * Day filters.
+         */
+        private List<String> day;
+
+        /**
+         * Active filters.
+         */
+        private List<String> active;
+
+        /**
+         * Reference filters.
+         */
+        private List<String> reference;
+
+        /**
+         * Date format.
+         */
+        private String dateFormat;
+    }
+
+    /**
+     * Copies the fixture into the DTO.
+     */
+    @Setup
+    public void setUp() {
+        dto = new FilterDto();
+        dto.id = values("id");
+        dto.name = values("name");
+        dto.count = values("count");
+        dto.amount = values("amount");
+        dto.createdAt = values("createdAt");
+        dto.day = values("day");
+        dto.active = values("active");
+        dto.reference = values("reference");
+        dto.dateFormat = FilterFixture.DATE_FORMAT;
+    }
+
+    /**
+     * Maps the DTO into a new filter map.
+     *
+     * @return the filter map
+     */
+    @Benchmark
+    public Map<String, List<String>> toFilters() {
+        Map<String, List<String>> filters = new HashMap<>();
+
+        new DtoToFiltersMapper(filters).toFilters(dto);
+
+        return filters;
+    }
+
+    /**
+     * Gets the values of a field of the fixture, or {@code null} if it is not filtered.
+     *
+     * @param name the name of the field
+     * @return the values of the field
+     */
+    private List<String> values(final String name) {
+        List<String> values = fixture.getValues(name);
+
+        if (values.isEmpty()) {
+            return null;
+        }
+
+        return values;
+    }
+}
@@ -0,0 +1,134 @@
+package io.github.zorin95670.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.function.IntFunction;
+
+/**
+ * Filter maps used as benchmark inputs, from a single filter to hundreds of alternatives per field.
+ */
+public enum FilterFixture {
+
+    /**
+     * A single {@code LIKE} filter on one field.
+     */
+    SMALL(1, false),
+
+    /**
+     * A few alternatives on every filtered field, as sent by a search form.
+     */
+    TYPICAL(5, true),
+
+    /**
+     * Hundreds of alternatives on every filtered field, as sent by a select-all in a table.
+     */
+    PATHOLOGICAL(500, true);
+
+    /**
+     * Date format sent with the date filters.
+     */
+    public static final String DATE_FORMAT = "yyyy-MM-dd";
+
+    /**
+     * Number of values of each filtered field.
+     */
+    private final int valueCount;
+
+    /**
+     * Whether every field is filtered, or only the name.
+     */
+    private final boolean allFields;
+
+    /**
+     * Constructs a fixture.
+     *
+     * @param valueCount the number of values of each filtered field
+     * @param allFields {@code true} to filter every field, {@code false} to only filter the name
+     */
+    FilterFixture(final int valueCount, final boolean allFields) {
+        this.valueCount = valueCount;
+        this.allFields = allFields;
+    }
+
+    /**
+     * Gets the number of values of each filtered field.
+     *
+     * @return the value count
+     */
+    public int getValueCount() {
+        return valueCount;
+    }
+
+    /**
+     * Builds the filter map of this fixture, as bound from query parameters.
+     *
+     * @return a new, mutable filter map
+     */
+    public Map<String, List<String>> getFilters() {
+        Map<String, List<String>> filters = new HashMap<>();
+
+        filters.put("name", List.of(join(index -> "lk_*name" + index + "*")));
+
+        if (!allFields) {
+            return filters;
+        }
+
+        List<String> negatedAmounts = new ArrayList<>();
+        for (int index = 0; index < valueCount; index++) {
+            negatedAmounts.add("not_" + index + ".5");
+        }
+
+        filters.put("id", List.of(join(String::valueOf)));
+        filters.put("count", List.of(join(index -> index + "_bt_" + (index + valueCount))));
+        filters.put("amount", negatedAmounts);
+        filters.put("createdAt", List.of(join(index -> "gt_2024-01-" + day(index))));
+        filters.put("day", List.of(join(index -> "not_2024-02-" + day(index))));
+        filters.put("active", List.of("true|null"));
+        filters.put("reference", List.of(join(index -> new UUID(0, index).toString())));
+        filters.put("dateFormat", List.of(DATE_FORMAT));
+        filters.put("page", List.of("0"));
+
+        return filters;
+    }
+
+    /**
+     * Gets the values of a field of this fixture.
+     *
+     * @param name the name of the field
+     * @return the values of the field, or an empty list if the field is not filtered
+     */
+    public List<String> getValues(final String name) {
+        return getFilters().getOrDefault(name, Collections.emptyList());
+    }
+
+    /**
+     * Joins the alternatives of a field with {@code |}.
+     *
+     * @param alternative the alternative at each index
+     * @return the joined value
+     */
+    private String join(final IntFunction<String> alternative) {
+        StringJoiner joiner = new StringJoiner("|");
+
+        for (int index = 0; index < valueCount; index++) {
+            joiner.add(alternative.apply(index));
+        }
+
+        return joiner.toString();
+    }
+
+    /**
+     * Gets a valid day of month for an index.
+     *
+     * @param index the index
+     * @return a two-digit day of month
+     */
+    private static String day(final int index) {
+        return String.format("%02d", index % 28 + 1);
+    }
+}
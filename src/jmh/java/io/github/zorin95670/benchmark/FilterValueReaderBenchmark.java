@@ -0,0 +1,203 @@
+package io.github.zorin95670.benchmark;
+
+import io.github.zorin95670.predicate.ComparablePredicateFilter;
+import io.github.zorin95670.predicate.IPredicateFilter;
+import io.github.zorin95670.predicate.PredicateOperator;
+import io.github.zorin95670.predicate.StringPredicateFilter;
+import io.github.zorin95670.specification.SpringQueryFilterSpecification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the single-pass reader of filter values against the reader it replaced, which split values with
+ * {@link String#split(String)} and scanned each alternative with {@code toLowerCase().startsWith(...)} per operator.
+ * <p>
+ * The previous reader is reimplemented by {@link #readLegacy}. Both benchmarks read the operator and literal of every
+ * alternative, then parse its operands with {@link IPredicateFilter#parseValue(String)}. Only {@link #read} creates
+ * the filters, as requests do, so its gain over {@link #readLegacy} is a lower bound.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterValueReaderBenchmark {
+
+    /**
+     * The filter map used as input.
+     */
+    @Param
+    private FilterFixture fixture;
+
+    /**
+     * The specification creating the predicate filters.
+     */
+    private SpringQueryFilterSpecification<BenchmarkEntity> specification;
+
+    /**
+     * The type of each filtered value.
+     */
+    private final List<Class<?>> types = new ArrayList<>();
+
+    /**
+     * The field name of each filtered value.
+     */
+    private final List<String> names = new ArrayList<>();
+
+    /**
+     * The filtered values.
+     */
+    private final List<String> values = new ArrayList<>();
+
+    /**
+     * The predicate filter of each filtered value, parsing the operands of the previous reader.
+     */
+    private final List<IPredicateFilter<BenchmarkEntity, ?>> filters = new ArrayList<>();
+
+    /**
+     * Resolves the filtered fields of the fixture.
+     */
+    @Setup
+    public void setUp() {
+        specification = new SpringQueryFilterSpecification<>(BenchmarkEntity.class, fixture.getFilters());
+
+        for (Field field : specification.getFields()) {
+            for (String value : fixture.getValues(field.getName())) {
+                types.add(field.getType());
+                names.add(field.getName());
+                values.add(value);
+                filters.add(specification.getPredicateFilter(field.getType(), field.getName(), value));
+            }
+        }
+    }
+
+    /**
+     * Reads every value with the single-pass reader, by creating and extracting its predicate filter.
+     *
+     * @param blackhole the sink of the extracted filters
+     */
+    @Benchmark
+    public void read(final Blackhole blackhole) {
+        for (int index = 0; index < values.size(); index++) {
+            IPredicateFilter<BenchmarkEntity, ?> filter = specification.getPredicateFilter(
+                types.get(index), names.get(index), values.get(index));
+
+            filter.extract();
+            blackhole.consume(filter);
+        }
+    }
+
+    /**
+     * Reads every value with the previous reader.
+     *
+     * @param blackhole the sink of the operators and operands
+     */
+    @Benchmark
+    public void readLegacy(final Blackhole blackhole) {
+        for (int index = 0; index < values.size(); index++) {
+            readLegacy(filters.get(index), values.get(index), blackhole);
+        }
+    }
+
+    /**
+     * Reads a value as the previous reader did: split on {@code |}, then every operator prefix is looked up in the
+     * lower-cased alternative, each match copying the rest of it.
+     *
+     * @param filter the filter of the value, parsing its operands
+     * @param value the raw value
+     * @param blackhole the sink of the operators and operands
+     */
+    private static void readLegacy(final IPredicateFilter<BenchmarkEntity, ?> filter,
+                                   final String value,
+                                   final Blackhole blackhole) {
+        String[] alternatives = value.split(PredicateOperator.OR.getValue());
+        PredicateOperator[] operators = new PredicateOperator[alternatives.length];
+        boolean[] negations = new boolean[alternatives.length];
+
+        for (int index = 0; index < alternatives.length; index++) {
+            String alternative = alternatives[index];
+            PredicateOperator operator = PredicateOperator.EQUALS;
+
+            if (alternative.toLowerCase().startsWith(PredicateOperator.NOT.getValue())) {
+                negations[index] = true;
+                alternative = alternative.substring(PredicateOperator.NOT.getValue().length());
+            }
+            if (PredicateOperator.NULL.getValue().equalsIgnoreCase(alternative)) {
+                operator = PredicateOperator.NULL;
+            }
+            if (alternative.toLowerCase().startsWith(PredicateOperator.EQUALS.getValue())) {
+                alternative = alternative.substring(PredicateOperator.EQUALS.getValue().length());
+            }
+
+            if (filter instanceof ComparablePredicateFilter<?, ?>) {
+                if (alternative.toLowerCase().startsWith(PredicateOperator.INFERIOR.getValue())) {
+                    operator = PredicateOperator.INFERIOR;
+                    alternative = alternative.substring(PredicateOperator.INFERIOR.getValue().length());
+                } else if (alternative.toLowerCase().startsWith(PredicateOperator.SUPERIOR.getValue())) {
+                    operator = PredicateOperator.SUPERIOR;
+                    alternative = alternative.substring(PredicateOperator.SUPERIOR.getValue().length());
+                } else if (alternative.toLowerCase().contains(PredicateOperator.BETWEEN.getValue())) {
+                    operator = PredicateOperator.BETWEEN;
+                }
+            }
+
+            if (filter instanceof StringPredicateFilter<?>) {
+                if (alternative.toLowerCase().startsWith(PredicateOperator.LIKE.getValue())) {
+                    alternative = alternative.replace("*", "%");
+                    operator = PredicateOperator.LIKE;
+                    alternative = alternative.substring(PredicateOperator.LIKE.getValue().length());
+                }
+                alternative = alternative.toUpperCase();
+            }
+
+            operators[index] = operator;
+            alternatives[index] = alternative;
+            blackhole.consume(parseOperands(filter, operator, alternative));
+        }
+
+        blackhole.consume(operators);
+        blackhole.consume(negations);
+    }
+
+    /**
+     * Parses the operands of an alternative as the previous reader did, finding the between operator again.
+     *
+     * @param filter the filter of the value
+     * @param operator the operator of the alternative
+     * @param alternative the alternative without its operator prefix
+     * @return the typed operands
+     */
+    private static List<?> parseOperands(final IPredicateFilter<BenchmarkEntity, ?> filter,
+                                         final PredicateOperator operator,
+                                         final String alternative) {
+        if (operator == PredicateOperator.NULL) {
+            return List.of();
+        }
+
+        if (operator != PredicateOperator.BETWEEN) {
+            return List.of(filter.parseValue(alternative));
+        }
+
+        int operatorIndex = alternative.toLowerCase().indexOf(PredicateOperator.BETWEEN.getValue());
+
+        return List.of(filter.parseValue(alternative.substring(0, operatorIndex)),
+            filter.parseValue(alternative.substring(operatorIndex + PredicateOperator.BETWEEN.getValue().length())));
+    }
+}
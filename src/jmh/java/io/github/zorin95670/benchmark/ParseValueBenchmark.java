@@ -0,0 +1,268 @@
+package io.github.zorin95670.benchmark;
+
+import io.github.zorin95670.predicate.BooleanPredicateFilter;
+import io.github.zorin95670.predicate.DatePredicateFilter;
+import io.github.zorin95670.predicate.DoublePredicateFilter;
+import io.github.zorin95670.predicate.FloatPredicateFilter;
+import io.github.zorin95670.predicate.InstantPredicateFilter;
+import io.github.zorin95670.predicate.IntegerPredicateFilter;
+import io.github.zorin95670.predicate.LocalDatePredicateFilter;
+import io.github.zorin95670.predicate.LocalDateTimePredicateFilter;
+import io.github.zorin95670.predicate.LongPredicateFilter;
+import io.github.zorin95670.predicate.OffsetDateTimePredicateFilter;
+import io.github.zorin95670.predicate.PredicateFilter;
+import io.github.zorin95670.predicate.StringPredicateFilter;
+import io.github.zorin95670.predicate.UUIDPredicateFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * Benchmarks each {@code parseValue} implementation on as many literals as the fixture has values per field.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParseValueBenchmark {
+
+    /**
+     * The fixture deciding the number of parsed literals.
+     */
+    @Param
+    private FilterFixture fixture;
+
+    /**
+     * String literals.
+     */
+    private List<String> strings;
+
+    /**
+     * Integer literals.
+     */
+    private List<String> integers;
+
+    /**
+     * Decimal literals.
+     */
+    private List<String> decimals;
+
+    /**
+     * Boolean literals.
+     */
+    private List<String> booleans;
+
+    /**
+     * UUID literals.
+     */
+    private List<String> uuids;
+
+    /**
+     * Date literals, in the fixture date format.
+     */
+    private List<String> dates;
+
+    /**
+     * ISO-8601 date-time literals.
+     */
+    private List<String> dateTimes;
+
+    /**
+     * ISO-8601 offset date-time literals.
+     */
+    private List<String> offsetDateTimes;
+
+    /**
+     * ISO-8601 instant literals.
+     */
+    private List<String> instants;
+
+    /**
+     * Builds the literals of the fixture.
+     */
+    @Setup
+    public void setUp() {
+        strings = literals(index -> "name" + index);
+        integers = literals(String::valueOf);
+        decimals = literals(index -> index + ".5");
+        booleans = literals(index -> String.valueOf(index % 2 == 0));
+        uuids = literals(index -> new UUID(index, index).toString());
+        dates = literals(index -> LocalDate.of(2024, 1, 1).plusDays(index).toString());
+        dateTimes = literals(index -> LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(index).toString());
+        offsetDateTimes = literals(index -> OffsetDateTime.parse("2024-01-01T00:00:00+02:00").plusMinutes(index)
+            .toString());
+        instants = literals(index -> Instant.parse("2024-01-01T00:00:00Z").plusSeconds(index).toString());
+    }
+
+    /**
+     * Benchmarks {@link StringPredicateFilter#parseValue}.
+     *
+     * @param blackhole the sink of parsed values
+     */
+    @Benchmark
+    public void parseString(final Blackhole blackhole) {
+        parse(new StringPredicateFilter<>("name", ""), strings, blackhole);
+    }
+
+    /**
+     * Benchmarks {@link IntegerPredicateFilter#parseValue}.
+     *
+     * @param blackhole the sink of parsed values
+     */
+    @Benchmark
+    public void parseInteger(final Blackhole blackhole) {
+        parse(new IntegerPredicateFilter<>("count", ""), integers, blackhole);
+    }
+
+    /**
+     * Benchmarks {@link LongPredicateFilter#parseValue}.
+     *
+     * @param blackhole the sink of parsed values
+     */
+    @Benchmark
+    public void parseLong(final Blackhole blackhole) {
+        parse(new LongPredicateFilter<>("id", ""), integers, blackhole);
+    }
+
+    /**
+     * Benchmarks {@link FloatPredicateFilter#parseValue}.
+     *
+     * @param blackhole the sink of parsed values
+     */
+    @Benchmark
+    public void parseFloat(final Blackhole blackhole) {
+        parse(new FloatPredicateFilter<>("amount", ""), decimals, blackhole);
+    }
+
+    /**
+     * Benchmarks {@link DoublePredicateFilter#parseValue}.
+     *
+     * @param blackhole the sink of parsed values
+     */
+    @Benchmark
+    public void parseDouble(final Blackhole blackhole) {
+        parse(new DoublePredicateFilter<>("amount", ""), decimals, blackhole);
+    }
+
+    /**
+     * Benchmarks {@link BooleanPredicateFilter#parseValue}.
+     *
+     * @param blackhole the sink of parsed values
+     */
+    @Benchmark
+    public void parseBoolean(final Blackhole blackhole) {
+        parse(new BooleanPredicateFilter<>("active", ""), booleans, blackhole);
+    }
+
+    /**
+     * Benchmarks {@link UUIDPredicateFilter#parseValue}.
+     *
+     * @param blackhole the sink of parsed values
+     */
+    @Benchmark
+    public void parseUuid(final Blackhole blackhole) {
+        parse(new UUIDPredicateFilter<>("reference", ""), uuids, blackhole);
+    }
+
+    /**
+     * Benchmarks {@link DatePredicateFilter#parseValue} with a date format.
+     *
+     * @param blackhole the sink of parsed values
+     */
+    @Benchmark
+    public void parseDate(final Blackhole blackhole) {
+        parse(new DatePredicateFilter<>("createdAt", "", FilterFixture.DATE_FORMAT), dates, blackhole);
+    }
+
+    /**
+     * Benchmarks {@link LocalDatePredicateFilter#parseValue} with ISO-8601 values.
+     *
+     * @param blackhole the sink of parsed values
+     */
+    @Benchmark
+    public void parseLocalDate(final Blackhole blackhole) {
+        parse(new LocalDatePredicateFilter<>("day", ""), dates, blackhole);
+    }
+
+    /**
+     * Benchmarks {@link LocalDateTimePredicateFilter#parseValue} with ISO-8601 values.
+     *
+     * @param blackhole the sink of parsed values
+     */
+    @Benchmark
+    public void parseLocalDateTime(final Blackhole blackhole) {
+        parse(new LocalDateTimePredicateFilter<>("day", ""), dateTimes, blackhole);
+    }
+
+    /**
+     * Benchmarks {@link InstantPredicateFilter#parseValue} with ISO-8601 values.
+     *
+     * @param blackhole the sink of parsed values
+     */
+    @Benchmark
+    public void parseInstant(final Blackhole blackhole) {
+        parse(new InstantPredicateFilter<>("day", ""), instants, blackhole);
+    }
+
+    /**
+     * Benchmarks {@link OffsetDateTimePredicateFilter#parseValue} with ISO-8601 values.
+     *
+     * @param blackhole the sink of parsed values
+     */
+    @Benchmark
+    public void parseOffsetDateTime(final Blackhole blackhole) {
+        parse(new OffsetDateTimePredicateFilter<>("day", ""), offsetDateTimes, blackhole);
+    }
+
+    /**
+     * Parses every literal with a filter.
+     *
+     * @param filter the filter parsing the literals
+     * @param literals the literals to parse
+     * @param blackhole the sink of parsed values
+     */
+    private static void parse(final PredicateFilter<?, ?> filter,
+                              final List<String> literals,
+                              final Blackhole blackhole) {
+        for (String literal : literals) {
+            blackhole.consume(filter.parseValue(literal));
+        }
+    }
+
+    /**
+     * Builds as many literals as the fixture has values per field.
+     *
+     * @param literal the literal at each index
+     * @return the literals
+     */
+    private List<String> literals(final IntFunction<String> literal) {
+        List<String> result = new ArrayList<>();
+
+        for (int index = 0; index < fixture.getValueCount(); index++) {
+            result.add(literal.apply(index));
+        }
+
+        return result;
+    }
+}
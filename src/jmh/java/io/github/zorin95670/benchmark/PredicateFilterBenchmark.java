@@ -0,0 +1,104 @@
+package io.github.zorin95670.benchmark;
+
+import io.github.zorin95670.predicate.IPredicateFilter;
+import io.github.zorin95670.specification.SpringQueryFilterSpecification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the creation of predicate filters from filter values: the type dispatch of
+ * {@link SpringQueryFilterSpecification#getPredicateFilter} and the parsing done by {@link IPredicateFilter#extract()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PredicateFilterBenchmark {
+
+    /**
+     * The filter map used as input.
+     */
+    @Param
+    private FilterFixture fixture;
+
+    /**
+     * The specification creating the predicate filters.
+     */
+    private SpringQueryFilterSpecification<BenchmarkEntity> specification;
+
+    /**
+     * The type of each filtered value.
+     */
+    private final List<Class<?>> types = new ArrayList<>();
+
+    /**
+     * The field name of each filtered value.
+     */
+    private final List<String> names = new ArrayList<>();
+
+    /**
+     * The filtered values.
+     */
+    private final List<String> values = new ArrayList<>();
+
+    /**
+     * Resolves the filtered fields of the fixture.
+     */
+    @Setup
+    public void setUp() {
+        specification = new SpringQueryFilterSpecification<>(BenchmarkEntity.class, fixture.getFilters());
+
+        for (Field field : specification.getFields()) {
+            for (String value : fixture.getValues(field.getName())) {
+                types.add(field.getType());
+                names.add(field.getName());
+                values.add(value);
+            }
+        }
+    }
+
+    /**
+     * Creates the predicate filter of every value, without parsing it.
+     *
+     * @param blackhole the sink of the created filters
+     */
+    @Benchmark
+    public void getPredicateFilter(final Blackhole blackhole) {
+        for (int index = 0; index < values.size(); index++) {
+            blackhole.consume(specification.getPredicateFilter(types.get(index), names.get(index), values.get(index)));
+        }
+    }
+
+    /**
+     * Creates and extracts the predicate filter of every value.
+     *
+     * @param blackhole the sink of the extracted filters
+     */
+    @Benchmark
+    public void extract(final Blackhole blackhole) {
+        for (int index = 0; index < values.size(); index++) {
+            IPredicateFilter<BenchmarkEntity, ?> filter = specification.getPredicateFilter(
+                types.get(index), names.get(index), values.get(index));
+
+            filter.extract();
+            blackhole.consume(filter);
+        }
+    }
+}
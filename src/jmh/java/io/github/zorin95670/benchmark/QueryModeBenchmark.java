@@ -0,0 +1,98 @@
+package io.github.zorin95670.benchmark;
+
+import io.github.zorin95670.executor.QueryMode;
+import io.github.zorin95670.executor.SpringQueryExecutorImpl;
+import io.github.zorin95670.specification.SpringQueryFilterSpecification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the execution of a filtered query built with the Criteria API against the same query rendered to
+ * parameterised JPQL, on an in-memory H2 database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryModeBenchmark {
+
+    /**
+     * The filter map used as input.
+     */
+    @Param
+    private FilterFixture fixture;
+
+    /**
+     * How the executor builds its queries.
+     */
+    @Param
+    private QueryMode queryMode;
+
+    /**
+     * The Spring context holding the executor.
+     */
+    private ConfigurableApplicationContext context;
+
+    /**
+     * The executor running the queries.
+     */
+    private SpringQueryExecutorImpl executor;
+
+    /**
+     * The filter map of the fixture.
+     */
+    private Map<String, List<String>> filters;
+
+    /**
+     * Starts the Spring context and sets the query mode of its executor. Identifiers are quoted, since {@code day} is
+     * a keyword of H2.
+     */
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BenchmarkApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties("spring.jpa.properties.hibernate.globally_quoted_identifiers=true")
+            .run();
+        executor = context.getBean(SpringQueryExecutorImpl.class);
+        executor.setQueryMode(queryMode);
+        filters = fixture.getFilters();
+    }
+
+    /**
+     * Closes the Spring context.
+     */
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Builds and executes the query of a new specification, parsing the filters on each call as a request would.
+     *
+     * @return the matching entities
+     */
+    @Benchmark
+    public List<BenchmarkEntity> find() {
+        return executor.find(BenchmarkEntity.class, BenchmarkEntity.class,
+            new SpringQueryFilterSpecification<>(BenchmarkEntity.class, filters), new String[0]);
+    }
+}
@@ -0,0 +1,125 @@
+package io.github.zorin95670.benchmark;
+
+import io.github.zorin95670.specification.FilterPlan;
+import io.github.zorin95670.specification.SpringQueryFilterSpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link SpringQueryFilterSpecification#toPredicate} against the Hibernate {@link CriteriaBuilder} of an
+ * in-memory H2 database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpecificationBenchmark {
+
+    /**
+     * The filter map used as input.
+     */
+    @Param
+    private FilterFixture fixture;
+
+    /**
+     * The Spring context holding the entity manager factory.
+     */
+    private ConfigurableApplicationContext context;
+
+    /**
+     * The entity manager creating the criteria queries.
+     */
+    private EntityManager entityManager;
+
+    /**
+     * The filter map of the fixture.
+     */
+    private Map<String, List<String>> filters;
+
+    /**
+     * The compiled plan of the fixture.
+     */
+    private FilterPlan<BenchmarkEntity> plan;
+
+    /**
+     * Starts the Spring context and compiles the fixture.
+     */
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BenchmarkApplication.class)
+            .web(WebApplicationType.NONE)
+            .run();
+        entityManager = context.getBean(EntityManagerFactory.class).createEntityManager();
+        filters = fixture.getFilters();
+        plan = new SpringQueryFilterSpecification<>(BenchmarkEntity.class, filters).compile();
+    }
+
+    /**
+     * Closes the entity manager and the Spring context.
+     */
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        context.close();
+    }
+
+    /**
+     * Builds the predicate of a new specification, parsing the filters on each call.
+     *
+     * @return the predicate
+     */
+    @Benchmark
+    public Predicate toPredicate() {
+        return toPredicate(new SpringQueryFilterSpecification<>(BenchmarkEntity.class, filters));
+    }
+
+    /**
+     * Builds the predicate of an already compiled plan.
+     *
+     * @return the predicate
+     */
+    @Benchmark
+    public Predicate toPredicateCompiled() {
+        return toPredicate(plan);
+    }
+
+    /**
+     * Builds the predicate of a specification on a new criteria query.
+     *
+     * @param specification the specification
+     * @return the predicate
+     */
+    private Predicate toPredicate(final Specification<BenchmarkEntity> specification) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<BenchmarkEntity> query = builder.createQuery(BenchmarkEntity.class);
+        Root<BenchmarkEntity> root = query.from(BenchmarkEntity.class);
+
+        return specification.toPredicate(root, query, builder);
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Package that contains the JMH benchmarks of the filter pipeline, run with the {@code benchmarks} Maven profile.
+ */
+package io.github.zorin95670.benchmark;
@@ -1,28 +1,213 @@
 package io.github.zorin95670.config;
 
+import io.github.zorin95670.executor.AdaptiveCountPolicy;
+import io.github.zorin95670.executor.AsyncSpringQueryExecutor;
+import io.github.zorin95670.executor.AsyncSpringQueryExecutorImpl;
+import io.github.zorin95670.executor.CountCache;
+import io.github.zorin95670.executor.CountEstimator;
+import io.github.zorin95670.executor.EntityCacheInvalidator;
+import io.github.zorin95670.executor.ResultCache;
 import io.github.zorin95670.executor.SpringQueryExecutor;
 import io.github.zorin95670.executor.SpringQueryExecutorImpl;
+import io.github.zorin95670.specification.FilterPlanCache;
+import io.github.zorin95670.specification.FilterTypeContributor;
+import io.github.zorin95670.specification.FilterTypeRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.Executor;
 
 /**
  * Auto-configuration that registers the default Spring Query Filter beans.
  *
  * <p>This configuration creates a {@link SpringQueryExecutor} bean when no
  * custom implementation is already defined in the application context.</p>
+ *
+ * <p>It also creates the {@link FilterTypeRegistry} of the application context, with the
+ * built-in types and the types of every {@link FilterTypeContributor} bean, used by the
+ * executor to compile its specifications. The default registry is left unchanged.</p>
+ *
+ * <p>Optional features are enabled through {@link SpringQueryFilterProperties}.</p>
  */
 @AutoConfiguration
+@EnableConfigurationProperties(SpringQueryFilterProperties.class)
 public class SpringQueryFilterAutoConfiguration {
 
+    /**
+     * Name of the optional {@link Executor} bean running the queries of the asynchronous executor.
+     */
+    public static final String ASYNC_TASK_EXECUTOR_BEAN_NAME = "springQueryFilterAsyncTaskExecutor";
+
+    /**
+     * Creates the filter type registry of the application context, with the built-in types and
+     * the types of every contributor.
+     *
+     * @param contributors the filter type contributors, in order
+     * @return the filter type registry
+     */
+    @Bean
+    @ConditionalOnMissingBean(FilterTypeRegistry.class)
+    public FilterTypeRegistry filterTypeRegistry(final ObjectProvider<FilterTypeContributor> contributors) {
+        FilterTypeRegistry registry = new FilterTypeRegistry();
+
+        contributors.orderedStream().forEach(contributor -> contributor.contribute(registry));
+
+        return registry;
+    }
+
+    /**
+     * Creates the cross-request cache of compiled filter plans, when
+     * {@code spring-query-filter.plan-cache.enabled} is {@code true}.
+     *
+     * @param properties the Spring Query Filter properties
+     * @return the filter plan cache
+     */
+    @Bean
+    @ConditionalOnMissingBean(FilterPlanCache.class)
+    @ConditionalOnProperty(prefix = "spring-query-filter.plan-cache", name = "enabled", havingValue = "true")
+    public FilterPlanCache filterPlanCache(final SpringQueryFilterProperties properties) {
+        return new FilterPlanCache(properties.getPlanCache().getMaxSize());
+    }
+
+    /**
+     * Creates the policy adapting the count mode of pages per query shape, when
+     * {@code spring-query-filter.adaptive-count.enabled} is {@code true}.
+     *
+     * @param properties the Spring Query Filter properties
+     * @return the adaptive count policy
+     */
+    @Bean
+    @ConditionalOnMissingBean(AdaptiveCountPolicy.class)
+    @ConditionalOnProperty(prefix = "spring-query-filter.adaptive-count", name = "enabled", havingValue = "true")
+    public AdaptiveCountPolicy adaptiveCountPolicy(final SpringQueryFilterProperties properties) {
+        SpringQueryFilterProperties.AdaptiveCount settings = properties.getAdaptiveCount();
+        AdaptiveCountPolicy policy = new AdaptiveCountPolicy();
+
+        policy.setSlowThreshold(settings.getSlowThreshold());
+        policy.setMinSamples(settings.getMinSamples());
+        policy.setBoundedLimit(settings.getBoundedLimit());
+        settings.getOverrides().forEach(policy::setOverride);
+
+        return policy;
+    }
+
+    /**
+     * Creates the cache of page totals, when {@code spring-query-filter.count-cache.enabled} is
+     * {@code true}, and invalidates it on the entity writes of every entity manager factory.
+     *
+     * @param properties the Spring Query Filter properties
+     * @param entityManagerFactories the Hibernate entity manager factories of the application
+     * @return the count cache
+     */
+    @Bean
+    @ConditionalOnMissingBean(CountCache.class)
+    @ConditionalOnProperty(prefix = "spring-query-filter.count-cache", name = "enabled", havingValue = "true")
+    public CountCache countCache(final SpringQueryFilterProperties properties,
+                                 final ObjectProvider<EntityManagerFactory> entityManagerFactories) {
+        CountCache countCache = new CountCache(
+            properties.getCountCache().getMaxSize(), properties.getCountCache().getTimeToLive());
+
+        entityManagerFactories.orderedStream()
+            .forEach(entityManagerFactory -> EntityCacheInvalidator.register(entityManagerFactory, countCache));
+
+        return countCache;
+    }
+
+    /**
+     * Creates the cache of query results, when {@code spring-query-filter.result-cache.enabled}
+     * is {@code true}, and invalidates it on the entity writes of every entity manager factory.
+     *
+     * @param properties the Spring Query Filter properties
+     * @param entityManagerFactories the Hibernate entity manager factories of the application
+     * @return the result cache
+     */
+    @Bean
+    @ConditionalOnMissingBean(ResultCache.class)
+    @ConditionalOnProperty(prefix = "spring-query-filter.result-cache", name = "enabled", havingValue = "true")
+    public ResultCache resultCache(final SpringQueryFilterProperties properties,
+                                   final ObjectProvider<EntityManagerFactory> entityManagerFactories) {
+        ResultCache resultCache = new ResultCache(
+            properties.getResultCache().getMaxSize(), properties.getResultCache().getTimeToLive());
+
+        entityManagerFactories.orderedStream()
+            .forEach(entityManagerFactory -> EntityCacheInvalidator.register(entityManagerFactory, resultCache));
+
+        return resultCache;
+    }
+
     /**
      * Creates the default Spring Query executor bean.
      *
+     * @param filterTypeRegistry the filter type registry of the application context
+     * @param filterPlanCache the filter plan cache, if enabled
+     * @param countEstimator the estimator of page totals, if defined
+     * @param adaptiveCountPolicy the adaptive count policy, if enabled
+     * @param countCache the cache of page totals, if enabled
+     * @param resultCache the cache of query results, if enabled
+     * @param transactionManager the manager of the transactions of batches, if defined
+     * @param properties the Spring Query Filter properties
      * @return the Spring Query executor instance
      */
     @Bean
     @ConditionalOnMissingBean(SpringQueryExecutor.class)
-    public SpringQueryExecutor springQueryExecutor() {
-        return new SpringQueryExecutorImpl();
+    public SpringQueryExecutor springQueryExecutor(final FilterTypeRegistry filterTypeRegistry,
+                                                   final ObjectProvider<FilterPlanCache> filterPlanCache,
+                                                   final ObjectProvider<CountEstimator> countEstimator,
+                                                   final ObjectProvider<AdaptiveCountPolicy> adaptiveCountPolicy,
+                                                   final ObjectProvider<CountCache> countCache,
+                                                   final ObjectProvider<ResultCache> resultCache,
+                                                   final ObjectProvider<PlatformTransactionManager> transactionManager,
+                                                   final SpringQueryFilterProperties properties) {
+        SpringQueryExecutorImpl executor = new SpringQueryExecutorImpl();
+
+        executor.setFilterTypeRegistry(filterTypeRegistry);
+        executor.setFilterPlanCache(filterPlanCache.getIfAvailable());
+        executor.setCountEstimator(countEstimator.getIfAvailable());
+        executor.setAdaptiveCountPolicy(adaptiveCountPolicy.getIfAvailable());
+        executor.setCountCache(countCache.getIfAvailable());
+        executor.setResultCache(resultCache.getIfAvailable());
+        executor.setTransactionManager(transactionManager.getIfUnique());
+        executor.setQueryMode(properties.getQueryMode());
+        executor.setStreamFetchSize(properties.getStreaming().getFetchSize());
+        executor.setDetachStreamedEntities(properties.getStreaming().isDetachEntities());
+        executor.setConcurrentCount(properties.isConcurrentCount());
+        executor.setCountTimeout(properties.getCountTimeout());
+
+        return executor;
+    }
+
+    /**
+     * Creates the asynchronous Spring Query executor bean, when
+     * {@code spring-query-filter.async.enabled} is {@code true}.
+     *
+     * <p>Queries run on the {@link Executor} bean named {@value #ASYNC_TASK_EXECUTOR_BEAN_NAME} if
+     * it exists, and on virtual threads otherwise.</p>
+     *
+     * @param springQueryExecutor the executor running the queries
+     * @param transactionManager the manager of the read-only transactions of the queries
+     * @param taskExecutor the task executor of the queries, if defined
+     * @return the asynchronous Spring Query executor instance
+     */
+    @Bean
+    @ConditionalOnMissingBean(AsyncSpringQueryExecutor.class)
+    @ConditionalOnProperty(prefix = "spring-query-filter.async", name = "enabled", havingValue = "true")
+    public AsyncSpringQueryExecutor asyncSpringQueryExecutor(
+        final SpringQueryExecutor springQueryExecutor,
+        final PlatformTransactionManager transactionManager,
+        @Qualifier(ASYNC_TASK_EXECUTOR_BEAN_NAME) final ObjectProvider<Executor> taskExecutor) {
+        Executor executor = taskExecutor.getIfAvailable();
+
+        if (executor == null) {
+            return new AsyncSpringQueryExecutorImpl(springQueryExecutor, transactionManager);
+        }
+
+        return new AsyncSpringQueryExecutorImpl(springQueryExecutor, transactionManager, executor);
     }
 }
@@ -0,0 +1,579 @@
+package io.github.zorin95670.config;
+
+import io.github.zorin95670.executor.AdaptiveCountPolicy;
+import io.github.zorin95670.executor.CountCache;
+import io.github.zorin95670.executor.CountMode;
+import io.github.zorin95670.executor.QueryMode;
+import io.github.zorin95670.executor.ResultCache;
+import io.github.zorin95670.executor.SpringQueryExecutorImpl;
+import io.github.zorin95670.specification.FilterPlanCache;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuration properties of Spring Query Filter, bound from the {@code spring-query-filter} prefix.
+ */
+@ConfigurationProperties(prefix = "spring-query-filter")
+public class SpringQueryFilterProperties {
+
+    /**
+     * Settings of the cross-request cache of compiled filter plans.
+     */
+    private final PlanCache planCache = new PlanCache();
+
+    /**
+     * How the default executor builds its queries, {@link QueryMode#CRITERIA} by default.
+     */
+    private QueryMode queryMode = QueryMode.CRITERIA;
+
+    /**
+     * Whether the {@code COUNT} query of a page runs concurrently with its content query. Disabled by default.
+     */
+    private boolean concurrentCount;
+
+    /**
+     * Time budget of the {@code COUNT} query of a page, after which the page is returned with an unknown total. No
+     * budget by default.
+     */
+    private Duration countTimeout;
+
+    /**
+     * Settings of the adaptive counting of pages.
+     */
+    private final AdaptiveCount adaptiveCount = new AdaptiveCount();
+
+    /**
+     * Settings of the cache of page totals.
+     */
+    private final CountCacheSettings countCache = new CountCacheSettings();
+
+    /**
+     * Settings of the cache of query results.
+     */
+    private final ResultCacheSettings resultCache = new ResultCacheSettings();
+
+    /**
+     * Settings of the streams of the default executor.
+     */
+    private final Streaming streaming = new Streaming();
+
+    /**
+     * Settings of the asynchronous executor.
+     */
+    private final Async async = new Async();
+
+    /**
+     * Gets the settings of the cross-request cache of compiled filter plans.
+     *
+     * @return the plan cache settings
+     */
+    public PlanCache getPlanCache() {
+        return planCache;
+    }
+
+    /**
+     * Gets how the default executor builds its queries.
+     *
+     * @return the query mode
+     */
+    public QueryMode getQueryMode() {
+        return queryMode;
+    }
+
+    /**
+     * Sets how the default executor builds its queries.
+     *
+     * @param queryMode the query mode
+     */
+    public void setQueryMode(final QueryMode queryMode) {
+        this.queryMode = queryMode;
+    }
+
+    /**
+     * Indicates whether the {@code COUNT} query of a page runs concurrently with its content query.
+     *
+     * @return {@code true} if pages are counted concurrently
+     */
+    public boolean isConcurrentCount() {
+        return concurrentCount;
+    }
+
+    /**
+     * Sets whether the {@code COUNT} query of a page runs concurrently with its content query.
+     *
+     * @param concurrentCount {@code true} to count pages concurrently
+     */
+    public void setConcurrentCount(final boolean concurrentCount) {
+        this.concurrentCount = concurrentCount;
+    }
+
+    /**
+     * Gets the time budget of the {@code COUNT} query of a page.
+     *
+     * @return the count timeout, or {@code null} for no budget
+     */
+    public Duration getCountTimeout() {
+        return countTimeout;
+    }
+
+    /**
+     * Sets the time budget of the {@code COUNT} query of a page.
+     *
+     * @param countTimeout the count timeout, or {@code null} for no budget
+     */
+    public void setCountTimeout(final Duration countTimeout) {
+        this.countTimeout = countTimeout;
+    }
+
+    /**
+     * Gets the settings of the adaptive counting of pages.
+     *
+     * @return the adaptive count settings
+     */
+    public AdaptiveCount getAdaptiveCount() {
+        return adaptiveCount;
+    }
+
+    /**
+     * Gets the settings of the cache of page totals.
+     *
+     * @return the count cache settings
+     */
+    public CountCacheSettings getCountCache() {
+        return countCache;
+    }
+
+    /**
+     * Gets the settings of the cache of query results.
+     *
+     * @return the result cache settings
+     */
+    public ResultCacheSettings getResultCache() {
+        return resultCache;
+    }
+
+    /**
+     * Gets the settings of the streams of the default executor.
+     *
+     * @return the streaming settings
+     */
+    public Streaming getStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Gets the settings of the asynchronous executor.
+     *
+     * @return the asynchronous executor settings
+     */
+    public Async getAsync() {
+        return async;
+    }
+
+    /**
+     * Settings of the cross-request cache of compiled filter plans.
+     */
+    public static class PlanCache {
+
+        /**
+         * Whether compiled filter plans are cached across requests. Disabled by default.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Maximum number of cached plans.
+         */
+        private int maxSize = FilterPlanCache.DEFAULT_MAX_SIZE;
+
+        /**
+         * Indicates whether compiled filter plans are cached across requests.
+         *
+         * @return {@code true} if the cache is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether compiled filter plans are cached across requests.
+         *
+         * @param enabled {@code true} to enable the cache
+         */
+        public void setEnabled(final boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Gets the maximum number of cached plans.
+         *
+         * @return the maximum size of the cache
+         */
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        /**
+         * Sets the maximum number of cached plans.
+         *
+         * @param maxSize the maximum size of the cache
+         */
+        public void setMaxSize(final int maxSize) {
+            this.maxSize = maxSize;
+        }
+    }
+
+    /**
+     * Settings of the adaptive counting of pages.
+     */
+    public static class AdaptiveCount {
+
+        /**
+         * Whether the count mode of pages is adapted per query shape. Disabled by default.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Average latency above which the count of a shape is considered slow.
+         */
+        private Duration slowThreshold = AdaptiveCountPolicy.DEFAULT_SLOW_THRESHOLD;
+
+        /**
+         * Number of samples of a shape needed before its counting strategy changes.
+         */
+        private int minSamples = AdaptiveCountPolicy.DEFAULT_MIN_SAMPLES;
+
+        /**
+         * Limit of bounded counts of slow shapes.
+         */
+        private long boundedLimit = AdaptiveCountPolicy.DEFAULT_BOUNDED_LIMIT;
+
+        /**
+         * Count modes that replace the learned ones, by shape.
+         */
+        private Map<String, CountMode> overrides = new LinkedHashMap<>();
+
+        /**
+         * Indicates whether the count mode of pages is adapted per query shape.
+         *
+         * @return {@code true} if adaptive counting is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether the count mode of pages is adapted per query shape.
+         *
+         * @param enabled {@code true} to enable adaptive counting
+         */
+        public void setEnabled(final boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Gets the average latency above which the count of a shape is considered slow.
+         *
+         * @return the slow threshold
+         */
+        public Duration getSlowThreshold() {
+            return slowThreshold;
+        }
+
+        /**
+         * Sets the average latency above which the count of a shape is considered slow.
+         *
+         * @param slowThreshold the slow threshold
+         */
+        public void setSlowThreshold(final Duration slowThreshold) {
+            this.slowThreshold = slowThreshold;
+        }
+
+        /**
+         * Gets the number of samples of a shape needed before its counting strategy changes.
+         *
+         * @return the minimum sample count
+         */
+        public int getMinSamples() {
+            return minSamples;
+        }
+
+        /**
+         * Sets the number of samples of a shape needed before its counting strategy changes.
+         *
+         * @param minSamples the minimum sample count
+         */
+        public void setMinSamples(final int minSamples) {
+            this.minSamples = minSamples;
+        }
+
+        /**
+         * Gets the limit of bounded counts of slow shapes.
+         *
+         * @return the bounded limit
+         */
+        public long getBoundedLimit() {
+            return boundedLimit;
+        }
+
+        /**
+         * Sets the limit of bounded counts of slow shapes.
+         *
+         * @param boundedLimit the bounded limit
+         */
+        public void setBoundedLimit(final long boundedLimit) {
+            this.boundedLimit = boundedLimit;
+        }
+
+        /**
+         * Gets the count modes that replace the learned ones, by shape.
+         *
+         * @return the overrides
+         */
+        public Map<String, CountMode> getOverrides() {
+            return overrides;
+        }
+
+        /**
+         * Sets the count modes that replace the learned ones, by shape.
+         *
+         * @param overrides the overrides
+         */
+        public void setOverrides(final Map<String, CountMode> overrides) {
+            this.overrides = overrides;
+        }
+    }
+
+    /**
+     * Settings of the cache of page totals.
+     */
+    public static class CountCacheSettings {
+
+        /**
+         * Whether the exact totals of pages are cached. Disabled by default.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Maximum number of cached totals.
+         */
+        private int maxSize = CountCache.DEFAULT_MAX_SIZE;
+
+        /**
+         * Time to live of cached totals.
+         */
+        private Duration timeToLive = CountCache.DEFAULT_TIME_TO_LIVE;
+
+        /**
+         * Indicates whether the exact totals of pages are cached.
+         *
+         * @return {@code true} if the cache is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether the exact totals of pages are cached.
+         *
+         * @param enabled {@code true} to enable the cache
+         */
+        public void setEnabled(final boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Gets the maximum number of cached totals.
+         *
+         * @return the maximum size of the cache
+         */
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        /**
+         * Sets the maximum number of cached totals.
+         *
+         * @param maxSize the maximum size of the cache
+         */
+        public void setMaxSize(final int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        /**
+         * Gets the time to live of cached totals.
+         *
+         * @return the time to live
+         */
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        /**
+         * Sets the time to live of cached totals.
+         *
+         * @param timeToLive the time to live
+         */
+        public void setTimeToLive(final Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+    }
+
+    /**
+     * Settings of the cache of query results.
+     */
+    public static class ResultCacheSettings {
+
+        /**
+         * Whether the results of lists and pages are cached. Disabled by default.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Maximum number of cached results.
+         */
+        private int maxSize = ResultCache.DEFAULT_MAX_SIZE;
+
+        /**
+         * Time to live of cached results.
+         */
+        private Duration timeToLive = ResultCache.DEFAULT_TIME_TO_LIVE;
+
+        /**
+         * Indicates whether the results of lists and pages are cached.
+         *
+         * @return {@code true} if the cache is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether the results of lists and pages are cached.
+         *
+         * @param enabled {@code true} to enable the cache
+         */
+        public void setEnabled(final boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Gets the maximum number of cached results.
+         *
+         * @return the maximum size of the cache
+         */
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        /**
+         * Sets the maximum number of cached results.
+         *
+         * @param maxSize the maximum size of the cache
+         */
+        public void setMaxSize(final int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        /**
+         * Gets the time to live of cached results.
+         *
+         * @return the time to live
+         */
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        /**
+         * Sets the time to live of cached results.
+         *
+         * @param timeToLive the time to live
+         */
+        public void setTimeToLive(final Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+    }
+
+    /**
+     * Settings of the streams of the default executor.
+     */
+    public static class Streaming {
+
+        /**
+         * Number of rows fetched from the database at a time.
+         */
+        private int fetchSize = SpringQueryExecutorImpl.DEFAULT_STREAM_FETCH_SIZE;
+
+        /**
+         * Whether streamed entities are detached from the persistence context once read. Disabled by default.
+         */
+        private boolean detachEntities;
+
+        /**
+         * Gets the number of rows fetched from the database at a time.
+         *
+         * @return the JDBC fetch size
+         */
+        public int getFetchSize() {
+            return fetchSize;
+        }
+
+        /**
+         * Sets the number of rows fetched from the database at a time.
+         *
+         * @param fetchSize the JDBC fetch size
+         */
+        public void setFetchSize(final int fetchSize) {
+            this.fetchSize = fetchSize;
+        }
+
+        /**
+         * Indicates whether streamed entities are detached from the persistence context once read.
+         *
+         * @return {@code true} if streamed entities are detached
+         */
+        public boolean isDetachEntities() {
+            return detachEntities;
+        }
+
+        /**
+         * Sets whether streamed entities are detached from the persistence context once read.
+         *
+         * @param detachEntities {@code true} to detach streamed entities
+         */
+        public void setDetachEntities(final boolean detachEntities) {
+            this.detachEntities = detachEntities;
+        }
+    }
+
+    /**
+     * Settings of the asynchronous executor.
+     */
+    public static class Async {
+
+        /**
+         * Whether an {@code AsyncSpringQueryExecutor} bean is created. Disabled by default.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Indicates whether an {@code AsyncSpringQueryExecutor} bean is created.
+         *
+         * @return {@code true} if the asynchronous executor is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether an {@code AsyncSpringQueryExecutor} bean is created.
+         *
+         * @param enabled {@code true} to enable the asynchronous executor
+         */
+        public void setEnabled(final boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+}
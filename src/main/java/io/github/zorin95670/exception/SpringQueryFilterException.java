@@ -27,6 +27,11 @@ public class SpringQueryFilterException extends RuntimeException {
      */
     private final String queryParameterValue;
 
+    /**
+     * The offset, in the query parameter value, of the part that caused the exception, or {@code -1} if unknown.
+     */
+    private final int errorOffset;
+
     /**
      * Constructs a new {@code SpringQueryFilterException} with the specified filter type,
      * parameter name, and parameter value. No custom message or cause is provided.
@@ -88,10 +93,31 @@ public class SpringQueryFilterException extends RuntimeException {
                                       final String queryFilterType,
                                       final String queryParameterName,
                                       final String queryParameterValue) {
+        this(message, cause, queryFilterType, queryParameterName, queryParameterValue, -1);
+    }
+
+    /**
+     * Constructs a new {@code SpringQueryFilterException} with the specified message, cause, filter type,
+     * parameter name, parameter value and the offset of the error in the parameter value.
+     *
+     * @param message             the detail message (can be {@code null})
+     * @param cause               the cause of the exception (can be {@code null})
+     * @param queryFilterType     represents the type of the filter or the cause of the exception
+     * @param queryParameterName  the name of the query parameter causing the exception
+     * @param queryParameterValue the value of the query parameter causing the exception
+     * @param errorOffset         the offset of the error in the raw query parameter value, or {@code -1}
+     */
+    public SpringQueryFilterException(final String message,
+                                      final Throwable cause,
+                                      final String queryFilterType,
+                                      final String queryParameterName,
+                                      final String queryParameterValue,
+                                      final int errorOffset) {
         super(message, cause);
         this.queryFilterType = queryFilterType;
         this.queryParameterName = queryParameterName;
         this.queryParameterValue = queryParameterValue;
+        this.errorOffset = errorOffset;
     }
 
     /**
@@ -120,4 +146,17 @@ public class SpringQueryFilterException extends RuntimeException {
     public String getQueryParameterValue() {
         return queryParameterValue;
     }
+
+    /**
+     * Gets the offset of the error in the raw query parameter value.
+     * <p>
+     * The offset is known when the error comes from a part of a filter value, for example a bound of a between
+     * operator that cannot be parsed.
+     * </p>
+     *
+     * @return the offset of the error, or {@code -1} if unknown
+     */
+    public int getErrorOffset() {
+        return errorOffset;
+    }
 }
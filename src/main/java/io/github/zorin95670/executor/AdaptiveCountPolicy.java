@@ -0,0 +1,394 @@
+package io.github.zorin95670.executor;
+
+import io.github.zorin95670.specification.FilterPlan;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Learns which {@code COUNT} queries of pages are expensive, per query shape, and chooses how to count them.
+ * <p>
+ * A shape is the queried entity, the distinct projection if any, and the {@link FilterPlan#getShape() shape} of the
+ * compiled filters: {@code com.example.User/age.SUPERIOR/name.LIKE}, or
+ * {@code com.example.User+distinct(city)/age.SUPERIOR} for a distinct page of cities. Requests with the same fields
+ * and operators share it, whatever their values.
+ * </p>
+ * <p>
+ * The executor records the latency and the total of every exact count of a shape. Once a shape has
+ * {@link #getMinSamples()} samples, its pages are counted:
+ * </p>
+ * <ul>
+ *     <li>exactly, while its average latency stays below {@link #getSlowThreshold()};</li>
+ *     <li>with {@link CountMode#bounded(long)} up to {@link #getBoundedLimit()}, if it is slow and its average total
+ *     exceeds that limit, since the database can then stop counting early;</li>
+ *     <li>with {@link CountMode#none()} otherwise, since a slow count of few rows is as slow when bounded.</li>
+ * </ul>
+ * <p>
+ * Counts that exceed the time budget of the executor are recorded as slow samples without rows. The learned
+ * decisions are listed by {@link #getCountModes()}, and can be replaced for a shape with
+ * {@link #setOverride(String, CountMode)}. At most {@link #MAX_SHAPES} shapes are learned. This class is
+ * thread-safe.
+ * </p>
+ */
+public final class AdaptiveCountPolicy {
+
+    /**
+     * Maximum number of learned shapes.
+     */
+    public static final int MAX_SHAPES = 1000;
+
+    /**
+     * Default average latency above which the count of a shape is considered slow.
+     */
+    public static final Duration DEFAULT_SLOW_THRESHOLD = Duration.ofMillis(500);
+
+    /**
+     * Default number of samples of a shape needed before its counting strategy changes.
+     */
+    public static final int DEFAULT_MIN_SAMPLES = 3;
+
+    /**
+     * Default limit of bounded counts of slow shapes.
+     */
+    public static final long DEFAULT_BOUNDED_LIMIT = 1000;
+
+    /**
+     * Statistics of the learned shapes.
+     */
+    private final Map<String, ShapeStatistics> shapes = new ConcurrentHashMap<>();
+
+    /**
+     * Count modes that replace the learned ones, by shape.
+     */
+    private final Map<String, CountMode> overrides = new ConcurrentHashMap<>();
+
+    /**
+     * Average latency above which the count of a shape is considered slow.
+     */
+    private volatile Duration slowThreshold = DEFAULT_SLOW_THRESHOLD;
+
+    /**
+     * Number of samples of a shape needed before its counting strategy changes.
+     */
+    private volatile int minSamples = DEFAULT_MIN_SAMPLES;
+
+    /**
+     * Limit of bounded counts of slow shapes.
+     */
+    private volatile long boundedLimit = DEFAULT_BOUNDED_LIMIT;
+
+    /**
+     * Gets the shape of the {@code COUNT} query of a page.
+     *
+     * @param entityClass the queried entity type
+     * @param plan the compiled filters
+     * @param distinct whether distinct rows are counted
+     * @param fieldNames the projected attribute names, possibly empty
+     * @return the shape of the count
+     */
+    public static String getShape(final Class<?> entityClass,
+                                  final FilterPlan<?> plan,
+                                  final boolean distinct,
+                                  final String... fieldNames) {
+        StringBuilder shape = new StringBuilder(entityClass.getName());
+
+        if (distinct) {
+            shape.append("+distinct(");
+            if (fieldNames != null) {
+                shape.append(String.join(",", fieldNames));
+            }
+            shape.append(')');
+        }
+
+        if (!plan.getShape().isEmpty()) {
+            shape.append('/').append(plan.getShape());
+        }
+
+        return shape.toString();
+    }
+
+    /**
+     * Gets the count mode of a shape: its override if any, else the learned one.
+     *
+     * @param shape the shape of the count
+     * @return the count mode of the shape
+     */
+    public CountMode getCountMode(final String shape) {
+        CountMode override = overrides.get(shape);
+
+        if (override != null) {
+            return override;
+        }
+
+        ShapeStatistics statistics = shapes.get(shape);
+
+        if (statistics == null) {
+            return CountMode.exact();
+        }
+
+        return statistics.getCountMode();
+    }
+
+    /**
+     * Records an exact count of a shape.
+     *
+     * @param shape the shape of the count
+     * @param latency the duration of the count
+     * @param total the number of counted rows
+     */
+    public void record(final String shape, final Duration latency, final long total) {
+        ShapeStatistics statistics = shapes.get(shape);
+
+        if (statistics == null && shapes.size() < MAX_SHAPES) {
+            statistics = shapes.computeIfAbsent(shape, key -> new ShapeStatistics());
+        }
+
+        if (statistics != null) {
+            statistics.record(latency, total);
+        }
+    }
+
+    /**
+     * Gets the number of recorded counts of a shape.
+     *
+     * @param shape the shape of the count
+     * @return the sample count, or {@code 0} if the shape is not learned
+     */
+    public long getSampleCount(final String shape) {
+        ShapeStatistics statistics = shapes.get(shape);
+
+        if (statistics == null) {
+            return 0;
+        }
+
+        return statistics.samples.sum();
+    }
+
+    /**
+     * Gets the average latency of the recorded counts of a shape.
+     *
+     * @param shape the shape of the count
+     * @return the average latency, or {@link Duration#ZERO} if the shape is not learned
+     */
+    public Duration getAverageLatency(final String shape) {
+        ShapeStatistics statistics = shapes.get(shape);
+
+        if (statistics == null) {
+            return Duration.ZERO;
+        }
+
+        return statistics.getAverageLatency();
+    }
+
+    /**
+     * Gets the average total of the recorded counts of a shape.
+     *
+     * @param shape the shape of the count
+     * @return the average number of counted rows, or {@code 0} if the shape is not learned
+     */
+    public long getAverageTotal(final String shape) {
+        ShapeStatistics statistics = shapes.get(shape);
+
+        if (statistics == null) {
+            return 0;
+        }
+
+        return statistics.getAverageTotal();
+    }
+
+    /**
+     * Gets the count mode of every learned or overridden shape.
+     *
+     * @return a snapshot of the count modes, by shape
+     */
+    public Map<String, CountMode> getCountModes() {
+        Map<String, CountMode> countModes = new LinkedHashMap<>();
+
+        shapes.forEach((shape, statistics) -> countModes.put(shape, statistics.getCountMode()));
+        countModes.putAll(overrides);
+
+        return countModes;
+    }
+
+    /**
+     * Gets the count modes that replace the learned ones.
+     *
+     * @return a snapshot of the overrides, by shape
+     */
+    public Map<String, CountMode> getOverrides() {
+        return new LinkedHashMap<>(overrides);
+    }
+
+    /**
+     * Replaces the learned count mode of a shape.
+     *
+     * @param shape the shape of the count
+     * @param countMode the count mode of the shape, or {@code null} to use the learned one again
+     */
+    public void setOverride(final String shape, final CountMode countMode) {
+        if (countMode == null) {
+            overrides.remove(shape);
+        } else {
+            overrides.put(shape, countMode);
+        }
+    }
+
+    /**
+     * Forgets every learned shape. Overrides are kept.
+     */
+    public void clear() {
+        shapes.clear();
+    }
+
+    /**
+     * Gets the average latency above which the count of a shape is considered slow.
+     *
+     * @return the slow threshold
+     */
+    public Duration getSlowThreshold() {
+        return slowThreshold;
+    }
+
+    /**
+     * Sets the average latency above which the count of a shape is considered slow.
+     *
+     * @param slowThreshold the slow threshold, must not be negative
+     * @throws IllegalArgumentException if {@code slowThreshold} is negative
+     */
+    public void setSlowThreshold(final Duration slowThreshold) {
+        if (slowThreshold.isNegative()) {
+            throw new IllegalArgumentException("Slow count threshold must not be negative: " + slowThreshold);
+        }
+
+        this.slowThreshold = slowThreshold;
+    }
+
+    /**
+     * Gets the number of samples of a shape needed before its counting strategy changes.
+     *
+     * @return the minimum sample count
+     */
+    public int getMinSamples() {
+        return minSamples;
+    }
+
+    /**
+     * Sets the number of samples of a shape needed before its counting strategy changes.
+     *
+     * @param minSamples the minimum sample count, must be positive
+     * @throws IllegalArgumentException if {@code minSamples} is not positive
+     */
+    public void setMinSamples(final int minSamples) {
+        if (minSamples <= 0) {
+            throw new IllegalArgumentException("Minimum sample count must be positive: " + minSamples);
+        }
+
+        this.minSamples = minSamples;
+    }
+
+    /**
+     * Gets the limit of bounded counts of slow shapes.
+     *
+     * @return the bounded limit
+     */
+    public long getBoundedLimit() {
+        return boundedLimit;
+    }
+
+    /**
+     * Sets the limit of bounded counts of slow shapes.
+     *
+     * @param boundedLimit the bounded limit, must be positive
+     * @throws IllegalArgumentException if {@code boundedLimit} is not positive
+     */
+    public void setBoundedLimit(final long boundedLimit) {
+        if (boundedLimit <= 0) {
+            throw new IllegalArgumentException("Bounded count limit must be positive: " + boundedLimit);
+        }
+
+        this.boundedLimit = boundedLimit;
+    }
+
+    /**
+     * Recorded counts of a shape.
+     */
+    private final class ShapeStatistics {
+
+        /**
+         * Number of recorded counts.
+         */
+        private final LongAdder samples = new LongAdder();
+
+        /**
+         * Sum of the latencies of the recorded counts, in nanoseconds.
+         */
+        private final LongAdder latencyNanos = new LongAdder();
+
+        /**
+         * Sum of the totals of the recorded counts.
+         */
+        private final LongAdder totals = new LongAdder();
+
+        /**
+         * Records a count.
+         *
+         * @param latency the duration of the count
+         * @param total the number of counted rows
+         */
+        private void record(final Duration latency, final long total) {
+            latencyNanos.add(latency.toNanos());
+            totals.add(total);
+            samples.increment();
+        }
+
+        /**
+         * Gets the average latency of the recorded counts.
+         *
+         * @return the average latency
+         */
+        private Duration getAverageLatency() {
+            long count = samples.sum();
+
+            if (count == 0) {
+                return Duration.ZERO;
+            }
+
+            return Duration.ofNanos(latencyNanos.sum() / count);
+        }
+
+        /**
+         * Gets the average total of the recorded counts.
+         *
+         * @return the average number of counted rows
+         */
+        private long getAverageTotal() {
+            long count = samples.sum();
+
+            if (count == 0) {
+                return 0;
+            }
+
+            return totals.sum() / count;
+        }
+
+        /**
+         * Gets the learned count mode of the shape.
+         *
+         * @return the count mode
+         */
+        private CountMode getCountMode() {
+            if (samples.sum() < minSamples || getAverageLatency().compareTo(slowThreshold) < 0) {
+                return CountMode.exact();
+            }
+
+            if (getAverageTotal() > boundedLimit) {
+                return CountMode.bounded(boundedLimit);
+            }
+
+            return CountMode.none();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package io.github.zorin95670.executor;
+
+import jakarta.annotation.Nonnull;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Asynchronous variant of {@link SpringQueryExecutor}, returning {@link CompletableFuture}s.
+ *
+ * <p>Every query runs on a task executor, in its own read-only transaction and entity
+ * manager, so a caller can start several queries and join them instead of running them one
+ * after the other:</p>
+ *
+ * <pre>{@code
+ * CompletableFuture<Page<UserSummary>> users = asyncExecutor.findPageAsync(...);
+ * CompletableFuture<List<String>> roles = asyncExecutor.findAsync(...);
+ *
+ * CompletableFuture.allOf(users, roles).join();
+ * }</pre>
+ *
+ * <p>Queries never join the transaction of the caller: they do not see its uncommitted
+ * changes, and each running query holds its own database connection. Failures complete the
+ * returned future exceptionally.</p>
+ *
+ * <p>See {@link SpringQueryExecutor} for the projection, sorting, and pagination contract.</p>
+ */
+public interface AsyncSpringQueryExecutor {
+
+    /**
+     * Runs any call of the underlying {@link SpringQueryExecutor} asynchronously, in a new
+     * read-only transaction.
+     *
+     * <p>The result must be fully loaded when {@code query} returns: streams and lazy
+     * associations cannot be read once the transaction has ended.</p>
+     *
+     * @param query  the call to run, must not be {@code null}
+     * @param <R>    the result type
+     * @return a future completed with the result of {@code query}
+     */
+    <R> CompletableFuture<R> executeAsync(@Nonnull Function<SpringQueryExecutor, R> query);
+
+    /**
+     * Same as {@link SpringQueryExecutor#find(Class, Class, Specification)}, but runs
+     * asynchronously.
+     *
+     * @param entityClass    the JPA entity type to query, must not be {@code null}
+     * @param resultType     the desired result type, must not be {@code null}
+     * @param specification  the filtering criteria, must not be {@code null}
+     * @param <T>            the entity type
+     * @param <R>            the result type
+     * @return a future completed with the list of matching results
+     */
+    <T, R> CompletableFuture<List<R>> findAsync(@Nonnull Class<T> entityClass,
+                                                @Nonnull Class<R> resultType,
+                                                @Nonnull Specification<T> specification);
+
+    /**
+     * Same as {@link SpringQueryExecutor#find(Class, Class, Specification, String...)}, but
+     * runs asynchronously.
+     *
+     * @param entityClass    the JPA entity type to query, must not be {@code null}
+     * @param resultType     the desired result type, must not be {@code null}
+     * @param specification  the filtering criteria, must not be {@code null}
+     * @param fieldNames     optional attribute names to project onto {@code resultType}
+     * @param <T>            the entity type
+     * @param <R>            the result type
+     * @return a future completed with the list of matching results
+     */
+    <T, R> CompletableFuture<List<R>> findAsync(@Nonnull Class<T> entityClass,
+                                                @Nonnull Class<R> resultType,
+                                                @Nonnull Specification<T> specification,
+                                                String... fieldNames);
+
+    /**
+     * Same as {@link SpringQueryExecutor#find(Class, Class, Specification, Sort)}, but runs
+     * asynchronously.
+     *
+     * @param entityClass    the JPA entity type to query, must not be {@code null}
+     * @param resultType     the desired result type, must not be {@code null}
+     * @param specification  the filtering criteria, must not be {@code null}
+     * @param sort           the sort order to apply, must not be {@code null}
+     * @param <T>            the entity type
+     * @param <R>            the result type
+     * @return a future completed with the sorted list of matching results
+     */
+    <T, R> CompletableFuture<List<R>> findAsync(@Nonnull Class<T> entityClass,
+                                                @Nonnull Class<R> resultType,
+                                                @Nonnull Specification<T> specification,
+                                                @Nonnull Sort sort);
+
+    /**
+     * Same as {@link SpringQueryExecutor#find(Class, Class, Specification, Sort, String...)},
+     * but runs asynchronously.
+     *
+     * @param entityClass    the JPA entity type to query, must not be {@code null}
+     * @param resultType     the desired result type, must not be {@code null}
+     * @param specification  the filtering criteria, must not be {@code null}
+     * @param sort           the sort order to apply, must not be {@code null}
+     * @param fieldNames     optional attribute names to project onto {@code resultType}
+     * @param <T>            the entity type
+     * @param <R>            the result type
+     * @return a future completed with the sorted list of matching results
+     */
+    <T, R> CompletableFuture<List<R>> findAsync(@Nonnull Class<T> entityClass,
+                                                @Nonnull Class<R> resultType,
+                                                @Nonnull Specification<T> specification,
+                                                @Nonnull Sort sort,
+                                                String... fieldNames);
+
+    /**
+     * Same as {@link SpringQueryExecutor#findPage(Class, Class, Specification, Pageable)}, but
+     * runs asynchronously.
+     *
+     * @param entityClass    the JPA entity type to query, must not be {@code null}
+     * @param resultType     the desired result type, must not be {@code null}
+     * @param specification  the filtering criteria, must not be {@code null}
+     * @param pageable       the paging and sorting information, must not be {@code null}
+     * @param <T>            the entity type
+     * @param <R>            the result type
+     * @return a future completed with the page of matching results
+     */
+    <T, R> CompletableFuture<Page<R>> findPageAsync(@Nonnull Class<T> entityClass,
+                                                    @Nonnull Class<R> resultType,
+                                                    @Nonnull Specification<T> specification,
+                                                    @Nonnull Pageable pageable);
+
+    /**
+     * Same as {@link SpringQueryExecutor#findPage(Class, Class, Specification, Pageable, String...)},
+     * but runs asynchronously.
+     *
+     * @param entityClass    the JPA entity type to query, must not be {@code null}
+     * @param resultType     the desired result type, must not be {@code null}
+     * @param specification  the filtering criteria, must not be {@code null}
+     * @param pageable       the paging and sorting information, must not be {@code null}
+     * @param fieldNames     optional attribute names to project onto {@code resultType}
+     * @param <T>            the entity type
+     * @param <R>            the result type
+     * @return a future completed with the page of matching results
+     */
+    <T, R> CompletableFuture<Page<R>> findPageAsync(@Nonnull Class<T> entityClass,
+                                                    @Nonnull Class<R> resultType,
+                                                    @Nonnull Specification<T> specification,
+                                                    @Nonnull Pageable pageable,
+                                                    String... fieldNames);
+}
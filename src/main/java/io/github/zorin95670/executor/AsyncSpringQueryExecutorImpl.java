@@ -0,0 +1,132 @@
+package io.github.zorin95670.executor;
+
+import jakarta.annotation.Nonnull;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Default implementation of {@link AsyncSpringQueryExecutor}, delegating to a
+ * {@link SpringQueryExecutor}.
+ *
+ * <p>Each query is submitted to the task executor, and runs there in a new read-only
+ * transaction of the given transaction manager. The transaction binds a new entity manager to
+ * the thread running the query, which the shared entity manager of the delegate then uses.</p>
+ *
+ * <p>By default, every query runs on a new virtual thread. The number of queries running at
+ * once is then only bounded by the connection pool: use a bounded task executor to limit
+ * it.</p>
+ */
+public class AsyncSpringQueryExecutorImpl implements AsyncSpringQueryExecutor {
+
+    /**
+     * The executor running the queries.
+     */
+    private final SpringQueryExecutor executor;
+
+    /**
+     * The template of the read-only transactions of the queries.
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * The task executor the queries are submitted to.
+     */
+    private final Executor taskExecutor;
+
+    /**
+     * Constructs an asynchronous executor running every query on a new virtual thread.
+     *
+     * @param executor            the executor running the queries
+     * @param transactionManager  the manager of the read-only transactions of the queries
+     */
+    public AsyncSpringQueryExecutorImpl(final SpringQueryExecutor executor,
+                                        final PlatformTransactionManager transactionManager) {
+        this(executor, transactionManager,
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("spring-query-filter-", 0).factory()));
+    }
+
+    /**
+     * Constructs an asynchronous executor submitting queries to the given task executor.
+     *
+     * @param executor            the executor running the queries
+     * @param transactionManager  the manager of the read-only transactions of the queries
+     * @param taskExecutor        the task executor the queries are submitted to
+     */
+    public AsyncSpringQueryExecutorImpl(final SpringQueryExecutor executor,
+                                        final PlatformTransactionManager transactionManager,
+                                        final Executor taskExecutor) {
+        this.executor = executor;
+        this.taskExecutor = taskExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public <R> CompletableFuture<R> executeAsync(final @Nonnull Function<SpringQueryExecutor, R> query) {
+        return CompletableFuture.supplyAsync(
+            () -> transactionTemplate.execute(status -> query.apply(executor)),
+            taskExecutor
+        );
+    }
+
+    @Override
+    public <T, R> CompletableFuture<List<R>> findAsync(final @Nonnull Class<T> entityClass,
+                                                       final @Nonnull Class<R> resultType,
+                                                       final @Nonnull Specification<T> specification) {
+        return executeAsync(query -> query.find(entityClass, resultType, specification));
+    }
+
+    @Override
+    public <T, R> CompletableFuture<List<R>> findAsync(final @Nonnull Class<T> entityClass,
+                                                       final @Nonnull Class<R> resultType,
+                                                       final @Nonnull Specification<T> specification,
+                                                       final String... fieldNames) {
+        return executeAsync(query -> query.find(entityClass, resultType, specification, fieldNames));
+    }
+
+    @Override
+    public <T, R> CompletableFuture<List<R>> findAsync(final @Nonnull Class<T> entityClass,
+                                                       final @Nonnull Class<R> resultType,
+                                                       final @Nonnull Specification<T> specification,
+                                                       final @Nonnull Sort sort) {
+        return executeAsync(query -> query.find(entityClass, resultType, specification, sort));
+    }
+
+    @Override
+    public <T, R> CompletableFuture<List<R>> findAsync(final @Nonnull Class<T> entityClass,
+                                                       final @Nonnull Class<R> resultType,
+                                                       final @Nonnull Specification<T> specification,
+                                                       final @Nonnull Sort sort,
+                                                       final String... fieldNames) {
+        return executeAsync(query -> query.find(entityClass, resultType, specification, sort, fieldNames));
+    }
+
+    @Override
+    public <T, R> CompletableFuture<Page<R>> findPageAsync(final @Nonnull Class<T> entityClass,
+                                                           final @Nonnull Class<R> resultType,
+                                                           final @Nonnull Specification<T> specification,
+                                                           final @Nonnull Pageable pageable) {
+        return executeAsync(query -> query.findPage(entityClass, resultType, specification, pageable));
+    }
+
+    @Override
+    public <T, R> CompletableFuture<Page<R>> findPageAsync(final @Nonnull Class<T> entityClass,
+                                                           final @Nonnull Class<R> resultType,
+                                                           final @Nonnull Specification<T> specification,
+                                                           final @Nonnull Pageable pageable,
+                                                           final String... fieldNames) {
+        return executeAsync(query -> query.findPage(entityClass, resultType, specification, pageable, fieldNames));
+    }
+}
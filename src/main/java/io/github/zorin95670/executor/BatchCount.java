@@ -0,0 +1,140 @@
+package io.github.zorin95670.executor;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * The pages of a batch on the same entity type whose totals are still to be counted.
+ * <p>
+ * When there are several of them, their totals are counted by a single statement, scanning the rows matching any of
+ * the pages once and summing one {@code CASE WHEN} expression per page:
+ * {@code SELECT SUM(CASE WHEN p1 THEN 1 ELSE 0 END), SUM(CASE WHEN p2 THEN 1 ELSE 0 END) FROM e WHERE p1 OR p2}.
+ * The specifications must not add joins that multiply the rows of the entity type, as the joins of
+ * {@code SpringQueryFilterSpecification}s do not.
+ * </p>
+ *
+ * @param <T> the entity type
+ */
+final class BatchCount<T> {
+
+    /**
+     * The counted entity type.
+     */
+    private final Class<T> entityClass;
+
+    /**
+     * The positions of the pages in the batch.
+     */
+    private final List<Integer> indexes = new ArrayList<>();
+
+    /**
+     * The compiled filtering criteria of the pages.
+     */
+    private final List<Specification<T>> specifications = new ArrayList<>();
+
+    /**
+     * The fetched rows of the pages.
+     */
+    private final List<PageRows<?>> rows = new ArrayList<>();
+
+    /**
+     * Constructs the counts of the pages of an entity type.
+     *
+     * @param entityClass the counted entity type
+     */
+    BatchCount(final Class<T> entityClass) {
+        this.entityClass = entityClass;
+    }
+
+    /**
+     * Gets the counted entity type.
+     *
+     * @return the entity class
+     */
+    Class<T> getEntityClass() {
+        return entityClass;
+    }
+
+    /**
+     * Adds a page to count.
+     *
+     * @param index the position of the page in the batch
+     * @param specification the compiled filtering criteria of the page
+     * @param pageRows the fetched rows of the page
+     */
+    void add(final int index, final Specification<T> specification, final PageRows<?> pageRows) {
+        indexes.add(index);
+        specifications.add(specification);
+        rows.add(pageRows);
+    }
+
+    /**
+     * Counts the totals of the pages, and sets the counted pages at their position in the batch.
+     *
+     * @param entityManager the entity manager of the batch
+     * @param count the count of a single page
+     * @param pages the pages of the batch
+     */
+    void complete(final EntityManager entityManager,
+                  final ToLongFunction<Specification<T>> count,
+                  final List<CountedPage<?>> pages) {
+        long[] totals;
+
+        if (specifications.size() == 1) {
+            totals = new long[] {count.applyAsLong(specifications.getFirst())};
+        } else {
+            totals = countAll(entityManager);
+        }
+
+        for (int index = 0; index < indexes.size(); index++) {
+            pages.set(indexes.get(index), rows.get(index).toPage(totals[index], TotalAccuracy.EXACT));
+        }
+    }
+
+    /**
+     * Counts the totals of all pages with a single statement.
+     *
+     * @param entityManager the entity manager of the batch
+     * @return the totals, in the order of the pages
+     */
+    private long[] countAll(final EntityManager entityManager) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<T> root = query.from(entityClass);
+        List<Selection<?>> selections = new ArrayList<>();
+        List<Predicate> predicates = new ArrayList<>();
+
+        for (Specification<T> specification : specifications) {
+            Predicate predicate = specification.toPredicate(root, query, cb);
+
+            if (predicate == null) {
+                predicate = cb.conjunction();
+            }
+
+            predicates.add(predicate);
+            selections.add(cb.sum(cb.<Long>selectCase().when(predicate, 1L).otherwise(0L)));
+        }
+
+        query.multiselect(selections).where(cb.or(predicates.toArray(new Predicate[0])));
+
+        Object[] row = entityManager.createQuery(query).getSingleResult();
+        long[] totals = new long[row.length];
+
+        for (int index = 0; index < row.length; index++) {
+            if (row[index] != null) {
+                totals[index] = ((Number) row[index]).longValue();
+            }
+        }
+
+        return totals;
+    }
+}
@@ -0,0 +1,146 @@
+package io.github.zorin95670.executor;
+
+import io.github.zorin95670.specification.SpringQueryFilterSpecification;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The page queries of the batches of a {@link SpringQueryExecutorImpl}, see
+ * {@link SpringQueryExecutor#executeBatch(List)}.
+ * <p>
+ * The content queries run first, in order. The pages whose total is not determined by their content, and that
+ * {@link #isCounted(QueryRequest) can be counted together}, are then counted with one statement per entity type,
+ * see {@link BatchCount}. Other requests are executed as a single page would be. The queries run in the transaction
+ * of the caller of {@link #execute(List)}.
+ * </p>
+ */
+final class BatchQueries {
+
+    /**
+     * The executor of the queries.
+     */
+    private final SpringQueryExecutorImpl executor;
+
+    /**
+     * Constructs the batch queries of an executor.
+     *
+     * @param executor the executor of the queries
+     */
+    BatchQueries(final SpringQueryExecutorImpl executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Executes the queries of a batch.
+     *
+     * @param requests the page queries
+     * @return the pages of the requests, in order
+     * @throws IllegalArgumentException if the offset of a request exceeds {@link Integer#MAX_VALUE}
+     */
+    List<CountedPage<?>> execute(final List<? extends QueryRequest<?, ?>> requests) {
+        List<CountedPage<?>> pages = new ArrayList<>(Collections.nCopies(requests.size(), null));
+        Map<Class<?>, BatchCount<?>> counts = new LinkedHashMap<>();
+
+        for (int index = 0; index < requests.size(); index++) {
+            pages.set(index, queryPage(requests.get(index), index, counts));
+        }
+
+        counts.values().forEach(count -> complete(count, pages));
+
+        return pages;
+    }
+
+    /**
+     * Executes the query of a request of a batch.
+     *
+     * @param request the page query
+     * @param index the position of the request in the batch
+     * @param counts the pages to count, by entity type
+     * @param <T> the entity type
+     * @param <R> the result type
+     * @return the page, or {@code null} if its total is added to {@code counts}
+     * @throws IllegalArgumentException if the offset of the request exceeds {@link Integer#MAX_VALUE}
+     */
+    @SuppressWarnings("unchecked")
+    private <T, R> CountedPage<R> queryPage(final QueryRequest<T, R> request,
+                                            final int index,
+                                            final Map<Class<?>, BatchCount<?>> counts) {
+        Class<T> entityClass = request.getEntityClass();
+        Pageable pageable = request.getPageable();
+        String[] fieldNames = request.getFieldNames();
+
+        if (fieldNames == null) {
+            fieldNames = executor.getFieldNames(request.getResultType());
+        }
+
+        if (!isCounted(request)) {
+            return executor.buildPage(entityClass, request.getResultType(), request.getSpecification(),
+                request.isDistinct(), pageable, request.getCountMode(), fieldNames);
+        }
+
+        long offset = pageable.getOffset();
+        if (offset > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                "Pageable offset too large to be used with JPA setFirstResult(int): " + offset);
+        }
+
+        Specification<T> compiledSpecification = executor.compile(request.getSpecification());
+        int fetchSize = PageRows.getFetchSize(pageable, false);
+        TypedQuery<R> typedQuery = executor.buildTypedQuery(
+            entityClass, request.getResultType(), compiledSpecification, false, pageable.getSort(), fieldNames);
+        PageRows<R> rows = new PageRows<>(
+            typedQuery.setFirstResult((int) offset).setMaxResults(fetchSize).getResultList(), pageable, fetchSize);
+
+        if (rows.isTotalDetermined()) {
+            executor.recordSkippedCountQuery();
+            return rows.toPage();
+        }
+
+        ((BatchCount<T>) counts.computeIfAbsent(entityClass, type -> new BatchCount<>(entityClass)))
+            .add(index, compiledSpecification, rows);
+
+        return null;
+    }
+
+    /**
+     * Indicates whether the total of a request of a batch can be counted together with the totals of other requests
+     * on the same entity type.
+     * <p>
+     * Only exact totals of non-distinct pages of {@link SpringQueryFilterSpecification}s are counted together, since
+     * their joins do not multiply rows. Pages whose total may be cached, adapted or given a time budget are executed
+     * on their own.
+     * </p>
+     *
+     * @param request the page query
+     * @return {@code true} if the total of the request can be counted with a {@link BatchCount}
+     */
+    private boolean isCounted(final QueryRequest<?, ?> request) {
+        return request.getPageable().isPaged()
+            && !request.isDistinct()
+            && request.getCountMode().getType() == CountMode.Type.EXACT
+            && request.getSpecification() instanceof SpringQueryFilterSpecification<?>
+            && executor.getCountCache() == null
+            && executor.getResultCache() == null
+            && executor.getAdaptiveCountPolicy() == null
+            && executor.getCountTimeout() == null;
+    }
+
+    /**
+     * Counts the totals of the pages of an entity type of a batch.
+     *
+     * @param count the pages to count
+     * @param pages the pages of the batch
+     * @param <T> the entity type
+     */
+    private <T> void complete(final BatchCount<T> count, final List<CountedPage<?>> pages) {
+        count.complete(executor.getEntityManager(),
+            specification -> executor.countAll(count.getEntityClass(), specification), pages);
+    }
+}
@@ -0,0 +1,155 @@
+package io.github.zorin95670.executor;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
+
+/**
+ * A {@code COUNT} query running on a virtual thread, with its own entity manager, while the content query of its page
+ * runs.
+ * <p>
+ * Virtual threads are not pooled, so a count is never awaited by anything but its page: a cancelled count is abandoned
+ * instead of awaited. Cancelling interrupts its thread and, with Hibernate, cancels the running statement in the
+ * database, so that it does not hold its connection until it completes. With other providers, the statement of an
+ * abandoned count runs until it completes.
+ * </p>
+ *
+ * @param <X> the type of the count result
+ */
+final class ConcurrentCount<X> {
+
+    /**
+     * Whether Hibernate is on the class path.
+     */
+    private static final boolean HIBERNATE_PRESENT = isPresent("org.hibernate.Session");
+
+    /**
+     * The executor starting every count on a new virtual thread.
+     */
+    private static final Executor EXECUTOR =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("spring-query-filter-count-", 0).factory());
+
+    /**
+     * The running count.
+     */
+    private final FutureTask<X> task;
+
+    /**
+     * The entity manager of the count while it runs, {@code null} before and after.
+     */
+    private volatile EntityManager entityManager;
+
+    /**
+     * Constructs a count.
+     *
+     * @param factory the factory of the entity manager of the count
+     * @param binding the binding of the entity manager of the count to its thread
+     * @param count the count to run
+     */
+    private ConcurrentCount(final EntityManagerFactory factory,
+                            final ThreadLocal<EntityManager> binding,
+                            final Supplier<X> count) {
+        this.task = new FutureTask<>(() -> {
+            try (EntityManager manager = factory.createEntityManager()) {
+                entityManager = manager;
+                binding.set(manager);
+                return count.get();
+            } finally {
+                binding.remove();
+                entityManager = null;
+            }
+        });
+    }
+
+    /**
+     * Starts a count on a new virtual thread, with a new entity manager bound to that thread.
+     *
+     * @param factory the factory of the entity manager of the count
+     * @param binding the binding of the entity manager of the count to its thread
+     * @param count the count to run
+     * @param <X> the type of the count result
+     * @return the running count
+     */
+    static <X> ConcurrentCount<X> start(final EntityManagerFactory factory,
+                                        final ThreadLocal<EntityManager> binding,
+                                        final Supplier<X> count) {
+        ConcurrentCount<X> concurrentCount = new ConcurrentCount<>(factory, binding, count);
+
+        EXECUTOR.execute(concurrentCount.task);
+
+        return concurrentCount;
+    }
+
+    /**
+     * Waits for the result of the count.
+     *
+     * @return the result of the count
+     * @throws IllegalStateException if the current thread is interrupted, or if the count fails with a checked
+     *                               exception
+     */
+    X await() {
+        try {
+            return task.get();
+        } catch (InterruptedException exception) {
+            cancel();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while counting the results of a page.", exception);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (exception.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Unable to count the results of a page.", exception.getCause());
+        }
+    }
+
+    /**
+     * Cancels the count without waiting for it: its thread is interrupted, and its running statement is cancelled
+     * when the provider supports it.
+     */
+    void cancel() {
+        task.cancel(true);
+
+        EntityManager manager = entityManager;
+
+        if (manager != null && HIBERNATE_PRESENT) {
+            cancelStatement(manager);
+        }
+    }
+
+    /**
+     * Cancels the running statement of a Hibernate entity manager.
+     *
+     * @param manager the entity manager of the count
+     */
+    private static void cancelStatement(final EntityManager manager) {
+        try {
+            manager.unwrap(Session.class).cancelQuery();
+        } catch (RuntimeException exception) {
+            // The count completed, or closed its entity manager, in the meantime: there is nothing to cancel.
+        }
+    }
+
+    /**
+     * Indicates whether a class is on the class path.
+     *
+     * @param className the name of the class
+     * @return {@code true} if the class can be loaded
+     */
+    private static boolean isPresent(final String className) {
+        try {
+            Class.forName(className, false, ConcurrentCount.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError exception) {
+            return false;
+        }
+    }
+}
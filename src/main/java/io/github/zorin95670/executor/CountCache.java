@@ -0,0 +1,65 @@
+package io.github.zorin95670.executor;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.Set;
+
+/**
+ * A cache of the exact totals of pages, see {@link EntityCache}.
+ * <p>
+ * Totals are keyed by {@link CountCacheKey}, so paging through the same filters counts them once: later pages reuse
+ * the total of the first one until it expires, or until the counted entity is written.
+ * </p>
+ */
+public class CountCache extends EntityCache<CountCacheKey, Long> {
+
+    /**
+     * Constructs a new cache with the default maximum size and time to live.
+     */
+    public CountCache() {
+        this(DEFAULT_MAX_SIZE, DEFAULT_TIME_TO_LIVE);
+    }
+
+    /**
+     * Constructs a new cache with the given maximum size and time to live.
+     *
+     * @param maxSize The maximum number of cached totals, must be positive.
+     * @param timeToLive The time to live of cached totals, must be positive.
+     * @throws IllegalArgumentException if {@code maxSize} or {@code timeToLive} is not positive.
+     */
+    public CountCache(final int maxSize, final Duration timeToLive) {
+        super(maxSize, timeToLive);
+    }
+
+    @Override
+    protected Set<Class<?>> getEntityClasses(final CountCacheKey key) {
+        return key.getEntityClasses();
+    }
+
+    /**
+     * Gets the cached total of a count, if it has not expired.
+     *
+     * @param key The key of the count.
+     * @return the cached total, or empty if there is none
+     */
+    public OptionalLong get(final CountCacheKey key) {
+        Long total = lookup(key);
+
+        if (total == null) {
+            return OptionalLong.empty();
+        }
+
+        return OptionalLong.of(total);
+    }
+
+    /**
+     * Caches the exact total of a count, unless the cache was invalidated since {@code countVersion}.
+     *
+     * @param key The key of the count.
+     * @param total The exact total.
+     * @param countVersion The {@link #getVersion() version} of the cache read before counting.
+     */
+    public void put(final CountCacheKey key, final long total, final long countVersion) {
+        store(key, total, countVersion);
+    }
+}
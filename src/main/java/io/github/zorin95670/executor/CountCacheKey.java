@@ -0,0 +1,130 @@
+package io.github.zorin95670.executor;
+
+import io.github.zorin95670.specification.FilterMetadata;
+import io.github.zorin95670.specification.FilterPlanKey;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Canonical identity of the {@code COUNT} query of a page, in a {@link CountCache}.
+ * <p>
+ * Two pages share a key when their specifications have equal {@link FilterPlanKey}s and they count rows the same way:
+ * plain counts of entities share a key whatever their projection, while distinct counts also depend on their
+ * projected fields.
+ * </p>
+ */
+public final class CountCacheKey {
+
+    /**
+     * The canonical identity of the filters.
+     */
+    private final FilterPlanKey filterPlanKey;
+
+    /**
+     * Whether distinct rows are counted.
+     */
+    private final boolean distinct;
+
+    /**
+     * The projected attribute names of a distinct count, empty otherwise.
+     */
+    private final List<String> fieldNames;
+
+    /**
+     * The counted entity class, and the classes joined by the paths of the count.
+     */
+    private final Set<Class<?>> entityClasses;
+
+    /**
+     * Pre-computed hash code, since keys are looked up on every page.
+     */
+    private final int hashCode;
+
+    /**
+     * Constructs the key of a count.
+     *
+     * @param filterPlanKey the key of the filtering criteria
+     * @param distinct whether distinct rows are counted
+     * @param fieldNames the projected attribute names, possibly empty
+     */
+    public CountCacheKey(final FilterPlanKey filterPlanKey,
+                         final boolean distinct,
+                         final String... fieldNames) {
+        this.filterPlanKey = filterPlanKey;
+        this.distinct = distinct;
+
+        if (distinct && fieldNames != null) {
+            this.fieldNames = List.of(fieldNames);
+        } else {
+            this.fieldNames = List.of();
+        }
+
+        this.entityClasses = getEntityClasses(filterPlanKey, this.fieldNames);
+        this.hashCode = Objects.hash(filterPlanKey, distinct, this.fieldNames);
+    }
+
+    /**
+     * Gets the queried entity class of filters, with the classes joined by the dotted paths of the filters and of
+     * other attribute paths of the query, see {@link FilterMetadata#getJoinedClasses(String)}.
+     *
+     * @param filterPlanKey the canonical identity of the filters
+     * @param paths the other attribute paths of the query
+     * @return an unmodifiable set of entity classes
+     */
+    static Set<Class<?>> getEntityClasses(final FilterPlanKey filterPlanKey, final Collection<String> paths) {
+        FilterMetadata metadata = FilterMetadata.of(filterPlanKey.getEntityClass());
+        Set<Class<?>> classes = new HashSet<>(filterPlanKey.getJoinedClasses());
+
+        classes.add(filterPlanKey.getEntityClass());
+        paths.forEach(path -> classes.addAll(metadata.getJoinedClasses(path)));
+
+        return Set.copyOf(classes);
+    }
+
+    /**
+     * Gets the class of the counted entity.
+     *
+     * @return the entity class
+     */
+    public Class<?> getEntityClass() {
+        return filterPlanKey.getEntityClass();
+    }
+
+    /**
+     * Gets the counted entity class, and the classes joined by the dotted paths of the count.
+     *
+     * @return an unmodifiable set of entity classes
+     */
+    public Set<Class<?>> getEntityClasses() {
+        return entityClasses;
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof CountCacheKey other)) {
+            return false;
+        }
+        return hashCode == other.hashCode
+            && distinct == other.distinct
+            && filterPlanKey.equals(other.filterPlanKey)
+            && fieldNames.equals(other.fieldNames);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return "CountCacheKey{" + getEntityClass().getName() + filterPlanKey.getFilters()
+            + ", distinct=" + distinct + fieldNames + '}';
+    }
+}
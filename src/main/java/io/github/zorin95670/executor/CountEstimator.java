@@ -0,0 +1,48 @@
+package io.github.zorin95670.executor;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.OptionalLong;
+
+/**
+ * Estimates the number of rows matching a query, for pages counted with {@link CountMode#estimated()}.
+ * <p>
+ * Estimators typically read the statistics of the database planner, for example the row estimate of an
+ * {@code EXPLAIN} on PostgreSQL, which costs far less than counting on large tables. An estimator returns an empty
+ * result when it cannot estimate a query: the executor then counts it exactly.
+ * </p>
+ * <p>
+ * The default estimator, {@link #none()}, never estimates anything, so estimated pages behave like exact ones until
+ * an estimator is registered with {@link SpringQueryExecutorImpl#setCountEstimator(CountEstimator)}, or declared as
+ * a bean for the auto-configured executor.
+ * </p>
+ */
+@FunctionalInterface
+public interface CountEstimator {
+
+    /**
+     * Estimates the number of rows matching a query.
+     *
+     * @param entityManager  the entity manager of the query
+     * @param entityClass    the queried entity type
+     * @param specification  the filtering criteria
+     * @param distinct       whether distinct rows are counted
+     * @param fieldNames     the projected attribute names, possibly empty
+     * @return the estimated number of rows, or empty if it cannot be estimated
+     */
+    OptionalLong estimate(EntityManager entityManager,
+                          Class<?> entityClass,
+                          Specification<?> specification,
+                          boolean distinct,
+                          String... fieldNames);
+
+    /**
+     * Gets the estimator that never estimates anything.
+     *
+     * @return the estimator always returning an empty result
+     */
+    static CountEstimator none() {
+        return (entityManager, entityClass, specification, distinct, fieldNames) -> OptionalLong.empty();
+    }
+}
@@ -0,0 +1,198 @@
+package io.github.zorin95670.executor;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * How the total number of rows of a page is computed by
+ * {@link SpringQueryExecutor#findPage(Class, Class, org.springframework.data.jpa.domain.Specification,
+ * org.springframework.data.domain.Pageable, CountMode, String...)}.
+ * <p>
+ * Whatever the mode, no {@code COUNT} query is executed when the content of the page alone determines the total.
+ * The accuracy of the computed total is reported by {@link CountedPage#getTotalAccuracy()}.
+ * </p>
+ */
+public final class CountMode {
+
+    /**
+     * The available counting strategies.
+     */
+    public enum Type {
+
+        /**
+         * Counts every matching row.
+         */
+        EXACT,
+
+        /**
+         * Counts matching rows up to a limit.
+         */
+        BOUNDED,
+
+        /**
+         * Asks a {@link CountEstimator} for an estimation of the number of matching rows.
+         */
+        ESTIMATED,
+
+        /**
+         * Does not count matching rows.
+         */
+        NONE
+    }
+
+    /**
+     * The shared exact mode.
+     */
+    private static final CountMode EXACT = new CountMode(Type.EXACT, 0);
+
+    /**
+     * The shared estimated mode.
+     */
+    private static final CountMode ESTIMATED = new CountMode(Type.ESTIMATED, 0);
+
+    /**
+     * The shared mode without count.
+     */
+    private static final CountMode NONE = new CountMode(Type.NONE, 0);
+
+    /**
+     * The counting strategy.
+     */
+    private final Type type;
+
+    /**
+     * The maximum number of counted rows of a bounded mode, {@code 0} otherwise.
+     */
+    private final long limit;
+
+    /**
+     * Constructs a count mode.
+     *
+     * @param type the counting strategy
+     * @param limit the maximum number of counted rows
+     */
+    private CountMode(final Type type, final long limit) {
+        this.type = type;
+        this.limit = limit;
+    }
+
+    /**
+     * Gets the mode counting every matching row, as {@code findPage} does by default.
+     *
+     * @return the exact mode
+     */
+    public static CountMode exact() {
+        return EXACT;
+    }
+
+    /**
+     * Gets a mode counting matching rows up to {@code limit}.
+     * <p>
+     * The database stops reading rows after {@code limit + 1} matches. When there are more, the total is reported as
+     * a lower bound, with {@link TotalAccuracy#AT_LEAST}. The limit is raised to the end of the requested page when it
+     * is lower, so that the page always knows whether there is a next one.
+     * </p>
+     *
+     * @param limit the maximum number of counted rows, must be positive
+     * @return the bounded mode
+     * @throws IllegalArgumentException if {@code limit} is not positive
+     */
+    public static CountMode bounded(final long limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Count limit must be positive: " + limit);
+        }
+
+        return new CountMode(Type.BOUNDED, limit);
+    }
+
+    /**
+     * Gets the mode asking the {@link CountEstimator} of the executor for an estimation of the total. The total is
+     * counted exactly when the estimator cannot estimate it.
+     *
+     * @return the estimated mode
+     */
+    public static CountMode estimated() {
+        return ESTIMATED;
+    }
+
+    /**
+     * Gets the mode that does not count matching rows. The total is reported with {@link TotalAccuracy#UNKNOWN}, and
+     * the content query fetches one more row than the page size to know whether there is a next page.
+     *
+     * @return the mode without count
+     */
+    public static CountMode none() {
+        return NONE;
+    }
+
+    /**
+     * Parses a count mode from its string representation: {@code exact}, {@code estimated}, {@code none} or
+     * {@code bounded(n)}, ignoring case. This method lets Spring bind count modes from configuration properties.
+     *
+     * @param value the string representation of the mode
+     * @return the count mode
+     * @throws IllegalArgumentException if {@code value} is not a valid count mode
+     */
+    public static CountMode valueOf(final String value) {
+        String mode = value.trim().toUpperCase(Locale.ROOT);
+        String boundedPrefix = Type.BOUNDED + "(";
+
+        if (mode.startsWith(boundedPrefix) && mode.endsWith(")")) {
+            try {
+                return bounded(Long.parseLong(mode.substring(boundedPrefix.length(), mode.length() - 1).trim()));
+            } catch (NumberFormatException exception) {
+                throw new IllegalArgumentException("Invalid count mode: '" + value + "'.", exception);
+            }
+        }
+
+        return switch (mode) {
+            case "EXACT" -> exact();
+            case "ESTIMATED" -> estimated();
+            case "NONE" -> none();
+            default -> throw new IllegalArgumentException("Invalid count mode: '" + value + "'.");
+        };
+    }
+
+    /**
+     * Gets the counting strategy.
+     *
+     * @return the counting strategy
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Gets the maximum number of counted rows of a bounded mode.
+     *
+     * @return the limit, or {@code 0} if the mode is not bounded
+     */
+    public long getLimit() {
+        return limit;
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof CountMode other)) {
+            return false;
+        }
+        return type == other.type && limit == other.limit;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, limit);
+    }
+
+    @Override
+    public String toString() {
+        if (type == Type.BOUNDED) {
+            return type + "(" + limit + ")";
+        }
+
+        return type.toString();
+    }
+}
@@ -0,0 +1,395 @@
+package io.github.zorin95670.executor;
+
+import io.github.zorin95670.predicate.AttributePaths;
+import io.github.zorin95670.specification.FilterPlan;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.lang.invoke.MethodType;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+/**
+ * The {@code COUNT} queries of a {@link SpringQueryExecutorImpl}, consistent with the projection and distinctness of
+ * the content queries they count, see {@link SpringQueryExecutorImpl#countResults}.
+ * <p>
+ * Counts run with the entity manager of the current thread of the executor, are rendered to JPQL in
+ * {@link QueryMode#JPQL} mode when their filters allow it, and are given the
+ * {@link SpringQueryExecutorImpl#getCountTimeout() time budget} of the executor.
+ * </p>
+ */
+final class CountQueries {
+
+    /**
+     * Query hint setting the timeout of a query, in milliseconds.
+     */
+    private static final String TIMEOUT_HINT = "jakarta.persistence.query.timeout";
+
+    /**
+     * Types of attributes that the database converts to strings with an exact, canonical form, to count distinct
+     * combinations of attributes, see {@link #buildDistinctKey}.
+     * <p>
+     * Floating-point, decimal, date and time values may be rounded or truncated by the conversion, and strings may be
+     * compared with a collation that differs from the string key: combinations of such attributes are counted from
+     * their distinct tuples instead.
+     * </p>
+     */
+    private static final Set<Class<?>> DISTINCT_KEY_TYPES = Set.of(
+        Byte.class, Short.class, Integer.class, Long.class, BigInteger.class, Boolean.class, UUID.class);
+
+    /**
+     * The executor of the queries.
+     */
+    private final SpringQueryExecutorImpl executor;
+
+    /**
+     * The JPQL queries of the executor.
+     */
+    private final JpqlQueries jpqlQueries;
+
+    /**
+     * Constructs the count queries of an executor.
+     *
+     * @param executor the executor of the queries
+     */
+    CountQueries(final SpringQueryExecutorImpl executor) {
+        this.executor = executor;
+        this.jpqlQueries = new JpqlQueries(executor);
+    }
+
+    /**
+     * Computes the total number of rows matching {@code specification}, see
+     * {@link SpringQueryExecutorImpl#countResults}.
+     *
+     * @param entityClass the JPA entity type to query
+     * @param specification the filtering criteria
+     * @param distinct whether the corresponding content query applies {@code SELECT DISTINCT}
+     * @param fieldNames the attribute names projected by the corresponding content query, or none to count on the
+     *                   full entity
+     * @param <T> the entity type
+     * @return the total number of matching rows
+     */
+    <T> long countResults(final Class<T> entityClass,
+                          final Specification<T> specification,
+                          final boolean distinct,
+                          final String... fieldNames) {
+        Specification<T> compiledSpecification = executor.compile(specification);
+
+        if (!distinct) {
+            return countAll(entityClass, compiledSpecification);
+        }
+
+        if (fieldNames == null || fieldNames.length == 0) {
+            return countDistinctEntities(entityClass, compiledSpecification);
+        }
+
+        if (fieldNames.length == 1) {
+            return countDistinctSingleField(entityClass, compiledSpecification, fieldNames[0]);
+        }
+
+        return countDistinctMultipleFields(entityClass, compiledSpecification, fieldNames);
+    }
+
+    /**
+     * Counts the rows matching {@code specification} like {@link #countResults}, but stops after {@code limit + 1}
+     * rows.
+     * <p>
+     * The query selects the identifier of the matching entities, or the distinct combinations of {@code fieldNames}
+     * for distinct projections, and lets the database return at most {@code limit + 1} of them: the cost of the count
+     * is bounded by the limit instead of by the number of matching rows. Entities without a single identifier
+     * attribute are counted with {@link #countResults}.
+     * </p>
+     *
+     * @param entityClass the JPA entity type to query
+     * @param specification the filtering criteria
+     * @param distinct whether the corresponding content query applies {@code SELECT DISTINCT}
+     * @param limit the number of rows after which counting stops
+     * @param fieldNames the attribute names projected by the corresponding content query, or none to count on the
+     *                   full entity
+     * @param <T> the entity type
+     * @return the number of matching rows if it does not exceed {@code limit}, and {@code limit + 1} otherwise
+     */
+    <T> long countBounded(final Class<T> entityClass,
+                          final Specification<T> specification,
+                          final boolean distinct,
+                          final long limit,
+                          final String... fieldNames) {
+        EntityManager entityManager = executor.getEntityManager();
+        EntityType<T> entityType = entityManager.getMetamodel().entity(entityClass);
+        boolean projected = distinct && fieldNames != null && fieldNames.length > 0;
+        long maxResults = Math.min(Integer.MAX_VALUE - 1, limit) + 1;
+
+        if (!projected && !entityType.hasSingleIdAttribute()) {
+            return Math.min(countResults(entityClass, specification, distinct, fieldNames), maxResults);
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(entityClass);
+        Predicate predicate = executor.compile(specification).toPredicate(root, query, cb);
+        List<Selection<?>> selections = new ArrayList<>();
+
+        if (projected) {
+            Arrays.stream(fieldNames)
+                .map(fieldName -> AttributePaths.getSingleValued(root, fieldName))
+                .forEach(selections::add);
+        } else {
+            selections.add(root.get(entityType.getId(entityType.getIdType().getJavaType()).getName()));
+        }
+
+        query.multiselect(selections).distinct(distinct);
+
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        return withTimeout(entityManager.createQuery(query))
+            .setMaxResults((int) maxResults)
+            .getResultList()
+            .size();
+    }
+
+    /**
+     * Counts all rows matching {@code specification}, without regard to distinctness.
+     *
+     * @param entityClass the JPA entity type to query
+     * @param specification the filtering criteria
+     * @param <T> the entity type
+     * @return the total number of matching rows
+     */
+    <T> long countAll(final Class<T> entityClass, final Specification<T> specification) {
+        FilterPlan<T> plan = jpqlQueries.getPlan(executor.compile(specification), Sort.unsorted());
+
+        if (plan != null) {
+            return withTimeout(jpqlQueries.buildCountQuery(entityClass, plan, false, null)).getSingleResult();
+        }
+
+        return count(entityClass, specification, CriteriaBuilder::count);
+    }
+
+    /**
+     * Counts the number of distinct entities (by identity) matching {@code specification}.
+     *
+     * @param entityClass the JPA entity type to query
+     * @param specification the filtering criteria
+     * @param <T> the entity type
+     * @return the number of distinct matching entities
+     */
+    <T> long countDistinctEntities(final Class<T> entityClass, final Specification<T> specification) {
+        FilterPlan<T> plan = jpqlQueries.getPlan(executor.compile(specification), Sort.unsorted());
+
+        if (plan != null) {
+            return withTimeout(jpqlQueries.buildCountQuery(entityClass, plan, true, null)).getSingleResult();
+        }
+
+        return count(entityClass, specification, CriteriaBuilder::countDistinct);
+    }
+
+    /**
+     * Counts the number of distinct values of a single projected attribute matching {@code specification}.
+     *
+     * @param entityClass the JPA entity type to query
+     * @param specification the filtering criteria
+     * @param fieldName the projected attribute name
+     * @param <T> the entity type
+     * @return the number of distinct values of {@code fieldName}
+     */
+    <T> long countDistinctSingleField(final Class<T> entityClass,
+                                      final Specification<T> specification,
+                                      final String fieldName) {
+        FilterPlan<T> plan = jpqlQueries.getPlan(executor.compile(specification), Sort.unsorted(), fieldName);
+
+        if (plan != null) {
+            return withTimeout(jpqlQueries.buildCountQuery(entityClass, plan, true, fieldName)).getSingleResult();
+        }
+
+        return count(entityClass, specification,
+            (cb, root) -> cb.countDistinct(AttributePaths.getSingleValued(root, fieldName)));
+    }
+
+    /**
+     * Counts the number of distinct combinations of two or more projected attributes matching
+     * {@code specification}.
+     * <p>
+     * Standard JPA/JPQL has no portable way to express {@code COUNT(DISTINCT (a, b, ...))}. The distinct values of a
+     * single string key built by the database from every attribute are counted instead, see
+     * {@link #buildDistinctKey}, so that only the count is returned whatever the number of combinations. If an
+     * attribute has no exact string form, see {@link #DISTINCT_KEY_TYPES}, the count falls back to
+     * {@link #countDistinctTuplesInMemory}.
+     * </p>
+     *
+     * @param entityClass the JPA entity type to query
+     * @param specification the filtering criteria
+     * @param fieldNames the projected attribute names (two or more)
+     * @param <T> the entity type
+     * @return the number of distinct combinations of {@code fieldNames}
+     */
+    <T> long countDistinctMultipleFields(final Class<T> entityClass,
+                                         final Specification<T> specification,
+                                         final String... fieldNames) {
+        EntityType<T> entityType = executor.getEntityManager().getMetamodel().entity(entityClass);
+
+        if (!Arrays.stream(fieldNames).allMatch(fieldName -> isDistinctKeyAttribute(entityType, fieldName))) {
+            return countDistinctTuplesInMemory(entityClass, specification, fieldNames);
+        }
+
+        return count(entityClass, specification,
+            (cb, root) -> cb.countDistinct(buildDistinctKey(cb, root, fieldNames)));
+    }
+
+    /**
+     * Counts the number of distinct combinations of two or more projected attributes matching
+     * {@code specification}, by fetching every distinct tuple and counting them in memory.
+     * <p>
+     * This is correct for any attribute type but, unlike the other counting strategies, loads the whole distinct
+     * result set in memory. It is only used by {@link #countDistinctMultipleFields} when a distinct key cannot be
+     * built.
+     * </p>
+     *
+     * @param entityClass the JPA entity type to query
+     * @param specification the filtering criteria
+     * @param fieldNames the projected attribute names (two or more)
+     * @param <T> the entity type
+     * @return the number of distinct combinations of {@code fieldNames}
+     */
+    <T> long countDistinctTuplesInMemory(final Class<T> entityClass,
+                                         final Specification<T> specification,
+                                         final String... fieldNames) {
+        EntityManager entityManager = executor.getEntityManager();
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(entityClass);
+        Predicate predicate = specification.toPredicate(root, query, cb);
+
+        Selection<?>[] selections = Arrays.stream(fieldNames)
+            .map(fieldName -> AttributePaths.getSingleValued(root, fieldName))
+            .toArray(Selection[]::new);
+
+        query.select(cb.tuple(selections)).distinct(true);
+
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        return withTimeout(entityManager.createQuery(query)).getResultList().size();
+    }
+
+    /**
+     * Builds a string key that is distinct for every distinct combination of attributes.
+     * <p>
+     * Each attribute is converted to a string and prefixed with its length, as in {@code 3:abc}, and {@code null}
+     * values are written {@code -}. Since every part tells where it ends, the concatenation of the parts is unique for
+     * each combination, whatever characters the values contain.
+     * </p>
+     *
+     * @param cb the criteria builder
+     * @param root the query root
+     * @param fieldNames the attribute names
+     * @param <T> the entity type
+     * @return the key expression
+     */
+    static <T> Expression<String> buildDistinctKey(final CriteriaBuilder cb,
+                                                   final Root<T> root,
+                                                   final String... fieldNames) {
+        Expression<String> key = null;
+
+        for (String fieldName : fieldNames) {
+            Path<?> path = AttributePaths.getSingleValued(root, fieldName);
+            Expression<String> value = path.as(String.class);
+            Expression<String> part = cb.<String>selectCase()
+                .when(cb.isNull(path), "-")
+                .otherwise(cb.concat(cb.concat(cb.length(value).as(String.class), ":"), value));
+
+            if (key == null) {
+                key = part;
+            } else {
+                key = cb.concat(key, part);
+            }
+        }
+
+        return key;
+    }
+
+    /**
+     * Executes a Criteria {@code COUNT} query of the rows matching {@code specification}.
+     *
+     * @param entityClass the JPA entity type to query
+     * @param specification the filtering criteria
+     * @param selection the count expression to select, from the criteria builder and the query root
+     * @param <T> the entity type
+     * @return the count
+     */
+    private <T> long count(final Class<T> entityClass,
+                           final Specification<T> specification,
+                           final BiFunction<CriteriaBuilder, Root<T>, Expression<Long>> selection) {
+        EntityManager entityManager = executor.getEntityManager();
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+        Root<T> root = countQuery.from(entityClass);
+        Predicate predicate = specification.toPredicate(root, countQuery, cb);
+
+        countQuery.select(selection.apply(cb, root));
+
+        if (predicate != null) {
+            countQuery.where(predicate);
+        }
+
+        return withTimeout(entityManager.createQuery(countQuery)).getSingleResult();
+    }
+
+    /**
+     * Applies the time budget of {@code COUNT} queries of the executor to a query.
+     *
+     * @param query the count query
+     * @param <X> the result type of the query
+     * @return the same query
+     */
+    private <X> TypedQuery<X> withTimeout(final TypedQuery<X> query) {
+        Duration countTimeout = executor.getCountTimeout();
+
+        if (countTimeout != null) {
+            query.setHint(TIMEOUT_HINT, countTimeout.toMillis());
+        }
+
+        return query;
+    }
+
+    /**
+     * Indicates whether an attribute can be part of a key built by {@link #buildDistinctKey}: a basic attribute
+     * whose values are converted to exact strings by the database.
+     *
+     * @param entityType the queried entity type
+     * @param fieldName the attribute name
+     * @param <T> the entity type
+     * @return {@code true} if the attribute is converted to an exact string
+     */
+    private static <T> boolean isDistinctKeyAttribute(final EntityType<T> entityType, final String fieldName) {
+        Attribute<?, ?> attribute = AttributePaths.getAttribute(entityType, fieldName);
+
+        if (attribute.getPersistentAttributeType() != Attribute.PersistentAttributeType.BASIC) {
+            return false;
+        }
+
+        Class<?> javaType = MethodType.methodType(attribute.getJavaType()).wrap().returnType();
+
+        return DISTINCT_KEY_TYPES.contains(javaType);
+    }
+}
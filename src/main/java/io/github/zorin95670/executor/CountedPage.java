@@ -0,0 +1,87 @@
+package io.github.zorin95670.executor;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.io.Serial;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link PageImpl} telling how accurate its total number of rows is.
+ * <p>
+ * Pages counted with {@link CountMode#bounded(long)} or {@link CountMode#estimated()} may report a total that is not
+ * the exact number of matching rows. {@link #getTotalAccuracy()} tells clients whether to display it as is, as a
+ * lower bound (for example "10,000+") or as an approximation.
+ * </p>
+ *
+ * @param <T> the type of the content
+ */
+public class CountedPage<T> extends PageImpl<T> {
+
+    /**
+     * Serialization version.
+     */
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The accuracy of the total.
+     */
+    private final TotalAccuracy totalAccuracy;
+
+    /**
+     * Constructs a page.
+     *
+     * @param content the content of the page
+     * @param pageable the paging information
+     * @param total the total number of rows
+     * @param totalAccuracy the accuracy of {@code total}
+     */
+    public CountedPage(final List<T> content,
+                       final Pageable pageable,
+                       final long total,
+                       final TotalAccuracy totalAccuracy) {
+        super(content, pageable, total);
+        this.totalAccuracy = totalAccuracy;
+    }
+
+    /**
+     * Gets the accuracy of the total number of rows.
+     *
+     * @return the accuracy of {@link #getTotalElements()}
+     */
+    public TotalAccuracy getTotalAccuracy() {
+        return totalAccuracy;
+    }
+
+    /**
+     * Indicates whether the total number of rows is exact.
+     *
+     * @return {@code true} if {@link #getTotalElements()} is the exact number of matching rows
+     */
+    public boolean isTotalExact() {
+        return totalAccuracy == TotalAccuracy.EXACT;
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof CountedPage<?> other)) {
+            return false;
+        }
+        return totalAccuracy == other.totalAccuracy && super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), totalAccuracy);
+    }
+
+    @Override
+    public String toString() {
+        return super.toString() + " (total " + totalAccuracy + ")";
+    }
+}
@@ -0,0 +1,297 @@
+package io.github.zorin95670.executor;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A size-bounded, least-recently-used cache of query results, with a time to live, invalidated by entity writes.
+ * <p>
+ * Writes are reported with {@link #invalidate(Class)}, which {@link EntityCacheInvalidator} calls after every
+ * committed insert, update or delete of a Hibernate entity. A result computed before an invalidation is not cached,
+ * since it may not see the invalidating write: callers read {@link #getVersion()} before querying and give it to
+ * {@link #store(Object, Object, long)}.
+ * </p>
+ * <p>
+ * This class is thread-safe. It exposes hit, miss, eviction and invalidation counters to monitor its efficiency.
+ * </p>
+ *
+ * @param <K> the key type
+ * @param <V> the cached value type
+ */
+public abstract class EntityCache<K, V> {
+
+    /**
+     * Default maximum number of cached values.
+     */
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    /**
+     * Default time to live of cached values.
+     */
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(1);
+
+    /**
+     * Initial capacity of the underlying map.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Load factor of the underlying map.
+     */
+    private static final float LOAD_FACTOR = 0.75f;
+
+    /**
+     * The maximum number of cached values.
+     */
+    private final int maxSize;
+
+    /**
+     * The time to live of cached values.
+     */
+    private final Duration timeToLive;
+
+    /**
+     * The cached values, in access order.
+     */
+    private final Map<K, Entry<V>> values;
+
+    /**
+     * Number of invalidations, used to discard results computed before one of them.
+     */
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Number of lookups that found a cached value.
+     */
+    private final AtomicLong hitCount = new AtomicLong();
+
+    /**
+     * Number of lookups that found no valid value.
+     */
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * Number of values removed to respect the maximum size.
+     */
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * Number of values removed by entity writes.
+     */
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    /**
+     * Constructs a new cache with the given maximum size and time to live.
+     *
+     * @param maxSize The maximum number of cached values, must be positive.
+     * @param timeToLive The time to live of cached values, must be positive.
+     * @throws IllegalArgumentException if {@code maxSize} or {@code timeToLive} is not positive.
+     */
+    protected EntityCache(final int maxSize, final Duration timeToLive) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maxSize);
+        }
+        if (timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("Cache time to live must be positive: " + timeToLive);
+        }
+
+        this.maxSize = maxSize;
+        this.timeToLive = timeToLive;
+        this.values = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, Entry<V>> eldest) {
+                if (size() > EntityCache.this.maxSize) {
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Gets the classes of the entities a key depends on, to invalidate it when entities of one of these classes or of
+     * their sub classes are written: the queried entity class, and the classes joined by the paths of the query.
+     *
+     * @param key The key of a cached value.
+     * @return the entity classes of the key
+     */
+    protected abstract Set<Class<?>> getEntityClasses(K key);
+
+    /**
+     * Gets the cached value of a key, if it has not expired.
+     *
+     * @param key The key of the value.
+     * @return the cached value, or {@code null} if there is none
+     */
+    protected V lookup(final K key) {
+        long now = System.nanoTime();
+
+        synchronized (values) {
+            Entry<V> entry = values.get(key);
+
+            if (entry != null && now - entry.expiresAt < 0) {
+                hitCount.incrementAndGet();
+                return entry.value;
+            }
+            if (entry != null) {
+                values.remove(key);
+            }
+        }
+
+        missCount.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Caches the value of a key, unless the cache was invalidated since {@code queryVersion}.
+     *
+     * @param key The key of the value.
+     * @param value The value to cache.
+     * @param queryVersion The {@link #getVersion() version} of the cache read before computing the value.
+     */
+    protected void store(final K key, final V value, final long queryVersion) {
+        Entry<V> entry = new Entry<>(value, System.nanoTime() + timeToLive.toNanos());
+
+        synchronized (values) {
+            if (version.get() == queryVersion) {
+                values.put(key, entry);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of invalidations of the cache, to read before computing a value to cache.
+     *
+     * @return the version of the cache
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Removes the cached values depending on an entity class or on its super classes, after a write of one of its
+     * entities.
+     *
+     * @param entityClass The class of the written entity.
+     */
+    public void invalidate(final Class<?> entityClass) {
+        synchronized (values) {
+            version.incrementAndGet();
+            values.keySet().removeIf(key -> {
+                if (getEntityClasses(key).stream().anyMatch(type -> type.isAssignableFrom(entityClass))) {
+                    invalidationCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            });
+        }
+    }
+
+    /**
+     * Removes all cached values. Counters are not reset.
+     */
+    public void clear() {
+        synchronized (values) {
+            version.incrementAndGet();
+            values.clear();
+        }
+    }
+
+    /**
+     * Gets the maximum number of cached values.
+     *
+     * @return the maximum size of the cache
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Gets the time to live of cached values.
+     *
+     * @return the time to live
+     */
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * Gets the current number of cached values, including expired ones not yet removed.
+     *
+     * @return the size of the cache
+     */
+    public int size() {
+        synchronized (values) {
+            return values.size();
+        }
+    }
+
+    /**
+     * Gets the number of lookups that found a cached value.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Gets the number of lookups that found no valid value.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Gets the number of values removed to respect the maximum size.
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    /**
+     * Gets the number of values removed by entity writes.
+     *
+     * @return the invalidation count
+     */
+    public long getInvalidationCount() {
+        return invalidationCount.get();
+    }
+
+    /**
+     * A cached value.
+     *
+     * @param <V> the value type
+     */
+    private static final class Entry<V> {
+
+        /**
+         * The cached value.
+         */
+        private final V value;
+
+        /**
+         * The {@link System#nanoTime()} after which the value expires.
+         */
+        private final long expiresAt;
+
+        /**
+         * Constructs a cached value.
+         *
+         * @param value The cached value.
+         * @param expiresAt The time after which the value expires.
+         */
+        private Entry(final V value, final long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
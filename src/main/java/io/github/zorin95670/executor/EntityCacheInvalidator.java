@@ -0,0 +1,116 @@
+package io.github.zorin95670.executor;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+
+import java.util.List;
+
+/**
+ * Hibernate listener invalidating the values of {@link EntityCache}s when their entities are written.
+ * <p>
+ * The listener runs after the commit of every insert, update and delete of an entity, so the cached values of its
+ * class are queried again by the next request. Writes that bypass entity events, such as bulk {@code UPDATE} or
+ * {@code DELETE} queries and native SQL, are not seen: the cached values then expire with their time to live, or can
+ * be removed with {@link EntityCache#invalidate(Class)}.
+ * </p>
+ * <p>
+ * {@link #register(EntityManagerFactory, EntityCache[])} also records the flushed writes of the current transaction,
+ * so that the executor bypasses the caches of the written entities until the transaction completes.
+ * </p>
+ */
+public final class EntityCacheInvalidator
+    implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    /**
+     * The invalidated caches.
+     */
+    private final List<EntityCache<?, ?>> caches;
+
+    /**
+     * Constructs a listener invalidating caches.
+     *
+     * @param caches the invalidated caches
+     */
+    public EntityCacheInvalidator(final EntityCache<?, ?>... caches) {
+        this.caches = List.of(caches);
+    }
+
+    /**
+     * Registers a listener invalidating caches on the post-commit events of a Hibernate entity manager factory.
+     *
+     * @param entityManagerFactory the Hibernate entity manager factory
+     * @param caches the invalidated caches
+     * @return the registered listener
+     * @throws jakarta.persistence.PersistenceException if the factory is not a Hibernate one
+     */
+    public static EntityCacheInvalidator register(final EntityManagerFactory entityManagerFactory,
+                                                  final EntityCache<?, ?>... caches) {
+        EntityCacheInvalidator invalidator = new EntityCacheInvalidator(caches);
+        TransactionWrites.Listener writes = new TransactionWrites.Listener();
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, invalidator);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, invalidator);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, invalidator);
+        registry.appendListeners(EventType.POST_INSERT, writes);
+        registry.appendListeners(EventType.POST_UPDATE, writes);
+        registry.appendListeners(EventType.POST_DELETE, writes);
+
+        return invalidator;
+    }
+
+    /**
+     * Invalidates the cached values of a written entity class.
+     *
+     * @param persister the persister of the written entity
+     */
+    private void invalidate(final EntityPersister persister) {
+        caches.forEach(cache -> cache.invalidate(persister.getMappedClass()));
+    }
+
+    @Override
+    public void onPostInsert(final PostInsertEvent event) {
+        invalidate(event.getPersister());
+    }
+
+    @Override
+    public void onPostUpdate(final PostUpdateEvent event) {
+        invalidate(event.getPersister());
+    }
+
+    @Override
+    public void onPostDelete(final PostDeleteEvent event) {
+        invalidate(event.getPersister());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(final PostInsertEvent event) {
+        // Nothing was written, cached values are still valid.
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(final PostUpdateEvent event) {
+        // Nothing was written, cached values are still valid.
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(final PostDeleteEvent event) {
+        // Nothing was written, cached values are still valid.
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(final EntityPersister persister) {
+        return true;
+    }
+}
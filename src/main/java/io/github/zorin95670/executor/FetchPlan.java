@@ -0,0 +1,228 @@
+package io.github.zorin95670.executor;
+
+import io.github.zorin95670.predicate.AttributePaths;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Graph;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The associations fetched with the entities returned by
+ * {@link SpringQueryExecutor#find(Class, org.springframework.data.jpa.domain.Specification,
+ * org.springframework.data.domain.Sort, FetchPlan)} and
+ * {@link SpringQueryExecutor#findPage(Class, org.springframework.data.jpa.domain.Specification,
+ * org.springframework.data.domain.Pageable, FetchPlan)}, so that reading them does not issue one query per entity.
+ * <p>
+ * A plan is either a named entity graph, declared with {@link jakarta.persistence.NamedEntityGraph}, or a list of
+ * attribute paths, such as {@code orders.lines}, from which an entity graph is built for each query. The graph is
+ * applied as a {@link Type#FETCH fetch graph} by default, or as a {@link Type#LOAD load graph}.
+ * </p>
+ */
+public final class FetchPlan {
+
+    /**
+     * How the attributes outside of the graph are loaded.
+     */
+    public enum Type {
+
+        /**
+         * Attributes outside of the graph are loaded lazily.
+         */
+        FETCH("jakarta.persistence.fetchgraph"),
+
+        /**
+         * Attributes outside of the graph are loaded with their mapped fetch type.
+         */
+        LOAD("jakarta.persistence.loadgraph");
+
+        /**
+         * The name of the query hint applying the graph.
+         */
+        private final String hint;
+
+        /**
+         * Constructs a graph type.
+         *
+         * @param hint the name of the query hint applying the graph
+         */
+        Type(final String hint) {
+            this.hint = hint;
+        }
+
+        /**
+         * Gets the name of the query hint applying the graph.
+         *
+         * @return the hint name
+         */
+        public String getHint() {
+            return hint;
+        }
+    }
+
+    /**
+     * The name of the entity graph, {@code null} for a plan of attribute paths.
+     */
+    private final String graphName;
+
+    /**
+     * The fetched attribute paths, empty for a named entity graph.
+     */
+    private final List<String> attributePaths;
+
+    /**
+     * How the attributes outside of the graph are loaded.
+     */
+    private final Type type;
+
+    /**
+     * Constructs a fetch plan.
+     *
+     * @param graphName the name of the entity graph, or {@code null}
+     * @param attributePaths the fetched attribute paths
+     * @param type how the attributes outside of the graph are loaded
+     */
+    private FetchPlan(final String graphName, final List<String> attributePaths, final Type type) {
+        this.graphName = graphName;
+        this.attributePaths = attributePaths;
+        this.type = type;
+    }
+
+    /**
+     * Gets a plan fetching the named entity graph of the queried entity.
+     *
+     * @param graphName the name of the entity graph, must not be blank
+     * @return the fetch plan
+     * @throws IllegalArgumentException if {@code graphName} is blank
+     */
+    public static FetchPlan graph(final String graphName) {
+        if (graphName == null || graphName.isBlank()) {
+            throw new IllegalArgumentException("Entity graph name must not be blank.");
+        }
+
+        return new FetchPlan(graphName, List.of(), Type.FETCH);
+    }
+
+    /**
+     * Gets a plan fetching attribute paths of the queried entity. Every association of a dotted path is fetched, so
+     * {@code orders.lines} fetches both the orders and their lines.
+     *
+     * @param attributePaths the fetched attribute paths, must not be empty
+     * @return the fetch plan
+     * @throws IllegalArgumentException if {@code attributePaths} is empty or holds a blank path
+     */
+    public static FetchPlan attributes(final String... attributePaths) {
+        if (attributePaths == null || attributePaths.length == 0) {
+            throw new IllegalArgumentException("Fetched attribute paths must not be empty.");
+        }
+        if (Arrays.stream(attributePaths).anyMatch(path -> path == null || path.isBlank())) {
+            throw new IllegalArgumentException("Fetched attribute paths must not be blank: "
+                + Arrays.toString(attributePaths));
+        }
+
+        return new FetchPlan(null, List.of(attributePaths), Type.FETCH);
+    }
+
+    /**
+     * Gets the same plan, applied as a load graph: attributes outside of the graph keep their mapped fetch type.
+     *
+     * @return the plan applied as a load graph
+     */
+    public FetchPlan asLoadGraph() {
+        return new FetchPlan(graphName, attributePaths, Type.LOAD);
+    }
+
+    /**
+     * Gets the name of the entity graph.
+     *
+     * @return the graph name, or {@code null} for a plan of attribute paths
+     */
+    public String getGraphName() {
+        return graphName;
+    }
+
+    /**
+     * Gets the fetched attribute paths.
+     *
+     * @return an unmodifiable list of paths, empty for a named entity graph
+     */
+    public List<String> getAttributePaths() {
+        return attributePaths;
+    }
+
+    /**
+     * Gets how the attributes outside of the graph are loaded.
+     *
+     * @return the graph type
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Gets the entity graph of the plan for an entity class.
+     *
+     * @param entityManager the entity manager of the query
+     * @param entityClass the queried entity class
+     * @return the named entity graph, or a new graph of the attribute paths
+     * @throws IllegalArgumentException if there is no such named graph, or if a path is not an attribute
+     */
+    EntityGraph<?> getEntityGraph(final EntityManager entityManager, final Class<?> entityClass) {
+        if (graphName != null) {
+            return entityManager.getEntityGraph(graphName);
+        }
+
+        EntityGraph<?> entityGraph = entityManager.createEntityGraph(entityClass);
+        Map<String, Graph<?>> subgraphs = new HashMap<>();
+
+        for (String path : attributePaths) {
+            Graph<?> graph = entityGraph;
+            int start = 0;
+            int end = path.indexOf(AttributePaths.SEPARATOR);
+
+            while (end >= 0) {
+                Graph<?> parent = graph;
+                String name = path.substring(start, end);
+
+                graph = subgraphs.computeIfAbsent(path.substring(0, end), prefix -> parent.addSubgraph(name));
+                start = end + 1;
+                end = path.indexOf(AttributePaths.SEPARATOR, start);
+            }
+
+            graph.addAttributeNodes(path.substring(start));
+        }
+
+        return entityGraph;
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof FetchPlan other)) {
+            return false;
+        }
+        return type == other.type
+            && Objects.equals(graphName, other.graphName)
+            && attributePaths.equals(other.attributePaths);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(graphName, attributePaths, type);
+    }
+
+    @Override
+    public String toString() {
+        if (graphName != null) {
+            return type + "(" + graphName + ")";
+        }
+
+        return type + attributePaths.toString();
+    }
+}
@@ -0,0 +1,241 @@
+package io.github.zorin95670.executor;
+
+import io.github.zorin95670.predicate.AttributePaths;
+import io.github.zorin95670.predicate.JpqlWriter;
+import io.github.zorin95670.specification.FilterPlan;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The queries of a {@link SpringQueryExecutorImpl} in {@link QueryMode#JPQL} mode, rendered from compiled filter plans
+ * to JPQL with named parameters.
+ * <p>
+ * The rendered query only depends on the shape of the request (projection, filtered fields, operators, number of
+ * values and sort), so requests of the same shape share the same JPQL string and hit the query interpretation cache
+ * of the provider. Each execution is recorded in {@link SpringQueryExecutorImpl#getJpqlShapeStatistics()}.
+ * </p>
+ */
+final class JpqlQueries {
+
+    /**
+     * The alias of the queried entity in rendered JPQL queries.
+     */
+    private static final String ALIAS = "e";
+
+    /**
+     * The executor of the queries.
+     */
+    private final SpringQueryExecutorImpl executor;
+
+    /**
+     * Constructs the JPQL queries of an executor.
+     *
+     * @param executor the executor of the queries
+     */
+    JpqlQueries(final SpringQueryExecutorImpl executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Gets the plan to render to JPQL, when the executor builds its queries in {@link QueryMode#JPQL} mode.
+     * <p>
+     * Queries sorting or projecting on dotted paths are built with the Criteria API, which joins their associations
+     * once with {@link AttributePaths}.
+     * </p>
+     *
+     * @param specification the compiled specification
+     * @param sort the sort of the query
+     * @param fieldNames the projected attribute names of the query, possibly {@code null}
+     * @param <T> the entity type
+     * @return the renderable {@link FilterPlan}, or {@code null} if the Criteria API must be used
+     */
+    <T> FilterPlan<T> getPlan(final Specification<T> specification, final Sort sort, final String... fieldNames) {
+        if (executor.getQueryMode() == QueryMode.JPQL
+            && specification instanceof FilterPlan<T> plan
+            && plan.isJpqlRenderable()
+            && sort.stream().noneMatch(order -> AttributePaths.isNested(order.getProperty()))
+            && (fieldNames == null || Arrays.stream(fieldNames).noneMatch(AttributePaths::isNested))) {
+            return plan;
+        }
+
+        return null;
+    }
+
+    /**
+     * Builds the content query of a plan, with the same projection rules as
+     * {@link SpringQueryExecutorImpl#buildSelection}.
+     *
+     * @param entityClass the JPA entity type to query
+     * @param resultType the desired result type
+     * @param plan the compiled filters, renderable to JPQL
+     * @param distinct whether to apply {@code SELECT DISTINCT}
+     * @param sort the sort order to apply; ignored if {@link Sort#isSorted()} is {@code false}
+     * @param fieldNames optional attribute names used to build the selection
+     * @param <T> the entity type
+     * @param <R> the result type
+     * @return a {@link TypedQuery} ready to be executed or further configured (e.g. paging)
+     * @throws IllegalArgumentException if a field or sort property is not a valid attribute name
+     */
+    <T, R> TypedQuery<R> buildQuery(final Class<T> entityClass,
+                                    final Class<R> resultType,
+                                    final FilterPlan<T> plan,
+                                    final boolean distinct,
+                                    final Sort sort,
+                                    final String... fieldNames) {
+        JpqlWriter writer = new JpqlWriter(ALIAS);
+        boolean transformed = executor.isTransformed(fieldNames);
+
+        writer.append("SELECT ");
+
+        if (distinct) {
+            writer.append("DISTINCT ");
+        }
+
+        if (fieldNames == null || fieldNames.length == 0) {
+            writer.append(ALIAS);
+        } else if (fieldNames.length == 1) {
+            writer.appendPath(checkAttributeName(fieldNames[0]));
+        } else {
+            if (!transformed) {
+                writer.append("NEW ").append(resultType.getName()).append("(");
+            }
+            for (int index = 0; index < fieldNames.length; index++) {
+                if (index > 0) {
+                    writer.append(", ");
+                }
+                writer.appendPath(checkAttributeName(fieldNames[index]));
+            }
+            if (!transformed) {
+                writer.append(")");
+            }
+        }
+
+        appendFromWhere(writer, entityClass, plan);
+
+        if (sort.isSorted()) {
+            writer.append(" ORDER BY ");
+            boolean first = true;
+
+            for (Sort.Order order : sort) {
+                if (!first) {
+                    writer.append(", ");
+                }
+                writer.appendPath(checkAttributeName(order.getProperty()));
+                if (order.isAscending()) {
+                    writer.append(" ASC");
+                } else {
+                    writer.append(" DESC");
+                }
+                first = false;
+            }
+        }
+
+        if (transformed) {
+            return ProjectionTransformer.transform(createQuery(writer, Object[].class),
+                executor.getRowFactory(entityClass, resultType, fieldNames));
+        }
+
+        return createQuery(writer, resultType);
+    }
+
+    /**
+     * Builds the {@code COUNT} query of the entities, or of the values of an attribute, matching a plan.
+     *
+     * @param entityClass the JPA entity type to query
+     * @param plan the compiled filters, renderable to JPQL
+     * @param distinct whether to count distinct entities or values
+     * @param fieldName the counted attribute name, or {@code null} to count entities
+     * @param <T> the entity type
+     * @return the count query
+     * @throws IllegalArgumentException if {@code fieldName} is not a valid attribute name
+     */
+    <T> TypedQuery<Long> buildCountQuery(final Class<T> entityClass,
+                                         final FilterPlan<T> plan,
+                                         final boolean distinct,
+                                         final String fieldName) {
+        JpqlWriter writer = new JpqlWriter(ALIAS);
+
+        writer.append("SELECT COUNT(");
+
+        if (distinct) {
+            writer.append("DISTINCT ");
+        }
+
+        if (fieldName == null) {
+            writer.append(ALIAS);
+        } else {
+            writer.append(ALIAS).append(".").append(checkAttributeName(fieldName));
+        }
+
+        writer.append(")");
+        appendFromWhere(writer, entityClass, plan);
+
+        return createQuery(writer, Long.class);
+    }
+
+    /**
+     * Appends the {@code FROM} clause of an entity and the {@code WHERE} clause of a plan, if it has filters.
+     *
+     * @param writer the writer of the query
+     * @param entityClass the JPA entity type to query
+     * @param plan the compiled filters, renderable to JPQL
+     * @param <T> the entity type
+     */
+    private <T> void appendFromWhere(final JpqlWriter writer, final Class<T> entityClass, final FilterPlan<T> plan) {
+        writer.append(" FROM ")
+            .append(executor.getEntityManager().getMetamodel().entity(entityClass).getName())
+            .append(" ")
+            .append(ALIAS);
+
+        if (!plan.getPredicateFilters().isEmpty()) {
+            writer.append(" WHERE ");
+            plan.renderJpql(writer);
+        }
+    }
+
+    /**
+     * Creates a query from rendered JPQL, binds its parameters and records its shape.
+     *
+     * @param writer the writer of the query
+     * @param resultType the result type
+     * @param <R> the result type
+     * @return the typed query
+     */
+    private <R> TypedQuery<R> createQuery(final JpqlWriter writer, final Class<R> resultType) {
+        String jpql = writer.getJpql();
+        TypedQuery<R> query = executor.getEntityManager().createQuery(jpql, resultType);
+        List<Object> parameters = writer.getParameters();
+
+        for (int index = 0; index < parameters.size(); index++) {
+            query.setParameter(JpqlWriter.PARAMETER_PREFIX + index, parameters.get(index));
+        }
+
+        executor.getJpqlShapeStatistics().record(jpql);
+
+        return query;
+    }
+
+    /**
+     * Checks that a name can be safely written in a JPQL query as an attribute name.
+     *
+     * @param name the attribute name
+     * @return the attribute name
+     * @throws IllegalArgumentException if {@code name} is not a Java identifier
+     */
+    private static String checkAttributeName(final String name) {
+        boolean valid = name != null
+            && !name.isEmpty()
+            && Character.isJavaIdentifierStart(name.charAt(0))
+            && name.chars().skip(1).allMatch(Character::isJavaIdentifierPart);
+
+        if (!valid) {
+            throw new IllegalArgumentException("Invalid attribute name: '" + name + "'.");
+        }
+
+        return name;
+    }
+}
@@ -0,0 +1,158 @@
+package io.github.zorin95670.executor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Execution statistics of the JPQL queries rendered in {@link QueryMode#JPQL} mode, per query shape.
+ * <p>
+ * A shape is a rendered JPQL string: requests with the same fields, operators and number of values share it. An
+ * execution is a repeat when its shape was already executed. Repeated shapes are the queries that the provider may
+ * reuse from its query interpretation cache, so the {@link #getRepeatRatio() repeat ratio} bounds the hit rate of
+ * that cache. It is not that hit rate: the provider may have evicted a shape, or interpreted it for another caller.
+ * With Hibernate, the actual hit rate is given by {@code Statistics.getQueryPlanCacheHitCount()} and
+ * {@code getQueryPlanCacheMissCount()}, when {@code hibernate.generate_statistics} is enabled.
+ * </p>
+ * <p>
+ * At most {@link #MAX_SHAPES} shapes are tracked; queries of other shapes are never counted as repeats. This class is
+ * thread-safe.
+ * </p>
+ */
+public final class JpqlShapeStatistics {
+
+    /**
+     * Maximum number of tracked shapes.
+     */
+    public static final int MAX_SHAPES = 1000;
+
+    /**
+     * Number of executions of each tracked shape.
+     */
+    private final Map<String, LongAdder> executions = new ConcurrentHashMap<>();
+
+    /**
+     * Number of executed queries.
+     */
+    private final LongAdder queryCount = new LongAdder();
+
+    /**
+     * Number of executed queries whose shape was already executed.
+     */
+    private final LongAdder repeatCount = new LongAdder();
+
+    /**
+     * Records the execution of a query.
+     *
+     * @param jpql the rendered JPQL query
+     */
+    public void record(final String jpql) {
+        queryCount.increment();
+
+        LongAdder count = executions.get(jpql);
+
+        if (count != null) {
+            count.increment();
+            repeatCount.increment();
+            return;
+        }
+
+        if (executions.size() < MAX_SHAPES) {
+            executions.computeIfAbsent(jpql, shape -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Gets the number of executed queries.
+     *
+     * @return the query count
+     */
+    public long getQueryCount() {
+        return queryCount.sum();
+    }
+
+    /**
+     * Gets the number of executed queries whose shape was already executed.
+     *
+     * @return the repeat count
+     */
+    public long getRepeatCount() {
+        return repeatCount.sum();
+    }
+
+    /**
+     * Gets the ratio of executed queries whose shape was already executed.
+     *
+     * @return the repeat ratio, between {@code 0} and {@code 1}, or {@code 0} if no query was executed
+     */
+    public double getRepeatRatio() {
+        long queries = getQueryCount();
+
+        if (queries == 0) {
+            return 0;
+        }
+
+        return (double) getRepeatCount() / queries;
+    }
+
+    /**
+     * Gets the number of tracked shapes.
+     *
+     * @return the shape count
+     */
+    public int getShapeCount() {
+        return executions.size();
+    }
+
+    /**
+     * Gets the number of executions of a shape.
+     *
+     * @param jpql the rendered JPQL query
+     * @return the execution count, or {@code 0} if the shape is not tracked
+     */
+    public long getExecutionCount(final String jpql) {
+        LongAdder count = executions.get(jpql);
+
+        if (count == null) {
+            return 0;
+        }
+
+        return count.sum();
+    }
+
+    /**
+     * Gets the ratio of executions of a shape that repeated it, all but the first one.
+     *
+     * @param jpql the rendered JPQL query
+     * @return the repeat ratio of the shape, or {@code 0} if the shape is not tracked
+     */
+    public double getRepeatRatio(final String jpql) {
+        long count = getExecutionCount(jpql);
+
+        if (count == 0) {
+            return 0;
+        }
+
+        return (double) (count - 1) / count;
+    }
+
+    /**
+     * Gets the number of executions of every tracked shape.
+     *
+     * @return a snapshot of the execution counts, by rendered JPQL query
+     */
+    public Map<String, Long> getExecutionCounts() {
+        return executions.entrySet().stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum()));
+    }
+
+    /**
+     * Resets all statistics.
+     */
+    public void clear() {
+        executions.clear();
+        queryCount.reset();
+        repeatCount.reset();
+    }
+}
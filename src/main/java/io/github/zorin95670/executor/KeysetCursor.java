@@ -0,0 +1,286 @@
+package io.github.zorin95670.executor;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Encodes keyset scroll positions into opaque, URL-safe cursors, and decodes them back.
+ * <p>
+ * A cursor holds the scroll direction and the typed value of every sort key of the last (or first) row of a
+ * {@link org.springframework.data.domain.Window}, in a compact binary form encoded in Base64 without padding. It can
+ * be sent to clients and received back as a query parameter, to fetch the next window with
+ * {@link SpringQueryExecutor#findWindow}.
+ * </p>
+ * <p>
+ * Supported key types are {@link String}, {@link Integer}, {@link Long}, {@link Short}, {@link Float},
+ * {@link Double}, {@link Boolean}, {@link BigDecimal}, {@link UUID}, {@link Date}, {@link LocalDate},
+ * {@link LocalDateTime}, {@link Instant} and {@link OffsetDateTime}, and keys may be {@code null}. Cursors are not
+ * signed: clients can forge them, which only lets them seek to another position of the same query.
+ * </p>
+ */
+public final class KeysetCursor {
+
+    /**
+     * Tag of {@link String} keys.
+     */
+    private static final byte STRING = 's';
+
+    /**
+     * Tag of {@link Integer} keys.
+     */
+    private static final byte INTEGER = 'i';
+
+    /**
+     * Tag of {@link Long} keys.
+     */
+    private static final byte LONG = 'l';
+
+    /**
+     * Tag of {@link Short} keys.
+     */
+    private static final byte SHORT = 'h';
+
+    /**
+     * Tag of {@link Float} keys.
+     */
+    private static final byte FLOAT = 'f';
+
+    /**
+     * Tag of {@link Double} keys.
+     */
+    private static final byte DOUBLE = 'd';
+
+    /**
+     * Tag of {@link Boolean} keys.
+     */
+    private static final byte BOOLEAN = 'b';
+
+    /**
+     * Tag of {@link BigDecimal} keys.
+     */
+    private static final byte DECIMAL = 'n';
+
+    /**
+     * Tag of {@link UUID} keys.
+     */
+    private static final byte UUID_KEY = 'u';
+
+    /**
+     * Tag of {@link Date} keys.
+     */
+    private static final byte DATE = 't';
+
+    /**
+     * Tag of {@link LocalDate} keys.
+     */
+    private static final byte LOCAL_DATE = 'D';
+
+    /**
+     * Tag of {@link LocalDateTime} keys.
+     */
+    private static final byte LOCAL_DATE_TIME = 'T';
+
+    /**
+     * Tag of {@link Instant} keys.
+     */
+    private static final byte INSTANT = 'I';
+
+    /**
+     * Tag of {@link OffsetDateTime} keys.
+     */
+    private static final byte OFFSET_DATE_TIME = 'O';
+
+    /**
+     * Tag of {@code null} keys.
+     */
+    private static final byte NULL_KEY = 'N';
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private KeysetCursor() {
+    }
+
+    /**
+     * Encodes a keyset scroll position into a cursor.
+     *
+     * @param position the scroll position
+     * @return the URL-safe cursor
+     * @throws IllegalArgumentException if a key value is of an unsupported type
+     */
+    public static String encode(final KeysetScrollPosition position) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeBoolean(position.scrollsBackward());
+            output.writeShort(position.getKeys().size());
+
+            for (Map.Entry<String, Object> key : position.getKeys().entrySet()) {
+                output.writeUTF(key.getKey());
+                writeValue(output, key.getKey(), key.getValue());
+            }
+        } catch (IOException exception) {
+            throw new IllegalStateException("Unable to encode keyset cursor.", exception);
+        }
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * Decodes a cursor into a keyset scroll position.
+     *
+     * @param cursor the cursor, or {@code null} or blank for the initial position
+     * @return the scroll position
+     * @throws IllegalArgumentException if the cursor is not a valid keyset cursor
+     */
+    public static KeysetScrollPosition decode(final String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        try (DataInputStream input = new DataInputStream(
+            new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor)))) {
+            boolean backward = input.readBoolean();
+            int size = input.readShort();
+            Map<String, Object> keys = new LinkedHashMap<>();
+
+            for (int index = 0; index < size; index++) {
+                keys.put(input.readUTF(), readValue(input));
+            }
+
+            if (input.available() > 0) {
+                throw new IllegalArgumentException("Invalid keyset cursor: '" + cursor + "'.");
+            }
+
+            if (backward) {
+                return ScrollPosition.backward(keys);
+            }
+
+            return ScrollPosition.forward(keys);
+        } catch (IOException | IllegalArgumentException | DateTimeException exception) {
+            throw new IllegalArgumentException("Invalid keyset cursor: '" + cursor + "'.", exception);
+        }
+    }
+
+    /**
+     * Writes a tagged key value.
+     *
+     * @param output the output
+     * @param name the name of the key
+     * @param value the value of the key
+     * @throws IOException if the value cannot be written
+     */
+    private static void writeValue(final DataOutputStream output, final String name, final Object value)
+        throws IOException {
+        switch (value) {
+            case String string -> {
+                output.writeByte(STRING);
+                output.writeUTF(string);
+            }
+            case Integer number -> {
+                output.writeByte(INTEGER);
+                output.writeInt(number);
+            }
+            case Long number -> {
+                output.writeByte(LONG);
+                output.writeLong(number);
+            }
+            case Short number -> {
+                output.writeByte(SHORT);
+                output.writeShort(number);
+            }
+            case Float number -> {
+                output.writeByte(FLOAT);
+                output.writeFloat(number);
+            }
+            case Double number -> {
+                output.writeByte(DOUBLE);
+                output.writeDouble(number);
+            }
+            case Boolean bool -> {
+                output.writeByte(BOOLEAN);
+                output.writeBoolean(bool);
+            }
+            case BigDecimal number -> {
+                output.writeByte(DECIMAL);
+                output.writeUTF(number.toString());
+            }
+            case UUID uuid -> {
+                output.writeByte(UUID_KEY);
+                output.writeLong(uuid.getMostSignificantBits());
+                output.writeLong(uuid.getLeastSignificantBits());
+            }
+            case Date date -> {
+                output.writeByte(DATE);
+                output.writeLong(date.getTime());
+            }
+            case LocalDate date -> {
+                output.writeByte(LOCAL_DATE);
+                output.writeLong(date.toEpochDay());
+            }
+            case LocalDateTime dateTime -> {
+                output.writeByte(LOCAL_DATE_TIME);
+                output.writeUTF(dateTime.toString());
+            }
+            case Instant instant -> {
+                output.writeByte(INSTANT);
+                output.writeLong(instant.getEpochSecond());
+                output.writeInt(instant.getNano());
+            }
+            case OffsetDateTime dateTime -> {
+                output.writeByte(OFFSET_DATE_TIME);
+                output.writeUTF(dateTime.toString());
+            }
+            case null -> output.writeByte(NULL_KEY);
+            default -> throw new IllegalArgumentException(
+                "Unsupported keyset cursor value for key '" + name + "': " + value);
+        }
+    }
+
+    /**
+     * Reads a tagged key value.
+     *
+     * @param input the input
+     * @return the value of the key
+     * @throws IOException if the value cannot be read
+     */
+    private static Object readValue(final DataInputStream input) throws IOException {
+        byte tag = input.readByte();
+
+        return switch (tag) {
+            case STRING -> input.readUTF();
+            case INTEGER -> input.readInt();
+            case LONG -> input.readLong();
+            case SHORT -> input.readShort();
+            case FLOAT -> input.readFloat();
+            case DOUBLE -> input.readDouble();
+            case BOOLEAN -> input.readBoolean();
+            case DECIMAL -> new BigDecimal(input.readUTF());
+            case UUID_KEY -> new UUID(input.readLong(), input.readLong());
+            case DATE -> new Date(input.readLong());
+            case LOCAL_DATE -> LocalDate.ofEpochDay(input.readLong());
+            case LOCAL_DATE_TIME -> LocalDateTime.parse(input.readUTF());
+            case INSTANT -> Instant.ofEpochSecond(input.readLong(), input.readInt());
+            case OFFSET_DATE_TIME -> OffsetDateTime.parse(input.readUTF());
+            case NULL_KEY -> null;
+            default -> throw new IllegalArgumentException("Unknown keyset cursor tag: " + tag);
+        };
+    }
+}
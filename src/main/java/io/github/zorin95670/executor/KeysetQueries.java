@@ -0,0 +1,318 @@
+package io.github.zorin95670.executor;
+
+import io.github.zorin95670.predicate.AttributePaths;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Nulls;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.EntityType;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The keyset queries of a {@link SpringQueryExecutorImpl}, see
+ * {@link SpringQueryExecutor#findWindow(Class, Class, Specification, KeysetScrollPosition, Sort, int, String...)}.
+ * <p>
+ * A window is sorted by the requested orders followed by the identifier of the entity, so that every row has a
+ * unique position, and selects the rows after the sort keys of its scroll position with a seek predicate instead of
+ * an offset. The sort keys are selected with the results, to give the scroll position of each row.
+ * </p>
+ */
+final class KeysetQueries {
+
+    /**
+     * The executor of the queries.
+     */
+    private final SpringQueryExecutorImpl executor;
+
+    /**
+     * Constructs the keyset queries of an executor.
+     *
+     * @param executor the executor of the queries
+     */
+    KeysetQueries(final SpringQueryExecutorImpl executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Executes a keyset query, and returns the window of at most {@code limit} results after, or before,
+     * {@code position}.
+     *
+     * @param entityClass the JPA entity type to query
+     * @param resultType the desired result type
+     * @param specification the filtering criteria
+     * @param position the scroll position, whose keys are the sort keys of the last or first row of a window
+     * @param sort the requested sort
+     * @param limit the maximum number of results of the window
+     * @param fieldNames optional attribute names used to build the selection
+     * @param <T> the entity type
+     * @param <R> the result type
+     * @return the window of matching results
+     * @throws IllegalArgumentException if {@code limit} is not positive or is {@link Integer#MAX_VALUE}, if the
+     *                                  entity does not have a single identifier attribute, or if a key of the
+     *                                  position is missing
+     */
+    <T, R> Window<R> findWindow(final Class<T> entityClass,
+                                final Class<R> resultType,
+                                final Specification<T> specification,
+                                final KeysetScrollPosition position,
+                                final Sort sort,
+                                final int limit,
+                                final String... fieldNames) {
+        if (limit <= 0 || limit == Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Window limit must be positive and lower than "
+                + Integer.MAX_VALUE + ": " + limit);
+        }
+
+        EntityManager entityManager = executor.getEntityManager();
+        List<Sort.Order> keysetOrders = getOrders(entityManager.getMetamodel().entity(entityClass), sort);
+        boolean backward = position.scrollsBackward();
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(entityClass);
+        List<Selection<?>> selections = new ArrayList<>();
+        List<Predicate> predicates = new ArrayList<>();
+
+        keysetOrders.forEach(order -> selections.add(
+            AttributePaths.getSingleValued(root, order.getProperty())));
+        if (fieldNames == null || fieldNames.length == 0) {
+            selections.add(root);
+        } else {
+            Arrays.stream(fieldNames)
+                .forEach(fieldName -> selections.add(AttributePaths.getSingleValued(root, fieldName)));
+        }
+
+        Predicate predicate = executor.compile(specification).toPredicate(root, query, cb);
+        if (predicate != null) {
+            predicates.add(predicate);
+        }
+        if (!position.isInitial()) {
+            predicates.add(buildPredicate(cb, root, keysetOrders, position.getKeys(), backward));
+        }
+
+        query.select(cb.tuple(selections.toArray(Selection[]::new)))
+            .where(predicates.toArray(Predicate[]::new))
+            .orderBy(buildOrders(cb, root, keysetOrders, backward));
+
+        List<Tuple> rows = entityManager.createQuery(query)
+            .setMaxResults(limit + 1)
+            .getResultList();
+        boolean hasNext = rows.size() > limit;
+        List<Tuple> windowRows = new ArrayList<>(rows.subList(0, Math.min(limit, rows.size())));
+
+        if (backward) {
+            Collections.reverse(windowRows);
+        }
+
+        List<R> content = new ArrayList<>(windowRows.size());
+        List<ScrollPosition> positions = new ArrayList<>(windowRows.size());
+        Function<Object[], R> rowFactory = null;
+
+        if (fieldNames != null && fieldNames.length > 1) {
+            rowFactory = executor.getRowFactory(entityClass, resultType, fieldNames);
+        }
+
+        for (Tuple row : windowRows) {
+            Map<String, Object> keys = new LinkedHashMap<>();
+
+            for (int index = 0; index < keysetOrders.size(); index++) {
+                keys.put(keysetOrders.get(index).getProperty(), row.get(index));
+            }
+
+            positions.add(ScrollPosition.of(keys, position.getDirection()));
+            content.add(toResult(row, keysetOrders.size(), rowFactory, fieldNames));
+        }
+
+        return Window.from(content, positions::get, hasNext);
+    }
+
+    /**
+     * Gets the sort orders of a keyset query: the orders of {@code sort}, followed by the identifier of the entity in
+     * ascending order, unless {@code sort} already contains it.
+     *
+     * @param entityType the queried entity type
+     * @param sort the requested sort
+     * @param <T> the entity type
+     * @return the orders, unique for every row
+     * @throws IllegalArgumentException if the entity does not have a single identifier attribute
+     */
+    private static <T> List<Sort.Order> getOrders(final EntityType<T> entityType, final Sort sort) {
+        if (!entityType.hasSingleIdAttribute()) {
+            throw new IllegalArgumentException(
+                "Keyset pagination requires a single identifier attribute: " + entityType.getJavaType().getName());
+        }
+
+        String idName = entityType.getId(entityType.getIdType().getJavaType()).getName();
+        List<Sort.Order> orders = new ArrayList<>(sort.toList());
+
+        if (sort.getOrderFor(idName) == null) {
+            orders.add(Sort.Order.asc(idName));
+        }
+
+        return orders;
+    }
+
+    /**
+     * Builds the seek predicate of a keyset query, selecting the rows after {@code keys} in the order of
+     * {@code orders}: {@code (k1 > v1) OR (k1 = v1 AND k2 > v2) OR ...}, with {@code <} for descending orders, and
+     * the other way around when scrolling backward.
+     * <p>
+     * Sort keys may be {@code null}. Null values are placed as by {@link #isNullsFirst}, so a key compares as
+     * {@code k IS NULL} to a null value, and the rows whose key is null are after or before every other row of the
+     * same prefix, according to their placement.
+     * </p>
+     *
+     * @param cb the criteria builder
+     * @param root the query root
+     * @param orders the keyset orders, see {@link #getOrders}
+     * @param keys the sort keys of the scroll position
+     * @param backward whether to select the rows before {@code keys}
+     * @param <T> the entity type
+     * @return the seek predicate
+     * @throws IllegalArgumentException if a key of {@code orders} is missing
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Predicate buildPredicate(final CriteriaBuilder cb,
+                                                final Root<T> root,
+                                                final List<Sort.Order> orders,
+                                                final Map<String, ?> keys,
+                                                final boolean backward) {
+        List<Predicate> alternatives = new ArrayList<>();
+        List<Predicate> equalities = new ArrayList<>();
+
+        for (Sort.Order order : orders) {
+            if (!keys.containsKey(order.getProperty())) {
+                throw new IllegalArgumentException("Scroll position has no value for sort key '"
+                    + order.getProperty() + "'.");
+            }
+
+            Object value = keys.get(order.getProperty());
+            Expression<Comparable> path = AttributePaths.getSingleValued(root, order.getProperty());
+            boolean nullsFirst = isNullsFirst(order) != backward;
+            Predicate seek = null;
+
+            if (value == null) {
+                if (nullsFirst) {
+                    seek = cb.isNotNull(path);
+                }
+            } else {
+                if (order.isAscending() != backward) {
+                    seek = cb.greaterThan(path, (Comparable) value);
+                } else {
+                    seek = cb.lessThan(path, (Comparable) value);
+                }
+                if (!nullsFirst) {
+                    seek = cb.or(seek, cb.isNull(path));
+                }
+            }
+
+            if (seek != null) {
+                List<Predicate> alternative = new ArrayList<>(equalities);
+                alternative.add(seek);
+                alternatives.add(cb.and(alternative.toArray(Predicate[]::new)));
+            }
+
+            if (value == null) {
+                equalities.add(cb.isNull(path));
+            } else {
+                equalities.add(cb.equal(path, value));
+            }
+        }
+
+        return cb.or(alternatives.toArray(Predicate[]::new));
+    }
+
+    /**
+     * Builds the orders of a keyset query, reversed when scrolling backward, with the placement of null values given
+     * by {@link #isNullsFirst}, so that they match the seek predicate.
+     *
+     * @param cb the criteria builder
+     * @param root the query root
+     * @param orders the keyset orders, see {@link #getOrders}
+     * @param backward whether the rows before the scroll position are selected
+     * @param <T> the entity type
+     * @return the orders of the query
+     */
+    private static <T> List<Order> buildOrders(final CriteriaBuilder cb,
+                                               final Root<T> root,
+                                               final List<Sort.Order> orders,
+                                               final boolean backward) {
+        List<Order> queryOrders = new ArrayList<>(orders.size());
+
+        for (Sort.Order order : orders) {
+            Path<?> path = AttributePaths.getSingleValued(root, order.getProperty());
+            Nulls nulls = Nulls.LAST;
+
+            if (isNullsFirst(order) != backward) {
+                nulls = Nulls.FIRST;
+            }
+
+            if (order.isAscending() != backward) {
+                queryOrders.add(cb.asc(path, nulls));
+            } else {
+                queryOrders.add(cb.desc(path, nulls));
+            }
+        }
+
+        return queryOrders;
+    }
+
+    /**
+     * Indicates whether the null values of a sort key come first in a keyset query. The null handling of the order is
+     * applied when it is explicit. Otherwise, null values are greater than any other value: last in ascending order
+     * and first in descending order, whatever the default of the database.
+     *
+     * @param order the sort order of the key
+     * @return {@code true} if null values come before the other values
+     */
+    private static boolean isNullsFirst(final Sort.Order order) {
+        return switch (order.getNullHandling()) {
+            case NULLS_FIRST -> true;
+            case NULLS_LAST -> false;
+            case NATIVE -> !order.isAscending();
+        };
+    }
+
+    /**
+     * Builds a result of a keyset query from its tuple, with the same projection rules as
+     * {@link SpringQueryExecutorImpl#buildSelection}: several fields are passed to the row factory of the result
+     * type, see {@link ProjectionDescriptor}.
+     *
+     * @param row the tuple, starting with the sort keys
+     * @param offset the number of sort keys before the projected values
+     * @param rowFactory the row factory of a multi-field projection, {@code null} otherwise
+     * @param fieldNames the projected attribute names, or none to select the entity itself
+     * @param <R> the result type
+     * @return the result
+     */
+    @SuppressWarnings("unchecked")
+    private static <R> R toResult(final Tuple row,
+                                  final int offset,
+                                  final Function<Object[], R> rowFactory,
+                                  final String... fieldNames) {
+        if (rowFactory == null) {
+            return (R) row.get(offset);
+        }
+
+        return rowFactory.apply(Arrays.copyOfRange(row.toArray(), offset, offset + fieldNames.length));
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.zorin95670.executor;
+
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * The rows fetched by the content query of a page.
+ * <p>
+ * When the total of the page may not be counted, the content query fetches one more row than the page size: the
+ * extra row tells whether there is a next page, and is not part of the content.
+ * </p>
+ *
+ * @param <R> the result type
+ */
+final class PageRows<R> {
+
+    /**
+     * The fetched rows, possibly with the extra row.
+     */
+    private final List<R> rows;
+
+    /**
+     * The paging information.
+     */
+    private final Pageable pageable;
+
+    /**
+     * The maximum number of fetched rows.
+     */
+    private final int fetchSize;
+
+    /**
+     * Constructs the fetched rows of a page.
+     *
+     * @param rows the fetched rows
+     * @param pageable the paging information
+     * @param fetchSize the maximum number of fetched rows
+     */
+    PageRows(final List<R> rows, final Pageable pageable, final int fetchSize) {
+        this.rows = rows;
+        this.pageable = pageable;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Gets the maximum number of rows to fetch for a page.
+     *
+     * @param pageable the paging information
+     * @param extraRow whether to fetch one more row than the page size
+     * @return the page size, plus one if {@code extraRow} is {@code true}
+     */
+    static int getFetchSize(final Pageable pageable, final boolean extraRow) {
+        if (!extraRow || pageable.getPageSize() == Integer.MAX_VALUE) {
+            return pageable.getPageSize();
+        }
+
+        return pageable.getPageSize() + 1;
+    }
+
+    /**
+     * Gets the content of the page, without the extra row.
+     *
+     * @return the content of the page
+     */
+    List<R> getContent() {
+        if (rows.size() > pageable.getPageSize()) {
+            return rows.subList(0, pageable.getPageSize());
+        }
+
+        return rows;
+    }
+
+    /**
+     * Indicates whether the fetched rows alone determine the total of the page: when fewer rows than requested were
+     * fetched, unless the page is empty and not the first one.
+     *
+     * @return {@code true} if no {@code COUNT} query is needed
+     */
+    boolean isTotalDetermined() {
+        return rows.size() < fetchSize && (pageable.getOffset() == 0 || !rows.isEmpty());
+    }
+
+    /**
+     * Builds the page whose total is determined by its rows, see {@link #isTotalDetermined()}.
+     *
+     * @return the page, with an exact total
+     */
+    CountedPage<R> toPage() {
+        List<R> content = getContent();
+
+        return new CountedPage<>(content, pageable, pageable.getOffset() + content.size(), TotalAccuracy.EXACT);
+    }
+
+    /**
+     * Builds the page with a computed total. When the total is {@link TotalAccuracy#UNKNOWN}, the page reports the
+     * rows known so far, including the extra row if it was fetched, so that {@code hasNext()} stays correct.
+     *
+     * @param total the computed total
+     * @param accuracy the accuracy of {@code total}
+     * @return the page
+     */
+    CountedPage<R> toPage(final long total, final TotalAccuracy accuracy) {
+        if (accuracy == TotalAccuracy.UNKNOWN) {
+            return new CountedPage<>(getContent(), pageable, pageable.getOffset() + rows.size(), accuracy);
+        }
+
+        return new CountedPage<>(getContent(), pageable, total, accuracy);
+    }
+}
@@ -0,0 +1,272 @@
+package io.github.zorin95670.executor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * The reflected metadata of a projection type, computed once per class.
+ * <p>
+ * A record is projected on its components, in declaration order, and other classes on their instance fields, walking
+ * up the class hierarchy. Rows of several values are built by a row factory: a {@link MethodHandle} on the public
+ * constructor accepting the projected attributes, resolved once per projection. Record components are bound by name,
+ * so the projected attributes may be listed in any order.
+ * </p>
+ *
+ * @param <R> The projection type.
+ */
+final class ProjectionDescriptor<R> {
+
+    /**
+     * The descriptors of the projection types, released with their class.
+     */
+    private static final ClassValue<ProjectionDescriptor<?>> DESCRIPTORS = new ClassValue<>() {
+        @Override
+        protected ProjectionDescriptor<?> computeValue(final Class<?> type) {
+            return new ProjectionDescriptor<>(type);
+        }
+    };
+
+    /**
+     * The type of a row factory handle, taking the projected values as an array.
+     */
+    private static final MethodType ROW_FACTORY_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    /**
+     * The projection type.
+     */
+    private final Class<R> resultType;
+
+    /**
+     * The names of the record components, or of the instance fields.
+     */
+    private final String[] fieldNames;
+
+    /**
+     * The row factories, by projected attribute names followed by their types.
+     */
+    private final Map<List<Object>, Function<Object[], R>> rowFactories = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs the descriptor of a projection type.
+     *
+     * @param resultType The projection type.
+     */
+    private ProjectionDescriptor(final Class<R> resultType) {
+        this.resultType = resultType;
+        this.fieldNames = findFieldNames(resultType);
+    }
+
+    /**
+     * Gets the descriptor of a projection type.
+     *
+     * @param resultType The projection type.
+     * @param <R> The projection type.
+     * @return the cached descriptor
+     */
+    @SuppressWarnings("unchecked")
+    static <R> ProjectionDescriptor<R> of(final Class<R> resultType) {
+        return (ProjectionDescriptor<R>) DESCRIPTORS.get(resultType);
+    }
+
+    /**
+     * Gets the names of the record components of the projection type, or of its instance fields.
+     *
+     * @return a new array of the names
+     */
+    String[] getFieldNames() {
+        return fieldNames.clone();
+    }
+
+    /**
+     * Gets the factory of the rows projecting attributes of the given types.
+     *
+     * @param names The projected attribute names.
+     * @param types The Java types of the projected attributes.
+     * @return the cached row factory, taking the projected values in the order of {@code names}
+     * @throws IllegalArgumentException if no public constructor of the projection type accepts the attributes.
+     */
+    Function<Object[], R> getRowFactory(final String[] names, final Class<?>[] types) {
+        List<Object> key = new ArrayList<>(Arrays.asList(names));
+
+        key.addAll(Arrays.asList(types));
+
+        return rowFactories.computeIfAbsent(key, ignored -> createRowFactory(names, types));
+    }
+
+    /**
+     * Creates the factory of the rows projecting attributes of the given types.
+     *
+     * @param names The projected attribute names.
+     * @param types The Java types of the projected attributes.
+     * @return the row factory
+     * @throws IllegalArgumentException if no public constructor of the projection type accepts the attributes.
+     */
+    private Function<Object[], R> createRowFactory(final String[] names, final Class<?>[] types) {
+        MethodHandle handle = findRecordConstructor(names, types);
+
+        if (handle == null) {
+            handle = findConstructor(types);
+        }
+
+        MethodHandle factory = handle.asSpreader(Object[].class, names.length).asType(ROW_FACTORY_TYPE);
+
+        return values -> {
+            try {
+                return resultType.cast((Object) factory.invokeExact(values));
+            } catch (RuntimeException | Error exception) {
+                throw exception;
+            } catch (Throwable throwable) {
+                throw new IllegalArgumentException("Unable to create " + resultType.getName(), throwable);
+            }
+        };
+    }
+
+    /**
+     * Finds the canonical constructor of a record projecting every component, with its parameters reordered as the
+     * projected attributes.
+     *
+     * @param names The projected attribute names.
+     * @param types The Java types of the projected attributes.
+     * @return the constructor handle, or {@code null} if the projection type is not such a record
+     */
+    private MethodHandle findRecordConstructor(final String[] names, final Class<?>[] types) {
+        RecordComponent[] components = resultType.getRecordComponents();
+
+        if (components == null || components.length != names.length) {
+            return null;
+        }
+
+        List<String> projected = Arrays.asList(names);
+        Class<?>[] parameterTypes = new Class<?>[components.length];
+        Class<?>[] projectedTypes = new Class<?>[components.length];
+        int[] order = new int[components.length];
+
+        for (int index = 0; index < components.length; index++) {
+            order[index] = projected.indexOf(components[index].getName());
+
+            if (order[index] < 0 || !accepts(components[index].getType(), types[order[index]])) {
+                return null;
+            }
+
+            parameterTypes[index] = components[index].getType();
+            projectedTypes[order[index]] = parameterTypes[index];
+        }
+
+        try {
+            MethodHandle constructor = unreflect(resultType.getDeclaredConstructor(parameterTypes));
+            MethodType projectedType = MethodType.methodType(resultType, projectedTypes);
+
+            return MethodHandles.permuteArguments(constructor, projectedType, order);
+        } catch (NoSuchMethodException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Finds the first public constructor accepting the projected attributes in order.
+     *
+     * @param types The Java types of the projected attributes.
+     * @return the constructor handle
+     * @throws IllegalArgumentException if no public constructor accepts the attributes.
+     */
+    private MethodHandle findConstructor(final Class<?>[] types) {
+        for (Constructor<?> constructor : resultType.getConstructors()) {
+            if (acceptsAll(constructor.getParameterTypes(), types)) {
+                return unreflect(constructor);
+            }
+        }
+
+        throw new IllegalArgumentException("No public constructor of " + resultType.getName()
+            + " accepts the projected types " + Arrays.toString(types));
+    }
+
+    /**
+     * Gets a method handle on a constructor.
+     *
+     * @param constructor The constructor.
+     * @return the method handle
+     * @throws IllegalArgumentException if the constructor is not accessible.
+     */
+    private MethodHandle unreflect(final Constructor<?> constructor) {
+        constructor.trySetAccessible();
+
+        try {
+            return MethodHandles.lookup().unreflectConstructor(constructor);
+        } catch (IllegalAccessException exception) {
+            throw new IllegalArgumentException("Unable to access the constructor of " + resultType.getName(),
+                exception);
+        }
+    }
+
+    /**
+     * Indicates whether parameters accept the values of attributes, in order.
+     *
+     * @param parameterTypes The parameter types.
+     * @param attributeTypes The attribute types.
+     * @return {@code true} if there are as many parameters as attributes, and each one accepts its attribute
+     */
+    private static boolean acceptsAll(final Class<?>[] parameterTypes, final Class<?>[] attributeTypes) {
+        if (parameterTypes.length != attributeTypes.length) {
+            return false;
+        }
+
+        for (int index = 0; index < attributeTypes.length; index++) {
+            if (!accepts(parameterTypes[index], attributeTypes[index])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Indicates whether a parameter accepts the values of an attribute, boxed or not.
+     *
+     * @param parameterType The parameter type.
+     * @param attributeType The attribute type.
+     * @return {@code true} if the boxed parameter type is assignable from the boxed attribute type
+     */
+    private static boolean accepts(final Class<?> parameterType, final Class<?> attributeType) {
+        return MethodType.methodType(parameterType).wrap().returnType()
+            .isAssignableFrom(MethodType.methodType(attributeType).wrap().returnType());
+    }
+
+    /**
+     * Finds the names of the record components of a class, or of its instance fields, walking up the class hierarchy.
+     *
+     * @param type The class.
+     * @return the names
+     */
+    private static String[] findFieldNames(final Class<?> type) {
+        if (type.isRecord()) {
+            return Arrays.stream(type.getRecordComponents())
+                .map(RecordComponent::getName)
+                .toArray(String[]::new);
+        }
+
+        List<String> names = new ArrayList<>();
+        Class<?> currentClass = type;
+
+        while (currentClass != null && currentClass != Object.class) {
+            Arrays.stream(currentClass.getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()) && !field.isSynthetic())
+                .map(Field::getName)
+                .forEach(names::add);
+
+            currentClass = currentClass.getSuperclass();
+        }
+
+        return names.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.zorin95670.executor;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.SessionFactory;
+import org.hibernate.query.Query;
+
+import java.util.function.Function;
+
+/**
+ * Builds the projections of multi-field queries with a Hibernate tuple transformer, so that rows are created by a
+ * {@link ProjectionDescriptor} row factory instead of a reflective constructor lookup of the provider.
+ * <p>
+ * Hibernate is an optional dependency: other providers keep building projections with JPA constructor expressions.
+ * </p>
+ */
+final class ProjectionTransformer {
+
+    /**
+     * Whether Hibernate is on the class path.
+     */
+    private static final boolean HIBERNATE_PRESENT = isPresent("org.hibernate.query.TupleTransformer");
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ProjectionTransformer() {
+    }
+
+    /**
+     * Indicates whether the queries of an entity manager factory support tuple transformers.
+     *
+     * @param entityManagerFactory the entity manager factory
+     * @return {@code true} if the factory is a Hibernate one
+     */
+    static boolean isSupported(final EntityManagerFactory entityManagerFactory) {
+        if (!HIBERNATE_PRESENT) {
+            return false;
+        }
+
+        try {
+            entityManagerFactory.unwrap(SessionFactory.class);
+            return true;
+        } catch (PersistenceException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * Transforms the rows of a query selecting arrays of values.
+     * <p>
+     * The transformer is set on the Hibernate query itself, and the given query is returned, so that a query proxied
+     * by Spring still releases its entity manager once executed.
+     * </p>
+     *
+     * @param query the query selecting the projected values
+     * @param rowFactory the factory of the rows from the projected values
+     * @param <R> the result type
+     * @return the query, returning the rows
+     */
+    @SuppressWarnings("unchecked")
+    static <R> TypedQuery<R> transform(final TypedQuery<Object[]> query, final Function<Object[], R> rowFactory) {
+        query.unwrap(Query.class).setTupleTransformer((tuple, aliases) -> rowFactory.apply(tuple));
+
+        return (TypedQuery<R>) (TypedQuery<?>) query;
+    }
+
+    /**
+     * Indicates whether a class is on the class path.
+     *
+     * @param className the name of the class
+     * @return {@code true} if the class can be loaded
+     */
+    private static boolean isPresent(final String className) {
+        try {
+            Class.forName(className, false, ProjectionTransformer.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError exception) {
+            return false;
+        }
+    }
+}
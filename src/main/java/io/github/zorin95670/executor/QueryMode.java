@@ -0,0 +1,20 @@
+package io.github.zorin95670.executor;
+
+/**
+ * How {@link SpringQueryExecutorImpl} builds its queries.
+ */
+public enum QueryMode {
+
+    /**
+     * Queries are built with the JPA Criteria API, with filter values embedded in each query.
+     */
+    CRITERIA,
+
+    /**
+     * Queries filtered by a {@link io.github.zorin95670.specification.SpringQueryFilterSpecification} are rendered to
+     * JPQL with named parameters, so requests with the same filter shape share the same query string and hit the
+     * query interpretation caches of the provider. Other specifications, and filters that cannot be rendered, fall
+     * back to the Criteria API.
+     */
+    JPQL
+}
@@ -0,0 +1,213 @@
+package io.github.zorin95670.executor;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * A page query of a batch, see {@link SpringQueryExecutor#executeBatch(java.util.List)}.
+ * <p>
+ * A request holds the arguments of
+ * {@link SpringQueryExecutor#findPage(Class, Class, Specification, Pageable, CountMode, String...)}, or of
+ * {@code findDistinctPage} once {@link #distinct()} is called. A request is immutable: {@link #distinct()} and
+ * {@link #withCountMode(CountMode)} return new requests.
+ * </p>
+ *
+ * @param <T> The entity type.
+ * @param <R> The result type.
+ */
+public final class QueryRequest<T, R> {
+
+    /**
+     * The JPA entity type to query.
+     */
+    private final Class<T> entityClass;
+
+    /**
+     * The desired result type.
+     */
+    private final Class<R> resultType;
+
+    /**
+     * The filtering criteria.
+     */
+    private final Specification<T> specification;
+
+    /**
+     * The paging and sorting information.
+     */
+    private final Pageable pageable;
+
+    /**
+     * Whether distinct rows are selected.
+     */
+    private final boolean distinct;
+
+    /**
+     * How the total is computed.
+     */
+    private final CountMode countMode;
+
+    /**
+     * The projected attribute names, {@code null} to derive them from the result type.
+     */
+    private final String[] fieldNames;
+
+    /**
+     * Constructs a request.
+     *
+     * @param entityClass The JPA entity type to query.
+     * @param resultType The desired result type.
+     * @param specification The filtering criteria.
+     * @param pageable The paging and sorting information.
+     * @param distinct Whether distinct rows are selected.
+     * @param countMode How the total is computed.
+     * @param fieldNames The projected attribute names, {@code null} to derive them from the result type.
+     */
+    private QueryRequest(final Class<T> entityClass,
+                         final Class<R> resultType,
+                         final Specification<T> specification,
+                         final Pageable pageable,
+                         final boolean distinct,
+                         final CountMode countMode,
+                         final String[] fieldNames) {
+        this.entityClass = entityClass;
+        this.resultType = resultType;
+        this.specification = specification;
+        this.pageable = pageable;
+        this.distinct = distinct;
+        this.countMode = countMode;
+        this.fieldNames = fieldNames;
+    }
+
+    /**
+     * Creates the request of a page, projecting the fields of {@code resultType}, as
+     * {@link SpringQueryExecutor#findPage(Class, Class, Specification, Pageable)} does.
+     *
+     * @param entityClass The JPA entity type to query.
+     * @param resultType The desired result type.
+     * @param specification The filtering criteria.
+     * @param pageable The paging and sorting information.
+     * @param <T> The entity type.
+     * @param <R> The result type.
+     * @return the request, counting its total exactly
+     */
+    public static <T, R> QueryRequest<T, R> page(final Class<T> entityClass,
+                                                 final Class<R> resultType,
+                                                 final Specification<T> specification,
+                                                 final Pageable pageable) {
+        return new QueryRequest<>(entityClass, resultType, specification, pageable, false, CountMode.exact(), null);
+    }
+
+    /**
+     * Creates the request of a page, projecting {@code fieldNames}, as
+     * {@link SpringQueryExecutor#findPage(Class, Class, Specification, Pageable, String...)} does.
+     *
+     * @param entityClass The JPA entity type to query.
+     * @param resultType The desired result type.
+     * @param specification The filtering criteria.
+     * @param pageable The paging and sorting information.
+     * @param fieldNames The projected attribute names, none to select the entities.
+     * @param <T> The entity type.
+     * @param <R> The result type.
+     * @return the request, counting its total exactly
+     */
+    public static <T, R> QueryRequest<T, R> page(final Class<T> entityClass,
+                                                 final Class<R> resultType,
+                                                 final Specification<T> specification,
+                                                 final Pageable pageable,
+                                                 final String... fieldNames) {
+        String[] names = new String[0];
+
+        if (fieldNames != null) {
+            names = fieldNames.clone();
+        }
+
+        return new QueryRequest<>(entityClass, resultType, specification, pageable, false, CountMode.exact(), names);
+    }
+
+    /**
+     * Gets the same request, selecting distinct rows.
+     *
+     * @return the distinct request
+     */
+    public QueryRequest<T, R> distinct() {
+        return new QueryRequest<>(entityClass, resultType, specification, pageable, true, countMode, fieldNames);
+    }
+
+    /**
+     * Gets the same request, computing its total with the given mode.
+     *
+     * @param mode How the total is computed.
+     * @return the request with the count mode
+     */
+    public QueryRequest<T, R> withCountMode(final CountMode mode) {
+        return new QueryRequest<>(entityClass, resultType, specification, pageable, distinct, mode, fieldNames);
+    }
+
+    /**
+     * Gets the JPA entity type to query.
+     *
+     * @return the entity class
+     */
+    public Class<T> getEntityClass() {
+        return entityClass;
+    }
+
+    /**
+     * Gets the desired result type.
+     *
+     * @return the result type
+     */
+    public Class<R> getResultType() {
+        return resultType;
+    }
+
+    /**
+     * Gets the filtering criteria.
+     *
+     * @return the specification
+     */
+    public Specification<T> getSpecification() {
+        return specification;
+    }
+
+    /**
+     * Gets the paging and sorting information.
+     *
+     * @return the pageable
+     */
+    public Pageable getPageable() {
+        return pageable;
+    }
+
+    /**
+     * Indicates whether distinct rows are selected.
+     *
+     * @return {@code true} for a distinct request
+     */
+    public boolean isDistinct() {
+        return distinct;
+    }
+
+    /**
+     * Gets how the total is computed.
+     *
+     * @return the count mode
+     */
+    public CountMode getCountMode() {
+        return countMode;
+    }
+
+    /**
+     * Gets the projected attribute names.
+     *
+     * @return a new array of the names, or {@code null} to derive them from the result type
+     */
+    public String[] getFieldNames() {
+        if (fieldNames == null) {
+            return null;
+        }
+
+        return fieldNames.clone();
+    }
+}
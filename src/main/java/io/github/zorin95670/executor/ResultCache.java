@@ -0,0 +1,220 @@
+package io.github.zorin95670.executor;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.EntityType;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A cache of the results of lists and pages, see {@link EntityCache}.
+ * <p>
+ * Results are keyed by {@link ResultCacheKey}. Projections are cached as they are, and shared by every hit: they
+ * should be immutable. Entities are cached as identifiers, and loaded again by identifier on a hit, so that they are
+ * managed by the persistence context of the caller. Results of more than {@link #MAX_ROWS} rows are not cached.
+ * </p>
+ */
+public class ResultCache extends EntityCache<ResultCacheKey, ResultCache.Rows> {
+
+    /**
+     * Maximum number of rows of a cached result.
+     */
+    public static final int MAX_ROWS = 1000;
+
+    /**
+     * Constructs a new cache with the default maximum size and time to live.
+     */
+    public ResultCache() {
+        this(DEFAULT_MAX_SIZE, DEFAULT_TIME_TO_LIVE);
+    }
+
+    /**
+     * Constructs a new cache with the given maximum size and time to live.
+     *
+     * @param maxSize The maximum number of cached results, must be positive.
+     * @param timeToLive The time to live of cached results, must be positive.
+     * @throws IllegalArgumentException if {@code maxSize} or {@code timeToLive} is not positive.
+     */
+    public ResultCache(final int maxSize, final Duration timeToLive) {
+        super(maxSize, timeToLive);
+    }
+
+    @Override
+    protected Set<Class<?>> getEntityClasses(final ResultCacheKey key) {
+        return key.getEntityClasses();
+    }
+
+    /**
+     * Gets the cached result of a query, if it has not expired.
+     *
+     * @param key The key of the query.
+     * @return the cached rows, or {@code null} if there are none
+     */
+    Rows get(final ResultCacheKey key) {
+        return lookup(key);
+    }
+
+    /**
+     * Caches the result of a query, unless it has too many rows, or the cache was invalidated since
+     * {@code queryVersion}.
+     *
+     * @param key The key of the query.
+     * @param entityManager The entity manager of the query.
+     * @param results The rows of the result.
+     * @param entityClass The class of the rows if they are managed entities, {@code null} for projections.
+     * @param total The total of the page, or the number of rows of a list.
+     * @param accuracy The accuracy of {@code total}.
+     * @param queryVersion The {@link #getVersion() version} of the cache read before querying.
+     */
+    void put(final ResultCacheKey key,
+             final EntityManager entityManager,
+             final List<?> results,
+             final Class<?> entityClass,
+             final long total,
+             final TotalAccuracy accuracy,
+             final long queryVersion) {
+        if (results.size() > MAX_ROWS) {
+            return;
+        }
+
+        if (entityClass == null) {
+            store(key, new Rows(new ArrayList<>(results), null, total, accuracy), queryVersion);
+            return;
+        }
+
+        if (!entityManager.getMetamodel().entity(entityClass).hasSingleIdAttribute()) {
+            return;
+        }
+
+        PersistenceUnitUtil util = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        List<Object> ids = results.stream().map(util::getIdentifier).toList();
+
+        store(key, new Rows(ids, entityClass, total, accuracy), queryVersion);
+    }
+
+    /**
+     * The cached rows of a query.
+     */
+    static final class Rows {
+
+        /**
+         * The projections, or the identifiers of the entities.
+         */
+        private final List<Object> values;
+
+        /**
+         * The class of the entities, {@code null} for projections.
+         */
+        private final Class<?> entityClass;
+
+        /**
+         * The total of the page, or the number of rows of a list.
+         */
+        private final long total;
+
+        /**
+         * The accuracy of the total.
+         */
+        private final TotalAccuracy accuracy;
+
+        /**
+         * Constructs cached rows.
+         *
+         * @param values The projections, or the identifiers of the entities.
+         * @param entityClass The class of the entities, {@code null} for projections.
+         * @param total The total of the page, or the number of rows of a list.
+         * @param accuracy The accuracy of the total.
+         */
+        private Rows(final List<Object> values, final Class<?> entityClass, final long total,
+                     final TotalAccuracy accuracy) {
+            this.values = Collections.unmodifiableList(values);
+            this.entityClass = entityClass;
+            this.total = total;
+            this.accuracy = accuracy;
+        }
+
+        /**
+         * Gets the rows, loading the cached entities by identifier with a single query.
+         *
+         * @param entityManager The entity manager of the caller.
+         * @param <R> The result type.
+         * @return a new list of the rows, or {@code null} if a cached entity no longer exists
+         */
+        @SuppressWarnings("unchecked")
+        <R> List<R> restore(final EntityManager entityManager) {
+            if (entityClass == null) {
+                return new ArrayList<>((List<R>) values);
+            }
+            if (values.isEmpty()) {
+                return new ArrayList<>();
+            }
+
+            List<?> entities = findByIds(entityManager, entityClass);
+            PersistenceUnitUtil util = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+            Map<Object, Object> entitiesById = new HashMap<>();
+
+            entities.forEach(entity -> entitiesById.put(util.getIdentifier(entity), entity));
+
+            List<R> rows = new ArrayList<>(values.size());
+
+            for (Object id : values) {
+                Object entity = entitiesById.get(id);
+
+                if (entity == null) {
+                    return null;
+                }
+
+                rows.add((R) entity);
+            }
+
+            return rows;
+        }
+
+        /**
+         * Loads the cached entities by identifier.
+         *
+         * @param entityManager The entity manager of the caller.
+         * @param type The class of the entities.
+         * @param <T> The entity type.
+         * @return the existing entities, in any order
+         */
+        private <T> List<T> findByIds(final EntityManager entityManager, final Class<T> type) {
+            EntityType<T> entityType = entityManager.getMetamodel().entity(type);
+            String idName = entityType.getId(entityType.getIdType().getJavaType()).getName();
+            CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+            CriteriaQuery<T> query = cb.createQuery(type);
+            Root<T> root = query.from(type);
+
+            query.select(root).where(root.get(idName).in(values));
+
+            return entityManager.createQuery(query).getResultList();
+        }
+
+        /**
+         * Gets the total of the page, or the number of rows of a list.
+         *
+         * @return the total
+         */
+        long getTotal() {
+            return total;
+        }
+
+        /**
+         * Gets the accuracy of the total.
+         *
+         * @return the accuracy
+         */
+        TotalAccuracy getAccuracy() {
+            return accuracy;
+        }
+    }
+}
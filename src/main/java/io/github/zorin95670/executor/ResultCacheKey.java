@@ -0,0 +1,165 @@
+package io.github.zorin95670.executor;
+
+import io.github.zorin95670.specification.FilterPlanKey;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Canonical identity of a query result, in a {@link ResultCache}.
+ * <p>
+ * Two queries share a key when their specifications have equal {@link FilterPlanKey}s and they select the same
+ * result type, projection, distinctness, sort and page. Lists and pages never share a key, and pages counted with
+ * different {@link CountMode}s do not either.
+ * </p>
+ */
+public final class ResultCacheKey {
+
+    /**
+     * The canonical identity of the filters.
+     */
+    private final FilterPlanKey filterPlanKey;
+
+    /**
+     * The result type.
+     */
+    private final Class<?> resultType;
+
+    /**
+     * Whether distinct rows are selected.
+     */
+    private final boolean distinct;
+
+    /**
+     * The sort of the rows.
+     */
+    private final Sort sort;
+
+    /**
+     * The offset of the first row, {@code -1} if all rows are selected.
+     */
+    private final long offset;
+
+    /**
+     * The maximum number of rows, {@code -1} if all rows are selected.
+     */
+    private final int pageSize;
+
+    /**
+     * The count mode of a page, {@code null} for a list.
+     */
+    private final CountMode countMode;
+
+    /**
+     * The projected attribute names, possibly empty.
+     */
+    private final List<String> fieldNames;
+
+    /**
+     * The queried entity class, and the classes joined by the paths of the query.
+     */
+    private final Set<Class<?>> entityClasses;
+
+    /**
+     * Pre-computed hash code, since keys are looked up on every query.
+     */
+    private final int hashCode;
+
+    /**
+     * Constructs the key of a query result.
+     *
+     * @param filterPlanKey the key of the filtering criteria
+     * @param resultType the result type
+     * @param distinct whether distinct rows are selected
+     * @param pageable the sort and page of the rows, unpaged for all rows
+     * @param countMode the count mode of a page, or {@code null} for a list
+     * @param fieldNames the projected attribute names, possibly empty
+     */
+    public ResultCacheKey(final FilterPlanKey filterPlanKey,
+                          final Class<?> resultType,
+                          final boolean distinct,
+                          final Pageable pageable,
+                          final CountMode countMode,
+                          final String... fieldNames) {
+        this.filterPlanKey = filterPlanKey;
+        this.resultType = resultType;
+        this.distinct = distinct;
+        this.sort = pageable.getSort();
+        this.countMode = countMode;
+
+        if (pageable.isPaged()) {
+            this.offset = pageable.getOffset();
+            this.pageSize = pageable.getPageSize();
+        } else {
+            this.offset = -1;
+            this.pageSize = -1;
+        }
+
+        if (fieldNames != null) {
+            this.fieldNames = List.of(fieldNames);
+        } else {
+            this.fieldNames = List.of();
+        }
+
+        List<String> paths = new ArrayList<>(this.fieldNames);
+
+        sort.forEach(order -> paths.add(order.getProperty()));
+        this.entityClasses = CountCacheKey.getEntityClasses(filterPlanKey, paths);
+        this.hashCode = Objects.hash(filterPlanKey, resultType, distinct, sort, offset, pageSize, countMode,
+            this.fieldNames);
+    }
+
+    /**
+     * Gets the class of the queried entity.
+     *
+     * @return the entity class
+     */
+    public Class<?> getEntityClass() {
+        return filterPlanKey.getEntityClass();
+    }
+
+    /**
+     * Gets the queried entity class, and the classes joined by the dotted paths of the query.
+     *
+     * @return an unmodifiable set of entity classes
+     */
+    public Set<Class<?>> getEntityClasses() {
+        return entityClasses;
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof ResultCacheKey other)) {
+            return false;
+        }
+        return hashCode == other.hashCode
+            && distinct == other.distinct
+            && offset == other.offset
+            && pageSize == other.pageSize
+            && resultType.equals(other.resultType)
+            && filterPlanKey.equals(other.filterPlanKey)
+            && sort.equals(other.sort)
+            && Objects.equals(countMode, other.countMode)
+            && fieldNames.equals(other.fieldNames);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return "ResultCacheKey{" + getEntityClass().getName() + filterPlanKey.getFilters()
+            + " -> " + resultType.getSimpleName() + fieldNames
+            + ", distinct=" + distinct + ", sort=" + sort + ", offset=" + offset + ", pageSize=" + pageSize
+            + ", countMode=" + countMode + '}';
+    }
+}
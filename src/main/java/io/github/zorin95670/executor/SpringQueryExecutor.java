@@ -1,12 +1,16 @@
 package io.github.zorin95670.executor;
 
 import jakarta.annotation.Nonnull;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Generic executor for building and running JPA Criteria queries from a {@link Specification},
@@ -24,9 +28,10 @@ import java.util.List;
  *     exactly match the given field names.</li>
  * </ul>
  *
- * <p><b>Nested (dotted) field paths, e.g. {@code "address.city"}, are not supported.</b>
- * Only direct attributes of {@code entityClass} may be referenced in {@code fieldNames} or in
- * a {@link Sort}.</p>
+ * <p>Dotted field paths, e.g. {@code "address.city"}, may be referenced in {@code fieldNames}
+ * and in a {@link Sort}: every association of a path is joined once per query, and shared by
+ * the filters, orders and projections going through it. To-one associations are left-joined,
+ * so that rows without them are kept.</p>
  *
  * <p>All methods expect their non-nullable parameters to be provided as documented via
  * {@code @Nonnull}; passing {@code null} for any of them results in unspecified behavior,
@@ -122,9 +127,8 @@ public interface SpringQueryExecutor {
      * @param entityClass    the JPA entity type to query, must not be {@code null}
      * @param resultType     the desired result type, must not be {@code null}
      * @param specification  the filtering criteria, must not be {@code null}
-     * @param sort           the sort order to apply; must reference direct attributes of
-     *                       {@code entityClass} only (nested paths are not supported),
-     *                       must not be {@code null}
+     * @param sort           the sort order to apply; may reference dotted paths of
+     *                       {@code entityClass}, must not be {@code null}
      * @param <T>            the entity type
      * @param <R>            the result type
      * @return the sorted list of matching results, never {@code null} but possibly empty
@@ -146,9 +150,8 @@ public interface SpringQueryExecutor {
      * @param entityClass    the JPA entity type to query, must not be {@code null}
      * @param resultType     the desired result type, must not be {@code null}
      * @param specification  the filtering criteria, must not be {@code null}
-     * @param sort           the sort order to apply; must reference direct attributes of
-     *                       {@code entityClass} only (nested paths are not supported),
-     *                       must not be {@code null}
+     * @param sort           the sort order to apply; may reference dotted paths of
+     *                       {@code entityClass}, must not be {@code null}
      * @param fieldNames     optional attribute names to project onto {@code resultType};
      *                       see the type-level Javadoc for the projection rules
      * @param <T>            the entity type
@@ -178,9 +181,8 @@ public interface SpringQueryExecutor {
      * @param entityClass    the JPA entity type to query, must not be {@code null}
      * @param resultType     the desired result type, must not be {@code null}
      * @param specification  the filtering criteria, must not be {@code null}
-     * @param sort           the sort order to apply; must reference direct attributes of
-     *                       {@code entityClass} only (nested paths are not supported),
-     *                       must not be {@code null}
+     * @param sort           the sort order to apply; may reference dotted paths of
+     *                       {@code entityClass}, must not be {@code null}
      * @param <T>            the entity type
      * @param <R>            the result type
      * @return the distinct, sorted list of matching results, never {@code null} but possibly
@@ -198,9 +200,8 @@ public interface SpringQueryExecutor {
      * @param entityClass    the JPA entity type to query, must not be {@code null}
      * @param resultType     the desired result type, must not be {@code null}
      * @param specification  the filtering criteria, must not be {@code null}
-     * @param sort           the sort order to apply; must reference direct attributes of
-     *                       {@code entityClass} only (nested paths are not supported),
-     *                       must not be {@code null}
+     * @param sort           the sort order to apply; may reference dotted paths of
+     *                       {@code entityClass}, must not be {@code null}
      * @param fieldNames     optional attribute names to project onto {@code resultType};
      *                       see the type-level Javadoc for the projection rules
      * @param <T>            the entity type
@@ -226,8 +227,9 @@ public interface SpringQueryExecutor {
      *
      * <p>If {@code pageable} is unpaged (see {@link Pageable#isUnpaged()}), no additional
      * {@code COUNT} query is issued; the page's total is derived directly from the size of the
-     * returned content. Otherwise, a separate {@code COUNT} query is executed against the same
-     * {@code specification} to compute the total number of matching rows.</p>
+     * returned content. The same holds when the returned content is not a full page, unless it
+     * is empty beyond the first page. Otherwise, a separate {@code COUNT} query is executed
+     * against the same {@code specification} to compute the total number of matching rows.</p>
      *
      * @param entityClass    the JPA entity type to query, must not be {@code null}
      * @param resultType     the desired result type, must not be {@code null}
@@ -251,8 +253,9 @@ public interface SpringQueryExecutor {
      *
      * <p>If {@code pageable} is unpaged (see {@link Pageable#isUnpaged()}), no additional
      * {@code COUNT} query is issued; the page's total is derived directly from the size of the
-     * returned content. Otherwise, a separate {@code COUNT} query is executed against the same
-     * {@code specification} to compute the total number of matching rows.</p>
+     * returned content. The same holds when the returned content is not a full page, unless it
+     * is empty beyond the first page. Otherwise, a separate {@code COUNT} query is executed
+     * against the same {@code specification} to compute the total number of matching rows.</p>
      *
      * @param entityClass    the JPA entity type to query, must not be {@code null}
      * @param resultType     the desired result type, must not be {@code null}
@@ -317,4 +320,426 @@ public interface SpringQueryExecutor {
                                     @Nonnull Specification<T> specification,
                                     @Nonnull Pageable pageable,
                                     String... fieldNames);
+
+    /**
+     * Same as {@link #findPage(Class, Class, Specification, Pageable)}, but computes the total
+     * with the given {@code countMode} when a {@code COUNT} query is needed.
+     *
+     * @param entityClass    the JPA entity type to query, must not be {@code null}
+     * @param resultType     the desired result type, must not be {@code null}
+     * @param specification  the filtering criteria, must not be {@code null}
+     * @param pageable       the paging and sorting information, must not be {@code null}
+     * @param countMode      how the total is computed, must not be {@code null}
+     * @param <T>            the entity type
+     * @param <R>            the result type
+     * @return a page of matching results, telling the accuracy of its total
+     * @throws IllegalArgumentException if {@code pageable.getOffset()} exceeds
+     *                                  {@link Integer#MAX_VALUE}
+     */
+    <T, R> CountedPage<R> findPage(@Nonnull Class<T> entityClass,
+                                   @Nonnull Class<R> resultType,
+                                   @Nonnull Specification<T> specification,
+                                   @Nonnull Pageable pageable,
+                                   @Nonnull CountMode countMode);
+
+    /**
+     * Same as {@link #findPage(Class, Class, Specification, Pageable, String...)}, but computes
+     * the total with the given {@code countMode} when a {@code COUNT} query is needed.
+     *
+     * <p>With {@link CountMode#bounded(long)}, counting stops after the limit, and the total is
+     * reported as a lower bound when it is exceeded. With {@link CountMode#estimated()}, the
+     * total is estimated by the {@link CountEstimator} of the executor when it can. See
+     * {@link CountedPage#getTotalAccuracy()}.</p>
+     *
+     * @param entityClass    the JPA entity type to query, must not be {@code null}
+     * @param resultType     the desired result type, must not be {@code null}
+     * @param specification  the filtering criteria, must not be {@code null}
+     * @param pageable       the paging and sorting information, must not be {@code null}
+     * @param countMode      how the total is computed, must not be {@code null}
+     * @param fieldNames     optional attribute names to project onto {@code resultType};
+     *                       see the type-level Javadoc for the projection rules
+     * @param <T>            the entity type
+     * @param <R>            the result type
+     * @return a page of matching results, telling the accuracy of its total
+     * @throws IllegalArgumentException if {@code pageable.getOffset()} exceeds
+     *                                  {@link Integer#MAX_VALUE}
+     */
+    <T, R> CountedPage<R> findPage(@Nonnull Class<T> entityClass,
+                                   @Nonnull Class<R> resultType,
+                                   @Nonnull Specification<T> specification,
+                                   @Nonnull Pageable pageable,
+                                   @Nonnull CountMode countMode,
+                                   String... fieldNames);
+
+    /**
+     * Same as {@link #findDistinctPage(Class, Class, Specification, Pageable)}, but computes
+     * the total with the given {@code countMode} when a {@code COUNT} query is needed.
+     *
+     * @param entityClass    the JPA entity type to query, must not be {@code null}
+     * @param resultType     the desired result type, must not be {@code null}
+     * @param specification  the filtering criteria, must not be {@code null}
+     * @param pageable       the paging and sorting information, must not be {@code null}
+     * @param countMode      how the total is computed, must not be {@code null}
+     * @param <T>            the entity type
+     * @param <R>            the result type
+     * @return a page of distinct matching results, telling the accuracy of its total
+     * @throws IllegalArgumentException if {@code pageable.getOffset()} exceeds
+     *                                  {@link Integer#MAX_VALUE}
+     */
+    <T, R> CountedPage<R> findDistinctPage(@Nonnull Class<T> entityClass,
+                                           @Nonnull Class<R> resultType,
+                                           @Nonnull Specification<T> specification,
+                                           @Nonnull Pageable pageable,
+                                           @Nonnull CountMode countMode);
+
+    /**
+     * Same as {@link #findDistinctPage(Class, Class, Specification, Pageable, String...)}, but
+     * computes the total with the given {@code countMode} when a {@code COUNT} query is needed.
+     *
+     * @param entityClass    the JPA entity type to query, must not be {@code null}
+     * @param resultType     the desired result type, must not be {@code null}
+     * @param specification  the filtering criteria, must not be {@code null}
+     * @param pageable       the paging and sorting information, must not be {@code null}
+     * @param countMode      how the total is computed, must not be {@code null}
+     * @param fieldNames     optional attribute names to project onto {@code resultType};
+     *                       see the type-level Javadoc for the projection rules
+     * @param <T>            the entity type
+     * @param <R>            the result type
+     * @return a page of distinct matching results, telling the accuracy of its total
+     * @throws IllegalArgumentException if {@code pageable.getOffset()} exceeds
+     *                                  {@link Integer#MAX_VALUE}
+     */
+    <T, R> CountedPage<R> findDistinctPage(@Nonnull Class<T> entityClass,
+                                           @Nonnull Class<R> resultType,
+                                           @Nonnull Specification<T> specification,
+                                           @Nonnull Pageable pageable,
+                                           @Nonnull CountMode countMode,
+                                           String... fieldNames);
+
+    /**
+     * Executes a query against {@code entityClass}, applying the given {@code specification} as
+     * a filter and {@code sort} as the ordering, and returns the matching entities with the
+     * associations of {@code fetchPlan}.
+     *
+     * <p>The entity graph of the plan is applied to the query as a
+     * {@code jakarta.persistence.fetchgraph} or {@code jakarta.persistence.loadgraph} hint, so
+     * the fetched associations are read with the entities instead of one query per entity.</p>
+     *
+     * @param entityClass    the JPA entity type to query, must not be {@code null}
+     * @param specification  the filtering criteria, must not be {@code null}
+     * @param sort           the sort order to apply, must not be {@code null}
+     * @param fetchPlan      the associations fetched with the entities, must not be {@code null}
+     * @param <T>            the entity type
+     * @return the sorted list of matching entities, never {@code null} but possibly empty
+     * @throws IllegalArgumentException if the plan names an unknown entity graph or attribute
+     */
+    <T> List<T> find(@Nonnull Class<T> entityClass,
+                     @Nonnull Specification<T> specification,
+                     @Nonnull Sort sort,
+                     @Nonnull FetchPlan fetchPlan);
+
+    /**
+     * Same as {@link #find(Class, Specification, Sort, FetchPlan)}, but returns a page of the
+     * matching entities, sorted and paged by {@code pageable}.
+     *
+     * <p>The page is read in two phases, so that fetched collections do not break the SQL
+     * pagination: the identifiers of the page are selected and counted first, as
+     * {@link #findPage(Class, Class, Specification, Pageable, String...)} would, then the
+     * entities of these identifiers are read with the entity graph of the plan, in the order of
+     * the page.</p>
+     *
+     * @param entityClass    the JPA entity type to query, must not be {@code null}
+     * @param specification  the filtering criteria, must not be {@code null}
+     * @param pageable       the paging and sorting information, must not be {@code null}
+     * @param fetchPlan      the associations fetched with the entities, must not be {@code null}
+     * @param <T>            the entity type
+     * @return a {@link Page} of matching entities, never {@code null}
+     * @throws IllegalArgumentException if {@code pageable.getOffset()} exceeds
+     *                                  {@link Integer#MAX_VALUE}, if {@code entityClass} has
+     *                                  no single identifier attribute, or if the plan names an
+     *                                  unknown entity graph or attribute
+     */
+    <T> Page<T> findPage(@Nonnull Class<T> entityClass,
+                         @Nonnull Specification<T> specification,
+                         @Nonnull Pageable pageable,
+                         @Nonnull FetchPlan fetchPlan);
+
+    /**
+     * Executes several page queries as one unit of work, and returns their pages in the order
+     * of {@code requests}.
+     *
+     * <p>Each request is executed as
+     * {@link #findPage(Class, Class, Specification, Pageable, CountMode, String...)}, or
+     * {@code findDistinctPage} for a distinct request, would execute it, but every query of the
+     * batch runs in the same transaction, on the same connection: a read-only transaction of the
+     * transaction manager of the executor, if it has one, joining the transaction of the caller
+     * if there is one, and the transaction of the caller otherwise. The exact totals of
+     * non-distinct pages of {@code SpringQueryFilterSpecification}s on the same entity type are
+     * computed by a single {@code COUNT} statement, summing one conditional expression per
+     * page.</p>
+     *
+     * @param requests       the page queries, must not be {@code null}
+     * @return the pages of the requests, in order, never {@code null}
+     * @throws IllegalArgumentException if the offset of a request exceeds
+     *                                  {@link Integer#MAX_VALUE}
+     * @throws IllegalStateException    if the executor has no transaction manager and no
+     *                                  transaction is active
+     */
+    List<CountedPage<?>> executeBatch(@Nonnull List<? extends QueryRequest<?, ?>> requests);
+
+    /**
+     * Same as {@link #find(Class, Class, Specification, Sort)}, but returns the results as a
+     * lazily fetched {@link Stream} instead of a list.
+     *
+     * <p>The projected attribute names are derived automatically from the fields declared by
+     * {@code resultType}, including private fields and those inherited from parent classes
+     * (see the type-level Javadoc for the projection rules based on the number of fields
+     * found).</p>
+     *
+     * @param entityClass    the JPA entity type to query, must not be {@code null}
+     * @param resultType     the desired result type, must not be {@code null}
+     * @param specification  the filtering criteria, must not be {@code null}
+     * @param sort           the sort order to apply, must not be {@code null}
+     * @param <T>            the entity type
+     * @param <R>            the result type
+     * @return a stream of matching results, to be closed after use
+     */
+    <T, R> Stream<R> stream(@Nonnull Class<T> entityClass,
+                            @Nonnull Class<R> resultType,
+                            @Nonnull Specification<T> specification,
+                            @Nonnull Sort sort);
+
+    /**
+     * Same as {@link #find(Class, Class, Specification, Sort, String...)}, but returns the
+     * results as a lazily fetched {@link Stream} instead of a list.
+     *
+     * <p>Rows are read from a forward-only database cursor as the stream is consumed. The
+     * stream holds a database connection: it must be consumed inside a transaction and closed
+     * after use, for example with a try-with-resources statement.</p>
+     *
+     * <p>Streamed entities stay managed by the persistence context of the transaction by
+     * default, and their changes are flushed, so memory grows with the number of entities read.
+     * Enable {@code spring-query-filter.streaming.detach-entities} to load them read-only and
+     * detach each entity as it is consumed, at the cost of no longer loading its lazy
+     * associations. Projections are never
+     * managed, so their memory stays bounded whatever the number of results.</p>
+     *
+     * @param entityClass    the JPA entity type to query, must not be {@code null}
+     * @param resultType     the desired result type, must not be {@code null}
+     * @param specification  the filtering criteria, must not be {@code null}
+     * @param sort           the sort order to apply, must not be {@code null}
+     * @param fieldNames     optional attribute names to project onto {@code resultType};
+     *                       see the type-level Javadoc for the projection rules
+     * @param <T>            the entity type
+     * @param <R>            the result type
+     * @return a stream of matching results, to be closed after use
+     */
+    <T, R> Stream<R> stream(@Nonnull Class<T> entityClass,
+                            @Nonnull Class<R> resultType,
+                            @Nonnull Specification<T> specification,
+                            @Nonnull Sort sort,
+                            String... fieldNames);
+
+    /**
+     * Same as {@link #stream(Class, Class, Specification, Sort)}, but eliminates duplicate
+     * rows from the result using {@code SELECT DISTINCT}.
+     *
+     * @param entityClass    the JPA entity type to query, must not be {@code null}
+     * @param resultType     the desired result type, must not be {@code null}
+     * @param specification  the filtering criteria, must not be {@code null}
+     * @param sort           the sort order to apply, must not be {@code null}
+     * @param <T>            the entity type
+     * @param <R>            the result type
+     * @return a stream of distinct matching results, to be closed after use
+     */
+    <T, R> Stream<R> streamDistinct(@Nonnull Class<T> entityClass,
+                                    @Nonnull Class<R> resultType,
+                                    @Nonnull Specification<T> specification,
+                                    @Nonnull Sort sort);
+
+    /**
+     * Same as {@link #stream(Class, Class, Specification, Sort, String...)}, but eliminates
+     * duplicate rows from the result using {@code SELECT DISTINCT}.
+     *
+     * @param entityClass    the JPA entity type to query, must not be {@code null}
+     * @param resultType     the desired result type, must not be {@code null}
+     * @param specification  the filtering criteria, must not be {@code null}
+     * @param sort           the sort order to apply, must not be {@code null}
+     * @param fieldNames     optional attribute names to project onto {@code resultType};
+     *                       see the type-level Javadoc for the projection rules
+     * @param <T>            the entity type
+     * @param <R>            the result type
+     * @return a stream of distinct matching results, to be closed after use
+     */
+    <T, R> Stream<R> streamDistinct(@Nonnull Class<T> entityClass,
+                                    @Nonnull Class<R> resultType,
+                                    @Nonnull Specification<T> specification,
+                                    @Nonnull Sort sort,
+                                    String... fieldNames);
+
+    /**
+     * Executes a paginated query against {@code entityClass} like
+     * {@link #findPage(Class, Class, Specification, Pageable)}, but without computing the total
+     * number of matching rows.
+     *
+     * <p>The projected attribute names are derived automatically from the fields declared by
+     * {@code resultType}, including private fields and those inherited from parent classes
+     * (see the type-level Javadoc for the projection rules based on the number of fields
+     * found).</p>
+     *
+     * @param entityClass    the JPA entity type to query, must not be {@code null}
+     * @param resultType     the desired result type, must not be {@code null}
+     * @param specification  the filtering criteria, must not be {@code null}
+     * @param pageable       the paging and sorting information, must not be {@code null}
+     * @param <T>            the entity type
+     * @param <R>            the result type
+     * @return a {@link Slice} of matching results, never {@code null}
+     * @throws IllegalArgumentException if {@code pageable.getOffset()} exceeds
+     *                                  {@link Integer#MAX_VALUE}
+     */
+    <T, R> Slice<R> findSlice(@Nonnull Class<T> entityClass,
+                              @Nonnull Class<R> resultType,
+                              @Nonnull Specification<T> specification,
+                              @Nonnull Pageable pageable);
+
+    /**
+     * Executes a paginated query against {@code entityClass} like
+     * {@link #findPage(Class, Class, Specification, Pageable, String...)}, but without
+     * computing the total number of matching rows.
+     *
+     * <p>No {@code COUNT} query is ever issued: one more row than the page size is fetched to
+     * know whether a next slice exists, which is all a "load more" interface needs.</p>
+     *
+     * @param entityClass    the JPA entity type to query, must not be {@code null}
+     * @param resultType     the desired result type, must not be {@code null}
+     * @param specification  the filtering criteria, must not be {@code null}
+     * @param pageable       the paging and sorting information, must not be {@code null}
+     * @param fieldNames     optional attribute names to project onto {@code resultType};
+     *                       see the type-level Javadoc for the projection rules
+     * @param <T>            the entity type
+     * @param <R>            the result type
+     * @return a {@link Slice} of matching results, never {@code null}
+     * @throws IllegalArgumentException if {@code pageable.getOffset()} exceeds
+     *                                  {@link Integer#MAX_VALUE}
+     */
+    <T, R> Slice<R> findSlice(@Nonnull Class<T> entityClass,
+                              @Nonnull Class<R> resultType,
+                              @Nonnull Specification<T> specification,
+                              @Nonnull Pageable pageable,
+                              String... fieldNames);
+
+    /**
+     * Same as {@link #findSlice(Class, Class, Specification, Pageable)}, but eliminates
+     * duplicate rows from the result using {@code SELECT DISTINCT}.
+     *
+     * <p>The projected attribute names are derived automatically from the fields declared by
+     * {@code resultType}, including private fields and those inherited from parent classes
+     * (see the type-level Javadoc for the projection rules based on the number of fields
+     * found).</p>
+     *
+     * @param entityClass    the JPA entity type to query, must not be {@code null}
+     * @param resultType     the desired result type, must not be {@code null}
+     * @param specification  the filtering criteria, must not be {@code null}
+     * @param pageable       the paging and sorting information, must not be {@code null}
+     * @param <T>            the entity type
+     * @param <R>            the result type
+     * @return a {@link Slice} of distinct matching results, never {@code null}
+     * @throws IllegalArgumentException if {@code pageable.getOffset()} exceeds
+     *                                  {@link Integer#MAX_VALUE}
+     */
+    <T, R> Slice<R> findDistinctSlice(@Nonnull Class<T> entityClass,
+                                      @Nonnull Class<R> resultType,
+                                      @Nonnull Specification<T> specification,
+                                      @Nonnull Pageable pageable);
+
+    /**
+     * Same as {@link #findSlice(Class, Class, Specification, Pageable, String...)}, but
+     * eliminates duplicate rows from the result using {@code SELECT DISTINCT}.
+     *
+     * @param entityClass    the JPA entity type to query, must not be {@code null}
+     * @param resultType     the desired result type, must not be {@code null}
+     * @param specification  the filtering criteria, must not be {@code null}
+     * @param pageable       the paging and sorting information, must not be {@code null}
+     * @param fieldNames     optional attribute names to project onto {@code resultType};
+     *                       see the type-level Javadoc for the projection rules
+     * @param <T>            the entity type
+     * @param <R>            the result type
+     * @return a {@link Slice} of distinct matching results, never {@code null}
+     * @throws IllegalArgumentException if {@code pageable.getOffset()} exceeds
+     *                                  {@link Integer#MAX_VALUE}
+     */
+    <T, R> Slice<R> findDistinctSlice(@Nonnull Class<T> entityClass,
+                                      @Nonnull Class<R> resultType,
+                                      @Nonnull Specification<T> specification,
+                                      @Nonnull Pageable pageable,
+                                      String... fieldNames);
+
+    /**
+     * Executes a keyset-paginated query against {@code entityClass}, returning the window of
+     * rows that follows (or precedes) {@code position} in {@code sort} order.
+     *
+     * <p>The projected attribute names are derived automatically from the fields declared by
+     * {@code resultType}, including private fields and those inherited from parent classes
+     * (see the type-level Javadoc for the projection rules based on the number of fields
+     * found).</p>
+     *
+     * @param entityClass    the JPA entity type to query, must not be {@code null}
+     * @param resultType     the desired result type, must not be {@code null}
+     * @param specification  the filtering criteria, must not be {@code null}
+     * @param position       the position to scroll from, {@code ScrollPosition.keyset()} for
+     *                       the first window, must not be {@code null}
+     * @param sort           the sort order, must not be {@code null}
+     * @param limit          the maximum number of rows of the window, must be positive
+     * @param <T>            the entity type
+     * @param <R>            the result type
+     * @return a {@link Window} of matching results, never {@code null}
+     * @throws IllegalArgumentException if {@code limit} is not positive, or if
+     *                                  {@code position} does not match {@code sort}
+     */
+    <T, R> Window<R> findWindow(@Nonnull Class<T> entityClass,
+                                @Nonnull Class<R> resultType,
+                                @Nonnull Specification<T> specification,
+                                @Nonnull KeysetScrollPosition position,
+                                @Nonnull Sort sort,
+                                int limit);
+
+    /**
+     * Executes a keyset-paginated query against {@code entityClass}, returning the window of
+     * rows that follows (or precedes) {@code position} in {@code sort} order.
+     *
+     * <p>Unlike {@link #findPage}, no offset is used: the query seeks directly to the rows
+     * after the sort keys of {@code position}, so every window costs the same whatever its
+     * depth, and no {@code COUNT} query is issued. The sort is completed with the identifier
+     * of the entity as a unique tiebreaker.</p>
+     *
+     * <p>Sort keys may be {@code null}. Null values are placed according to the
+     * {@link Sort.NullHandling} of their order and, for {@link Sort.NullHandling#NATIVE}, after
+     * every other value in ascending order and before them in descending order, whatever the
+     * default of the database.</p>
+     *
+     * <p>The position of each row is available with {@link Window#positionAt(int)}, and can be
+     * sent to clients as an opaque cursor with {@link KeysetCursor#encode}.</p>
+     *
+     * @param entityClass    the JPA entity type to query, must not be {@code null}
+     * @param resultType     the desired result type, must not be {@code null}
+     * @param specification  the filtering criteria, must not be {@code null}
+     * @param position       the position to scroll from, {@code ScrollPosition.keyset()} for
+     *                       the first window, must not be {@code null}
+     * @param sort           the sort order, must not be {@code null}
+     * @param limit          the maximum number of rows of the window, must be positive
+     * @param fieldNames     optional attribute names to project onto {@code resultType};
+     *                       see the type-level Javadoc for the projection rules
+     * @param <T>            the entity type
+     * @param <R>            the result type
+     * @return a {@link Window} of matching results, never {@code null}
+     * @throws IllegalArgumentException if {@code limit} is not positive, or if
+     *                                  {@code position} does not match {@code sort}
+     */
+    <T, R> Window<R> findWindow(@Nonnull Class<T> entityClass,
+                                @Nonnull Class<R> resultType,
+                                @Nonnull Specification<T> specification,
+                                @Nonnull KeysetScrollPosition position,
+                                @Nonnull Sort sort,
+                                int limit,
+                                String... fieldNames);
 }
@@ -1,29 +1,54 @@
 package io.github.zorin95670.executor;
 
+import io.github.zorin95670.predicate.AttributePaths;
+import io.github.zorin95670.specification.FilterPlan;
+import io.github.zorin95670.specification.FilterPlanCache;
+import io.github.zorin95670.specification.FilterPlanKey;
+import io.github.zorin95670.specification.FilterTypeRegistry;
+import io.github.zorin95670.specification.SpringQueryFilterSpecification;
 import jakarta.annotation.Nonnull;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.PersistenceContext;
-import jakarta.persistence.Tuple;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.QueryTimeoutException;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Selection;
-import jakarta.persistence.criteria.Order;
+import jakarta.persistence.metamodel.EntityType;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.lang.reflect.Field;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Default JPA Criteria API-based implementation of {@link SpringQueryExecutor}.
@@ -31,202 +56,1595 @@ import java.util.stream.Collectors;
  * <p>Every public method delegates to {@link #buildTypedQuery} to build a {@link TypedQuery},
  * and to {@link #buildPage} for paginated variants. See {@link SpringQueryExecutor} for the
  * projection, sorting, and pagination contract implemented here.</p>
+ *
+ * <p>Counts, keyset windows and batches are executed by package-private collaborators of the
+ * executor, sharing its entity manager and settings. In {@link QueryMode#JPQL} mode, compiled
+ * filter plans are rendered to parameterised JPQL instead of Criteria queries, except for
+ * distinct counts of several fields.</p>
  */
 @Repository
 public class SpringQueryExecutorImpl implements SpringQueryExecutor {
 
     /**
-     * The JPA entity manager used to build and execute Criteria queries.
+     * Default number of rows fetched from the database at a time by streams.
+     */
+    public static final int DEFAULT_STREAM_FETCH_SIZE = 100;
+
+    /**
+     * Query hint setting the JDBC fetch size.
+     */
+    private static final String FETCH_SIZE_HINT = "org.hibernate.fetchSize";
+
+    /**
+     * Query hint loading entities in read-only mode, without keeping their snapshot.
+     */
+    private static final String READ_ONLY_HINT = "org.hibernate.readOnly";
+
+    /**
+     * The JPA entity manager used to build and execute Criteria queries.
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Optional cross-request cache of compiled filter plans, {@code null} when disabled.
+     */
+    private FilterPlanCache filterPlanCache;
+
+    /**
+     * Optional registry of the field types of the specifications that do not set their own,
+     * {@code null} to use the default registry.
+     */
+    private FilterTypeRegistry filterTypeRegistry;
+
+    /**
+     * How queries are built, {@link QueryMode#CRITERIA} by default.
+     */
+    private QueryMode queryMode = QueryMode.CRITERIA;
+
+    /**
+     * Execution statistics of the JPQL queries rendered in {@link QueryMode#JPQL} mode.
+     */
+    private final JpqlShapeStatistics jpqlShapeStatistics = new JpqlShapeStatistics();
+
+    /**
+     * Number of {@code COUNT} queries skipped by {@link #buildPage}, because the page content
+     * alone determined the total.
+     */
+    private final AtomicLong skippedCountQueries = new AtomicLong();
+
+    /**
+     * Number of rows fetched from the database at a time by streams.
+     */
+    private int streamFetchSize = DEFAULT_STREAM_FETCH_SIZE;
+
+    /**
+     * Whether streamed entities are detached from the persistence context once read, disabled by
+     * default.
+     */
+    private boolean detachStreamedEntities;
+
+    /**
+     * Whether the {@code COUNT} query of a page runs concurrently with its content query.
+     */
+    private boolean concurrentCount;
+
+    /**
+     * Time budget of {@code COUNT} queries, or {@code null} for no budget.
+     */
+    private Duration countTimeout;
+
+    /**
+     * Number of {@code COUNT} queries of pages that exceeded their time budget, per entity class.
+     */
+    private final Map<Class<?>, LongAdder> countTimeouts = new ConcurrentHashMap<>();
+
+    /**
+     * Estimator of the totals of pages counted with {@link CountMode#estimated()}.
+     */
+    private CountEstimator countEstimator = CountEstimator.none();
+
+    /**
+     * Policy choosing how pages are counted per query shape, or {@code null} to count them exactly.
+     */
+    private AdaptiveCountPolicy adaptiveCountPolicy;
+
+    /**
+     * Cache of the exact totals of pages, or {@code null} if totals are not cached.
+     */
+    private CountCache countCache;
+
+    /**
+     * Cache of the results of lists and pages, or {@code null} if results are not cached.
+     */
+    private ResultCache resultCache;
+
+    /**
+     * Manager of the transactions of batches, or {@code null} to require a transaction of the
+     * caller.
+     */
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Entity manager used by the current thread instead of the injected one, while it counts
+     * the rows of a page concurrently.
+     */
+    private final ThreadLocal<EntityManager> countEntityManager = new ThreadLocal<>();
+
+    /**
+     * The queries of the {@link QueryMode#JPQL} mode.
+     */
+    private final JpqlQueries jpqlQueries = new JpqlQueries(this);
+
+    /**
+     * The {@code COUNT} queries.
+     */
+    private final CountQueries countQueries = new CountQueries(this);
+
+    /**
+     * The keyset queries of windows.
+     */
+    private final KeysetQueries keysetQueries = new KeysetQueries(this);
+
+    /**
+     * The page queries of batches.
+     */
+    private final BatchQueries batchQueries = new BatchQueries(this);
+
+    /**
+     * Gets the cross-request cache of compiled filter plans.
+     *
+     * @return the filter plan cache, or {@code null} if plans are not cached
+     */
+    public FilterPlanCache getFilterPlanCache() {
+        return filterPlanCache;
+    }
+
+    /**
+     * Sets the cross-request cache of compiled filter plans, looked up before compiling the
+     * filters of a {@link SpringQueryFilterSpecification}.
+     *
+     * @param filterPlanCache the filter plan cache, or {@code null} to compile plans on every request
+     */
+    public void setFilterPlanCache(final FilterPlanCache filterPlanCache) {
+        this.filterPlanCache = filterPlanCache;
+    }
+
+    /**
+     * Gets the registry of the field types of the specifications that do not set their own.
+     *
+     * @return the filter type registry, or {@code null} to use the default registry
+     */
+    public FilterTypeRegistry getFilterTypeRegistry() {
+        return filterTypeRegistry;
+    }
+
+    /**
+     * Sets the registry of the field types of the specifications that do not set their own,
+     * used to compile them without being set on them.
+     *
+     * @param filterTypeRegistry the filter type registry, or {@code null} to use the default
+     *                           registry
+     */
+    public void setFilterTypeRegistry(final FilterTypeRegistry filterTypeRegistry) {
+        this.filterTypeRegistry = filterTypeRegistry;
+    }
+
+    /**
+     * Gets how queries are built.
+     *
+     * @return the query mode
+     */
+    public QueryMode getQueryMode() {
+        return queryMode;
+    }
+
+    /**
+     * Sets how queries are built.
+     *
+     * @param queryMode the query mode, {@link QueryMode#CRITERIA} if {@code null}
+     */
+    public void setQueryMode(final QueryMode queryMode) {
+        if (queryMode == null) {
+            this.queryMode = QueryMode.CRITERIA;
+            return;
+        }
+
+        this.queryMode = queryMode;
+    }
+
+    /**
+     * Gets the execution statistics of the JPQL queries rendered in {@link QueryMode#JPQL} mode.
+     *
+     * @return the JPQL shape statistics
+     */
+    public JpqlShapeStatistics getJpqlShapeStatistics() {
+        return jpqlShapeStatistics;
+    }
+
+    /**
+     * Gets the number of {@code COUNT} queries skipped by {@link #buildPage}, because the page
+     * content alone determined the total.
+     *
+     * @return the skipped count query count
+     */
+    public long getSkippedCountQueries() {
+        return skippedCountQueries.get();
+    }
+
+    /**
+     * Gets the number of rows fetched from the database at a time by streams.
+     *
+     * @return the JDBC fetch size of streams
+     */
+    public int getStreamFetchSize() {
+        return streamFetchSize;
+    }
+
+    /**
+     * Sets the number of rows fetched from the database at a time by streams.
+     *
+     * @param streamFetchSize the JDBC fetch size of streams, must be positive
+     * @throws IllegalArgumentException if {@code streamFetchSize} is not positive
+     */
+    public void setStreamFetchSize(final int streamFetchSize) {
+        if (streamFetchSize <= 0) {
+            throw new IllegalArgumentException("Stream fetch size must be positive: " + streamFetchSize);
+        }
+
+        this.streamFetchSize = streamFetchSize;
+    }
+
+    /**
+     * Indicates whether streamed entities are detached from the persistence context once read.
+     *
+     * @return {@code true} if streamed entities are detached
+     */
+    public boolean isDetachStreamedEntities() {
+        return detachStreamedEntities;
+    }
+
+    /**
+     * Sets whether streamed entities are detached from the persistence context once read.
+     * <p>
+     * Detaching keeps the persistence context, and so memory, from growing with the number of
+     * streamed entities, but lazy associations of detached entities cannot be loaded anymore,
+     * and entities already managed by the transaction are detached as well. Detached entities
+     * are loaded read-only, since their changes could not be flushed anyway. Disabled by default:
+     * streamed entities are then managed and flushed like the entities of {@code find}.
+     * Projections are never managed, so this setting only applies to streams of entities.
+     * </p>
+     *
+     * @param detachStreamedEntities {@code true} to detach streamed entities
+     */
+    public void setDetachStreamedEntities(final boolean detachStreamedEntities) {
+        this.detachStreamedEntities = detachStreamedEntities;
+    }
+
+    /**
+     * Indicates whether the {@code COUNT} query of a page runs concurrently with its content query.
+     *
+     * @return {@code true} if pages are counted concurrently
+     */
+    public boolean isConcurrentCount() {
+        return concurrentCount;
+    }
+
+    /**
+     * Sets whether the {@code COUNT} query of a page runs concurrently with its content query.
+     * <p>
+     * The {@code COUNT} query then runs on a virtual thread, with its own entity manager and
+     * database connection: each page holds two connections at once, and the count does not see
+     * the uncommitted changes of the current transaction. When the content of a page determines
+     * its total, or when its content query fails, the page returns without waiting for the
+     * count, whose statement is cancelled with Hibernate. See {@link #buildPage}.
+     * </p>
+     *
+     * @param concurrentCount {@code true} to count pages concurrently
+     */
+    public void setConcurrentCount(final boolean concurrentCount) {
+        this.concurrentCount = concurrentCount;
+    }
+
+    /**
+     * Gets the time budget of {@code COUNT} queries.
+     *
+     * @return the count timeout, or {@code null} if counts have no time budget
+     */
+    public Duration getCountTimeout() {
+        return countTimeout;
+    }
+
+    /**
+     * Sets the time budget of {@code COUNT} queries.
+     * <p>
+     * The budget is applied with the {@code jakarta.persistence.query.timeout} hint, so the
+     * database cancels a {@code COUNT} query that exceeds it and releases its connection. Most
+     * JDBC drivers only support timeouts in whole seconds. Pages then fetch one more row than
+     * their size, to know whether there is a next page without the total, see
+     * {@link #buildPage}.
+     * </p>
+     *
+     * @param countTimeout the count timeout, or {@code null} or zero for no budget
+     * @throws IllegalArgumentException if {@code countTimeout} is negative
+     */
+    public void setCountTimeout(final Duration countTimeout) {
+        if (countTimeout != null && countTimeout.isNegative()) {
+            throw new IllegalArgumentException("Count timeout must not be negative: " + countTimeout);
+        }
+
+        if (countTimeout == null || countTimeout.isZero()) {
+            this.countTimeout = null;
+        } else {
+            this.countTimeout = countTimeout;
+        }
+    }
+
+    /**
+     * Gets the number of {@code COUNT} queries of pages of an entity that exceeded their time
+     * budget.
+     *
+     * @param entityClass the JPA entity type
+     * @return the number of exceeded count budgets of {@code entityClass}
+     */
+    public long getCountTimeoutCount(final Class<?> entityClass) {
+        LongAdder count = countTimeouts.get(entityClass);
+
+        if (count == null) {
+            return 0;
+        }
+
+        return count.sum();
+    }
+
+    /**
+     * Gets the number of {@code COUNT} queries of pages that exceeded their time budget, for
+     * every entity that exceeded it at least once.
+     *
+     * @return a snapshot of the number of exceeded count budgets, by entity class
+     */
+    public Map<Class<?>, Long> getCountTimeoutCounts() {
+        Map<Class<?>, Long> counts = new LinkedHashMap<>();
+
+        countTimeouts.forEach((type, count) -> counts.put(type, count.sum()));
+
+        return counts;
+    }
+
+    /**
+     * Gets the estimator of the totals of pages counted with {@link CountMode#estimated()}.
+     *
+     * @return the count estimator
+     */
+    public CountEstimator getCountEstimator() {
+        return countEstimator;
+    }
+
+    /**
+     * Sets the estimator of the totals of pages counted with {@link CountMode#estimated()}.
+     *
+     * @param countEstimator the count estimator, or {@code null} to count such pages exactly
+     */
+    public void setCountEstimator(final CountEstimator countEstimator) {
+        if (countEstimator == null) {
+            this.countEstimator = CountEstimator.none();
+        } else {
+            this.countEstimator = countEstimator;
+        }
+    }
+
+    /**
+     * Gets the policy choosing how pages are counted per query shape.
+     *
+     * @return the adaptive count policy, or {@code null} if pages are counted exactly
+     */
+    public AdaptiveCountPolicy getAdaptiveCountPolicy() {
+        return adaptiveCountPolicy;
+    }
+
+    /**
+     * Sets the policy choosing how pages are counted per query shape.
+     *
+     * <p>The policy applies to pages of {@link FilterPlan compiled filters} requested with
+     * {@link CountMode#exact()}, the default mode of {@code findPage}: it records their exact
+     * counts and may replace the mode of their shape with a bounded or count-free one. Pages
+     * requested with another mode keep it.</p>
+     *
+     * @param adaptiveCountPolicy the adaptive count policy, or {@code null} to count pages exactly
+     */
+    public void setAdaptiveCountPolicy(final AdaptiveCountPolicy adaptiveCountPolicy) {
+        this.adaptiveCountPolicy = adaptiveCountPolicy;
+    }
+
+    /**
+     * Gets the cache of the exact totals of pages.
+     *
+     * @return the count cache, or {@code null} if totals are not cached
+     */
+    public CountCache getCountCache() {
+        return countCache;
+    }
+
+    /**
+     * Sets the cache of the exact totals of pages.
+     *
+     * <p>Pages of {@link SpringQueryFilterSpecification} filters then reuse the total counted by
+     * a previous page of the same filters, whatever their count mode, until it expires or is
+     * {@link EntityCache#invalidate(Class) invalidated}. Register an
+     * {@link EntityCacheInvalidator} to invalidate totals when entities are written.</p>
+     *
+     * @param countCache the count cache, or {@code null} to count every page
+     */
+    public void setCountCache(final CountCache countCache) {
+        this.countCache = countCache;
+    }
+
+    /**
+     * Gets the cache of the results of lists and pages.
+     *
+     * @return the result cache, or {@code null} if results are not cached
+     */
+    public ResultCache getResultCache() {
+        return resultCache;
+    }
+
+    /**
+     * Sets the cache of the results of lists and pages.
+     *
+     * <p>{@code find}, {@code findDistinct}, {@code findPage} and {@code findDistinctPage} of
+     * {@link SpringQueryFilterSpecification} filters then reuse the result of a previous
+     * identical query until it expires or is {@link EntityCache#invalidate(Class) invalidated}.
+     * Register an {@link EntityCacheInvalidator} to invalidate results when entities are
+     * written. A read-write transaction bypasses the cached results of the entities it wrote,
+     * so that it sees its own writes.</p>
+     *
+     * <p>Lists read with a {@link FetchPlan} are not cached, since cached entities are loaded
+     * again by identifier without the plan. Pages read with a {@link FetchPlan} cache their
+     * identifiers, and fetch their entities with the plan on every hit.</p>
+     *
+     * @param resultCache the result cache, or {@code null} to query every result
+     */
+    public void setResultCache(final ResultCache resultCache) {
+        this.resultCache = resultCache;
+    }
+
+    /**
+     * Gets the manager of the transactions of batches.
+     *
+     * @return the transaction manager, or {@code null} if batches require a transaction of the
+     *         caller
+     */
+    public PlatformTransactionManager getTransactionManager() {
+        return transactionManager;
+    }
+
+    /**
+     * Sets the manager of the transactions of batches.
+     *
+     * <p>{@link #executeBatch(List)} then runs its queries in a read-only transaction of this
+     * manager, joining the transaction of the caller if there is one, so that every query of the
+     * batch uses the same connection.</p>
+     *
+     * @param transactionManager the transaction manager, or {@code null} to run batches in the
+     *                           transaction of the caller, failing when there is none
+     */
+    public void setTransactionManager(final PlatformTransactionManager transactionManager) {
+        this.transactionManager = transactionManager;
+    }
+
+    @Override
+    public <T, R> List<R> find(final @Nonnull Class<T> entityClass,
+                               final @Nonnull Class<R> resultType,
+                               final @Nonnull Specification<T> specification) {
+        return find(entityClass, resultType, specification, Sort.unsorted());
+    }
+
+    @Override
+    public <T, R> List<R> find(final @Nonnull Class<T> entityClass,
+                               final @Nonnull Class<R> resultType,
+                               final @Nonnull Specification<T> specification,
+                               final String... fieldNames) {
+        return find(entityClass, resultType, specification, Sort.unsorted(), fieldNames);
+    }
+
+    @Override
+    public <T, R> List<R> findDistinct(final @Nonnull Class<T> entityClass,
+                                       final @Nonnull Class<R> resultType,
+                                       final @Nonnull Specification<T> specification) {
+        return findDistinct(entityClass, resultType, specification, Sort.unsorted());
+    }
+
+    @Override
+    public <T, R> List<R> findDistinct(final @Nonnull Class<T> entityClass,
+                                       final @Nonnull Class<R> resultType,
+                                       final @Nonnull Specification<T> specification,
+                                       final String... fieldNames) {
+        return findDistinct(entityClass, resultType, specification, Sort.unsorted(), fieldNames);
+    }
+
+    @Override
+    public <T, R> List<R> find(final @Nonnull Class<T> entityClass,
+                               final @Nonnull Class<R> resultType,
+                               final @Nonnull Specification<T> specification,
+                               final @Nonnull Sort sort) {
+        return findList(entityClass, resultType, specification, false, sort, getFieldNames(resultType));
+    }
+
+    @Override
+    public <T, R> List<R> find(final @Nonnull Class<T> entityClass,
+                               final @Nonnull Class<R> resultType,
+                               final @Nonnull Specification<T> specification,
+                               final @Nonnull Sort sort,
+                               final String... fieldNames) {
+        return findList(entityClass, resultType, specification, false, sort, fieldNames);
+    }
+
+    @Override
+    public <T, R> List<R> findDistinct(final @Nonnull Class<T> entityClass,
+                                       final @Nonnull Class<R> resultType,
+                                       final @Nonnull Specification<T> specification,
+                                       final @Nonnull Sort sort) {
+        return findList(entityClass, resultType, specification, true, sort, getFieldNames(resultType));
+    }
+
+    @Override
+    public <T, R> List<R> findDistinct(final @Nonnull Class<T> entityClass,
+                                       final @Nonnull Class<R> resultType,
+                                       final @Nonnull Specification<T> specification,
+                                       final @Nonnull Sort sort,
+                                       final String... fieldNames) {
+        return findList(entityClass, resultType, specification, true, sort, fieldNames);
+    }
+
+    /**
+     * Executes a list query, through the {@link #getResultCache() result cache} if any.
+     *
+     * @param entityClass    the JPA entity type to query
+     * @param resultType     the desired result type
+     * @param specification  the filtering criteria
+     * @param distinct       whether to apply {@code SELECT DISTINCT}
+     * @param sort           the sort of the results
+     * @param fieldNames     optional attribute names used to build the selection
+     * @param <T>            the entity type
+     * @param <R>            the result type
+     * @return the matching results
+     */
+    private <T, R> List<R> findList(final Class<T> entityClass,
+                                    final Class<R> resultType,
+                                    final Specification<T> specification,
+                                    final boolean distinct,
+                                    final Sort sort,
+                                    final String... fieldNames) {
+        ResultCacheKey cacheKey = getResultCacheKey(
+            entityClass, resultType, specification, distinct, Pageable.unpaged(sort), null, fieldNames);
+
+        if (cacheKey == null) {
+            return buildTypedQuery(entityClass, resultType, specification, distinct, sort, fieldNames)
+                .getResultList();
+        }
+
+        ResultCache cache = resultCache;
+        List<R> cached = restore(cache.get(cacheKey));
+
+        if (cached != null) {
+            return cached;
+        }
+
+        long version = cache.getVersion();
+        List<R> results = buildTypedQuery(entityClass, resultType, specification, distinct, sort, fieldNames)
+            .getResultList();
+
+        cache.put(cacheKey, getEntityManager(), results, getCachedEntityClass(entityClass, resultType, fieldNames),
+            results.size(), TotalAccuracy.EXACT, version);
+
+        return results;
+    }
+
+    @Override
+    public <T, R> Page<R> findPage(final @Nonnull Class<T> entityClass,
+                                   final @Nonnull Class<R> resultType,
+                                   final @Nonnull Specification<T> specification,
+                                   final @Nonnull Pageable pageable) {
+        return buildPage(entityClass, resultType, specification, false, pageable, getFieldNames(resultType));
+    }
+
+    @Override
+    public <T, R> Page<R> findPage(final @Nonnull Class<T> entityClass,
+                                   final @Nonnull Class<R> resultType,
+                                   final @Nonnull Specification<T> specification,
+                                   final @Nonnull Pageable pageable,
+                                   final String... fieldNames) {
+        return buildPage(entityClass, resultType, specification, false, pageable, fieldNames);
+    }
+
+    @Override
+    public <T, R> Page<R> findDistinctPage(final @Nonnull Class<T> entityClass,
+                                           final @Nonnull Class<R> resultType,
+                                           final @Nonnull Specification<T> specification,
+                                           final @Nonnull Pageable pageable) {
+        return buildPage(entityClass, resultType, specification, true, pageable, getFieldNames(resultType));
+    }
+
+    @Override
+    public <T, R> Page<R> findDistinctPage(final @Nonnull Class<T> entityClass,
+                                           final @Nonnull Class<R> resultType,
+                                           final @Nonnull Specification<T> specification,
+                                           final @Nonnull Pageable pageable,
+                                           final String... fieldNames) {
+        return buildPage(entityClass, resultType, specification, true, pageable, fieldNames);
+    }
+
+    @Override
+    public <T, R> CountedPage<R> findPage(final @Nonnull Class<T> entityClass,
+                                          final @Nonnull Class<R> resultType,
+                                          final @Nonnull Specification<T> specification,
+                                          final @Nonnull Pageable pageable,
+                                          final @Nonnull CountMode countMode) {
+        return buildPage(entityClass, resultType, specification, false, pageable, countMode, getFieldNames(resultType));
+    }
+
+    @Override
+    public <T, R> CountedPage<R> findPage(final @Nonnull Class<T> entityClass,
+                                          final @Nonnull Class<R> resultType,
+                                          final @Nonnull Specification<T> specification,
+                                          final @Nonnull Pageable pageable,
+                                          final @Nonnull CountMode countMode,
+                                          final String... fieldNames) {
+        return buildPage(entityClass, resultType, specification, false, pageable, countMode, fieldNames);
+    }
+
+    @Override
+    public <T, R> CountedPage<R> findDistinctPage(final @Nonnull Class<T> entityClass,
+                                                  final @Nonnull Class<R> resultType,
+                                                  final @Nonnull Specification<T> specification,
+                                                  final @Nonnull Pageable pageable,
+                                                  final @Nonnull CountMode countMode) {
+        return buildPage(entityClass, resultType, specification, true, pageable, countMode, getFieldNames(resultType));
+    }
+
+    @Override
+    public <T, R> CountedPage<R> findDistinctPage(final @Nonnull Class<T> entityClass,
+                                                  final @Nonnull Class<R> resultType,
+                                                  final @Nonnull Specification<T> specification,
+                                                  final @Nonnull Pageable pageable,
+                                                  final @Nonnull CountMode countMode,
+                                                  final String... fieldNames) {
+        return buildPage(entityClass, resultType, specification, true, pageable, countMode, fieldNames);
+    }
+
+    @Override
+    public <T> List<T> find(final @Nonnull Class<T> entityClass,
+                            final @Nonnull Specification<T> specification,
+                            final @Nonnull Sort sort,
+                            final @Nonnull FetchPlan fetchPlan) {
+        TypedQuery<T> typedQuery = buildTypedQuery(entityClass, entityClass, specification, false, sort);
+
+        return withFetchPlan(typedQuery, entityClass, fetchPlan).getResultList();
+    }
+
+    @Override
+    public <T> Page<T> findPage(final @Nonnull Class<T> entityClass,
+                                final @Nonnull Specification<T> specification,
+                                final @Nonnull Pageable pageable,
+                                final @Nonnull FetchPlan fetchPlan) {
+        EntityType<T> entityType = getEntityManager().getMetamodel().entity(entityClass);
+
+        if (!entityType.hasSingleIdAttribute()) {
+            throw new IllegalArgumentException(
+                "Fetch plans of pages require a single identifier attribute: " + entityClass.getName());
+        }
+
+        String idName = entityType.getId(entityType.getIdType().getJavaType()).getName();
+        CountedPage<?> ids = buildPage(entityClass, entityType.getIdType().getJavaType(), specification, false,
+            pageable, CountMode.exact(), idName);
+        List<T> content = fetchByIds(entityClass, idName, ids.getContent(), fetchPlan);
+
+        return new CountedPage<>(content, pageable, ids.getTotalElements(), ids.getTotalAccuracy());
+    }
+
+    @Override
+    public List<CountedPage<?>> executeBatch(final @Nonnull List<? extends QueryRequest<?, ?>> requests) {
+        if (transactionManager == null) {
+            if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+                throw new IllegalStateException("A batch requires a transaction manager or an active transaction, "
+                    + "so that its queries share one connection.");
+            }
+
+            return batchQueries.execute(requests);
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        transactionTemplate.setReadOnly(true);
+
+        return transactionTemplate.execute(status -> batchQueries.execute(requests));
+    }
+
+    /**
+     * Reads entities by identifier with a fetch plan, in a single query.
+     *
+     * @param entityClass    the JPA entity type to query
+     * @param idName         the name of the identifier attribute
+     * @param ids            the identifiers of the entities
+     * @param fetchPlan      the associations fetched with the entities
+     * @param <T>            the entity type
+     * @return the entities, in the order of {@code ids}, without the ones that no longer exist
+     */
+    private <T> List<T> fetchByIds(final Class<T> entityClass,
+                                   final String idName,
+                                   final List<?> ids,
+                                   final FetchPlan fetchPlan) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        EntityManager em = getEntityManager();
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(entityClass);
+        Root<T> root = query.from(entityClass);
+
+        query.select(root).where(root.get(idName).in(ids));
+
+        PersistenceUnitUtil util = em.getEntityManagerFactory().getPersistenceUnitUtil();
+        Map<Object, T> entitiesById = new HashMap<>();
+
+        withFetchPlan(em.createQuery(query), entityClass, fetchPlan).getResultList()
+            .forEach(entity -> entitiesById.put(util.getIdentifier(entity), entity));
+
+        List<T> entities = new ArrayList<>(ids.size());
+
+        for (Object id : ids) {
+            T entity = entitiesById.get(id);
+
+            if (entity != null) {
+                entities.add(entity);
+            }
+        }
+
+        return entities;
+    }
+
+    /**
+     * Applies the entity graph of a fetch plan to a query.
+     *
+     * @param typedQuery     the query of the entities
+     * @param entityClass    the JPA entity type to query
+     * @param fetchPlan      the associations fetched with the entities
+     * @param <T>            the entity type
+     * @return the query
+     * @throws IllegalArgumentException if the plan names an unknown entity graph or attribute
+     */
+    private <T> TypedQuery<T> withFetchPlan(final TypedQuery<T> typedQuery,
+                                            final Class<T> entityClass,
+                                            final FetchPlan fetchPlan) {
+        return typedQuery.setHint(fetchPlan.getType().getHint(),
+            fetchPlan.getEntityGraph(getEntityManager(), entityClass));
+    }
+
+    @Override
+    public <T, R> Stream<R> stream(final @Nonnull Class<T> entityClass,
+                                   final @Nonnull Class<R> resultType,
+                                   final @Nonnull Specification<T> specification,
+                                   final @Nonnull Sort sort) {
+        return buildStream(entityClass, resultType, specification, false, sort, getFieldNames(resultType));
+    }
+
+    @Override
+    public <T, R> Stream<R> stream(final @Nonnull Class<T> entityClass,
+                                   final @Nonnull Class<R> resultType,
+                                   final @Nonnull Specification<T> specification,
+                                   final @Nonnull Sort sort,
+                                   final String... fieldNames) {
+        return buildStream(entityClass, resultType, specification, false, sort, fieldNames);
+    }
+
+    @Override
+    public <T, R> Stream<R> streamDistinct(final @Nonnull Class<T> entityClass,
+                                           final @Nonnull Class<R> resultType,
+                                           final @Nonnull Specification<T> specification,
+                                           final @Nonnull Sort sort) {
+        return buildStream(entityClass, resultType, specification, true, sort, getFieldNames(resultType));
+    }
+
+    @Override
+    public <T, R> Stream<R> streamDistinct(final @Nonnull Class<T> entityClass,
+                                           final @Nonnull Class<R> resultType,
+                                           final @Nonnull Specification<T> specification,
+                                           final @Nonnull Sort sort,
+                                           final String... fieldNames) {
+        return buildStream(entityClass, resultType, specification, true, sort, fieldNames);
+    }
+
+    @Override
+    public <T, R> Slice<R> findSlice(final @Nonnull Class<T> entityClass,
+                                     final @Nonnull Class<R> resultType,
+                                     final @Nonnull Specification<T> specification,
+                                     final @Nonnull Pageable pageable) {
+        return buildSlice(entityClass, resultType, specification, false, pageable, getFieldNames(resultType));
+    }
+
+    @Override
+    public <T, R> Slice<R> findSlice(final @Nonnull Class<T> entityClass,
+                                     final @Nonnull Class<R> resultType,
+                                     final @Nonnull Specification<T> specification,
+                                     final @Nonnull Pageable pageable,
+                                     final String... fieldNames) {
+        return buildSlice(entityClass, resultType, specification, false, pageable, fieldNames);
+    }
+
+    @Override
+    public <T, R> Slice<R> findDistinctSlice(final @Nonnull Class<T> entityClass,
+                                             final @Nonnull Class<R> resultType,
+                                             final @Nonnull Specification<T> specification,
+                                             final @Nonnull Pageable pageable) {
+        return buildSlice(entityClass, resultType, specification, true, pageable, getFieldNames(resultType));
+    }
+
+    @Override
+    public <T, R> Slice<R> findDistinctSlice(final @Nonnull Class<T> entityClass,
+                                             final @Nonnull Class<R> resultType,
+                                             final @Nonnull Specification<T> specification,
+                                             final @Nonnull Pageable pageable,
+                                             final String... fieldNames) {
+        return buildSlice(entityClass, resultType, specification, true, pageable, fieldNames);
+    }
+
+    @Override
+    public <T, R> Window<R> findWindow(final @Nonnull Class<T> entityClass,
+                                       final @Nonnull Class<R> resultType,
+                                       final @Nonnull Specification<T> specification,
+                                       final @Nonnull KeysetScrollPosition position,
+                                       final @Nonnull Sort sort,
+                                       final int limit) {
+        return findWindow(entityClass, resultType, specification, position, sort, limit, getFieldNames(resultType));
+    }
+
+    @Override
+    public <T, R> Window<R> findWindow(final @Nonnull Class<T> entityClass,
+                                       final @Nonnull Class<R> resultType,
+                                       final @Nonnull Specification<T> specification,
+                                       final @Nonnull KeysetScrollPosition position,
+                                       final @Nonnull Sort sort,
+                                       final int limit,
+                                       final String... fieldNames) {
+        return keysetQueries.findWindow(entityClass, resultType, specification, position, sort, limit, fieldNames);
+    }
+
+    /**
+     * Builds a {@link TypedQuery} from the given entity type, result type, specification,
+     * distinct flag, sort, and projected field names.
+     *
+     * @param entityClass    the JPA entity type to query
+     * @param resultType     the desired result type
+     * @param specification  the filtering criteria, compiled to a {@link FilterPlan} when it is
+     *                       a {@link SpringQueryFilterSpecification}; its {@code toPredicate}
+     *                       result may be {@code null}, in which case no {@code WHERE} clause is
+     *                       applied
+     * @param distinct       whether to apply {@code SELECT DISTINCT}
+     * @param sort           the sort order to apply; ignored if {@link Sort#isSorted()} is
+     *                       {@code false}
+     * @param fieldNames     optional attribute names used to build the selection; see
+     *                       {@link #buildSelection} for the projection rules
+     * @param <T>            the entity type
+     * @param <R>            the result type
+     * @return a {@link TypedQuery} ready to be executed or further configured (e.g. paging)
+     */
+    public <T, R> TypedQuery<R> buildTypedQuery(final @Nonnull Class<T> entityClass,
+                                                final @Nonnull Class<R> resultType,
+                                                final @Nonnull Specification<T> specification,
+                                                final boolean distinct,
+                                                final @Nonnull Sort sort,
+                                                final String... fieldNames) {
+        Specification<T> compiledSpecification = compile(specification);
+        FilterPlan<T> plan = jpqlQueries.getPlan(compiledSpecification, sort, fieldNames);
+
+        if (plan != null) {
+            return jpqlQueries.buildQuery(entityClass, resultType, plan, distinct, sort, fieldNames);
+        }
+
+        CriteriaBuilder cb = getEntityManager().getCriteriaBuilder();
+
+        if (isTransformed(fieldNames)) {
+            CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+            Root<T> root = query.from(entityClass);
+
+            query.select(cb.array(Arrays.stream(fieldNames)
+                .map(fieldName -> AttributePaths.getSingleValued(root, fieldName))
+                .toArray(Selection[]::new)));
+
+            return ProjectionTransformer.transform(
+                createCriteriaQuery(cb, query, root, compiledSpecification, distinct, sort),
+                getRowFactory(entityClass, resultType, fieldNames)
+            );
+        }
+
+        CriteriaQuery<R> query = cb.createQuery(resultType);
+        Root<T> root = query.from(entityClass);
+
+        query.select(buildSelection(cb, root, resultType, fieldNames));
+
+        return createCriteriaQuery(cb, query, root, compiledSpecification, distinct, sort);
+    }
+
+    /**
+     * Filters, deduplicates and sorts a criteria query whose selection is set, and creates it.
+     *
+     * @param cb             the criteria builder
+     * @param query          the criteria query
+     * @param root           the query root
+     * @param specification  the compiled filtering criteria
+     * @param distinct       whether to apply {@code SELECT DISTINCT}
+     * @param sort           the sort order to apply
+     * @param <T>            the entity type
+     * @param <Q>            the selected type
+     * @return the typed query
+     */
+    private <T, Q> TypedQuery<Q> createCriteriaQuery(final CriteriaBuilder cb,
+                                                     final CriteriaQuery<Q> query,
+                                                     final Root<T> root,
+                                                     final Specification<T> specification,
+                                                     final boolean distinct,
+                                                     final Sort sort) {
+        Predicate predicate = specification.toPredicate(root, query, cb);
+
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        if (distinct) {
+            query.distinct(true);
+        }
+
+        if (sort.isSorted()) {
+            query.orderBy(buildOrders(cb, root, sort));
+        }
+
+        return getEntityManager().createQuery(query);
+    }
+
+    /**
+     * Indicates whether the rows of a projection are built by a {@link ProjectionDescriptor} row factory, with a
+     * Hibernate tuple transformer, instead of a JPA constructor expression.
+     *
+     * @param fieldNames     the projected attribute names
+     * @return {@code true} if several attributes are projected and the provider supports tuple transformers
+     */
+    boolean isTransformed(final String... fieldNames) {
+        return fieldNames != null
+            && fieldNames.length > 1
+            && ProjectionTransformer.isSupported(getEntityManager().getEntityManagerFactory());
+    }
+
+    /**
+     * Gets the cached factory of the rows of a multi-field projection, see {@link ProjectionDescriptor}.
+     *
+     * @param entityClass    the JPA entity type to query
+     * @param resultType     the desired result type
+     * @param fieldNames     the projected attribute names
+     * @param <T>            the entity type
+     * @param <R>            the result type
+     * @return the row factory, taking the projected values in the order of {@code fieldNames}
+     * @throws IllegalArgumentException if no public constructor of {@code resultType} accepts the attributes
+     */
+    <T, R> Function<Object[], R> getRowFactory(final Class<T> entityClass,
+                                              final Class<R> resultType,
+                                              final String... fieldNames) {
+        EntityType<T> entityType = getEntityManager().getMetamodel().entity(entityClass);
+        Class<?>[] types = Arrays.stream(fieldNames)
+            .map(fieldName -> AttributePaths.getAttribute(entityType, fieldName).getJavaType())
+            .toArray(Class<?>[]::new);
+
+        return ProjectionDescriptor.of(resultType).getRowFactory(fieldNames, types);
+    }
+
+    /**
+     * Builds a {@link Page} of results by executing the query built by {@link #buildTypedQuery}
+     * with the offset/limit derived from {@code pageable}.
+     *
+     * <p>When {@code pageable} is unpaged, no separate {@code COUNT} query is issued: the total
+     * is directly derived from the size of the returned content. Otherwise, a {@code COUNT}
+     * query is executed via {@link #countResults} to compute the total number of matching
+     * rows across all pages, using a strategy consistent with {@code distinct} and
+     * {@code fieldNames} — see {@link #countResults} for details on why a plain
+     * {@code COUNT(DISTINCT root)} would be incorrect for distinct field projections.</p>
+     *
+     * <p>Like Spring Data's {@code PageableExecutionUtils}, the {@code COUNT} query is skipped
+     * when the content alone determines the total: on the first page when it is not full, and on
+     * later pages when it is neither full nor empty. The total is then the offset plus the
+     * content size, and {@link #getSkippedCountQueries()} is incremented.</p>
+     *
+     * <p>The specification is compiled once, so both queries share the same parsed filters.</p>
+     *
+     * <p>When {@code COUNT} queries have a {@link #getCountTimeout() time budget}, the content
+     * query fetches one more row than the page size. A full page without that extra row then
+     * determines the total, and a {@code COUNT} query that exceeds its budget returns the
+     * content with an {@link TotalAccuracy#UNKNOWN} total, whose next page is known from the
+     * extra row, instead of failing.</p>
+     *
+     * <p>When {@link #isConcurrentCount()} is {@code true}, the {@code COUNT} query runs on a
+     * virtual thread with its own entity manager while the content query runs, so the latency
+     * of the page is the slowest of both queries instead of their sum. The count is then
+     * cancelled, and not awaited, when the content alone determines the total. Nothing is
+     * started when the count mode is {@link CountMode#none()} or when the total is in the
+     * {@link #getCountCache() count cache}.</p>
+     *
+     * @param entityClass    the JPA entity type to query
+     * @param resultType     the desired result type
+     * @param specification  the filtering criteria
+     * @param distinct       whether to apply {@code SELECT DISTINCT} to both the content and
+     *                       count queries
+     * @param pageable       the paging and sorting information
+     * @param fieldNames     optional attribute names used to build the selection
+     * @param <T>            the entity type
+     * @param <R>            the result type
+     * @return a {@link Page} of matching results
+     * @throws IllegalArgumentException if {@code pageable.getOffset()} exceeds
+     *                                  {@link Integer#MAX_VALUE}, since JPA's
+     *                                  {@code setFirstResult(int)} cannot represent larger
+     *                                  offsets
+     */
+    public <T, R> Page<R> buildPage(final @Nonnull Class<T> entityClass,
+                                    final @Nonnull Class<R> resultType,
+                                    final @Nonnull Specification<T> specification,
+                                    final boolean distinct,
+                                    final @Nonnull Pageable pageable,
+                                    final String... fieldNames) {
+        return buildPage(entityClass, resultType, specification, distinct, pageable, CountMode.exact(), fieldNames);
+    }
+
+    /**
+     * Same as {@link #buildPage(Class, Class, Specification, boolean, Pageable, String...)},
+     * but computes the total with the given {@code countMode} when a {@code COUNT} query is
+     * needed, see {@link #countPage}.
+     *
+     * @param entityClass    the JPA entity type to query
+     * @param resultType     the desired result type
+     * @param specification  the filtering criteria
+     * @param distinct       whether to apply {@code SELECT DISTINCT} to both the content and
+     *                       count queries
+     * @param pageable       the paging and sorting information
+     * @param countMode      how the total is computed
+     * @param fieldNames     optional attribute names used to build the selection
+     * @param <T>            the entity type
+     * @param <R>            the result type
+     * @return a {@link CountedPage} of matching results
+     * @throws IllegalArgumentException if {@code pageable.getOffset()} exceeds
+     *                                  {@link Integer#MAX_VALUE}
+     */
+    <T, R> CountedPage<R> buildPage(final Class<T> entityClass,
+                                    final Class<R> resultType,
+                                    final Specification<T> specification,
+                                    final boolean distinct,
+                                    final Pageable pageable,
+                                    final CountMode countMode,
+                                    final String... fieldNames) {
+        ResultCacheKey cacheKey = getResultCacheKey(
+            entityClass, resultType, specification, distinct, pageable, countMode, fieldNames);
+
+        if (cacheKey == null) {
+            return queryPage(entityClass, resultType, specification, distinct, pageable, countMode, fieldNames);
+        }
+
+        ResultCache cache = resultCache;
+        ResultCache.Rows cachedRows = cache.get(cacheKey);
+        List<R> cached = restore(cachedRows);
+
+        if (cached != null) {
+            return new CountedPage<>(cached, pageable, cachedRows.getTotal(), cachedRows.getAccuracy());
+        }
+
+        long version = cache.getVersion();
+        CountedPage<R> page = queryPage(
+            entityClass, resultType, specification, distinct, pageable, countMode, fieldNames);
+
+        cache.put(cacheKey, getEntityManager(), page.getContent(),
+            getCachedEntityClass(entityClass, resultType, fieldNames), page.getTotalElements(),
+            page.getTotalAccuracy(), version);
+
+        return page;
+    }
+
+    /**
+     * Gets the key of a query in the {@link #getResultCache() result cache}.
+     *
+     * @param entityClass    the JPA entity type to query
+     * @param resultType     the desired result type
+     * @param specification  the filtering criteria, before compilation
+     * @param distinct       whether to apply {@code SELECT DISTINCT}
+     * @param pageable       the sort and page of the results
+     * @param countMode      how the total of a page is computed, {@code null} for a list
+     * @param fieldNames     optional attribute names used to build the selection
+     * @param <T>            the entity type
+     * @return the key of the query, or {@code null} if there is no cache, if the criteria are not
+     *         a {@link SpringQueryFilterSpecification}, or if the current transaction wrote
+     *         entities of {@code entityClass} or of a joined class
+     */
+    private <T> ResultCacheKey getResultCacheKey(final Class<T> entityClass,
+                                                 final Class<?> resultType,
+                                                 final Specification<T> specification,
+                                                 final boolean distinct,
+                                                 final Pageable pageable,
+                                                 final CountMode countMode,
+                                                 final String... fieldNames) {
+        if (resultCache == null || !(specification instanceof SpringQueryFilterSpecification<T> filterSpecification)) {
+            return null;
+        }
+
+        FilterPlanKey filterPlanKey = new FilterPlanKey(filterSpecification, filterTypeRegistry);
+        ResultCacheKey key = new ResultCacheKey(filterPlanKey, resultType, distinct, pageable, countMode, fieldNames);
+
+        if (TransactionWrites.isWritten(getEntityManager(), key.getEntityClasses())) {
+            return null;
+        }
+
+        return key;
+    }
+
+    /**
+     * Gets the rows of a cached result.
+     *
+     * @param rows the cached rows, possibly {@code null}
+     * @param <R>  the result type
+     * @return the rows, or {@code null} if nothing is cached or if a cached entity no longer exists
+     */
+    private <R> List<R> restore(final ResultCache.Rows rows) {
+        if (rows == null) {
+            return null;
+        }
+
+        return rows.restore(getEntityManager());
+    }
+
+    /**
+     * Gets the class of the results of a query if they are managed entities, cached as
+     * identifiers by the {@link #getResultCache() result cache}.
+     *
+     * @param entityClass    the JPA entity type to query
+     * @param resultType     the desired result type
+     * @param fieldNames     optional attribute names used to build the selection
+     * @return {@code entityClass} if the query selects its root entity, {@code null} for
+     *         projections
+     */
+    private static Class<?> getCachedEntityClass(final Class<?> entityClass,
+                                                 final Class<?> resultType,
+                                                 final String... fieldNames) {
+        if (resultType.equals(entityClass) && (fieldNames == null || fieldNames.length == 0)) {
+            return entityClass;
+        }
+
+        return null;
+    }
+
+    /**
+     * Executes the content query of a page and computes its total, see
+     * {@link #buildPage(Class, Class, Specification, boolean, Pageable, CountMode, String...)}.
+     *
+     * @param entityClass    the JPA entity type to query
+     * @param resultType     the desired result type
+     * @param specification  the filtering criteria
+     * @param distinct       whether to apply {@code SELECT DISTINCT} to both the content and
+     *                       count queries
+     * @param pageable       the paging and sorting information
+     * @param countMode      how the total is computed
+     * @param fieldNames     optional attribute names used to build the selection
+     * @param <T>            the entity type
+     * @param <R>            the result type
+     * @return a {@link CountedPage} of matching results
+     */
+    private <T, R> CountedPage<R> queryPage(final Class<T> entityClass,
+                                            final Class<R> resultType,
+                                            final Specification<T> specification,
+                                            final boolean distinct,
+                                            final Pageable pageable,
+                                            final CountMode countMode,
+                                            final String... fieldNames) {
+        Specification<T> compiledSpecification = compile(specification);
+        TypedQuery<R> typedQuery = buildTypedQuery(
+            entityClass, resultType, compiledSpecification, distinct, pageable.getSort(), fieldNames);
+
+        if (pageable.isUnpaged()) {
+            List<R> content = typedQuery.getResultList();
+            return new CountedPage<>(content, pageable, content.size(), TotalAccuracy.EXACT);
+        }
+
+        long offset = pageable.getOffset();
+        if (offset > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                "Pageable offset too large to be used with JPA setFirstResult(int): " + offset);
+        }
+
+        typedQuery.setFirstResult((int) offset);
+
+        String shape = getCountShape(entityClass, compiledSpecification, distinct, fieldNames);
+        CountMode effectiveCountMode = countMode;
+
+        if (shape != null && countMode.getType() == CountMode.Type.EXACT) {
+            effectiveCountMode = adaptiveCountPolicy.getCountMode(shape);
+        }
+
+        int fetchSize = PageRows.getFetchSize(
+            pageable, countTimeout != null || effectiveCountMode.getType() == CountMode.Type.NONE);
+        CountMode pageCountMode = effectiveCountMode;
+        CountCacheKey countCacheKey = getCountCacheKey(specification, distinct, fieldNames);
+        Supplier<PageTotal> count = withCountCache(countCacheKey, () -> countPage(
+            entityClass, compiledSpecification, distinct, pageable, pageCountMode, shape, fieldNames));
+
+        typedQuery.setMaxResults(fetchSize);
+
+        if (concurrentCount && effectiveCountMode.getType() != CountMode.Type.NONE) {
+            PageTotal cachedTotal = getCachedTotal(countCacheKey);
+
+            if (cachedTotal == null) {
+                return buildPageWithConcurrentCount(typedQuery, pageable, fetchSize, count);
+            }
+
+            count = () -> cachedTotal;
+        }
+
+        PageRows<R> rows = new PageRows<>(typedQuery.getResultList(), pageable, fetchSize);
+
+        if (rows.isTotalDetermined()) {
+            recordSkippedCountQuery();
+            return rows.toPage();
+        }
+
+        PageTotal total = count.get();
+
+        return rows.toPage(total.total, total.accuracy);
+    }
+
+    /**
+     * Gets the key of the total of a page in the {@link #getCountCache() count cache}.
+     *
+     * @param specification  the filtering criteria, before compilation
+     * @param distinct       whether to count distinct rows
+     * @param fieldNames     optional attribute names used to build the selection
+     * @param <T>            the entity type
+     * @return the key of the total, or {@code null} if there is no cache, if the criteria are not
+     *         a {@link SpringQueryFilterSpecification}, or if the current transaction wrote
+     *         entities of the counted class or of a joined class
+     */
+    private <T> CountCacheKey getCountCacheKey(final Specification<T> specification,
+                                               final boolean distinct,
+                                               final String... fieldNames) {
+        if (countCache == null || !(specification instanceof SpringQueryFilterSpecification<T> filterSpecification)) {
+            return null;
+        }
+
+        FilterPlanKey filterPlanKey = new FilterPlanKey(filterSpecification, filterTypeRegistry);
+        CountCacheKey key = new CountCacheKey(filterPlanKey, distinct, fieldNames);
+
+        if (TransactionWrites.isWritten(getEntityManager(), key.getEntityClasses())) {
+            return null;
+        }
+
+        return key;
+    }
+
+    /**
+     * Gets the total of a page from the {@link #getCountCache() count cache}.
+     *
+     * @param key the key of the total, or {@code null} if it is not cached
+     * @return the exact cached total, or {@code null} if it is not cached
      */
-    @PersistenceContext
-    private EntityManager entityManager;
+    private PageTotal getCachedTotal(final CountCacheKey key) {
+        CountCache cache = countCache;
 
-    @Override
-    public <T, R> List<R> find(final @Nonnull Class<T> entityClass,
-                               final @Nonnull Class<R> resultType,
-                               final @Nonnull Specification<T> specification) {
-        return find(entityClass, resultType, specification, Sort.unsorted());
-    }
+        if (key == null || cache == null) {
+            return null;
+        }
 
-    @Override
-    public <T, R> List<R> find(final @Nonnull Class<T> entityClass,
-                               final @Nonnull Class<R> resultType,
-                               final @Nonnull Specification<T> specification,
-                               final String... fieldNames) {
-        return find(entityClass, resultType, specification, Sort.unsorted(), fieldNames);
-    }
+        OptionalLong cached = cache.get(key);
 
-    @Override
-    public <T, R> List<R> findDistinct(final @Nonnull Class<T> entityClass,
-                                       final @Nonnull Class<R> resultType,
-                                       final @Nonnull Specification<T> specification) {
-        return findDistinct(entityClass, resultType, specification, Sort.unsorted());
-    }
+        if (cached.isEmpty()) {
+            return null;
+        }
 
-    @Override
-    public <T, R> List<R> findDistinct(final @Nonnull Class<T> entityClass,
-                                       final @Nonnull Class<R> resultType,
-                                       final @Nonnull Specification<T> specification,
-                                       final String... fieldNames) {
-        return findDistinct(entityClass, resultType, specification, Sort.unsorted(), fieldNames);
+        return new PageTotal(cached.getAsLong(), TotalAccuracy.EXACT);
     }
 
-    @Override
-    public <T, R> List<R> find(final @Nonnull Class<T> entityClass,
-                               final @Nonnull Class<R> resultType,
-                               final @Nonnull Specification<T> specification,
-                               final @Nonnull Sort sort) {
-        return buildTypedQuery(entityClass, resultType, specification, false, sort, getFieldNames(resultType))
-            .getResultList();
-    }
+    /**
+     * Looks up the total of a page in the {@link #getCountCache() count cache} before counting
+     * it, and caches the exact totals it counts.
+     *
+     * @param key    the key of the total, see {@link #getCountCacheKey}
+     * @param count  the count of the page, see {@link #countPage}
+     * @return the count of the page, unchanged if {@code key} is {@code null}
+     */
+    private Supplier<PageTotal> withCountCache(final CountCacheKey key, final Supplier<PageTotal> count) {
+        CountCache cache = countCache;
 
-    @Override
-    public <T, R> List<R> find(final @Nonnull Class<T> entityClass,
-                               final @Nonnull Class<R> resultType,
-                               final @Nonnull Specification<T> specification,
-                               final @Nonnull Sort sort,
-                               final String... fieldNames) {
-        return buildTypedQuery(entityClass, resultType, specification, false, sort, fieldNames)
-            .getResultList();
+        if (key == null || cache == null) {
+            return count;
+        }
+
+        return () -> {
+            PageTotal cached = getCachedTotal(key);
+
+            if (cached != null) {
+                return cached;
+            }
+
+            long version = cache.getVersion();
+            PageTotal total = count.get();
+
+            if (total.accuracy == TotalAccuracy.EXACT) {
+                cache.put(key, total.total, version);
+            }
+
+            return total;
+        };
     }
 
-    @Override
-    public <T, R> List<R> findDistinct(final @Nonnull Class<T> entityClass,
-                                       final @Nonnull Class<R> resultType,
-                                       final @Nonnull Specification<T> specification,
-                                       final @Nonnull Sort sort) {
-        return buildTypedQuery(entityClass, resultType, specification, true, sort, getFieldNames(resultType))
-            .getResultList();
+    /**
+     * Gets the shape of the {@code COUNT} query of a page for the
+     * {@link #getAdaptiveCountPolicy() adaptive count policy}.
+     *
+     * @param entityClass    the JPA entity type to query
+     * @param specification  the compiled filtering criteria
+     * @param distinct       whether to count distinct rows
+     * @param fieldNames     optional attribute names used to build the selection
+     * @param <T>            the entity type
+     * @return the shape of the count, or {@code null} if there is no policy or if the criteria
+     *         are not a {@link FilterPlan}
+     */
+    private <T> String getCountShape(final Class<T> entityClass,
+                                     final Specification<T> specification,
+                                     final boolean distinct,
+                                     final String... fieldNames) {
+        if (adaptiveCountPolicy == null || !(specification instanceof FilterPlan<T> plan)) {
+            return null;
+        }
+
+        return AdaptiveCountPolicy.getShape(entityClass, plan, distinct, fieldNames);
     }
 
-    @Override
-    public <T, R> List<R> findDistinct(final @Nonnull Class<T> entityClass,
-                                       final @Nonnull Class<R> resultType,
-                                       final @Nonnull Specification<T> specification,
-                                       final @Nonnull Sort sort,
-                                       final String... fieldNames) {
-        return buildTypedQuery(entityClass, resultType, specification, true, sort, fieldNames)
-            .getResultList();
+    /**
+     * Computes the total of a page with the given {@code countMode}.
+     *
+     * <ul>
+     *     <li>{@link CountMode.Type#EXACT} counts with {@link #countResults}.</li>
+     *     <li>{@link CountMode.Type#BOUNDED} counts at most one more row than the limit of the
+     *     mode, or than the end of the page if it is further. Beyond the limit, the total is
+     *     {@link TotalAccuracy#AT_LEAST} the limit plus one.</li>
+     *     <li>{@link CountMode.Type#ESTIMATED} asks the {@link #getCountEstimator() estimator},
+     *     and counts with {@link #countResults} when it cannot estimate the query.</li>
+     *     <li>{@link CountMode.Type#NONE} does not count, the total is
+     *     {@link TotalAccuracy#UNKNOWN}.</li>
+     * </ul>
+     *
+     * <p>When a {@code COUNT} query exceeds the {@link #getCountTimeout() time budget}, the
+     * total is {@link TotalAccuracy#UNKNOWN} and the timeout is recorded for
+     * {@link #getCountTimeoutCount(Class)}. Exact counts and timeouts of a {@code shape} are
+     * recorded by the {@link #getAdaptiveCountPolicy() adaptive count policy}.</p>
+     *
+     * @param entityClass    the JPA entity type to query
+     * @param specification  the compiled filtering criteria
+     * @param distinct       whether to count distinct rows
+     * @param pageable       the paging information
+     * @param countMode      how the total is computed
+     * @param shape          the shape of the count, or {@code null} to record nothing
+     * @param fieldNames     optional attribute names used to build the selection
+     * @param <T>            the entity type
+     * @return the total of the page and its accuracy
+     */
+    private <T> PageTotal countPage(final Class<T> entityClass,
+                                    final Specification<T> specification,
+                                    final boolean distinct,
+                                    final Pageable pageable,
+                                    final CountMode countMode,
+                                    final String shape,
+                                    final String... fieldNames) {
+        try {
+            return countPageWithMode(entityClass, specification, distinct, pageable, countMode, shape, fieldNames);
+        } catch (QueryTimeoutException exception) {
+            countTimeouts.computeIfAbsent(entityClass, type -> new LongAdder()).increment();
+            if (shape != null) {
+                adaptiveCountPolicy.record(shape, countTimeout, 0);
+            }
+            return new PageTotal(0, TotalAccuracy.UNKNOWN);
+        }
     }
 
-    @Override
-    public <T, R> Page<R> findPage(final @Nonnull Class<T> entityClass,
-                                   final @Nonnull Class<R> resultType,
-                                   final @Nonnull Specification<T> specification,
-                                   final @Nonnull Pageable pageable) {
-        return buildPage(entityClass, resultType, specification, false, pageable, getFieldNames(resultType));
+    /**
+     * Computes the total of a page with the given {@code countMode}, see {@link #countPage}.
+     *
+     * @param entityClass    the JPA entity type to query
+     * @param specification  the compiled filtering criteria
+     * @param distinct       whether to count distinct rows
+     * @param pageable       the paging information
+     * @param countMode      how the total is computed
+     * @param shape          the shape of the count, or {@code null} to record nothing
+     * @param fieldNames     optional attribute names used to build the selection
+     * @param <T>            the entity type
+     * @return the total of the page and its accuracy
+     * @throws QueryTimeoutException if a {@code COUNT} query exceeds its time budget
+     */
+    private <T> PageTotal countPageWithMode(final Class<T> entityClass,
+                                            final Specification<T> specification,
+                                            final boolean distinct,
+                                            final Pageable pageable,
+                                            final CountMode countMode,
+                                            final String shape,
+                                            final String... fieldNames) {
+        switch (countMode.getType()) {
+            case BOUNDED -> {
+                long limit = Math.max(countMode.getLimit(), pageable.getOffset() + pageable.getPageSize());
+                long total = countQueries.countBounded(entityClass, specification, distinct, limit, fieldNames);
+
+                if (total > limit) {
+                    return new PageTotal(total, TotalAccuracy.AT_LEAST);
+                }
+
+                return new PageTotal(total, TotalAccuracy.EXACT);
+            }
+            case ESTIMATED -> {
+                OptionalLong estimate = countEstimator.estimate(
+                    getEntityManager(), entityClass, specification, distinct, fieldNames);
+
+                if (estimate.isPresent()) {
+                    return new PageTotal(estimate.getAsLong(), TotalAccuracy.ESTIMATED);
+                }
+
+                return new PageTotal(countResults(entityClass, specification, distinct, fieldNames),
+                    TotalAccuracy.EXACT);
+            }
+            case NONE -> {
+                return new PageTotal(0, TotalAccuracy.UNKNOWN);
+            }
+            default -> {
+                long start = System.nanoTime();
+                long total = countResults(entityClass, specification, distinct, fieldNames);
+
+                if (shape != null) {
+                    adaptiveCountPolicy.record(shape, Duration.ofNanos(System.nanoTime() - start), total);
+                }
+
+                return new PageTotal(total, TotalAccuracy.EXACT);
+            }
+        }
     }
 
-    @Override
-    public <T, R> Page<R> findPage(final @Nonnull Class<T> entityClass,
-                                   final @Nonnull Class<R> resultType,
-                                   final @Nonnull Specification<T> specification,
-                                   final @Nonnull Pageable pageable,
-                                   final String... fieldNames) {
-        return buildPage(entityClass, resultType, specification, false, pageable, fieldNames);
+    /**
+     * Executes the content query of a page while its {@code COUNT} query runs on a virtual
+     * thread.
+     *
+     * <p>The count uses a new entity manager of the same factory, bound to its thread by
+     * {@link #getEntityManager()}, so both queries run on separate connections. If the content
+     * query fails, or if its rows determine the total, the count is {@link ConcurrentCount#cancel()
+     * cancelled} and abandoned: the page does not wait for it. If the count fails, its failure is
+     * rethrown.</p>
+     *
+     * @param typedQuery     the content query, with its offset and limit
+     * @param pageable       the paging and sorting information
+     * @param fetchSize      the maximum number of rows of the content query
+     * @param count          the count of the page, see {@link #countPage}
+     * @param <R>            the result type
+     * @return a {@link CountedPage} of matching results
+     */
+    private <R> CountedPage<R> buildPageWithConcurrentCount(final TypedQuery<R> typedQuery,
+                                                            final Pageable pageable,
+                                                            final int fetchSize,
+                                                            final Supplier<PageTotal> count) {
+        EntityManagerFactory factory = getEntityManager().getEntityManagerFactory();
+        ConcurrentCount<PageTotal> total = ConcurrentCount.start(factory, countEntityManager, count);
+        PageRows<R> rows;
+
+        try {
+            rows = new PageRows<>(typedQuery.getResultList(), pageable, fetchSize);
+        } catch (RuntimeException exception) {
+            total.cancel();
+            throw exception;
+        }
+
+        if (rows.isTotalDetermined()) {
+            total.cancel();
+            recordSkippedCountQuery();
+            return rows.toPage();
+        }
+
+        PageTotal pageTotal = total.await();
+
+        return rows.toPage(pageTotal.total, pageTotal.accuracy);
     }
 
-    @Override
-    public <T, R> Page<R> findDistinctPage(final @Nonnull Class<T> entityClass,
-                                           final @Nonnull Class<R> resultType,
-                                           final @Nonnull Specification<T> specification,
-                                           final @Nonnull Pageable pageable) {
-        return buildPage(entityClass, resultType, specification, true, pageable, getFieldNames(resultType));
+    /**
+     * Gets the entity manager of the current thread: the one bound while counting a page
+     * concurrently, or else the injected one.
+     *
+     * @return the entity manager to query
+     */
+    EntityManager getEntityManager() {
+        EntityManager manager = countEntityManager.get();
+
+        if (manager != null) {
+            return manager;
+        }
+
+        return entityManager;
     }
 
-    @Override
-    public <T, R> Page<R> findDistinctPage(final @Nonnull Class<T> entityClass,
-                                           final @Nonnull Class<R> resultType,
-                                           final @Nonnull Specification<T> specification,
-                                           final @Nonnull Pageable pageable,
-                                           final String... fieldNames) {
-        return buildPage(entityClass, resultType, specification, true, pageable, fieldNames);
+    /**
+     * Records a {@code COUNT} query skipped because the content of its page determined the
+     * total, see {@link #getSkippedCountQueries()}.
+     */
+    void recordSkippedCountQuery() {
+        skippedCountQueries.incrementAndGet();
     }
 
     /**
-     * Builds a {@link TypedQuery} from the given entity type, result type, specification,
-     * distinct flag, sort, and projected field names.
+     * Builds a {@link Stream} of results by executing the query built by {@link #buildTypedQuery}
+     * with {@link TypedQuery#getResultStream()}.
+     *
+     * <p>Rows are fetched {@link #getStreamFetchSize()} at a time from a forward-only cursor.
+     * Streamed entities are managed like the entities of {@link #find}. When
+     * {@link #isDetachStreamedEntities()} is {@code true} and the entity itself is selected,
+     * entities are loaded read-only, without a snapshot for dirty checking, and each one is
+     * detached as it is consumed, so the persistence context does not grow with the stream.</p>
      *
      * @param entityClass    the JPA entity type to query
      * @param resultType     the desired result type
-     * @param specification  the filtering criteria; its {@code toPredicate} result may be
-     *                       {@code null}, in which case no {@code WHERE} clause is applied
+     * @param specification  the filtering criteria
      * @param distinct       whether to apply {@code SELECT DISTINCT}
-     * @param sort           the sort order to apply; ignored if {@link Sort#isSorted()} is
-     *                       {@code false}
-     * @param fieldNames     optional attribute names used to build the selection; see
-     *                       {@link #buildSelection} for the projection rules
+     * @param sort           the sort order to apply
+     * @param fieldNames     optional attribute names used to build the selection
      * @param <T>            the entity type
      * @param <R>            the result type
-     * @return a {@link TypedQuery} ready to be executed or further configured (e.g. paging)
+     * @return a stream of matching results, to be closed after use
      */
-    public <T, R> TypedQuery<R> buildTypedQuery(final @Nonnull Class<T> entityClass,
-                                                final @Nonnull Class<R> resultType,
-                                                final @Nonnull Specification<T> specification,
-                                                final boolean distinct,
-                                                final @Nonnull Sort sort,
-                                                final String... fieldNames) {
-        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-        CriteriaQuery<R> query = cb.createQuery(resultType);
-        Root<T> root = query.from(entityClass);
-        Selection<? extends R> selection = buildSelection(cb, root, resultType, fieldNames);
-        Predicate predicate = specification.toPredicate(root, query, cb);
-
-        query.select(selection);
+    private <T, R> Stream<R> buildStream(final Class<T> entityClass,
+                                         final Class<R> resultType,
+                                         final Specification<T> specification,
+                                         final boolean distinct,
+                                         final Sort sort,
+                                         final String... fieldNames) {
+        TypedQuery<R> typedQuery = buildTypedQuery(entityClass, resultType, specification, distinct, sort, fieldNames);
 
-        if (predicate != null) {
-            query.where(predicate);
-        }
+        typedQuery.setHint(FETCH_SIZE_HINT, streamFetchSize);
 
-        if (distinct) {
-            query.distinct(true);
+        if (!detachStreamedEntities || (fieldNames != null && fieldNames.length > 0)) {
+            return typedQuery.getResultStream();
         }
 
-        if (sort.isSorted()) {
-            query.orderBy(buildOrders(cb, root, sort));
-        }
+        typedQuery.setHint(READ_ONLY_HINT, true);
 
-        return entityManager.createQuery(query);
+        return typedQuery.getResultStream().map(entity -> {
+            getEntityManager().detach(entity);
+            return entity;
+        });
     }
 
     /**
-     * Builds a {@link Page} of results by executing the query built by {@link #buildTypedQuery}
-     * with the offset/limit derived from {@code pageable}.
+     * Builds a {@link Slice} of results by executing the query built by {@link #buildTypedQuery}
+     * with the offset derived from {@code pageable}, without any {@code COUNT} query.
      *
-     * <p>When {@code pageable} is unpaged, no separate {@code COUNT} query is issued: the total
-     * is directly derived from the size of the returned content. Otherwise, a {@code COUNT}
-     * query is executed via {@link #countResults} to compute the total number of matching
-     * rows across all pages, using a strategy consistent with {@code distinct} and
-     * {@code fieldNames} — see {@link #countResults} for details on why a plain
-     * {@code COUNT(DISTINCT root)} would be incorrect for distinct field projections.</p>
+     * <p>One more row than the page size is fetched: its presence tells whether a next slice
+     * exists, and it is not part of the returned content. When {@code pageable} is unpaged, all
+     * matching rows are returned and there is no next slice.</p>
      *
      * @param entityClass    the JPA entity type to query
      * @param resultType     the desired result type
      * @param specification  the filtering criteria
-     * @param distinct       whether to apply {@code SELECT DISTINCT} to both the content and
-     *                       count queries
+     * @param distinct       whether to apply {@code SELECT DISTINCT}
      * @param pageable       the paging and sorting information
      * @param fieldNames     optional attribute names used to build the selection
      * @param <T>            the entity type
      * @param <R>            the result type
-     * @return a {@link Page} of matching results
+     * @return a {@link Slice} of matching results
      * @throws IllegalArgumentException if {@code pageable.getOffset()} exceeds
-     *                                  {@link Integer#MAX_VALUE}, since JPA's
-     *                                  {@code setFirstResult(int)} cannot represent larger
-     *                                  offsets
+     *                                  {@link Integer#MAX_VALUE}
      */
-    public <T, R> Page<R> buildPage(final @Nonnull Class<T> entityClass,
-                                    final @Nonnull Class<R> resultType,
-                                    final @Nonnull Specification<T> specification,
-                                    final boolean distinct,
-                                    final @Nonnull Pageable pageable,
-                                    final String... fieldNames) {
+    private <T, R> Slice<R> buildSlice(final Class<T> entityClass,
+                                       final Class<R> resultType,
+                                       final Specification<T> specification,
+                                       final boolean distinct,
+                                       final Pageable pageable,
+                                       final String... fieldNames) {
         TypedQuery<R> typedQuery = buildTypedQuery(
             entityClass, resultType, specification, distinct, pageable.getSort(), fieldNames);
 
         if (pageable.isUnpaged()) {
-            List<R> content = typedQuery.getResultList();
-            return new PageImpl<>(content, pageable, content.size());
+            return new SliceImpl<>(typedQuery.getResultList(), pageable, false);
         }
 
         long offset = pageable.getOffset();
@@ -236,12 +1654,42 @@ public class SpringQueryExecutorImpl implements SpringQueryExecutor {
         }
 
         typedQuery.setFirstResult((int) offset);
-        typedQuery.setMaxResults(pageable.getPageSize());
+        typedQuery.setMaxResults(pageable.getPageSize() + 1);
 
         List<R> content = typedQuery.getResultList();
-        long total = countResults(entityClass, specification, distinct, fieldNames);
+        boolean hasNext = content.size() > pageable.getPageSize();
+
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    /**
+     * Compiles {@code specification} when it is a {@link SpringQueryFilterSpecification}, so that
+     * its filters are parsed once even if it is used by several queries.
+     *
+     * <p>When a {@link FilterTypeRegistry} is set, the specification is compiled with it unless
+     * the specification has its own; the specification itself is left unchanged. When a
+     * {@link FilterPlanCache} is set, plans are looked up in it first, so repeated filter
+     * combinations are not parsed again. Any other specification is returned unchanged.</p>
+     *
+     * @param specification  the specification to compile
+     * @param <T>            the entity type
+     * @return the compiled {@link io.github.zorin95670.specification.FilterPlan}, or
+     *         {@code specification} itself if it cannot be compiled
+     */
+    <T> Specification<T> compile(final Specification<T> specification) {
+        if (specification instanceof SpringQueryFilterSpecification<T> filterSpecification) {
+            if (filterPlanCache != null) {
+                return filterPlanCache.get(filterSpecification, filterTypeRegistry);
+            }
+
+            return filterSpecification.compile(filterTypeRegistry);
+        }
 
-        return new PageImpl<>(content, pageable, total);
+        return specification;
     }
 
     /**
@@ -261,9 +1709,9 @@ public class SpringQueryExecutorImpl implements SpringQueryExecutor {
      *     distinct values of that single projected attribute.</li>
      *     <li>{@code distinct == true} and two or more field names —
      *     {@link #countDistinctMultipleFields}: number of distinct combinations of the
-     *     projected attributes, computed by fetching all distinct tuples and counting them in
-     *     memory, since standard JPA/JPQL has no portable way to express
-     *     {@code COUNT(DISTINCT (a, b, ...))} at the database level.</li>
+     *     projected attributes, computed by the database on a single key built from all of
+     *     them, since standard JPA/JPQL has no portable way to express
+     *     {@code COUNT(DISTINCT (a, b, ...))}.</li>
      * </ul>
      *
      * @param entityClass    the JPA entity type to query
@@ -281,19 +1729,7 @@ public class SpringQueryExecutorImpl implements SpringQueryExecutor {
                                  final @Nonnull Specification<T> specification,
                                  final boolean distinct,
                                  final String... fieldNames) {
-        if (!distinct) {
-            return countAll(entityClass, specification);
-        }
-
-        if (fieldNames == null || fieldNames.length == 0) {
-            return countDistinctEntities(entityClass, specification);
-        }
-
-        if (fieldNames.length == 1) {
-            return countDistinctSingleField(entityClass, specification, fieldNames[0]);
-        }
-
-        return countDistinctMultipleFields(entityClass, specification, fieldNames);
+        return countQueries.countResults(entityClass, specification, distinct, fieldNames);
     }
 
     /**
@@ -306,18 +1742,7 @@ public class SpringQueryExecutorImpl implements SpringQueryExecutor {
      */
     public <T> long countAll(final @Nonnull Class<T> entityClass,
                              final @Nonnull Specification<T> specification) {
-        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
-        Root<T> root = countQuery.from(entityClass);
-        Predicate predicate = specification.toPredicate(root, countQuery, cb);
-
-        countQuery.select(cb.count(root));
-
-        if (predicate != null) {
-            countQuery.where(predicate);
-        }
-
-        return entityManager.createQuery(countQuery).getSingleResult();
+        return countQueries.countAll(entityClass, specification);
     }
 
     /**
@@ -331,18 +1756,7 @@ public class SpringQueryExecutorImpl implements SpringQueryExecutor {
      */
     public <T> long countDistinctEntities(final @Nonnull Class<T> entityClass,
                                           final @Nonnull Specification<T> specification) {
-        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
-        Root<T> root = countQuery.from(entityClass);
-        Predicate predicate = specification.toPredicate(root, countQuery, cb);
-
-        countQuery.select(cb.countDistinct(root));
-
-        if (predicate != null) {
-            countQuery.where(predicate);
-        }
-
-        return entityManager.createQuery(countQuery).getSingleResult();
+        return countQueries.countDistinctEntities(entityClass, specification);
     }
 
     /**
@@ -358,30 +1772,22 @@ public class SpringQueryExecutorImpl implements SpringQueryExecutor {
     public <T> long countDistinctSingleField(final @Nonnull Class<T> entityClass,
                                              final @Nonnull Specification<T> specification,
                                              final String fieldName) {
-        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
-        Root<T> root = countQuery.from(entityClass);
-        Predicate predicate = specification.toPredicate(root, countQuery, cb);
-
-        countQuery.select(cb.countDistinct(root.get(fieldName)));
-
-        if (predicate != null) {
-            countQuery.where(predicate);
-        }
-
-        return entityManager.createQuery(countQuery).getSingleResult();
+        return countQueries.countDistinctSingleField(entityClass, specification, fieldName);
     }
 
     /**
      * Counts the number of distinct combinations of two or more projected attributes matching
      * {@code specification}.
      *
-     * <p>Standard JPA/JPQL has no portable way to express {@code COUNT(DISTINCT (a, b, ...))}
-     * at the database level. This method instead selects the distinct tuple of
-     * {@code fieldNames} (without pagination) and counts the resulting rows in memory. This is
-     * correct but, unlike the single-field and no-projection cases, does not push the counting
-     * work down to the database — for very large result sets this may be noticeably more
-     * expensive than the other counting strategies.</p>
+     * <p>Standard JPA/JPQL has no portable way to express {@code COUNT(DISTINCT (a, b, ...))}.
+     * This method instead counts the distinct values of a single string key built by the
+     * database from every attribute, each prefixed with its length, so that only the count is
+     * returned whatever the number of combinations.</p>
+     *
+     * <p>Only integral, boolean and {@code UUID} attributes have an exact string form. If an
+     * attribute has another type, such as a floating-point number, a timestamp, a string, an
+     * association or an embeddable, the distinct tuples are fetched and counted in memory
+     * instead.</p>
      *
      * @param entityClass    the JPA entity type to query
      * @param specification  the filtering criteria
@@ -392,30 +1798,15 @@ public class SpringQueryExecutorImpl implements SpringQueryExecutor {
     public <T> long countDistinctMultipleFields(final @Nonnull Class<T> entityClass,
                                                 final @Nonnull Specification<T> specification,
                                                 final String... fieldNames) {
-        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-        CriteriaQuery<Tuple> query = cb.createTupleQuery();
-        Root<T> root = query.from(entityClass);
-        Predicate predicate = specification.toPredicate(root, query, cb);
-
-        Selection<?>[] selections = Arrays.stream(fieldNames)
-            .map(root::get)
-            .toArray(Selection[]::new);
-
-        query.select(cb.tuple(selections)).distinct(true);
-
-        if (predicate != null) {
-            query.where(predicate);
-        }
-
-        return entityManager.createQuery(query).getResultList().size();
+        return countQueries.countDistinctMultipleFields(entityClass, specification, fieldNames);
     }
 
     /**
      * Translates a {@link Sort} into a list of JPA Criteria {@link Order} instances.
      *
-     * <p>Only direct attributes of {@code root} are supported; nested (dotted) paths such as
-     * {@code "address.city"} are not resolved and will cause an {@link IllegalArgumentException}
-     * to be thrown by the underlying JPA provider.</p>
+     * <p>Properties may be dotted paths such as {@code "address.city"}: their associations are
+     * joined with {@link AttributePaths}, reusing the joins already made by the predicates and
+     * the selection of the query.</p>
      *
      * @param cb    the criteria builder
      * @param root  the query root
@@ -429,7 +1820,7 @@ public class SpringQueryExecutorImpl implements SpringQueryExecutor {
                                        final @Nonnull Sort sort) {
         return sort.stream()
             .map(order -> {
-                Path<?> path = root.get(order.getProperty());
+                Path<?> path = AttributePaths.getSingleValued(root, order.getProperty());
 
                 if (order.isAscending()) {
                     return cb.asc(path);
@@ -453,11 +1844,17 @@ public class SpringQueryExecutorImpl implements SpringQueryExecutor {
      *     public constructor.</li>
      * </ul>
      *
+     * <p>With Hibernate, {@link #buildTypedQuery} selects several
+     * fields as an array instead, and build the rows with the cached row factory of
+     * {@code resultType}, see {@link ProjectionDescriptor}: the constructor is then resolved
+     * once, record components are bound by name, and each row is a direct method handle
+     * call.</p>
+     *
      * @param cb          the criteria builder
      * @param root        the query root
      * @param resultType  the desired result type
-     * @param fieldNames  the attribute names to project, or none/{@code null} to select the
-     *                    entity itself
+     * @param fieldNames  the attribute names or dotted paths to project, see
+     *                    {@link AttributePaths}, or none/{@code null} to select the entity itself
      * @param <T>         the entity type
      * @param <R>         the result type
      * @return the {@link Selection} to use in the query
@@ -472,49 +1869,69 @@ public class SpringQueryExecutorImpl implements SpringQueryExecutor {
         }
 
         if (fieldNames.length == 1) {
-            return root.get(fieldNames[0]);
+            return AttributePaths.getSingleValued(root, fieldNames[0]);
         }
 
         return cb.construct(
             resultType,
             Arrays.stream(fieldNames)
-                .map(root::get)
+                .map(fieldName -> AttributePaths.getSingleValued(root, fieldName))
                 .toArray(Selection[]::new)
         );
     }
 
     /**
-     * Retrieves the names of all fields declared by {@code resultType}, including private
-     * fields, walking up the class hierarchy to collect fields declared by parent classes as
-     * well.
+     * Retrieves the names of the fields projected by default on {@code resultType}: the
+     * components of a record, in declaration order, or else the instance fields, including
+     * private fields, walking up the class hierarchy to collect fields declared by parent
+     * classes as well.
      *
      * <p>The traversal stops once {@link Object} is reached, so fields declared by
      * {@code Object} itself are never included. Fields are returned in declaration order,
      * starting with those declared by {@code resultType} and followed by those declared by
-     * each successive superclass.</p>
+     * each successive superclass. Static and synthetic fields are skipped.</p>
      *
      * <p>If a field is shadowed (i.e. redeclared with the same name in a subclass), its name
      * will appear more than once in the returned array, once for each class that declares
      * it.</p>
      *
+     * <p>The names are reflected once per class, and cached by {@link ProjectionDescriptor}
+     * until the class is unloaded.</p>
+     *
      * @param resultType the class whose field names should be retrieved, must not be
      *                    {@code null}
      * @param <R>         the type of the class being inspected
-     * @return an array of field names, never {@code null}; empty if {@code resultType}
+     * @return a new array of field names, never {@code null}; empty if {@code resultType}
      *         declares no fields and has no parent class other than {@link Object}
      */
     public <R> String[] getFieldNames(final @Nonnull Class<R> resultType) {
-        List<String> fieldNames = new ArrayList<>();
-        Class<?> currentClass = resultType;
+        return ProjectionDescriptor.of(resultType).getFieldNames();
+    }
+
+    /**
+     * The total of a page, with its accuracy.
+     */
+    private static final class PageTotal {
 
-        while (currentClass != null && currentClass != Object.class) {
-            Arrays.stream(currentClass.getDeclaredFields())
-                .map(Field::getName)
-                .forEach(fieldNames::add);
+        /**
+         * The total number of rows.
+         */
+        private final long total;
 
-            currentClass = currentClass.getSuperclass();
-        }
+        /**
+         * The accuracy of the total.
+         */
+        private final TotalAccuracy accuracy;
 
-        return fieldNames.toArray(new String[0]);
+        /**
+         * Constructs the total of a page.
+         *
+         * @param total the total number of rows
+         * @param accuracy the accuracy of the total
+         */
+        private PageTotal(final long total, final TotalAccuracy accuracy) {
+            this.total = total;
+            this.accuracy = accuracy;
+        }
     }
 }
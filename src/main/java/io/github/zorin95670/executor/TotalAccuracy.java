@@ -0,0 +1,28 @@
+package io.github.zorin95670.executor;
+
+/**
+ * Accuracy of the total number of rows of a {@link CountedPage}.
+ */
+public enum TotalAccuracy {
+
+    /**
+     * The total is the exact number of matching rows.
+     */
+    EXACT,
+
+    /**
+     * The total is a lower bound: there are at least that many matching rows.
+     */
+    AT_LEAST,
+
+    /**
+     * The total is an estimation, which may be lower or higher than the number of matching rows.
+     */
+    ESTIMATED,
+
+    /**
+     * The total is unknown, because counting exceeded its time budget or was skipped with {@link CountMode#none()}.
+     * The page reports the rows known so far, plus one if there is a next page.
+     */
+    UNKNOWN
+}
@@ -0,0 +1,115 @@
+package io.github.zorin95670.executor;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * The entity classes written by the current Spring transaction, so that it always sees its own writes instead of
+ * the values of an {@link EntityCache}.
+ * <p>
+ * Flushed writes are recorded by {@link Listener}, and bound to the transaction until it completes. Pending writes,
+ * not flushed yet, are found by the dirty check of the current Hibernate session.
+ * </p>
+ */
+final class TransactionWrites {
+
+    /**
+     * The key of the written entity classes among the resources of the transaction.
+     */
+    private static final Object RESOURCE_KEY = new Object();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private TransactionWrites() {
+    }
+
+    /**
+     * Indicates whether the current transaction may have written entities of some classes, or of their sub classes.
+     *
+     * @param entityManager the entity manager of the current transaction
+     * @param entityClasses the queried and joined entity classes
+     * @return {@code true} if cached values of {@code entityClasses} must not be used nor stored
+     */
+    @SuppressWarnings("unchecked")
+    static boolean isWritten(final EntityManager entityManager, final Set<Class<?>> entityClasses) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+            || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return false;
+        }
+
+        Set<Class<?>> written = (Set<Class<?>>) TransactionSynchronizationManager.getResource(RESOURCE_KEY);
+
+        if (written != null && written.stream()
+            .anyMatch(writtenClass -> entityClasses.stream().anyMatch(type -> type.isAssignableFrom(writtenClass)))) {
+            return true;
+        }
+
+        return entityManager.unwrap(Session.class).isDirty();
+    }
+
+    /**
+     * Records a flushed write of the current transaction.
+     *
+     * @param entityClass the written entity class
+     */
+    @SuppressWarnings("unchecked")
+    static void record(final Class<?> entityClass) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        Set<Class<?>> written = (Set<Class<?>>) TransactionSynchronizationManager.getResource(RESOURCE_KEY);
+
+        if (written == null) {
+            written = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(RESOURCE_KEY, written);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(RESOURCE_KEY);
+                }
+            });
+        }
+
+        written.add(entityClass);
+    }
+
+    /**
+     * Hibernate listener recording the flushed writes of the current transaction.
+     */
+    static final class Listener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+        @Override
+        public void onPostInsert(final PostInsertEvent event) {
+            record(event.getPersister().getMappedClass());
+        }
+
+        @Override
+        public void onPostUpdate(final PostUpdateEvent event) {
+            record(event.getPersister().getMappedClass());
+        }
+
+        @Override
+        public void onPostDelete(final PostDeleteEvent event) {
+            record(event.getPersister().getMappedClass());
+        }
+
+        @Override
+        public boolean requiresPostCommitHandling(final EntityPersister persister) {
+            return false;
+        }
+    }
+}
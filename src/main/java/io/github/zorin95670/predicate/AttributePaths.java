@@ -0,0 +1,207 @@
+package io.github.zorin95670.predicate;
+
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.Type;
+
+/**
+ * Resolves attribute paths, such as {@code customer.country}, against the roots of criteria queries.
+ * <p>
+ * Every segment of a path but the last one is an association or an embeddable, joined once per query: a join is
+ * reused by every predicate, order and selection built on the same parent with the same attribute, since it is looked
+ * up in the joins of the parent before creating a new one. To-one associations are left-joined, so that rows without
+ * them are kept, and to-many associations are inner-joined. Sorts and projections resolve their paths with
+ * {@link #getSingleValued(Root, String)}, which rejects to-many associations. A path without separator is a direct
+ * attribute of the root, resolved with {@link Path#get(String)} as before.
+ * </p>
+ */
+public final class AttributePaths {
+
+    /**
+     * The separator of the segments of a path.
+     */
+    public static final char SEPARATOR = '.';
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private AttributePaths() {
+    }
+
+    /**
+     * Indicates whether a path goes through an association or an embeddable.
+     *
+     * @param path the attribute path
+     * @return {@code true} if the path has several segments
+     */
+    public static boolean isNested(final String path) {
+        return path != null && path.indexOf(SEPARATOR) >= 0;
+    }
+
+    /**
+     * Gets the path of an attribute from a root, joining its intermediate segments once.
+     *
+     * @param from the root of the query, or a join
+     * @param path the attribute path
+     * @param <Y> the type of the attribute
+     * @return the path of the attribute
+     * @throws IllegalArgumentException if a segment of the path is not an attribute
+     */
+    public static <Y> Path<Y> get(final From<?, ?> from, final String path) {
+        From<?, ?> parent = from;
+        int start = 0;
+        int end = path.indexOf(SEPARATOR);
+
+        while (end >= 0) {
+            parent = join(parent, path.substring(start, end));
+            start = end + 1;
+            end = path.indexOf(SEPARATOR, start);
+        }
+
+        return parent.get(path.substring(start));
+    }
+
+    /**
+     * Gets the path of an attribute from a root, as {@link #get(From, String)} does, for sorts and projections: a path
+     * through a to-many association is rejected, since its inner join would return the root once per element.
+     *
+     * @param root the root of the query
+     * @param path the attribute path
+     * @param <Y> the type of the attribute
+     * @return the path of the attribute
+     * @throws IllegalArgumentException if a segment of the path is not an attribute, or is a collection
+     */
+    public static <Y> Path<Y> getSingleValued(final Root<?> root, final String path) {
+        if (isToMany(root, path)) {
+            throw new IllegalArgumentException("Path '" + path
+                + "' goes through a to-many association and cannot be sorted on or projected.");
+        }
+
+        return get(root, path);
+    }
+
+    /**
+     * Indicates whether a path goes through a to-many association or an element collection, whose rows would
+     * multiply the rows of the root if they were joined.
+     *
+     * @param root the root of the query
+     * @param path the attribute path
+     * @return {@code true} if an intermediate segment of the path is a collection
+     * @throws IllegalArgumentException if a segment of the path is not an attribute
+     */
+    public static boolean isToMany(final Root<?> root, final String path) {
+        if (!isNested(path)) {
+            return false;
+        }
+
+        ManagedType<?> type = root.getModel();
+        int start = 0;
+        int end = path.indexOf(SEPARATOR);
+
+        while (end >= 0) {
+            Attribute<?, ?> attribute = type.getAttribute(path.substring(start, end));
+
+            if (attribute.isCollection()) {
+                return true;
+            }
+
+            type = getManagedType(attribute);
+            start = end + 1;
+            end = path.indexOf(SEPARATOR, start);
+        }
+
+        return false;
+    }
+
+    /**
+     * Gets the attribute at the end of a path.
+     *
+     * @param type the type of the root of the path
+     * @param path the attribute path
+     * @return the last attribute of the path
+     * @throws IllegalArgumentException if a segment of the path is not an attribute
+     */
+    public static Attribute<?, ?> getAttribute(final ManagedType<?> type, final String path) {
+        ManagedType<?> parent = type;
+        int start = 0;
+        int end = path.indexOf(SEPARATOR);
+
+        while (end >= 0) {
+            parent = getManagedType(parent.getAttribute(path.substring(start, end)));
+            start = end + 1;
+            end = path.indexOf(SEPARATOR, start);
+        }
+
+        return parent.getAttribute(path.substring(start));
+    }
+
+    /**
+     * Gets the join of an attribute from a parent, creating it unless the parent already has it.
+     *
+     * @param parent the root of the query, or a join
+     * @param name the name of the joined attribute
+     * @return the join
+     */
+    private static From<?, ?> join(final From<?, ?> parent, final String name) {
+        for (Join<?, ?> join : parent.getJoins()) {
+            if (join.getAttribute().getName().equals(name)) {
+                return join;
+            }
+        }
+
+        if (isCollection(parent, name)) {
+            return parent.join(name, JoinType.INNER);
+        }
+
+        return parent.join(name, JoinType.LEFT);
+    }
+
+    /**
+     * Indicates whether an attribute of a root or a join is a collection.
+     *
+     * @param parent the root of the query, or a join
+     * @param name the name of the attribute
+     * @return {@code true} for a to-many association or an element collection
+     */
+    private static boolean isCollection(final From<?, ?> parent, final String name) {
+        ManagedType<?> type;
+
+        if (parent instanceof Root<?> root) {
+            type = root.getModel();
+        } else {
+            type = getManagedType(((Join<?, ?>) parent).getAttribute());
+        }
+
+        return type.getAttribute(name).isCollection();
+    }
+
+    /**
+     * Gets the type of the entities or embeddables of an association, an embedded attribute or a collection.
+     *
+     * @param attribute the attribute
+     * @return the managed type of its values
+     * @throws IllegalArgumentException if the values of the attribute are not entities nor embeddables
+     */
+    private static ManagedType<?> getManagedType(final Attribute<?, ?> attribute) {
+        Type<?> type;
+
+        if (attribute instanceof PluralAttribute<?, ?, ?> pluralAttribute) {
+            type = pluralAttribute.getElementType();
+        } else {
+            type = ((SingularAttribute<?, ?>) attribute).getType();
+        }
+
+        if (type instanceof ManagedType<?> managedType) {
+            return managedType;
+        }
+
+        throw new IllegalArgumentException("Attribute '" + attribute.getName() + "' has no attributes.");
+    }
+}
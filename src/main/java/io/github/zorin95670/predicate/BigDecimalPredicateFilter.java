@@ -0,0 +1,57 @@
+package io.github.zorin95670.predicate;
+
+import io.github.zorin95670.exception.SpringQueryFilterException;
+
+import java.math.BigDecimal;
+
+/**
+ * A predicate filter specifically for handling {@link BigDecimal} values in a
+ * {@link jakarta.persistence.criteria.CriteriaQuery}.
+ * <p>
+ * This class extends {@link ComparablePredicateFilter} to support filtering based on {@link BigDecimal} fields in
+ * the database.
+ * It handles different types of decimal comparisons and parses string values into {@link BigDecimal} objects without
+ * loss of precision.
+ * </p>
+ *
+ * @param <T> The type of the entity being queried.
+ */
+public class BigDecimalPredicateFilter<T> extends ComparablePredicateFilter<T, BigDecimal> {
+
+    /**
+     * Constructs a new {@link BigDecimalPredicateFilter} with the specified name and filter value.
+     *
+     * @param name The name of the field to filter by.
+     * @param value The filter value(s) to apply.
+     */
+    public BigDecimalPredicateFilter(final String name, final String value) {
+        super(name, value);
+    }
+
+    /**
+     * Parses the given string value into a {@link BigDecimal} object.
+     * <p>
+     * This method attempts to convert the string value into a {@link BigDecimal} by using
+     * {@link BigDecimal#BigDecimal(String)}.
+     * If the value cannot be parsed as a valid decimal, a {@link SpringQueryFilterException} is thrown.
+     * </p>
+     *
+     * @param value The string value to be parsed.
+     * @return The parsed {@link BigDecimal} object.
+     * @throws SpringQueryFilterException if the value cannot be parsed into a valid {@link BigDecimal}.
+     */
+    @Override
+    public BigDecimal parseValue(final String value) {
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException exception) {
+            throw new SpringQueryFilterException(
+                "Invalid number format: Unable to parse the value '" + value + "' as a decimal.",
+                exception,
+                "BIGDECIMAL",
+                this.getName(),
+                value
+            );
+        }
+    }
+}
@@ -4,6 +4,12 @@ import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * Abstract class that provides filtering functionality for {@link Comparable} types.
  * <p>
@@ -28,7 +34,13 @@ import jakarta.persistence.criteria.Predicate;
  * @see Comparable
  * @see PredicateOperator
  */
-public abstract class ComparablePredicateFilter<T, Y extends Comparable<Y>> extends PredicateFilter<T, Y> {
+public abstract class ComparablePredicateFilter<T, Y extends Comparable<? super Y>> extends PredicateFilter<T, Y> {
+
+    /**
+     * Operators supported by comparable filters.
+     */
+    private static final Set<PredicateOperator> SUPPORTED_OPERATORS = Collections.unmodifiableSet(
+        EnumSet.of(PredicateOperator.INFERIOR, PredicateOperator.SUPERIOR, PredicateOperator.BETWEEN));
 
     /**
      * Constructor to initialize the filter with the field name and value.
@@ -41,45 +53,41 @@ public abstract class ComparablePredicateFilter<T, Y extends Comparable<Y>> exte
     }
 
     /**
-     * Sets the appropriate {@link PredicateOperator} for the filter based on the provided value.
+     * Gets the operators supported by comparable filters.
      * <p>
-     * This method analyzes the value at the given index to determine which comparison operator should be used
-     * for the filter. It looks for specific operator prefixes (e.g., less than, greater than) and modifies the filter
-     * operator accordingly. It also handles the "BETWEEN" operator if the value contains the keyword "BETWEEN".
+     * Besides the common operators, a value can start with {@link PredicateOperator#INFERIOR} or
+     * {@link PredicateOperator#SUPERIOR}, or contain {@link PredicateOperator#BETWEEN} between two bounds.
      * </p>
+     *
+     * @return the supported operators
+     */
+    @Override
+    protected Set<PredicateOperator> getSupportedOperators() {
+        return SUPPORTED_OPERATORS;
+    }
+
+    /**
+     * Parses the operands of the value at the specified index.
      * <p>
-     * The method will:
-     * </p>
-     * <ul>
-     *     <li>Set the operator to {@link PredicateOperator#INFERIOR} if the value starts with
-     *     the "less than" symbol.</li>
-     *     <li>Set the operator to {@link PredicateOperator#SUPERIOR} if the value starts with
-     *     the "greater than" symbol.</li>
-     *     <li>Set the operator to {@link PredicateOperator#BETWEEN} if the value contains the keyword "BETWEEN".</li>
-     * </ul>
-     * <p>
-     * Additionally, when setting the operator to {@link PredicateOperator#INFERIOR} or
-     * {@link PredicateOperator#SUPERIOR},
-     * the prefix is removed from the value for further processing.
+     * A {@link PredicateOperator#BETWEEN} value has two operands, the lower and the upper bound, separated by the
+     * between operator. Other operators are handled by {@link PredicateFilter#parseOperands(int)}.
      * </p>
      *
-     * @param index the index of the current filter value
+     * @param index the index of the value
+     * @return the typed operands of the value
      */
     @Override
-    public void setOperatorFromValue(final int index) {
-        super.setOperatorFromValue(index);
-
-        String value = this.getValue(index);
-
-        if (value.toLowerCase().startsWith(PredicateOperator.INFERIOR.getValue())) {
-            this.setOperator(index, PredicateOperator.INFERIOR);
-            this.setValue(index, value.substring(PredicateOperator.INFERIOR.getValue().length()));
-        } else if (value.toLowerCase().startsWith(PredicateOperator.SUPERIOR.getValue())) {
-            this.setOperator(index, PredicateOperator.SUPERIOR);
-            this.setValue(index, value.substring(PredicateOperator.SUPERIOR.getValue().length()));
-        } else if (value.toLowerCase().contains(PredicateOperator.BETWEEN.getValue())) {
-            this.setOperator(index, PredicateOperator.BETWEEN);
+    public List<Y> parseOperands(final int index) {
+        if (!PredicateOperator.BETWEEN.equals(this.getOperator(index))) {
+            return super.parseOperands(index);
         }
+
+        FilterTerm term = this.getTerm(index);
+
+        return Arrays.asList(
+            parseLiteral(term.getLowerBound(), term.getStart()),
+            parseLiteral(term.getUpperBound(), term.getUpperBoundStart())
+        );
     }
 
     /**
@@ -98,18 +106,13 @@ public abstract class ComparablePredicateFilter<T, Y extends Comparable<Y>> exte
     public Predicate getPredicate(final int index, final CriteriaBuilder builder, final Expression<Y> field) {
         Predicate predicate;
         if (PredicateOperator.EQUALS.equals(this.getOperator(index))) {
-            predicate = builder.equal(field, parseValue(this.getValue(index)));
+            predicate = builder.equal(field, this.getOperand(index, 0));
         } else if (PredicateOperator.INFERIOR.equals(this.getOperator(index))) {
-            predicate = builder.lessThan(field, parseValue(this.getValue(index)));
+            predicate = builder.lessThan(field, this.getOperand(index, 0));
         } else if (PredicateOperator.SUPERIOR.equals(this.getOperator(index))) {
-            predicate = builder.greaterThan(field, parseValue(this.getValue(index)));
+            predicate = builder.greaterThan(field, this.getOperand(index, 0));
         } else {
-            String value = this.getValue(index);
-            int operatorIndex = value.indexOf(PredicateOperator.BETWEEN.getValue());
-            String value1 = value.substring(0, operatorIndex);
-            String value2 = value.substring(operatorIndex + PredicateOperator.BETWEEN.getValue().length());
-
-            predicate = builder.between(field, parseValue(value1), parseValue(value2));
+            predicate = builder.between(field, this.getOperand(index, 0), this.getOperand(index, 1));
         }
 
         if (this.getIsNotOperator(index)) {
@@ -118,4 +121,38 @@ public abstract class ComparablePredicateFilter<T, Y extends Comparable<Y>> exte
 
         return predicate;
     }
+
+    /**
+     * Renders the comparison of an expression with the value at the specified index to JPQL.
+     * <p>
+     * This method mirrors {@link #getPredicate(int, CriteriaBuilder, Expression)}.
+     * </p>
+     *
+     * @param index the index of the filter value to use
+     * @param writer the writer of the JPQL condition
+     * @param expression the JPQL expression to compare
+     */
+    @Override
+    protected void renderJpql(final int index, final JpqlWriter writer, final String expression) {
+        if (this.getIsNotOperator(index)) {
+            writer.append("NOT (");
+        }
+
+        writer.append(expression);
+
+        if (PredicateOperator.EQUALS.equals(this.getOperator(index))) {
+            writer.append(" = ").appendParameter(this.getOperand(index, 0));
+        } else if (PredicateOperator.INFERIOR.equals(this.getOperator(index))) {
+            writer.append(" < ").appendParameter(this.getOperand(index, 0));
+        } else if (PredicateOperator.SUPERIOR.equals(this.getOperator(index))) {
+            writer.append(" > ").appendParameter(this.getOperand(index, 0));
+        } else {
+            writer.append(" BETWEEN ").appendParameter(this.getOperand(index, 0))
+                .append(" AND ").appendParameter(this.getOperand(index, 1));
+        }
+
+        if (this.getIsNotOperator(index)) {
+            writer.append(")");
+        }
+    }
 }
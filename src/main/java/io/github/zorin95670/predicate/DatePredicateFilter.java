@@ -2,8 +2,8 @@ package io.github.zorin95670.predicate;
 
 import io.github.zorin95670.exception.SpringQueryFilterException;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.format.DateTimeFormatter;
 import java.util.Date;
 
 /**
@@ -20,10 +20,15 @@ import java.util.Date;
 public class DatePredicateFilter<T> extends ComparablePredicateFilter<T, Date> {
 
     /**
-     * The {@link SimpleDateFormat} used to parse date strings into {@link Date} objects.
+     * The pattern of the date format used to parse date strings into {@link Date} objects.
      * If {@code null}, date values are interpreted as long timestamps.
      */
-    private SimpleDateFormat dateFormat;
+    private String dateFormat;
+
+    /**
+     * The shared, immutable formatter of the date format, or {@code null} if no date format is set.
+     */
+    private DateTimeFormatter formatter;
 
     /**
      * Constructs a new {@link DatePredicateFilter} with the specified name and filter value.
@@ -50,30 +55,28 @@ public class DatePredicateFilter<T> extends ComparablePredicateFilter<T, Date> {
     /**
      * Sets the date format to be used for parsing date values.
      * <p>
-     * If the provid ed date format is {@code null}, no format will be applied, and date values will be interpreted
+     * If the provided date format is {@code null}, no format will be applied, and date values will be interpreted
      * as long timestamps. If the format is invalid, a {@link SpringQueryFilterException} is thrown.
+     * Formats follow the {@link DateTimeFormatter} patterns and are shared between filters through a bounded cache.
      * </p>
      *
      * @param dateFormat The date format to apply, or {@code null} to disable format parsing.
      * @throws SpringQueryFilterException if the provided format is invalid.
+     * @throws IllegalStateException if the filter is frozen.
      */
     public void setDateFormat(final String dateFormat) {
-        if (dateFormat == null) {
-            this.dateFormat = null;
-            return;
-        }
+        this.checkNotFrozen();
+        this.dateFormat = dateFormat;
+        this.formatter = DateTimeFormatters.forDateFormat(dateFormat);
+    }
 
-        try {
-            this.dateFormat = new SimpleDateFormat(dateFormat);
-        } catch (IllegalArgumentException exception) {
-            throw new SpringQueryFilterException(
-                    "Invalid date format: Unable to use '" + dateFormat + "' as date format.",
-                    exception,
-                    "DATE_FORMAT",
-                    null,
-                    dateFormat
-            );
-        }
+    /**
+     * Gets the pattern of the date format.
+     *
+     * @return the date format, or {@code null} if none is set
+     */
+    public String getDateFormat() {
+        return dateFormat;
     }
 
     /**
@@ -91,10 +94,10 @@ public class DatePredicateFilter<T> extends ComparablePredicateFilter<T, Date> {
     @Override
     public Date parseValue(final String value) {
         try {
-            if (this.dateFormat == null) {
+            if (this.formatter == null) {
                 return new Date(Long.parseLong(value));
             }
-            return dateFormat.parse(value);
+            return Date.from(DateTimeFormatters.parse(value, this.formatter).toInstant());
         } catch (NumberFormatException exception) {
             throw new SpringQueryFilterException(
                 "Invalid date format: Unable to parse the value '" + value + "' as a long timestamp.",
@@ -103,10 +106,10 @@ public class DatePredicateFilter<T> extends ComparablePredicateFilter<T, Date> {
                 this.getName(),
                 value
             );
-        } catch (ParseException exception) {
+        } catch (DateTimeException exception) {
             throw new SpringQueryFilterException(
                     "Invalid date format: Unable to parse the value '" + value + "' as a date according the provided "
-                        + "format '" + this.dateFormat.toPattern() + "'.",
+                        + "format '" + this.dateFormat + "'.",
                     exception,
                     "DATE",
                     this.getName(),
@@ -0,0 +1,297 @@
+package io.github.zorin95670.predicate;
+
+import io.github.zorin95670.exception.SpringQueryFilterException;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalField;
+import java.time.temporal.TemporalQueries;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared cache of {@link DateTimeFormatter} instances, keyed by pattern.
+ * <p>
+ * Patterns are {@link java.text.SimpleDateFormat} patterns, translated to formatters that give their letters the
+ * same meaning, so that date formats sent by clients keep parsing as they did before filters used
+ * {@link DateTimeFormatter}.
+ * </p>
+ * <p>
+ * Formatters are immutable and thread-safe, so a single instance per pattern is shared by all date filters. The
+ * cache is bounded: once full, formatters of new patterns are created on each call without being cached, so a
+ * client sending random patterns cannot grow it indefinitely.
+ * </p>
+ */
+final class DateTimeFormatters {
+
+    /**
+     * Maximum number of cached formatters.
+     */
+    static final int MAX_CACHE_SIZE = 128;
+
+    /**
+     * Year used when the pattern does not contain one, like {@link java.text.SimpleDateFormat}.
+     */
+    private static final int DEFAULT_YEAR = 1970;
+
+    /**
+     * Number of letters of a text field from which {@link java.text.SimpleDateFormat} uses its full form.
+     */
+    private static final int FULL_TEXT_LETTERS = 4;
+
+    /**
+     * The quote of the literal text of a pattern.
+     */
+    private static final char QUOTE = '\'';
+
+    /**
+     * The numeric fields of {@link java.text.SimpleDateFormat} letters, where the number of letters is the minimum
+     * width of the number instead of a limited choice of styles. {@code u} and {@code S} also differ in meaning from
+     * {@link DateTimeFormatter}: they are the day number of the week, and the milliseconds.
+     */
+    private static final Map<Character, ChronoField> NUMERIC_FIELDS = Map.of(
+        'd', ChronoField.DAY_OF_MONTH,
+        'D', ChronoField.DAY_OF_YEAR,
+        'u', ChronoField.DAY_OF_WEEK,
+        'H', ChronoField.HOUR_OF_DAY,
+        'k', ChronoField.CLOCK_HOUR_OF_DAY,
+        'K', ChronoField.HOUR_OF_AMPM,
+        'h', ChronoField.CLOCK_HOUR_OF_AMPM,
+        'm', ChronoField.MINUTE_OF_HOUR,
+        's', ChronoField.SECOND_OF_MINUTE,
+        'S', ChronoField.MILLI_OF_SECOND
+    );
+
+    /**
+     * The cached formatters, by pattern.
+     */
+    private static final Map<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private DateTimeFormatters() {
+    }
+
+    /**
+     * Gets the formatter of a pattern, creating it on the first call.
+     *
+     * @param pattern the pattern of the formatter, as defined by {@link java.text.SimpleDateFormat}
+     * @return the formatter of the pattern
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    static DateTimeFormatter ofPattern(final String pattern) {
+        final DateTimeFormatter formatter = FORMATTERS.get(pattern);
+
+        if (formatter != null) {
+            return formatter;
+        }
+
+        final DateTimeFormatter created = translate(pattern);
+
+        if (FORMATTERS.size() < MAX_CACHE_SIZE) {
+            FORMATTERS.putIfAbsent(pattern, created);
+        }
+
+        return created;
+    }
+
+    /**
+     * Translates a {@link java.text.SimpleDateFormat} pattern to a formatter.
+     * <p>
+     * Letters whose meaning or number of letters differ are appended as the fields they stand for in
+     * {@link java.text.SimpleDateFormat}: numbers padded to the number of letters, the day number of the week for
+     * {@code u}, milliseconds for {@code S}, and the full text of {@code E}, {@code M}, {@code L} and {@code z} from
+     * four letters. Other letters keep their {@link DateTimeFormatter} meaning, and other characters are literals.
+     * </p>
+     *
+     * @param pattern the pattern to translate
+     * @return the formatter of the pattern
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    static DateTimeFormatter translate(final String pattern) {
+        final DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder();
+        int index = 0;
+
+        while (index < pattern.length()) {
+            final char character = pattern.charAt(index);
+
+            if (character == QUOTE) {
+                index = appendQuoted(builder, pattern, index);
+            } else if ((character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z')) {
+                int end = index + 1;
+
+                while (end < pattern.length() && pattern.charAt(end) == character) {
+                    end++;
+                }
+
+                appendLetters(builder, character, end - index);
+                index = end;
+            } else {
+                builder.appendLiteral(character);
+                index++;
+            }
+        }
+
+        return builder.toFormatter();
+    }
+
+    /**
+     * Appends the quoted literal text starting at an index of a pattern, where two quotes stand for a quote.
+     *
+     * @param builder the builder of the formatter
+     * @param pattern the translated pattern
+     * @param start the index of the opening quote
+     * @return the index following the closing quote
+     * @throws IllegalArgumentException if the quote is not closed
+     */
+    private static int appendQuoted(final DateTimeFormatterBuilder builder, final String pattern, final int start) {
+        final StringBuilder literal = new StringBuilder();
+        int index = start + 1;
+
+        if (index < pattern.length() && pattern.charAt(index) == QUOTE) {
+            builder.appendLiteral(QUOTE);
+            return index + 1;
+        }
+
+        while (index < pattern.length()) {
+            final char character = pattern.charAt(index);
+
+            if (character != QUOTE) {
+                literal.append(character);
+                index++;
+            } else if (index + 1 < pattern.length() && pattern.charAt(index + 1) == QUOTE) {
+                literal.append(QUOTE);
+                index += 2;
+            } else {
+                builder.appendLiteral(literal.toString());
+                return index + 1;
+            }
+        }
+
+        throw new IllegalArgumentException("Unterminated quote in pattern: " + pattern);
+    }
+
+    /**
+     * Appends the field of a run of the same {@link java.text.SimpleDateFormat} letter.
+     *
+     * @param builder the builder of the formatter
+     * @param letter the pattern letter
+     * @param count the number of letters
+     * @throws IllegalArgumentException if the letter is not a pattern letter
+     */
+    private static void appendLetters(final DateTimeFormatterBuilder builder, final char letter, final int count) {
+        final ChronoField field = NUMERIC_FIELDS.get(letter);
+
+        if (field != null && count == 1) {
+            builder.appendValue(field);
+        } else if (field != null) {
+            builder.appendValue(field, count);
+        } else if (letter == 'a' || letter == 'G' || letter == 'Z') {
+            builder.appendPattern(String.valueOf(letter));
+        } else if (letter == 'E' || letter == 'M' || letter == 'L' || letter == 'z') {
+            builder.appendPattern(String.valueOf(letter).repeat(Math.min(count, FULL_TEXT_LETTERS)));
+        } else {
+            builder.appendPattern(String.valueOf(letter).repeat(count));
+        }
+    }
+
+    /**
+     * Gets the formatter of a date format sent with the filters.
+     *
+     * @param dateFormat the date format, or {@code null}
+     * @return the formatter of the date format, or {@code null} if no date format is provided
+     * @throws SpringQueryFilterException if the date format is invalid
+     */
+    static DateTimeFormatter forDateFormat(final String dateFormat) {
+        if (dateFormat == null) {
+            return null;
+        }
+
+        try {
+            return ofPattern(dateFormat);
+        } catch (IllegalArgumentException exception) {
+            throw new SpringQueryFilterException(
+                "Invalid date format: Unable to use '" + dateFormat + "' as date format.",
+                exception,
+                "DATE_FORMAT",
+                null,
+                dateFormat
+            );
+        }
+    }
+
+    /**
+     * Gets the number of cached formatters.
+     *
+     * @return the size of the cache
+     */
+    static int size() {
+        return FORMATTERS.size();
+    }
+
+    /**
+     * Parses a value with a formatter into a date-time.
+     * <p>
+     * Fields that are not part of the pattern take their value from {@code 1970-01-01T00:00:00} in the system time
+     * zone, as {@link java.text.SimpleDateFormat} does, so partial patterns such as {@code yyyy-MM} or
+     * {@code HH:mm} are supported.
+     * </p>
+     *
+     * @param value the value to parse
+     * @param formatter the formatter to use
+     * @return the parsed date-time
+     * @throws java.time.DateTimeException if the value cannot be parsed
+     */
+    static ZonedDateTime parse(final String value, final DateTimeFormatter formatter) {
+        final TemporalAccessor accessor = formatter.parse(value);
+
+        LocalDate date = accessor.query(TemporalQueries.localDate());
+        if (date == null) {
+            date = LocalDate.of(
+                get(accessor, ChronoField.YEAR, DEFAULT_YEAR),
+                get(accessor, ChronoField.MONTH_OF_YEAR, 1),
+                get(accessor, ChronoField.DAY_OF_MONTH, 1)
+            );
+        }
+
+        LocalTime time = accessor.query(TemporalQueries.localTime());
+        if (time == null) {
+            time = LocalTime.of(
+                get(accessor, ChronoField.HOUR_OF_DAY, 0),
+                get(accessor, ChronoField.MINUTE_OF_HOUR, 0),
+                get(accessor, ChronoField.SECOND_OF_MINUTE, 0),
+                get(accessor, ChronoField.NANO_OF_SECOND, 0)
+            );
+        }
+
+        ZoneId zone = accessor.query(TemporalQueries.zone());
+        if (zone == null) {
+            zone = ZoneId.systemDefault();
+        }
+
+        return ZonedDateTime.of(date, time, zone);
+    }
+
+    /**
+     * Gets a field of a parsed value, or a default value if the pattern does not contain it.
+     *
+     * @param accessor the parsed value
+     * @param field the field to get
+     * @param defaultValue the value to use if the field was not parsed
+     * @return the value of the field
+     */
+    private static int get(final TemporalAccessor accessor, final TemporalField field, final int defaultValue) {
+        if (accessor.isSupported(field)) {
+            return accessor.get(field);
+        }
+
+        return defaultValue;
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.zorin95670.predicate;
+
+import io.github.zorin95670.exception.SpringQueryFilterException;
+
+/**
+ * A predicate filter specifically for handling {@link Enum} values in a
+ * {@link jakarta.persistence.criteria.CriteriaQuery}.
+ * <p>
+ * This class extends {@link PredicateFilter} to support filtering based on enum fields in the database, whatever
+ * their mapping. Values are the names of the constants, such as {@code ACTIVE} or {@code not_ACTIVE}, and are
+ * compared with the equals operator.
+ * </p>
+ *
+ * @param <T> The type of the entity being queried.
+ * @param <E> The type of the enum.
+ */
+public class EnumPredicateFilter<T, E extends Enum<E>> extends PredicateFilter<T, E> {
+
+    /**
+     * The type of the enum.
+     */
+    private final Class<E> enumType;
+
+    /**
+     * Constructs a new {@link EnumPredicateFilter} with the specified name, filter value and enum type.
+     *
+     * @param name The name of the field to filter by.
+     * @param value The filter value(s) to apply.
+     * @param enumType The type of the enum.
+     */
+    public EnumPredicateFilter(final String name, final String value, final Class<E> enumType) {
+        super(name, value);
+        this.enumType = enumType;
+    }
+
+    /**
+     * Gets the type of the enum.
+     *
+     * @return the enum class
+     */
+    public Class<E> getEnumType() {
+        return enumType;
+    }
+
+    /**
+     * Parses the given string value as the name of a constant of the enum.
+     *
+     * @param value The string value to be parsed.
+     * @return The constant with this name.
+     * @throws SpringQueryFilterException if the enum has no constant with this name.
+     * @see Enum#valueOf(Class, String)
+     */
+    @Override
+    public E parseValue(final String value) {
+        try {
+            return Enum.valueOf(enumType, value);
+        } catch (IllegalArgumentException exception) {
+            throw new SpringQueryFilterException(
+                "Invalid enum value: Unable to parse the value '" + value + "' as a constant of "
+                    + enumType.getSimpleName() + ".",
+                exception,
+                "ENUM",
+                this.getName(),
+                value
+            );
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package io.github.zorin95670.predicate;
+
+/**
+ * One alternative of a filter value, as read by {@link FilterValueParser}.
+ * <p>
+ * A term does not copy the raw value: it only records the negation flag, the operator and the offsets of its
+ * literal in the raw value. Literals are extracted on demand, so each of them costs at most one allocation, and none
+ * when the literal is the whole raw value.
+ * </p>
+ */
+final class FilterTerm {
+
+    /**
+     * The raw filter value containing this term.
+     */
+    private final String raw;
+
+    /**
+     * Whether the term is negated with {@link PredicateOperator#NOT}.
+     */
+    private final boolean negated;
+
+    /**
+     * The operator of the term.
+     */
+    private final PredicateOperator operator;
+
+    /**
+     * Offset of the first character of the alternative in the raw value.
+     */
+    private final int from;
+
+    /**
+     * Offset of the first character of the literal in the raw value.
+     */
+    private final int start;
+
+    /**
+     * Offset following the last character of the literal in the raw value.
+     */
+    private final int end;
+
+    /**
+     * Offset of the {@link PredicateOperator#BETWEEN} separator in the raw value, or {@code -1}.
+     */
+    private final int separator;
+
+    /**
+     * Constructs a new term.
+     *
+     * @param raw the raw filter value
+     * @param from offset of the first character of the alternative
+     * @param negated whether the term is negated
+     * @param operator the operator of the term
+     * @param start offset of the first character of the literal
+     * @param end offset following the last character of the literal
+     * @param separator offset of the between separator, or {@code -1}
+     */
+    FilterTerm(final String raw,
+               final int from,
+               final boolean negated,
+               final PredicateOperator operator,
+               final int start,
+               final int end,
+               final int separator) {
+        this.raw = raw;
+        this.from = from;
+        this.negated = negated;
+        this.operator = operator;
+        this.start = start;
+        this.end = end;
+        this.separator = separator;
+    }
+
+    /**
+     * Indicates whether the term is negated.
+     *
+     * @return {@code true} if the term starts with {@link PredicateOperator#NOT}
+     */
+    boolean isNegated() {
+        return negated;
+    }
+
+    /**
+     * Gets the operator of the term.
+     *
+     * @return the operator
+     */
+    PredicateOperator getOperator() {
+        return operator;
+    }
+
+    /**
+     * Gets the whole alternative, with its prefixes.
+     *
+     * @return the alternative
+     */
+    String getAlternative() {
+        return raw.substring(from, end);
+    }
+
+    /**
+     * Gets the literal of the term, without its prefixes. A between term keeps its separator.
+     *
+     * @return the literal
+     */
+    String getLiteral() {
+        return raw.substring(start, end);
+    }
+
+    /**
+     * Gets the offset of the literal in the raw value.
+     *
+     * @return the offset of the first character of the literal
+     */
+    int getStart() {
+        return start;
+    }
+
+    /**
+     * Gets the lower bound of a between term.
+     *
+     * @return the text before the between separator
+     */
+    String getLowerBound() {
+        return raw.substring(start, separator);
+    }
+
+    /**
+     * Gets the upper bound of a between term.
+     *
+     * @return the text after the between separator
+     */
+    String getUpperBound() {
+        return raw.substring(getUpperBoundStart(), end);
+    }
+
+    /**
+     * Gets the offset of the upper bound of a between term in the raw value.
+     *
+     * @return the offset of the first character of the upper bound
+     */
+    int getUpperBoundStart() {
+        return separator + PredicateOperator.BETWEEN.getValue().length();
+    }
+}
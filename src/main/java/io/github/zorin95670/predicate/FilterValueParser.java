@@ -0,0 +1,178 @@
+package io.github.zorin95670.predicate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Single-pass reader of the filter value grammar.
+ * <p>
+ * A filter value is a list of alternatives separated by {@code |}. Each alternative is read from left to right,
+ * ignoring case:
+ * </p>
+ * <ul>
+ *     <li>an optional {@code not_} prefix, negating the term;</li>
+ *     <li>the {@code null} keyword, or an optional {@code eq_} prefix;</li>
+ *     <li>an optional {@code lt_}, {@code gt_} or {@code lk_} prefix, or a {@code _bt_} separator between two
+ *     bounds, if the operator is supported by the filter;</li>
+ *     <li>the literal, which is all the remaining text.</li>
+ * </ul>
+ * <p>
+ * Like {@link String#split(String)}, trailing empty alternatives are dropped. The parser does not use regular
+ * expressions and does not copy the raw value: the returned terms only hold offsets.
+ * </p>
+ */
+final class FilterValueParser {
+
+    /**
+     * The separator of alternatives.
+     */
+    private static final char OR_DELIMITER = '|';
+
+    /**
+     * The operators supported by the filter, besides {@link PredicateOperator#EQUALS}, {@link PredicateOperator#NOT}
+     * and {@link PredicateOperator#NULL}.
+     */
+    private final Set<PredicateOperator> operators;
+
+    /**
+     * Constructs a new parser.
+     *
+     * @param operators the operators supported by the filter
+     */
+    FilterValueParser(final Set<PredicateOperator> operators) {
+        this.operators = operators;
+    }
+
+    /**
+     * Reads all the terms of a raw filter value.
+     *
+     * @param raw the raw filter value
+     * @return the terms of the value, in order
+     */
+    List<FilterTerm> parse(final String raw) {
+        if (raw.indexOf(OR_DELIMITER) < 0) {
+            return Collections.singletonList(parseTerm(raw, 0, raw.length()));
+        }
+
+        final List<FilterTerm> terms = new ArrayList<>();
+        int start = 0;
+        int end = raw.length();
+
+        while (end > 0 && raw.charAt(end - 1) == OR_DELIMITER) {
+            end--;
+        }
+
+        while (start < end) {
+            int delimiter = raw.indexOf(OR_DELIMITER, start);
+
+            if (delimiter < 0 || delimiter > end) {
+                delimiter = end;
+            }
+
+            terms.add(parseTerm(raw, start, delimiter));
+            start = delimiter + 1;
+        }
+
+        return terms;
+    }
+
+    /**
+     * Reads one alternative of a raw filter value.
+     *
+     * @param raw the raw filter value
+     * @param from offset of the first character of the alternative
+     * @param to offset following the last character of the alternative
+     * @return the term
+     */
+    private FilterTerm parseTerm(final String raw, final int from, final int to) {
+        int start = from;
+        boolean negated = false;
+        PredicateOperator operator = PredicateOperator.EQUALS;
+        int separator = -1;
+
+        if (matches(raw, start, to, PredicateOperator.NOT)) {
+            negated = true;
+            start += PredicateOperator.NOT.getValue().length();
+        }
+
+        if (to - start == PredicateOperator.NULL.getValue().length()
+            && matches(raw, start, to, PredicateOperator.NULL)) {
+            return new FilterTerm(raw, from, negated, PredicateOperator.NULL, start, to, separator);
+        }
+
+        if (matches(raw, start, to, PredicateOperator.EQUALS)) {
+            start += PredicateOperator.EQUALS.getValue().length();
+        }
+
+        if (supportsPrefix(raw, start, to, PredicateOperator.INFERIOR)) {
+            operator = PredicateOperator.INFERIOR;
+            start += PredicateOperator.INFERIOR.getValue().length();
+        } else if (supportsPrefix(raw, start, to, PredicateOperator.SUPERIOR)) {
+            operator = PredicateOperator.SUPERIOR;
+            start += PredicateOperator.SUPERIOR.getValue().length();
+        } else if (operators.contains(PredicateOperator.BETWEEN)) {
+            separator = indexOf(raw, start, to, PredicateOperator.BETWEEN);
+            if (separator >= 0) {
+                operator = PredicateOperator.BETWEEN;
+            }
+        }
+
+        if (supportsPrefix(raw, start, to, PredicateOperator.LIKE)) {
+            operator = PredicateOperator.LIKE;
+            start += PredicateOperator.LIKE.getValue().length();
+        }
+
+        return new FilterTerm(raw, from, negated, operator, start, to, separator);
+    }
+
+    /**
+     * Indicates whether a supported operator is the prefix of a part of the raw value.
+     *
+     * @param raw the raw filter value
+     * @param start offset of the part
+     * @param to offset following the part
+     * @param operator the operator to match
+     * @return {@code true} if the operator is supported and prefixes the part
+     */
+    private boolean supportsPrefix(final String raw, final int start, final int to, final PredicateOperator operator) {
+        return operators.contains(operator) && matches(raw, start, to, operator);
+    }
+
+    /**
+     * Indicates whether an operator is the prefix of a part of the raw value, ignoring case.
+     *
+     * @param raw the raw filter value
+     * @param start offset of the part
+     * @param to offset following the part
+     * @param operator the operator to match
+     * @return {@code true} if the operator prefixes the part
+     */
+    private static boolean matches(final String raw, final int start, final int to, final PredicateOperator operator) {
+        final String token = operator.getValue();
+
+        return to - start >= token.length() && raw.regionMatches(true, start, token, 0, token.length());
+    }
+
+    /**
+     * Finds the first occurrence of an operator in a part of the raw value, ignoring case.
+     *
+     * @param raw the raw filter value
+     * @param start offset of the part
+     * @param to offset following the part
+     * @param operator the operator to search for
+     * @return the offset of the operator, or {@code -1} if the part does not contain it
+     */
+    private static int indexOf(final String raw, final int start, final int to, final PredicateOperator operator) {
+        final String token = operator.getValue();
+
+        for (int index = start; index <= to - token.length(); index++) {
+            if (raw.regionMatches(true, index, token, 0, token.length())) {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+}
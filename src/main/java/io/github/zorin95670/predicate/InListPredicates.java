@@ -0,0 +1,126 @@
+package io.github.zorin95670.predicate;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds {@code IN} and {@code NOT IN} predicates from lists of values.
+ * <p>
+ * Lists longer than the maximum size are split into chunks, since some databases limit the number of elements of
+ * an {@code IN} list (1000 for Oracle). Each chunk is padded to the next power of two by repeating its last value,
+ * so a list of any size is rendered with a small number of distinct SQL strings, which keeps statement caches
+ * efficient. Repeating a value does not change the result of the predicate.
+ * </p>
+ */
+public final class InListPredicates {
+
+    /**
+     * Default maximum number of values in a single {@code IN} list.
+     */
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private InListPredicates() {
+    }
+
+    /**
+     * Builds a predicate checking that an expression is equal to one of the values.
+     *
+     * @param builder the criteria builder
+     * @param expression the expression to check
+     * @param values the values, not empty
+     * @param maxSize the maximum number of values in a single {@code IN} list
+     * @return the {@code IN} predicate, or a disjunction of {@code IN} predicates for long lists
+     */
+    public static Predicate in(final CriteriaBuilder builder,
+                               final Expression<?> expression,
+                               final List<?> values,
+                               final int maxSize) {
+        Predicate[] predicates = chunk(values, maxSize).stream()
+            .map(chunk -> expression.in(chunk))
+            .toArray(Predicate[]::new);
+
+        if (predicates.length == 1) {
+            return predicates[0];
+        }
+
+        return builder.or(predicates);
+    }
+
+    /**
+     * Builds a predicate checking that an expression is equal to none of the values.
+     *
+     * @param builder the criteria builder
+     * @param expression the expression to check
+     * @param values the values, not empty
+     * @param maxSize the maximum number of values in a single {@code NOT IN} list
+     * @return the {@code NOT IN} predicate, or a conjunction of {@code NOT IN} predicates for long lists
+     */
+    public static Predicate notIn(final CriteriaBuilder builder,
+                                  final Expression<?> expression,
+                                  final List<?> values,
+                                  final int maxSize) {
+        Predicate[] predicates = chunk(values, maxSize).stream()
+            .map(chunk -> builder.not(expression.in(chunk)))
+            .toArray(Predicate[]::new);
+
+        if (predicates.length == 1) {
+            return predicates[0];
+        }
+
+        return builder.and(predicates);
+    }
+
+    /**
+     * Splits values into padded chunks of at most {@code maxSize} values.
+     *
+     * @param values the values to split
+     * @param maxSize the maximum size of a chunk
+     * @return the padded chunks
+     */
+    static List<List<Object>> chunk(final List<?> values, final int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("IN list size must be positive: " + maxSize);
+        }
+
+        List<List<Object>> chunks = new ArrayList<>();
+
+        for (int start = 0; start < values.size(); start += maxSize) {
+            chunks.add(pad(values.subList(start, Math.min(start + maxSize, values.size())), maxSize));
+        }
+
+        return chunks;
+    }
+
+    /**
+     * Pads a chunk to the next power of two, without exceeding the maximum size, by repeating its last value.
+     *
+     * @param chunk the chunk to pad, not empty
+     * @param maxSize the maximum size of a chunk
+     * @return the padded chunk
+     */
+    static List<Object> pad(final List<?> chunk, final int maxSize) {
+        int size = chunk.size();
+        int target = size;
+
+        if (size > 1) {
+            target = Math.min(Integer.highestOneBit(size - 1) << 1, maxSize);
+        }
+
+        List<Object> padded = new ArrayList<>(target);
+        padded.addAll(chunk);
+
+        Object last = chunk.get(size - 1);
+        while (padded.size() < target) {
+            padded.add(last);
+        }
+
+        return padded;
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.zorin95670.predicate;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+
+/**
+ * A predicate filter specifically for handling {@link Instant} values in a
+ * {@link jakarta.persistence.criteria.CriteriaQuery}.
+ * <p>
+ * Values are parsed as ISO-8601 instants ({@code 2024-01-31T10:15:30Z}), timestamps in milliseconds, or with the
+ * provided date format, in the system time zone unless the format contains one.
+ * </p>
+ *
+ * @param <T> The type of the entity being queried.
+ */
+public class InstantPredicateFilter<T> extends TemporalPredicateFilter<T, Instant> {
+
+    /**
+     * Constructs a new {@link InstantPredicateFilter} with the specified name and filter value.
+     *
+     * @param name The name of the field to filter by.
+     * @param value The filter value(s) to apply.
+     */
+    public InstantPredicateFilter(final String name, final String value) {
+        super(name, value);
+    }
+
+    /**
+     * Constructs a new {@link InstantPredicateFilter} with the specified name, filter value and date format.
+     *
+     * @param name The name of the field to filter by.
+     * @param value The filter value(s) to apply.
+     * @param dateFormat The date format to apply.
+     */
+    public InstantPredicateFilter(final String name, final String value, final String dateFormat) {
+        super(name, value, dateFormat);
+    }
+
+    /**
+     * Converts a timestamp into a {@link Instant}.
+     *
+     * @param instant The instant of the timestamp.
+     * @return The converted {@link Instant}.
+     */
+    @Override
+    protected Instant fromInstant(final Instant instant) {
+        return instant;
+    }
+
+    /**
+     * Converts a value parsed with the date format into a {@link Instant}.
+     *
+     * @param dateTime The parsed date-time.
+     * @return The converted {@link Instant}.
+     */
+    @Override
+    protected Instant fromDateTime(final ZonedDateTime dateTime) {
+        return dateTime.toInstant();
+    }
+
+    /**
+     * Parses an ISO-8601 value into a {@link Instant}.
+     *
+     * @param value The value to parse.
+     * @return The parsed {@link Instant}.
+     */
+    @Override
+    protected Instant parseIso(final String value) {
+        return Instant.parse(value);
+    }
+}
@@ -0,0 +1,126 @@
+package io.github.zorin95670.predicate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Writes a JPQL condition with named parameters.
+ * <p>
+ * Filters append their conditions as text, and their typed operands as parameters named {@code p0}, {@code p1}, and
+ * so on, in order. The text only depends on the shape of the filters (fields, operators and number of values), so
+ * two requests with the same shape but different values render the same JPQL string. Providers can then reuse their
+ * interpretation of the query.
+ * </p>
+ */
+public final class JpqlWriter {
+
+    /**
+     * Prefix of parameter names.
+     */
+    public static final String PARAMETER_PREFIX = "p";
+
+    /**
+     * The alias of the queried entity.
+     */
+    private final String alias;
+
+    /**
+     * The rendered JPQL text.
+     */
+    private final StringBuilder jpql = new StringBuilder();
+
+    /**
+     * The values of the parameters, in order of their names.
+     */
+    private final List<Object> parameters = new ArrayList<>();
+
+    /**
+     * Constructs a new writer.
+     *
+     * @param alias the alias of the queried entity in the JPQL query
+     */
+    public JpqlWriter(final String alias) {
+        this.alias = alias;
+    }
+
+    /**
+     * Appends text to the condition.
+     *
+     * @param text the text to append
+     * @return this writer
+     */
+    public JpqlWriter append(final String text) {
+        this.jpql.append(text);
+        return this;
+    }
+
+    /**
+     * Appends the path of a field of the queried entity.
+     *
+     * @param fieldName the name of the field
+     * @return this writer
+     */
+    public JpqlWriter appendPath(final String fieldName) {
+        this.jpql.append(this.alias).append('.').append(fieldName);
+        return this;
+    }
+
+    /**
+     * Appends a named parameter and records its value.
+     *
+     * @param value the value of the parameter
+     * @return this writer
+     */
+    public JpqlWriter appendParameter(final Object value) {
+        this.jpql.append(':').append(PARAMETER_PREFIX).append(this.parameters.size());
+        this.parameters.add(value);
+        return this;
+    }
+
+    /**
+     * Gets the path of a field of the queried entity, to be used as an expression.
+     *
+     * @param fieldName the name of the field
+     * @return the JPQL path of the field
+     */
+    public String getPath(final String fieldName) {
+        return this.alias + "." + fieldName;
+    }
+
+    /**
+     * Gets the alias of the queried entity.
+     *
+     * @return the alias
+     */
+    public String getAlias() {
+        return alias;
+    }
+
+    /**
+     * Gets the length of the rendered text.
+     *
+     * @return the number of characters written so far
+     */
+    public int length() {
+        return this.jpql.length();
+    }
+
+    /**
+     * Gets the rendered JPQL text.
+     *
+     * @return the JPQL condition
+     */
+    public String getJpql() {
+        return this.jpql.toString();
+    }
+
+    /**
+     * Gets the values of the parameters, in order: the value of {@code p0} first.
+     *
+     * @return an unmodifiable list of parameter values
+     */
+    public List<Object> getParameters() {
+        return Collections.unmodifiableList(this.parameters);
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.zorin95670.predicate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * A predicate filter specifically for handling {@link LocalDate} values in a
+ * {@link jakarta.persistence.criteria.CriteriaQuery}.
+ * <p>
+ * Values are parsed as ISO-8601 dates ({@code 2024-01-31}), timestamps in milliseconds converted in the system
+ * time zone, or with the provided date format.
+ * </p>
+ *
+ * @param <T> The type of the entity being queried.
+ */
+public class LocalDatePredicateFilter<T> extends TemporalPredicateFilter<T, LocalDate> {
+
+    /**
+     * Constructs a new {@link LocalDatePredicateFilter} with the specified name and filter value.
+     *
+     * @param name The name of the field to filter by.
+     * @param value The filter value(s) to apply.
+     */
+    public LocalDatePredicateFilter(final String name, final String value) {
+        super(name, value);
+    }
+
+    /**
+     * Constructs a new {@link LocalDatePredicateFilter} with the specified name, filter value and date format.
+     *
+     * @param name The name of the field to filter by.
+     * @param value The filter value(s) to apply.
+     * @param dateFormat The date format to apply.
+     */
+    public LocalDatePredicateFilter(final String name, final String value, final String dateFormat) {
+        super(name, value, dateFormat);
+    }
+
+    /**
+     * Converts a timestamp into a {@link LocalDate}.
+     *
+     * @param instant The instant of the timestamp.
+     * @return The converted {@link LocalDate}.
+     */
+    @Override
+    protected LocalDate fromInstant(final Instant instant) {
+        return LocalDate.ofInstant(instant, ZoneId.systemDefault());
+    }
+
+    /**
+     * Converts a value parsed with the date format into a {@link LocalDate}.
+     *
+     * @param dateTime The parsed date-time.
+     * @return The converted {@link LocalDate}.
+     */
+    @Override
+    protected LocalDate fromDateTime(final ZonedDateTime dateTime) {
+        return dateTime.toLocalDate();
+    }
+
+    /**
+     * Parses an ISO-8601 value into a {@link LocalDate}.
+     *
+     * @param value The value to parse.
+     * @return The parsed {@link LocalDate}.
+     */
+    @Override
+    protected LocalDate parseIso(final String value) {
+        return LocalDate.parse(value);
+    }
+}
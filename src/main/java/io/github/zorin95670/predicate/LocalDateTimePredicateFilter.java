@@ -0,0 +1,73 @@
+package io.github.zorin95670.predicate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * A predicate filter specifically for handling {@link LocalDateTime} values in a
+ * {@link jakarta.persistence.criteria.CriteriaQuery}.
+ * <p>
+ * Values are parsed as ISO-8601 date-times ({@code 2024-01-31T10:15:30}), timestamps in milliseconds converted in
+ * the system time zone, or with the provided date format.
+ * </p>
+ *
+ * @param <T> The type of the entity being queried.
+ */
+public class LocalDateTimePredicateFilter<T> extends TemporalPredicateFilter<T, LocalDateTime> {
+
+    /**
+     * Constructs a new {@link LocalDateTimePredicateFilter} with the specified name and filter value.
+     *
+     * @param name The name of the field to filter by.
+     * @param value The filter value(s) to apply.
+     */
+    public LocalDateTimePredicateFilter(final String name, final String value) {
+        super(name, value);
+    }
+
+    /**
+     * Constructs a new {@link LocalDateTimePredicateFilter} with the specified name, filter value and date format.
+     *
+     * @param name The name of the field to filter by.
+     * @param value The filter value(s) to apply.
+     * @param dateFormat The date format to apply.
+     */
+    public LocalDateTimePredicateFilter(final String name, final String value, final String dateFormat) {
+        super(name, value, dateFormat);
+    }
+
+    /**
+     * Converts a timestamp into a {@link LocalDateTime}.
+     *
+     * @param instant The instant of the timestamp.
+     * @return The converted {@link LocalDateTime}.
+     */
+    @Override
+    protected LocalDateTime fromInstant(final Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+
+    /**
+     * Converts a value parsed with the date format into a {@link LocalDateTime}.
+     *
+     * @param dateTime The parsed date-time.
+     * @return The converted {@link LocalDateTime}.
+     */
+    @Override
+    protected LocalDateTime fromDateTime(final ZonedDateTime dateTime) {
+        return dateTime.toLocalDateTime();
+    }
+
+    /**
+     * Parses an ISO-8601 value into a {@link LocalDateTime}.
+     *
+     * @param value The value to parse.
+     * @return The parsed {@link LocalDateTime}.
+     */
+    @Override
+    protected LocalDateTime parseIso(final String value) {
+        return LocalDateTime.parse(value);
+    }
+}
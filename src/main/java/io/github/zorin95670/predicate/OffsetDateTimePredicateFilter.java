@@ -0,0 +1,73 @@
+package io.github.zorin95670.predicate;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * A predicate filter specifically for handling {@link OffsetDateTime} values in a
+ * {@link jakarta.persistence.criteria.CriteriaQuery}.
+ * <p>
+ * Values are parsed as ISO-8601 date-times with offset ({@code 2024-01-31T10:15:30+01:00}), timestamps in
+ * milliseconds converted in the system time zone, or with the provided date format.
+ * </p>
+ *
+ * @param <T> The type of the entity being queried.
+ */
+public class OffsetDateTimePredicateFilter<T> extends TemporalPredicateFilter<T, OffsetDateTime> {
+
+    /**
+     * Constructs a new {@link OffsetDateTimePredicateFilter} with the specified name and filter value.
+     *
+     * @param name The name of the field to filter by.
+     * @param value The filter value(s) to apply.
+     */
+    public OffsetDateTimePredicateFilter(final String name, final String value) {
+        super(name, value);
+    }
+
+    /**
+     * Constructs a new {@link OffsetDateTimePredicateFilter} with the specified name, filter value and date format.
+     *
+     * @param name The name of the field to filter by.
+     * @param value The filter value(s) to apply.
+     * @param dateFormat The date format to apply.
+     */
+    public OffsetDateTimePredicateFilter(final String name, final String value, final String dateFormat) {
+        super(name, value, dateFormat);
+    }
+
+    /**
+     * Converts a timestamp into a {@link OffsetDateTime}.
+     *
+     * @param instant The instant of the timestamp.
+     * @return The converted {@link OffsetDateTime}.
+     */
+    @Override
+    protected OffsetDateTime fromInstant(final Instant instant) {
+        return OffsetDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+
+    /**
+     * Converts a value parsed with the date format into a {@link OffsetDateTime}.
+     *
+     * @param dateTime The parsed date-time.
+     * @return The converted {@link OffsetDateTime}.
+     */
+    @Override
+    protected OffsetDateTime fromDateTime(final ZonedDateTime dateTime) {
+        return dateTime.toOffsetDateTime();
+    }
+
+    /**
+     * Parses an ISO-8601 value into a {@link OffsetDateTime}.
+     *
+     * @param value The value to parse.
+     * @return The parsed {@link OffsetDateTime}.
+     */
+    @Override
+    protected OffsetDateTime parseIso(final String value) {
+        return OffsetDateTime.parse(value);
+    }
+}
@@ -1,12 +1,19 @@
 package io.github.zorin95670.predicate;
 
+import io.github.zorin95670.exception.SpringQueryFilterException;
 import jakarta.persistence.criteria.CommonAbstractCriteria;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 
-import java.util.Arrays;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 import java.util.stream.IntStream;
 
 /**
@@ -19,6 +26,23 @@ import java.util.stream.IntStream;
  */
 public abstract class PredicateFilter<T, Y> implements IPredicateFilter<T, Y> {
 
+    /**
+     * Operators supported by every filter, besides the ones always read by the parser.
+     */
+    private static final Set<PredicateOperator> SUPPORTED_OPERATORS = Collections.unmodifiableSet(
+        EnumSet.noneOf(PredicateOperator.class));
+
+    /**
+     * Whether each filter class builds its predicates with the built-in logic, so its equalities can be combined into
+     * {@code IN} lists and it can be rendered to JPQL.
+     */
+    private static final ClassValue<Boolean> BUILT_IN_PREDICATE = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            return isBuiltInPredicate(type);
+        }
+    };
+
     /**
      * Operators for each query parameter value.
      */
@@ -36,9 +60,38 @@ public abstract class PredicateFilter<T, Y> implements IPredicateFilter<T, Y> {
 
     /**
      * The values provided for the query parameter, split by {@code OR_DELIMITER}.
+     * <p>
+     * A value is copied from the raw value only once: its literal when its operator is extracted, or its whole
+     * alternative if it is read before. Until then, it is {@code null} and {@link #assignedValues} is not set.
+     * </p>
      */
     private String[] values;
 
+    /**
+     * Whether each value was copied from the raw value or set, instead of still being only an offset of its term.
+     */
+    private boolean[] assignedValues;
+
+    /**
+     * The terms read from the raw query parameter value, one per value.
+     */
+    private List<FilterTerm> terms;
+
+    /**
+     * Typed operands of each query parameter value, parsed once by {@link #extract()}.
+     */
+    private final List<List<Y>> operands;
+
+    /**
+     * Maximum number of values in a single {@code IN} list.
+     */
+    private int maxInListSize = InListPredicates.DEFAULT_MAX_SIZE;
+
+    /**
+     * Whether the filter cannot be modified anymore, see {@link #freeze()}.
+     */
+    private boolean frozen;
+
     /**
      * Constructor initializing a {@code PredicateFilter} with a name and raw query value.
      *
@@ -48,8 +101,9 @@ public abstract class PredicateFilter<T, Y> implements IPredicateFilter<T, Y> {
     public PredicateFilter(final String name, final String value) {
         this.setName(name);
         this.setValues(value);
-        this.operators = new PredicateOperator[this.getValues().length];
-        this.isNotOperators = new boolean[this.getValues().length];
+        this.operators = new PredicateOperator[this.values.length];
+        this.isNotOperators = new boolean[this.values.length];
+        this.operands = new ArrayList<>(Collections.nCopies(this.values.length, null));
     }
 
     /**
@@ -69,9 +123,56 @@ public abstract class PredicateFilter<T, Y> implements IPredicateFilter<T, Y> {
      * @param state {@code true} to negate; {@code false} otherwise
      */
     public void setIsNotOperator(final int index, final boolean state) {
+        this.checkNotFrozen();
         this.isNotOperators[index] = state;
     }
 
+    /**
+     * Indicates whether the value at the specified index is a plain equality, without negation.
+     * <p>
+     * Plain equalities of a filter are combined into a single {@code IN} predicate.
+     * </p>
+     *
+     * @param index the index of the value
+     * @return {@code true} if the value uses {@link PredicateOperator#EQUALS} without {@link PredicateOperator#NOT}
+     */
+    public boolean isEquality(final int index) {
+        return PredicateOperator.EQUALS.equals(this.getOperator(index)) && !this.getIsNotOperator(index);
+    }
+
+    /**
+     * Indicates whether the value at the specified index is a negated equality.
+     * <p>
+     * Negated equalities of separate filters on the same field can be combined into a single {@code NOT IN}
+     * predicate.
+     * </p>
+     *
+     * @param index the index of the value
+     * @return {@code true} if the value uses {@link PredicateOperator#EQUALS} with {@link PredicateOperator#NOT}
+     */
+    public boolean isNegatedEquality(final int index) {
+        return PredicateOperator.EQUALS.equals(this.getOperator(index)) && this.getIsNotOperator(index);
+    }
+
+    /**
+     * Gets the maximum number of values in a single {@code IN} list.
+     *
+     * @return the maximum size of an {@code IN} list
+     */
+    public int getMaxInListSize() {
+        return maxInListSize;
+    }
+
+    /**
+     * Sets the maximum number of values in a single {@code IN} list. Longer lists are split into several lists.
+     *
+     * @param maxInListSize the maximum size of an {@code IN} list, depending on the database
+     */
+    public void setMaxInListSize(final int maxInListSize) {
+        this.checkNotFrozen();
+        this.maxInListSize = maxInListSize;
+    }
+
     /**
      * Gets the name of the query parameter.
      *
@@ -87,6 +188,7 @@ public abstract class PredicateFilter<T, Y> implements IPredicateFilter<T, Y> {
      * @param name the name of the query parameter
      */
     public void setName(final String name) {
+        this.checkNotFrozen();
         this.name = name;
     }
 
@@ -97,6 +199,11 @@ public abstract class PredicateFilter<T, Y> implements IPredicateFilter<T, Y> {
      * @return the parameter value at the specified index
      */
     public String getValue(final int index) {
+        if (!this.assignedValues[index]) {
+            this.values[index] = this.terms.get(index).getAlternative();
+            this.assignedValues[index] = true;
+        }
+
         return this.values[index];
     }
 
@@ -106,9 +213,19 @@ public abstract class PredicateFilter<T, Y> implements IPredicateFilter<T, Y> {
      * @param index the index to set
      * @param value the new value
      */
-
     public void setValue(final int index, final String value) {
+        this.checkNotFrozen();
         this.values[index] = value;
+        this.assignedValues[index] = true;
+    }
+
+    /**
+     * Gets the number of parameter values, without copying them.
+     *
+     * @return the number of values
+     */
+    public int getValueCount() {
+        return this.values.length;
     }
 
     /**
@@ -117,16 +234,56 @@ public abstract class PredicateFilter<T, Y> implements IPredicateFilter<T, Y> {
      * @return a copy of the parameter values array
      */
     public String[] getValues() {
-        return Arrays.copyOf(this.values, this.values.length);
+        final String[] copy = new String[this.values.length];
+
+        for (int index = 0; index < copy.length; index++) {
+            copy[index] = this.getValue(index);
+        }
+
+        return copy;
     }
 
     /**
      * Sets parameter values by splitting the input string using {@code OR_DELIMITER}.
+     * <p>
+     * The input string is read once by a {@link FilterValueParser}, which also records the operator of each value
+     * for {@link #setOperatorFromValue(int)}. Values are not copied yet: only the offsets of their terms are kept.
+     * </p>
      *
      * @param value the raw parameter string
      */
     public void setValues(final String value) {
-        this.values = value.split(PredicateOperator.OR.getValue());
+        this.checkNotFrozen();
+        this.terms = new FilterValueParser(this.getSupportedOperators()).parse(value);
+        this.values = new String[this.terms.size()];
+        this.assignedValues = new boolean[this.terms.size()];
+    }
+
+    /**
+     * Gets the operators supported by this filter, besides {@link PredicateOperator#EQUALS},
+     * {@link PredicateOperator#NOT} and {@link PredicateOperator#NULL}.
+     * <p>
+     * This method is called during construction: implementations must not depend on instance fields.
+     * </p>
+     *
+     * @return the supported operators
+     */
+    protected Set<PredicateOperator> getSupportedOperators() {
+        return SUPPORTED_OPERATORS;
+    }
+
+    /**
+     * Normalizes the literal of a value once its operator is known.
+     * <p>
+     * The default implementation returns the literal unchanged.
+     * </p>
+     *
+     * @param operator the operator of the value
+     * @param literal the literal, without operator prefixes
+     * @return the normalized literal
+     */
+    protected String normalizeLiteral(final PredicateOperator operator, final String literal) {
+        return literal;
     }
 
     /**
@@ -146,42 +303,166 @@ public abstract class PredicateFilter<T, Y> implements IPredicateFilter<T, Y> {
      * @param operator the new operator
      */
     public final void setOperator(final int index, final PredicateOperator operator) {
+        this.checkNotFrozen();
         this.operators[index] = operator;
     }
 
     /**
      * Sets the operator based on the parameter value.
+     * <p>
+     * The operator, the negation flag and the literal were read by {@link FilterValueParser} when the values were
+     * set: this method only applies them, without scanning the value again.
+     * </p>
      *
      * @param index the index to evaluate
      */
     public void setOperatorFromValue(final int index) {
-        this.setOperator(index, PredicateOperator.EQUALS);
+        this.checkNotFrozen();
+        final FilterTerm term = this.terms.get(index);
 
-        if (this.values[index].toLowerCase().startsWith(PredicateOperator.NOT.getValue())) {
+        this.setOperator(index, term.getOperator());
+
+        if (term.isNegated()) {
             this.setIsNotOperator(index, true);
-            this.setValue(index, this.values[index].substring(PredicateOperator.NOT.getValue().length()));
         }
 
-        if (PredicateOperator.NULL.getValue().equalsIgnoreCase(this.values[index])) {
-            this.setOperator(index, PredicateOperator.NULL);
+        this.setValue(index, this.normalizeLiteral(term.getOperator(), term.getLiteral()));
+    }
+
+    /**
+     * Gets the term read from the value at the specified index.
+     *
+     * @param index the index of the value
+     * @return the term of the value
+     */
+    final FilterTerm getTerm(final int index) {
+        return this.terms.get(index);
+    }
+
+    /**
+     * Parses a literal of the raw value, reporting its offset if it cannot be parsed.
+     *
+     * @param literal the literal to parse
+     * @param offset the offset of the literal in the raw value
+     * @return the typed operand
+     * @throws SpringQueryFilterException if the literal cannot be parsed, with its offset
+     */
+    protected final Y parseLiteral(final String literal, final int offset) {
+        try {
+            return this.parseValue(literal);
+        } catch (SpringQueryFilterException exception) {
+            throw new SpringQueryFilterException(
+                exception.getMessage(),
+                exception.getCause(),
+                exception.getQueryFilterType(),
+                exception.getQueryParameterName(),
+                exception.getQueryParameterValue(),
+                offset
+            );
         }
+    }
+
+    /**
+     * Parses the operands of the value at the specified index, according to its operator.
+     * <p>
+     * A {@link PredicateOperator#NULL} operator has no operand. Any other operator has a single operand,
+     * parsed from the whole value with {@link #parseValue(String)}.
+     * </p>
+     *
+     * @param index the index of the value
+     * @return the typed operands of the value
+     */
+    public List<Y> parseOperands(final int index) {
+        if (PredicateOperator.NULL.equals(this.getOperator(index))) {
+            return Collections.emptyList();
+        }
+
+        return Collections.singletonList(this.parseLiteral(this.getValue(index), this.terms.get(index).getStart()));
+    }
+
+    /**
+     * Retrieves a typed operand of the value at the specified index.
+     * <p>
+     * Operands are parsed once by {@link #extract()}. If the filter has not been extracted yet, the operand is parsed
+     * from the current value on each call.
+     * </p>
+     *
+     * @param index the index of the value
+     * @param position the position of the operand, {@code 0} for the first one
+     * @return the typed operand
+     */
+    public Y getOperand(final int index, final int position) {
+        List<Y> parsedOperands = this.operands.get(index);
 
-        if (this.values[index].toLowerCase().startsWith(PredicateOperator.EQUALS.getValue())) {
-            this.setValue(index, this.values[index].substring(PredicateOperator.EQUALS.getValue().length()));
+        if (parsedOperands == null) {
+            parsedOperands = this.parseOperands(index);
         }
+
+        return parsedOperands.get(position);
     }
 
     /**
-     * Extracts operators for each parameter value.
+     * Extracts operators for each parameter value, then parses their typed operands.
+     * <p>
+     * Once extracted, the filter is not modified anymore by {@link #getPredicate(CriteriaBuilder, Root,
+     * CommonAbstractCriteria)}, so it can be reused to build predicates for several queries.
+     * </p>
      */
     @Override
     public void extract() {
-        IntStream.range(0, this.getValues().length)
+        this.checkNotFrozen();
+
+        IntStream.range(0, this.values.length)
             .forEach(this::setOperatorFromValue);
+        IntStream.range(0, this.values.length)
+            .forEach(index -> this.operands.set(index, this.parseOperands(index)));
+    }
+
+    /**
+     * Freezes the filter: its setters, and {@link #extract()}, throw an {@link IllegalStateException} from now on.
+     * <p>
+     * Filters of a cached {@link io.github.zorin95670.specification.FilterPlan} are frozen, since the plan is shared
+     * by every request with the same filters. Subclasses holding their own settings must check them with
+     * {@link #checkNotFrozen()}.
+     * </p>
+     */
+    public void freeze() {
+        this.frozen = true;
+    }
+
+    /**
+     * Indicates whether the filter is frozen, see {@link #freeze()}.
+     *
+     * @return {@code true} if the filter cannot be modified anymore
+     */
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    /**
+     * Checks that the filter can still be modified, before a setter changes it.
+     *
+     * @throws IllegalStateException if the filter is frozen
+     */
+    protected final void checkNotFrozen() {
+        if (this.frozen) {
+            throw new IllegalStateException("Predicate filter '" + this.name + "' is frozen: it belongs to a cached "
+                + "filter plan and cannot be modified.");
+        }
     }
 
     /**
      * Generates a predicate combining all parameter conditions with logical OR.
+     * <p>
+     * When several values are plain equalities, they are combined into a single {@code IN} predicate instead of a
+     * disjunction of equalities, unless the filter builds its predicates differently, see
+     * {@link #isInListCombinable()}.
+     * </p>
+     * <p>
+     * The name of the filter may be a dotted path, see {@link AttributePaths}. When the path goes through a to-many
+     * association, the conditions are checked in an {@code EXISTS} subquery correlated to the root, so that matching
+     * entities are selected once instead of once per matching element.
+     * </p>
      *
      * @param builder the criteria builder
      * @param root the query root
@@ -192,11 +473,332 @@ public abstract class PredicateFilter<T, Y> implements IPredicateFilter<T, Y> {
     public Predicate getPredicate(final CriteriaBuilder builder,
                                   final Root<T> root,
                                   final CommonAbstractCriteria query) {
-        Predicate[] predicates = IntStream.range(0, this.getValues().length)
-                .mapToObj(index -> this.getPredicate(index, builder, root))
-                .toArray(Predicate[]::new);
+        if (!AttributePaths.isToMany(root, this.getName())) {
+            return this.getValuesPredicate(builder, root);
+        }
+
+        Subquery<Integer> subquery = query.subquery(Integer.class);
+        Root<T> correlatedRoot = subquery.correlate(root);
+
+        subquery.select(builder.literal(1)).where(this.getValuesPredicate(builder, correlatedRoot));
 
-        return builder.and(builder.or(predicates));
+        return builder.exists(subquery);
+    }
+
+    /**
+     * Generates the predicate combining all parameter conditions with logical OR on a root.
+     *
+     * @param builder the criteria builder
+     * @param root the query root, or a root correlated to it
+     * @return a predicate representing the combined conditions
+     */
+    private Predicate getValuesPredicate(final CriteriaBuilder builder, final Root<T> root) {
+        List<Predicate> predicates = new ArrayList<>();
+        List<Integer> equalities = new ArrayList<>();
+
+        boolean inListCombinable = this.isInListCombinable();
+
+        for (int index = 0; index < this.values.length; index++) {
+            if (inListCombinable && this.isEquality(index)) {
+                equalities.add(index);
+            } else {
+                predicates.add(this.getPredicate(index, builder, root));
+            }
+        }
+
+        if (equalities.size() == 1) {
+            predicates.add(this.getPredicate(equalities.getFirst(), builder, root));
+        } else if (!equalities.isEmpty()) {
+            List<Y> inValues = equalities.stream()
+                .map(index -> this.getOperand(index, 0))
+                .toList();
+
+            predicates.add(this.getInPredicate(builder, root, inValues, false));
+        }
+
+        return builder.and(builder.or(predicates.toArray(Predicate[]::new)));
+    }
+
+    /**
+     * Builds an {@code IN} or {@code NOT IN} predicate on the field of this filter.
+     * <p>
+     * Values are compared to {@link #getEqualityExpression(CriteriaBuilder, Expression)}, as equalities are. Long
+     * lists are split according to {@link #getMaxInListSize()}.
+     * </p>
+     *
+     * @param builder the criteria builder
+     * @param root the query root
+     * @param inValues the typed operands to compare to, not empty
+     * @param negated {@code true} to build a {@code NOT IN} predicate
+     * @return the {@code IN} or {@code NOT IN} predicate
+     */
+    public Predicate getInPredicate(final CriteriaBuilder builder,
+                                    final Root<T> root,
+                                    final List<?> inValues,
+                                    final boolean negated) {
+        Expression<Y> field = this.getEqualityExpression(builder, AttributePaths.get(root, this.getName()));
+
+        if (negated) {
+            return InListPredicates.notIn(builder, field, inValues, this.getMaxInListSize());
+        }
+
+        return InListPredicates.in(builder, field, inValues, this.getMaxInListSize());
+    }
+
+    /**
+     * Gets the expression compared to the operands of equalities.
+     * <p>
+     * The default implementation returns the field itself.
+     * </p>
+     *
+     * @param builder the criteria builder
+     * @param field the field of this filter
+     * @return the expression compared to the operands
+     */
+    protected Expression<Y> getEqualityExpression(final CriteriaBuilder builder, final Expression<Y> field) {
+        return field;
+    }
+
+    /**
+     * Indicates whether the equalities of this filter can be combined into {@code IN} and {@code NOT IN} predicates.
+     * <p>
+     * Equalities are combinable when the predicates of this filter are built by the built-in logic, as for
+     * {@link #isJpqlRenderable()}. The equalities of a subclass overriding how predicates are built are combined with
+     * logical OR instead, so that its predicates are kept.
+     * </p>
+     *
+     * @return {@code true} if the equalities of this filter can be combined into {@code IN} lists
+     */
+    public boolean isInListCombinable() {
+        return BUILT_IN_PREDICATE.get(this.getClass());
+    }
+
+    /**
+     * Indicates whether this filter can be rendered to JPQL by {@link #renderJpql(JpqlWriter)}.
+     * <p>
+     * A filter is renderable when its predicates are built by the built-in logic of {@link PredicateFilter},
+     * {@link ComparablePredicateFilter} or {@link StringPredicateFilter}. A subclass overriding how predicates are
+     * built is not renderable, since its JPQL would not match its predicates. A filter on a dotted path is not
+     * renderable either, since its joins are only built by {@link AttributePaths}.
+     * </p>
+     *
+     * @return {@code true} if the filter can be rendered to JPQL
+     */
+    public boolean isJpqlRenderable() {
+        return BUILT_IN_PREDICATE.get(this.getClass()) && !AttributePaths.isNested(this.getName());
+    }
+
+    /**
+     * Renders the condition of this filter to JPQL, combining its values with logical OR.
+     * <p>
+     * As for {@link #getPredicate(CriteriaBuilder, Root, CommonAbstractCriteria)}, plain equalities are combined
+     * into a single {@code IN} list. The filter must be extracted.
+     * </p>
+     *
+     * @param writer the writer of the JPQL condition
+     */
+    public void renderJpql(final JpqlWriter writer) {
+        List<Integer> equalities = new ArrayList<>();
+        int start = writer.length();
+
+        writer.append("(");
+
+        for (int index = 0; index < this.values.length; index++) {
+            if (this.isEquality(index)) {
+                equalities.add(index);
+            } else {
+                appendOr(writer, start);
+                this.renderJpql(index, writer);
+            }
+        }
+
+        if (equalities.size() == 1) {
+            appendOr(writer, start);
+            this.renderJpql(equalities.getFirst(), writer);
+        } else if (!equalities.isEmpty()) {
+            appendOr(writer, start);
+            this.renderInJpql(writer, equalities.stream().map(index -> this.getOperand(index, 0)).toList(), false);
+        }
+
+        if (writer.length() == start + 1) {
+            writer.append("1 = 0");
+        }
+
+        writer.append(")");
+    }
+
+    /**
+     * Renders an {@code IN} or {@code NOT IN} condition on the field of this filter to JPQL.
+     * <p>
+     * Lists are split and padded as by {@link #getInPredicate(CriteriaBuilder, Root, List, boolean)}.
+     * </p>
+     *
+     * @param writer the writer of the JPQL condition
+     * @param inValues the typed operands to compare to, not empty
+     * @param negated {@code true} to render a {@code NOT IN} condition
+     */
+    public void renderInJpql(final JpqlWriter writer, final List<?> inValues, final boolean negated) {
+        String expression = this.getEqualityJpql(writer.getPath(this.getName()));
+        String operator = " IN (";
+        String separator = " OR ";
+
+        if (negated) {
+            operator = " NOT IN (";
+            separator = " AND ";
+        }
+
+        List<List<Object>> chunks = InListPredicates.chunk(inValues, this.getMaxInListSize());
+
+        writer.append("(");
+        for (int chunkIndex = 0; chunkIndex < chunks.size(); chunkIndex++) {
+            if (chunkIndex > 0) {
+                writer.append(separator);
+            }
+
+            writer.append(expression).append(operator);
+            List<Object> chunk = chunks.get(chunkIndex);
+            for (int valueIndex = 0; valueIndex < chunk.size(); valueIndex++) {
+                if (valueIndex > 0) {
+                    writer.append(", ");
+                }
+                writer.appendParameter(chunk.get(valueIndex));
+            }
+            writer.append(")");
+        }
+        writer.append(")");
+    }
+
+    /**
+     * Renders the condition of the value at the specified index to JPQL.
+     *
+     * @param index the index of the value
+     * @param writer the writer of the JPQL condition
+     */
+    public void renderJpql(final int index, final JpqlWriter writer) {
+        String path = writer.getPath(this.getName());
+
+        if (PredicateOperator.NULL.equals(this.getOperator(index))) {
+            writer.append(path);
+
+            if (this.getIsNotOperator(index)) {
+                writer.append(" IS NOT NULL");
+            } else {
+                writer.append(" IS NULL");
+            }
+            return;
+        }
+
+        this.renderJpql(index, writer, path);
+    }
+
+    /**
+     * Renders the comparison of an expression with the value at the specified index to JPQL.
+     * <p>
+     * This method mirrors {@link #getPredicate(int, CriteriaBuilder, Expression)}: it renders an equality, or an
+     * inequality when the value is negated.
+     * </p>
+     *
+     * @param index the index of the value
+     * @param writer the writer of the JPQL condition
+     * @param expression the JPQL expression to compare
+     */
+    protected void renderJpql(final int index, final JpqlWriter writer, final String expression) {
+        writer.append(expression);
+
+        if (this.getIsNotOperator(index)) {
+            writer.append(" <> ");
+        } else {
+            writer.append(" = ");
+        }
+
+        writer.appendParameter(this.getOperand(index, 0));
+    }
+
+    /**
+     * Gets the JPQL expression compared to the operands of equalities.
+     * <p>
+     * This method mirrors {@link #getEqualityExpression(CriteriaBuilder, Expression)}: the default implementation
+     * returns the path itself.
+     * </p>
+     *
+     * @param path the JPQL path of the field of this filter
+     * @return the JPQL expression compared to the operands
+     */
+    protected String getEqualityJpql(final String path) {
+        return path;
+    }
+
+    /**
+     * Appends the OR separator, unless the writer is at the start of the group.
+     *
+     * @param writer the writer of the JPQL condition
+     * @param start the position of the opening parenthesis of the group
+     */
+    private static void appendOr(final JpqlWriter writer, final int start) {
+        if (writer.length() > start + 1) {
+            writer.append(" OR ");
+        }
+    }
+
+    /**
+     * Indicates whether a filter class builds its predicates with the built-in logic.
+     *
+     * @param type the filter class
+     * @return {@code true} if every predicate building method is declared by a built-in filter class
+     */
+    private static boolean isBuiltInPredicate(final Class<?> type) {
+        try {
+            Method valuePredicate = type.getMethod("getPredicate", int.class, CriteriaBuilder.class, Expression.class);
+            Method indexPredicate = type.getMethod("getPredicate", int.class, CriteriaBuilder.class, Root.class);
+            Method filterPredicate = type.getMethod(
+                "getPredicate", CriteriaBuilder.class, Root.class, CommonAbstractCriteria.class);
+
+            return isBuiltIn(valuePredicate.getDeclaringClass())
+                && PredicateFilter.class.equals(indexPredicate.getDeclaringClass())
+                && PredicateFilter.class.equals(filterPredicate.getDeclaringClass())
+                && isBuiltIn(getDeclaringClass(type, "getEqualityExpression", CriteriaBuilder.class, Expression.class))
+                && isBuiltIn(getDeclaringClass(type, "renderJpql", int.class, JpqlWriter.class, String.class))
+                && isBuiltIn(getDeclaringClass(type, "getEqualityJpql", String.class));
+        } catch (NoSuchMethodException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * Gets the class declaring the most specific implementation of a method, including non-public methods.
+     *
+     * @param type the class to inspect
+     * @param name the name of the method
+     * @param parameterTypes the parameter types of the method
+     * @return the declaring class
+     * @throws NoSuchMethodException if no class of the hierarchy declares the method
+     */
+    private static Class<?> getDeclaringClass(final Class<?> type, final String name, final Class<?>... parameterTypes)
+        throws NoSuchMethodException {
+        Class<?> current = type;
+
+        while (current != null) {
+            try {
+                return current.getDeclaredMethod(name, parameterTypes).getDeclaringClass();
+            } catch (NoSuchMethodException exception) {
+                current = current.getSuperclass();
+            }
+        }
+
+        throw new NoSuchMethodException(name);
+    }
+
+    /**
+     * Indicates whether a class is one of the built-in filter base classes.
+     *
+     * @param type the class to check
+     * @return {@code true} for {@link PredicateFilter}, {@link ComparablePredicateFilter} and
+     *         {@link StringPredicateFilter}
+     */
+    private static boolean isBuiltIn(final Class<?> type) {
+        return PredicateFilter.class.equals(type)
+            || ComparablePredicateFilter.class.equals(type)
+            || StringPredicateFilter.class.equals(type);
     }
 
     /**
@@ -204,17 +806,19 @@ public abstract class PredicateFilter<T, Y> implements IPredicateFilter<T, Y> {
      *
      * @param index the index of the parameter value to use
      * @param builder the {@link CriteriaBuilder} used to create the predicate
-     * @param root the root entity containing the field to filter
+     * @param root the root entity containing the field to filter, or the start of its dotted path
      * @return a {@link Predicate} representing the condition at the specified index
      */
     public Predicate getPredicate(final int index,
                                   final CriteriaBuilder builder,
                                   final Root<T> root) {
+        Expression<Y> field = AttributePaths.get(root, this.getName());
+
         if (PredicateOperator.NULL.equals(this.operators[index])) {
-            return this.getNullPredicate(index, builder, root.get(this.getName()));
+            return this.getNullPredicate(index, builder, field);
         }
 
-        return this.getPredicate(index, builder, root.get(this.getName()));
+        return this.getPredicate(index, builder, field);
     }
 
     /**
@@ -247,8 +851,8 @@ public abstract class PredicateFilter<T, Y> implements IPredicateFilter<T, Y> {
                                   final CriteriaBuilder builder,
                                   final Expression<Y> field) {
         if (this.getIsNotOperator(index)) {
-            return builder.notEqual(field, parseValue(this.getValue(index)));
+            return builder.notEqual(field, this.getOperand(index, 0));
         }
-        return builder.equal(field, parseValue(this.getValue(index)));
+        return builder.equal(field, this.getOperand(index, 0));
     }
 }
@@ -4,6 +4,10 @@ import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * A predicate filter specifically for handling {@link String} values in a
  * {@link jakarta.persistence.criteria.CriteriaQuery}.
@@ -16,6 +20,12 @@ import jakarta.persistence.criteria.Predicate;
  */
 public class StringPredicateFilter<T> extends PredicateFilter<T, String> {
 
+    /**
+     * Operators supported by string filters.
+     */
+    private static final Set<PredicateOperator> SUPPORTED_OPERATORS = Collections.unmodifiableSet(
+        EnumSet.of(PredicateOperator.LIKE));
+
     /**
      * Constructs a new {@link StringPredicateFilter} with the specified name and filter value.
      *
@@ -27,27 +37,34 @@ public class StringPredicateFilter<T> extends PredicateFilter<T, String> {
     }
 
     /**
-     * Sets the operator for the filter based on the provided value at the given index.
+     * Gets the operators supported by string filters: a value can start with {@link PredicateOperator#LIKE}.
+     *
+     * @return the supported operators
+     */
+    @Override
+    protected Set<PredicateOperator> getSupportedOperators() {
+        return SUPPORTED_OPERATORS;
+    }
+
+    /**
+     * Normalizes the literal of a value.
      * <p>
-     * This method checks if the value starts with a "LIKE" operator and updates the operator accordingly.
-     * It also replaces "*" with "%" for the LIKE operation and converts the value to uppercase.
+     * For the "LIKE" operator, "*" is replaced with "%". The literal is then converted to uppercase.
      * </p>
      *
-     * @param index The index of the current value in the filter.
+     * @param operator The operator of the value.
+     * @param literal The literal, without operator prefixes.
+     * @return The normalized literal.
      */
     @Override
-    public final void setOperatorFromValue(final int index) {
-        super.setOperatorFromValue(index);
-
-        String value = getValue(index);
+    protected String normalizeLiteral(final PredicateOperator operator, final String literal) {
+        String value = literal;
 
-        if (value.toLowerCase().startsWith(PredicateOperator.LIKE.getValue())) {
-            value = value.replace("*", "%");
-            this.setOperator(index, PredicateOperator.LIKE);
-            value = value.substring(PredicateOperator.LIKE.getValue().length());
+        if (PredicateOperator.LIKE.equals(operator)) {
+            value = value.replace('*', '%');
         }
 
-        this.setValue(index, value.toUpperCase());
+        return value.toUpperCase();
     }
 
     /**
@@ -67,7 +84,7 @@ public class StringPredicateFilter<T> extends PredicateFilter<T, String> {
                                         final CriteriaBuilder builder,
                                         final Expression<String> field) {
         if (PredicateOperator.LIKE.equals(this.getOperator(index))) {
-            String value = this.getValue(index).toUpperCase();
+            String value = this.getOperand(index, 0).toUpperCase();
 
             if (this.getIsNotOperator(index)) {
                 return builder.notLike(builder.upper(field), value);
@@ -79,6 +96,60 @@ public class StringPredicateFilter<T> extends PredicateFilter<T, String> {
         return super.getPredicate(index, builder, builder.upper(field));
     }
 
+    /**
+     * Gets the expression compared to the operands of equalities: the field in uppercase, since values are
+     * converted to uppercase.
+     *
+     * @param builder The {@link CriteriaBuilder} used to construct the expression.
+     * @param field The field in the entity to compare.
+     * @return The field in uppercase.
+     */
+    @Override
+    protected Expression<String> getEqualityExpression(final CriteriaBuilder builder,
+                                                       final Expression<String> field) {
+        return builder.upper(field);
+    }
+
+    /**
+     * Renders the comparison of an expression with the value at the specified index to JPQL.
+     * <p>
+     * This method mirrors {@link #getPredicate(int, CriteriaBuilder, Expression)}: the expression is compared in
+     * uppercase.
+     * </p>
+     *
+     * @param index The index of the current value in the filter.
+     * @param writer The writer of the JPQL condition.
+     * @param expression The JPQL expression to compare.
+     */
+    @Override
+    protected void renderJpql(final int index, final JpqlWriter writer, final String expression) {
+        if (PredicateOperator.LIKE.equals(this.getOperator(index))) {
+            writer.append("UPPER(").append(expression).append(")");
+
+            if (this.getIsNotOperator(index)) {
+                writer.append(" NOT LIKE ");
+            } else {
+                writer.append(" LIKE ");
+            }
+
+            writer.appendParameter(this.getOperand(index, 0).toUpperCase());
+            return;
+        }
+
+        super.renderJpql(index, writer, "UPPER(" + expression + ")");
+    }
+
+    /**
+     * Gets the JPQL expression compared to the operands of equalities: the path in uppercase.
+     *
+     * @param path The JPQL path of the field.
+     * @return The path in uppercase.
+     */
+    @Override
+    protected String getEqualityJpql(final String path) {
+        return "UPPER(" + path + ")";
+    }
+
     /**
      * Parses the given string value and returns it as a {@link String}.
      * <p>
@@ -0,0 +1,167 @@
+package io.github.zorin95670.predicate;
+
+import io.github.zorin95670.exception.SpringQueryFilterException;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Base class of the predicate filters for {@code java.time} values.
+ * <p>
+ * A value is parsed, in order of precedence:
+ * </p>
+ * <ul>
+ *     <li>with the provided date format, if any;</li>
+ *     <li>as a timestamp in milliseconds, if it only contains digits;</li>
+ *     <li>as an ISO-8601 value otherwise.</li>
+ * </ul>
+ * <p>
+ * Date formats are resolved through a shared cache of immutable {@link DateTimeFormatter} instances, so filters
+ * using the same format do not create a new formatter. Values without time zone use the system time zone.
+ * </p>
+ *
+ * @param <T> The type of the entity being queried.
+ * @param <Y> The {@code java.time} type of the field.
+ */
+public abstract class TemporalPredicateFilter<T, Y extends Comparable<? super Y>>
+    extends ComparablePredicateFilter<T, Y> {
+
+    /**
+     * The pattern of the date format, or {@code null} to parse timestamps and ISO-8601 values.
+     */
+    private String dateFormat;
+
+    /**
+     * The formatter of the date format, or {@code null} if no date format is set.
+     */
+    private DateTimeFormatter formatter;
+
+    /**
+     * Constructs a new filter with the specified name and filter value.
+     *
+     * @param name The name of the field to filter by.
+     * @param value The filter value(s) to apply.
+     */
+    public TemporalPredicateFilter(final String name, final String value) {
+        this(name, value, null);
+    }
+
+    /**
+     * Constructs a new filter with the specified name, filter value and date format.
+     *
+     * @param name The name of the field to filter by.
+     * @param value The filter value(s) to apply.
+     * @param dateFormat The date format to apply, or {@code null}.
+     */
+    public TemporalPredicateFilter(final String name, final String value, final String dateFormat) {
+        super(name, value);
+        this.setDateFormat(dateFormat);
+    }
+
+    /**
+     * Gets the pattern of the date format.
+     *
+     * @return the date format, or {@code null} if none is set
+     */
+    public String getDateFormat() {
+        return dateFormat;
+    }
+
+    /**
+     * Sets the date format to be used for parsing values.
+     *
+     * @param dateFormat The date format to apply, or {@code null} to parse timestamps and ISO-8601 values.
+     * @throws SpringQueryFilterException if the provided format is invalid.
+     * @throws IllegalStateException if the filter is frozen.
+     */
+    public void setDateFormat(final String dateFormat) {
+        this.checkNotFrozen();
+        this.dateFormat = dateFormat;
+        this.formatter = DateTimeFormatters.forDateFormat(dateFormat);
+    }
+
+    /**
+     * Parses the given string value.
+     *
+     * @param value The string value to be parsed.
+     * @return The parsed value.
+     * @throws SpringQueryFilterException if the value cannot be parsed.
+     */
+    @Override
+    public Y parseValue(final String value) {
+        try {
+            if (this.formatter != null) {
+                return this.fromDateTime(DateTimeFormatters.parse(value, this.formatter));
+            }
+
+            if (isTimestamp(value)) {
+                return this.fromInstant(Instant.ofEpochMilli(Long.parseLong(value)));
+            }
+
+            return this.parseIso(value);
+        } catch (DateTimeException | NumberFormatException exception) {
+            String message = "Invalid date format: Unable to parse the value '" + value + "' as a timestamp or an "
+                + "ISO-8601 date.";
+
+            if (this.formatter != null) {
+                message = "Invalid date format: Unable to parse the value '" + value + "' as a date according the "
+                    + "provided format '" + this.dateFormat + "'.";
+            }
+
+            throw new SpringQueryFilterException(message, exception, "DATE", this.getName(), value);
+        }
+    }
+
+    /**
+     * Converts a timestamp into the field type.
+     *
+     * @param instant The instant of the timestamp.
+     * @return The converted value.
+     */
+    protected abstract Y fromInstant(Instant instant);
+
+    /**
+     * Converts a value parsed with the date format into the field type.
+     *
+     * @param dateTime The parsed date-time.
+     * @return The converted value.
+     */
+    protected abstract Y fromDateTime(ZonedDateTime dateTime);
+
+    /**
+     * Parses an ISO-8601 value into the field type.
+     *
+     * @param value The value to parse.
+     * @return The parsed value.
+     * @throws DateTimeException if the value cannot be parsed.
+     */
+    protected abstract Y parseIso(String value);
+
+    /**
+     * Indicates whether a value is a timestamp: an optional minus sign followed by digits only.
+     *
+     * @param value The value to check.
+     * @return {@code true} if the value is a timestamp
+     */
+    private static boolean isTimestamp(final String value) {
+        int start = 0;
+
+        if (value.startsWith("-")) {
+            start = 1;
+        }
+
+        if (value.length() == start) {
+            return false;
+        }
+
+        for (int index = start; index < value.length(); index++) {
+            if (!Character.isDigit(value.charAt(index))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
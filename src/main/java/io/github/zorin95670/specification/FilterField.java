@@ -0,0 +1,52 @@
+package io.github.zorin95670.specification;
+
+import io.github.zorin95670.predicate.FilterType;
+
+/**
+ * Descriptor of an entity field annotated with {@link FilterType}.
+ * <p>
+ * Instances are created once per entity class by {@link FilterMetadata}, or on each lookup of a dotted path, and are
+ * immutable, so they can be shared between threads and requests.
+ * </p>
+ */
+public final class FilterField {
+
+    /**
+     * The name or dotted path of the filtered field, which is also the key expected in the filters map.
+     */
+    private final String name;
+
+    /**
+     * The filter type declared by {@link FilterType#type()} on the field.
+     */
+    private final Class<?> type;
+
+    /**
+     * Constructs a new descriptor for a filtered field.
+     *
+     * @param name The name of the filtered field.
+     * @param type The filter type declared on the field.
+     */
+    public FilterField(final String name, final Class<?> type) {
+        this.name = name;
+        this.type = type;
+    }
+
+    /**
+     * Gets the name of the filtered field.
+     *
+     * @return the name of the filtered field
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the filter type declared on the field.
+     *
+     * @return the filter type
+     */
+    public Class<?> getType() {
+        return type;
+    }
+}
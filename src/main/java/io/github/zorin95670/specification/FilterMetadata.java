@@ -0,0 +1,190 @@
+package io.github.zorin95670.specification;
+
+import io.github.zorin95670.predicate.AttributePaths;
+import io.github.zorin95670.predicate.FilterType;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Filter metadata of an entity class.
+ * <p>
+ * The metadata indexes every field annotated with {@link FilterType}, including fields inherited from superclasses,
+ * by field name. It is resolved once per entity class and kept in a {@link ClassValue}, so the reflection on the
+ * class hierarchy only happens the first time an entity class is filtered.
+ * </p>
+ * <p>
+ * When a field is redeclared in a subclass, the declaration closest to the entity class wins.
+ * </p>
+ * <p>
+ * Fields of associated entities and embeddables are filtered with dotted paths, such as {@code customer.country}:
+ * every segment but the last one is a field of the entity, or of the class reached by the previous segment, and the
+ * last one must be annotated with {@link FilterType} in its own class. The element type of a collection is reached
+ * through the collection field, as in {@code tags.name}.
+ * </p>
+ */
+public final class FilterMetadata {
+
+    /**
+     * Metadata cache, computed lazily for each entity class.
+     */
+    private static final ClassValue<FilterMetadata> CACHE = new ClassValue<>() {
+        @Override
+        protected FilterMetadata computeValue(final Class<?> type) {
+            return new FilterMetadata(type);
+        }
+    };
+
+    /**
+     * The filtered fields of the entity class, indexed by field name.
+     */
+    private final Map<String, FilterField> fields;
+
+    /**
+     * The class reached by each field of the entity class: its type, or the element type of a collection, indexed by
+     * field name.
+     */
+    private final Map<String, Class<?>> fieldClasses;
+
+    /**
+     * Resolves the filter metadata of the given entity class.
+     *
+     * @param entityClass The entity class to inspect.
+     */
+    private FilterMetadata(final Class<?> entityClass) {
+        final Map<String, FilterField> resolvedFields = new HashMap<>();
+        final Map<String, Class<?>> resolvedClasses = new HashMap<>();
+
+        Class<?> current = entityClass;
+        while (current != null) {
+            for (Field field : current.getDeclaredFields()) {
+                FilterType filterType = field.getAnnotation(FilterType.class);
+
+                if (filterType != null) {
+                    resolvedFields.putIfAbsent(field.getName(), new FilterField(field.getName(), filterType.type()));
+                }
+
+                resolvedClasses.putIfAbsent(field.getName(), getReachedClass(field));
+            }
+            current = current.getSuperclass();
+        }
+
+        this.fields = Map.copyOf(resolvedFields);
+        this.fieldClasses = Map.copyOf(resolvedClasses);
+    }
+
+    /**
+     * Gets the class reached by a field in a dotted path.
+     *
+     * @param field The field.
+     * @return the element type of a collection or the value type of a map, when it is declared, the type of the field
+     * otherwise
+     */
+    private static Class<?> getReachedClass(final Field field) {
+        Type genericType = field.getGenericType();
+
+        if (genericType instanceof ParameterizedType parameterizedType) {
+            Type[] arguments = parameterizedType.getActualTypeArguments();
+            Type argument = null;
+
+            if (Collection.class.isAssignableFrom(field.getType())) {
+                argument = arguments[0];
+            } else if (Map.class.isAssignableFrom(field.getType())) {
+                argument = arguments[arguments.length - 1];
+            }
+
+            if (argument instanceof Class<?> argumentClass) {
+                return argumentClass;
+            }
+        }
+
+        return field.getType();
+    }
+
+    /**
+     * Gets the filter metadata of an entity class, resolving it on first access.
+     *
+     * @param entityClass The entity class.
+     * @return the filter metadata of the entity class
+     */
+    public static FilterMetadata of(final Class<?> entityClass) {
+        return CACHE.get(entityClass);
+    }
+
+    /**
+     * Gets the descriptor of a filtered field, or of a field of an associated class with a dotted path.
+     *
+     * @param name The name or the dotted path of the field.
+     * @return the descriptor of the field, named after {@code name}, or {@code null} if the field does not exist or is
+     * not annotated with {@link FilterType}
+     */
+    public FilterField getField(final String name) {
+        if (name == null) {
+            return null;
+        }
+
+        int separator = name.indexOf(AttributePaths.SEPARATOR);
+
+        if (separator < 0) {
+            return fields.get(name);
+        }
+
+        Class<?> reachedClass = fieldClasses.get(name.substring(0, separator));
+
+        if (reachedClass == null) {
+            return null;
+        }
+
+        FilterField field = of(reachedClass).getField(name.substring(separator + 1));
+
+        if (field == null) {
+            return null;
+        }
+
+        return new FilterField(name, field.getType());
+    }
+
+    /**
+     * Gets the classes reached by the intermediate segments of a dotted path, from the first one to the last one.
+     *
+     * @param path The dotted path of a field.
+     * @return the reached classes, empty for a field of the entity class, or if a segment is not a field
+     */
+    public List<Class<?>> getJoinedClasses(final String path) {
+        List<Class<?>> classes = new ArrayList<>();
+        FilterMetadata metadata = this;
+        int start = 0;
+        int end = path.indexOf(AttributePaths.SEPARATOR);
+
+        while (end >= 0) {
+            Class<?> reachedClass = metadata.fieldClasses.get(path.substring(start, end));
+
+            if (reachedClass == null) {
+                return List.of();
+            }
+
+            classes.add(reachedClass);
+            metadata = of(reachedClass);
+            start = end + 1;
+            end = path.indexOf(AttributePaths.SEPARATOR, start);
+        }
+
+        return classes;
+    }
+
+    /**
+     * Gets the names of all filtered fields of the entity class, without the dotted paths of associated classes.
+     *
+     * @return an unmodifiable set of field names
+     */
+    public Set<String> getFieldNames() {
+        return fields.keySet();
+    }
+}
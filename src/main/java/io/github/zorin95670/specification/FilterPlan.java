@@ -0,0 +1,253 @@
+package io.github.zorin95670.specification;
+
+import io.github.zorin95670.predicate.AttributePaths;
+import io.github.zorin95670.predicate.IPredicateFilter;
+import io.github.zorin95670.predicate.JpqlWriter;
+import io.github.zorin95670.predicate.PredicateFilter;
+import io.github.zorin95670.predicate.PredicateOperator;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * A compiled set of filters, ready to be turned into predicates.
+ * <p>
+ * A plan is created by {@link SpringQueryFilterSpecification#compile()}: every filter value is parsed once into an
+ * extracted {@link IPredicateFilter}, holding its operators, negation flags and typed operands. The plan itself does
+ * not parse anything anymore, so it can build predicates for any number of {@link CriteriaQuery} roots, for example
+ * the content and the count queries of a page.
+ * </p>
+ * <p>
+ * Filters holding a single negated equality on the same field, such as {@code status=not_A&status=not_B}, are
+ * combined into a single {@code NOT IN} predicate, unless they override how their predicates are built, see
+ * {@link PredicateFilter#isInListCombinable()}. Filters on dotted paths are not combined, since each filter on a
+ * to-many association is checked by its own {@code EXISTS} subquery.
+ * </p>
+ * <p>
+ * A plan is immutable and thread-safe, as long as the predicate filters it holds are not modified after
+ * compilation. Plans cached by a {@link FilterPlanCache} are frozen, so that their {@link PredicateFilter}s cannot
+ * be modified anymore.
+ * </p>
+ *
+ * @param <T> The entity type for which the plan is compiled.
+ */
+public final class FilterPlan<T> implements Specification<T> {
+
+    /**
+     * The extracted predicate filters, combined with a logical AND.
+     */
+    private final List<IPredicateFilter<T, ?>> predicateFilters;
+
+    /**
+     * The predicate filters that are not combined with others.
+     */
+    private final List<IPredicateFilter<T, ?>> singleFilters;
+
+    /**
+     * The groups of negated equalities on the same field, combined into {@code NOT IN} predicates.
+     */
+    private final List<List<PredicateFilter<T, ?>>> notInGroups;
+
+    /**
+     * The shape of the plan, see {@link #getShape()}.
+     */
+    private final String shape;
+
+    /**
+     * Constructs a new plan from extracted predicate filters.
+     *
+     * @param predicateFilters The extracted predicate filters.
+     */
+    public FilterPlan(final List<IPredicateFilter<T, ?>> predicateFilters) {
+        this.predicateFilters = List.copyOf(predicateFilters);
+
+        final List<IPredicateFilter<T, ?>> singles = new ArrayList<>();
+        final Map<String, List<PredicateFilter<T, ?>>> groups = new LinkedHashMap<>();
+
+        for (IPredicateFilter<T, ?> filter : this.predicateFilters) {
+            if (filter instanceof PredicateFilter<T, ?> predicateFilter
+                && predicateFilter.getValueCount() == 1
+                && predicateFilter.isNegatedEquality(0)
+                && predicateFilter.isInListCombinable()
+                && !AttributePaths.isNested(predicateFilter.getName())) {
+                groups.computeIfAbsent(predicateFilter.getName(), name -> new ArrayList<>()).add(predicateFilter);
+            } else {
+                singles.add(filter);
+            }
+        }
+
+        final List<List<PredicateFilter<T, ?>>> notIns = new ArrayList<>();
+        groups.values().forEach(group -> {
+            if (group.size() == 1) {
+                singles.add(group.getFirst());
+            } else {
+                notIns.add(List.copyOf(group));
+            }
+        });
+
+        this.singleFilters = List.copyOf(singles);
+        this.notInGroups = List.copyOf(notIns);
+        this.shape = buildShape(this.predicateFilters);
+    }
+
+    /**
+     * Builds the shape of a list of predicate filters.
+     *
+     * @param filters The predicate filters.
+     * @param <T> The entity type.
+     * @return The shape of the filters.
+     */
+    private static <T> String buildShape(final List<IPredicateFilter<T, ?>> filters) {
+        final Map<String, Set<String>> operators = new TreeMap<>();
+
+        for (IPredicateFilter<T, ?> filter : filters) {
+            if (filter instanceof PredicateFilter<T, ?> predicateFilter) {
+                final Set<String> fieldOperators = operators.computeIfAbsent(
+                    predicateFilter.getName(), name -> new TreeSet<>());
+
+                for (int index = 0; index < predicateFilter.getValueCount(); index++) {
+                    if (predicateFilter.getIsNotOperator(index)) {
+                        fieldOperators.add(PredicateOperator.NOT.name() + "_" + predicateFilter.getOperator(index));
+                    } else {
+                        fieldOperators.add(predicateFilter.getOperator(index).name());
+                    }
+                }
+            } else {
+                operators.computeIfAbsent(filter.getClass().getSimpleName(), name -> new TreeSet<>());
+            }
+        }
+
+        return operators.entrySet().stream()
+            .map(entry -> entry.getKey() + "." + String.join("|", entry.getValue()))
+            .collect(Collectors.joining("/"));
+    }
+
+    /**
+     * Freezes the predicate filters of this plan, see {@link PredicateFilter#freeze()}.
+     *
+     * @return {@code true} if every filter is frozen, {@code false} if the plan holds filters that are not
+     *         {@link PredicateFilter}s and so cannot be frozen
+     */
+    boolean freeze() {
+        boolean frozen = true;
+
+        for (IPredicateFilter<T, ?> filter : this.predicateFilters) {
+            if (filter instanceof PredicateFilter<T, ?> predicateFilter) {
+                predicateFilter.freeze();
+            } else {
+                frozen = false;
+            }
+        }
+
+        return frozen;
+    }
+
+    /**
+     * Gets the extracted predicate filters of this plan.
+     *
+     * @return an unmodifiable list of predicate filters
+     */
+    public List<IPredicateFilter<T, ?>> getPredicateFilters() {
+        return predicateFilters;
+    }
+
+    /**
+     * Gets the shape of this plan: its filtered fields and their operators, without their operands.
+     * <p>
+     * Plans of {@code ?age=gt_18} and {@code ?age=gt_65} share the shape {@code age.SUPERIOR}, while
+     * {@code ?age=gt_18&name=not_lk_a*|b} has the shape {@code age.SUPERIOR/name.EQUALS|NOT_LIKE}. Fields are sorted by
+     * name, and the operators of a field by name, without duplicates.
+     * </p>
+     *
+     * @return the shape of the plan, empty if it has no filters
+     */
+    public String getShape() {
+        return shape;
+    }
+
+    /**
+     * Builds the predicates of every filter of the plan and combines them using
+     * {@link CriteriaBuilder#and(Predicate...)}.
+     *
+     * @param root The root of the query, representing the entity.
+     * @param query The query being created.
+     * @param builder The criteria builder used to construct the predicates.
+     * @return A combined {@link Predicate} that represents the filters.
+     */
+    @Override
+    public Predicate toPredicate(final Root<T> root, final CriteriaQuery<?> query, final CriteriaBuilder builder) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        this.singleFilters.forEach(filter -> predicates.add(filter.getPredicate(builder, root, query)));
+        this.notInGroups.forEach(group -> {
+            List<?> operands = group.stream()
+                .map(filter -> filter.getOperand(0, 0))
+                .toList();
+
+            predicates.add(group.getFirst().getInPredicate(builder, root, operands, true));
+        });
+
+        return builder.and(predicates.toArray(Predicate[]::new));
+    }
+
+    /**
+     * Indicates whether this plan can be rendered to JPQL by {@link #renderJpql(JpqlWriter)}.
+     *
+     * @return {@code true} if every filter of the plan is a renderable {@link PredicateFilter}
+     */
+    public boolean isJpqlRenderable() {
+        return this.predicateFilters.stream()
+            .allMatch(filter -> filter instanceof PredicateFilter<T, ?> predicateFilter
+                && predicateFilter.isJpqlRenderable());
+    }
+
+    /**
+     * Renders the filters of the plan to a JPQL condition, combined with logical AND.
+     * <p>
+     * The rendered text only depends on the shape of the plan: its fields, operators and number of values. Operands
+     * are bound as named parameters. Nothing is written for a plan without filters.
+     * </p>
+     *
+     * @param writer the writer of the JPQL condition
+     * @throws IllegalStateException if the plan is not renderable, see {@link #isJpqlRenderable()}
+     */
+    public void renderJpql(final JpqlWriter writer) {
+        if (!this.isJpqlRenderable()) {
+            throw new IllegalStateException("Filter plan contains filters that cannot be rendered to JPQL.");
+        }
+
+        boolean first = true;
+
+        for (IPredicateFilter<T, ?> filter : this.singleFilters) {
+            if (!first) {
+                writer.append(" AND ");
+            }
+            ((PredicateFilter<T, ?>) filter).renderJpql(writer);
+            first = false;
+        }
+
+        for (List<PredicateFilter<T, ?>> group : this.notInGroups) {
+            if (!first) {
+                writer.append(" AND ");
+            }
+
+            List<?> operands = group.stream()
+                .map(filter -> filter.getOperand(0, 0))
+                .toList();
+
+            group.getFirst().renderInJpql(writer, operands, true);
+            first = false;
+        }
+    }
+}
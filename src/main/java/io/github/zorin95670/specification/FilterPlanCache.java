@@ -0,0 +1,207 @@
+package io.github.zorin95670.specification;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A size-bounded, least-recently-used cache of compiled {@link FilterPlan}s.
+ * <p>
+ * Plans are keyed by their {@link FilterPlanKey}, so repeated requests with the same filters on the same entity
+ * reuse the same plan and skip parsing completely. On a miss, the specification is compiled outside of the cache
+ * lock, so the first request for a filter combination costs the same as without cache.
+ * </p>
+ * <p>
+ * Cached plans are shared by every request with the same filters, so their predicate filters are frozen, see
+ * {@link io.github.zorin95670.predicate.PredicateFilter#freeze()}. Plans holding filters that cannot be frozen are
+ * not cached, and neither are the plans of specifications that are not
+ * {@link SpringQueryFilterSpecification#isPlanCacheable() cacheable}.
+ * </p>
+ * <p>
+ * This class is thread-safe. It exposes hit, miss and eviction counters to monitor its efficiency.
+ * </p>
+ */
+public class FilterPlanCache {
+
+    /**
+     * Default maximum number of cached plans.
+     */
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    /**
+     * Initial capacity of the underlying map.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Load factor of the underlying map.
+     */
+    private static final float LOAD_FACTOR = 0.75f;
+
+    /**
+     * The maximum number of cached plans.
+     */
+    private final int maxSize;
+
+    /**
+     * The cached plans, in access order.
+     */
+    private final Map<FilterPlanKey, FilterPlan<?>> plans;
+
+    /**
+     * Number of lookups that found a cached plan.
+     */
+    private final AtomicLong hitCount = new AtomicLong();
+
+    /**
+     * Number of lookups that had to compile a plan.
+     */
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * Number of plans removed to respect the maximum size.
+     */
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * Constructs a new cache with the default maximum size.
+     */
+    public FilterPlanCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Constructs a new cache with the given maximum size.
+     *
+     * @param maxSize The maximum number of cached plans, must be positive.
+     * @throws IllegalArgumentException if {@code maxSize} is not positive.
+     */
+    public FilterPlanCache(final int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Filter plan cache size must be positive: " + maxSize);
+        }
+
+        this.maxSize = maxSize;
+        this.plans = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<FilterPlanKey, FilterPlan<?>> eldest) {
+                if (size() > FilterPlanCache.this.maxSize) {
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Gets the compiled plan of a specification, compiling and caching it on a miss. A specification that is not
+     * cacheable is compiled without looking the cache up.
+     *
+     * @param specification The specification to compile.
+     * @param <T> The entity type.
+     * @return the compiled plan of the specification
+     */
+    public <T> FilterPlan<T> get(final SpringQueryFilterSpecification<T> specification) {
+        return get(specification, null);
+    }
+
+    /**
+     * Gets the plan of a specification compiled with
+     * {@link SpringQueryFilterSpecification#compile(FilterTypeRegistry)}, compiling and caching it on a miss. The
+     * specification itself is not modified.
+     *
+     * @param specification The specification to compile.
+     * @param defaultRegistry The registry used if the specification has none, or {@code null} for the default one.
+     * @param <T> The entity type.
+     * @return the compiled plan of the specification
+     */
+    @SuppressWarnings("unchecked")
+    public <T> FilterPlan<T> get(final SpringQueryFilterSpecification<T> specification,
+                                 final FilterTypeRegistry defaultRegistry) {
+        if (!specification.isPlanCacheable()) {
+            return specification.compile(defaultRegistry);
+        }
+
+        final FilterPlanKey key = new FilterPlanKey(specification, defaultRegistry);
+        FilterPlan<?> plan;
+
+        synchronized (plans) {
+            plan = plans.get(key);
+        }
+
+        if (plan != null) {
+            hitCount.incrementAndGet();
+            return (FilterPlan<T>) plan;
+        }
+
+        missCount.incrementAndGet();
+        FilterPlan<T> compiledPlan = specification.compile(defaultRegistry);
+
+        if (!compiledPlan.freeze()) {
+            return compiledPlan;
+        }
+
+        synchronized (plans) {
+            plans.put(key, compiledPlan);
+        }
+
+        return compiledPlan;
+    }
+
+    /**
+     * Removes all cached plans. Counters are not reset.
+     */
+    public void clear() {
+        synchronized (plans) {
+            plans.clear();
+        }
+    }
+
+    /**
+     * Gets the maximum number of cached plans.
+     *
+     * @return the maximum size of the cache
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Gets the current number of cached plans.
+     *
+     * @return the size of the cache
+     */
+    public int size() {
+        synchronized (plans) {
+            return plans.size();
+        }
+    }
+
+    /**
+     * Gets the number of lookups that found a cached plan.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Gets the number of lookups that had to compile a plan.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Gets the number of plans removed to respect the maximum size.
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+}
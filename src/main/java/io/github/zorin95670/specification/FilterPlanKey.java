@@ -0,0 +1,169 @@
+package io.github.zorin95670.specification;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Canonical identity of a compiled {@link FilterPlan}.
+ * <p>
+ * Two specifications with equal keys compile to equivalent plans: same specification class, same entity class,
+ * same version of the same type registry, same date format parameter, same {@code IN} list size, same
+ * {@link SpringQueryFilterSpecification#getPlanCacheKey() state of the specification} and same filter values for
+ * every filtered field. Filter keys that do not match a filtered field of the entity are not part of the
+ * key, since they are ignored during compilation.
+ * </p>
+ */
+public final class FilterPlanKey {
+
+    /**
+     * The class of the specification, which decides how filter values are compiled.
+     */
+    private final Class<?> specificationClass;
+
+    /**
+     * The class of the filtered entity.
+     */
+    private final Class<?> entityClass;
+
+    /**
+     * The registry used to create predicate filters, compared by identity.
+     */
+    private final FilterTypeRegistry filterTypeRegistry;
+
+    /**
+     * The version of the registry, so that plans compiled before a registration are not reused.
+     */
+    private final long filterTypeRegistryVersion;
+
+    /**
+     * The name of the date format parameter.
+     */
+    private final String dateFormatFieldName;
+
+    /**
+     * The maximum number of values in a single {@code IN} list.
+     */
+    private final int maxInListSize;
+
+    /**
+     * The state of the specification on which its plan depends, or {@code null}.
+     */
+    private final Object specificationKey;
+
+    /**
+     * The relevant filters, sorted by name.
+     */
+    private final Map<String, List<String>> filters;
+
+    /**
+     * The classes joined by the dotted paths of the filters, derived from the filters.
+     */
+    private final Set<Class<?>> joinedClasses;
+
+    /**
+     * Pre-computed hash code, since keys are looked up on every request.
+     */
+    private final int hashCode;
+
+    /**
+     * Constructs the canonical key of a specification.
+     *
+     * @param specification The specification to identify.
+     */
+    public FilterPlanKey(final SpringQueryFilterSpecification<?> specification) {
+        this(specification, null);
+    }
+
+    /**
+     * Constructs the canonical key of a specification compiled with
+     * {@link SpringQueryFilterSpecification#compile(FilterTypeRegistry)}.
+     *
+     * @param specification The specification to identify.
+     * @param defaultRegistry The registry used if the specification has none, or {@code null} for the default one.
+     */
+    public FilterPlanKey(final SpringQueryFilterSpecification<?> specification,
+                         final FilterTypeRegistry defaultRegistry) {
+        this.specificationClass = specification.getClass();
+        this.entityClass = specification.getEntityClass();
+        this.filterTypeRegistry = specification.getFilterTypeRegistry(defaultRegistry);
+        this.filterTypeRegistryVersion = filterTypeRegistry.getVersion();
+        this.dateFormatFieldName = specification.getDateFormatFieldName();
+        this.maxInListSize = specification.getMaxInListSize();
+        this.specificationKey = specification.getPlanCacheKey();
+
+        final FilterMetadata metadata = FilterMetadata.of(entityClass);
+        final Map<String, List<String>> canonicalFilters = new TreeMap<>();
+
+        specification.getFilters().forEach((name, values) -> {
+            if (name != null && values != null
+                && (metadata.getField(name) != null || name.equals(dateFormatFieldName))) {
+                canonicalFilters.put(name, Collections.unmodifiableList(new ArrayList<>(values)));
+            }
+        });
+
+        this.filters = Collections.unmodifiableMap(canonicalFilters);
+        this.joinedClasses = canonicalFilters.keySet().stream()
+            .flatMap(name -> metadata.getJoinedClasses(name).stream())
+            .collect(Collectors.toUnmodifiableSet());
+        this.hashCode = Objects.hash(specificationClass, entityClass, filterTypeRegistry, filterTypeRegistryVersion,
+            dateFormatFieldName, maxInListSize, specificationKey, filters);
+    }
+
+    /**
+     * Gets the class of the filtered entity.
+     *
+     * @return the entity class
+     */
+    public Class<?> getEntityClass() {
+        return entityClass;
+    }
+
+    /**
+     * Gets the classes joined by the dotted paths of the filters, such as the class of {@code customer} for a
+     * {@code customer.country} filter.
+     *
+     * @return an unmodifiable set of classes, empty if no filter has a dotted path
+     */
+    public Set<Class<?>> getJoinedClasses() {
+        return joinedClasses;
+    }
+
+    /**
+     * Gets the relevant filters of the specification, sorted by name.
+     *
+     * @return an unmodifiable map of filters
+     */
+    public Map<String, List<String>> getFilters() {
+        return filters;
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof FilterPlanKey other)) {
+            return false;
+        }
+        return hashCode == other.hashCode
+            && specificationClass.equals(other.specificationClass)
+            && entityClass.equals(other.entityClass)
+            && filterTypeRegistry == other.filterTypeRegistry
+            && filterTypeRegistryVersion == other.filterTypeRegistryVersion
+            && Objects.equals(dateFormatFieldName, other.dateFormatFieldName)
+            && maxInListSize == other.maxInListSize
+            && Objects.equals(specificationKey, other.specificationKey)
+            && filters.equals(other.filters);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
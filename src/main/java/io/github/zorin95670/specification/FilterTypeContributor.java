@@ -0,0 +1,28 @@
+package io.github.zorin95670.specification;
+
+/**
+ * Callback to register additional field types in the {@link FilterTypeRegistry}.
+ * <p>
+ * Every Spring bean implementing this interface is applied to the default registry by the auto-configuration, so
+ * an application can support new types without subclassing {@link SpringQueryFilterSpecification}.
+ * </p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * @Bean
+ * public FilterTypeContributor bigDecimalFilterType() {
+ *     return registry -> registry.register(BigDecimal.class,
+ *         (name, value, dateFormat) -> new BigDecimalPredicateFilter<>(name, value));
+ * }
+ * }</pre>
+ */
+@FunctionalInterface
+public interface FilterTypeContributor {
+
+    /**
+     * Registers field types in the given registry.
+     *
+     * @param registry The registry to contribute to.
+     */
+    void contribute(FilterTypeRegistry registry);
+}
@@ -0,0 +1,180 @@
+package io.github.zorin95670.specification;
+
+import io.github.zorin95670.predicate.BigDecimalPredicateFilter;
+import io.github.zorin95670.predicate.BooleanPredicateFilter;
+import io.github.zorin95670.predicate.DatePredicateFilter;
+import io.github.zorin95670.predicate.DoublePredicateFilter;
+import io.github.zorin95670.predicate.EnumPredicateFilter;
+import io.github.zorin95670.predicate.FloatPredicateFilter;
+import io.github.zorin95670.predicate.InstantPredicateFilter;
+import io.github.zorin95670.predicate.IntegerPredicateFilter;
+import io.github.zorin95670.predicate.LocalDatePredicateFilter;
+import io.github.zorin95670.predicate.LocalDateTimePredicateFilter;
+import io.github.zorin95670.predicate.LongPredicateFilter;
+import io.github.zorin95670.predicate.OffsetDateTimePredicateFilter;
+import io.github.zorin95670.predicate.StringPredicateFilter;
+import io.github.zorin95670.predicate.UUIDPredicateFilter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Registry of the field types supported by {@link SpringQueryFilterSpecification}.
+ * <p>
+ * Each type is mapped to the {@link PredicateFilterFactory} that creates its predicate filters. Resolving the factory
+ * of a field is a single map lookup on the exact field type. Enum types that are not registered are filtered by the
+ * names of their constants with an {@link EnumPredicateFilter}.
+ * </p>
+ * <p>
+ * Registrations are copy-on-write: lookups never lock, and a registration replaces the whole mapping atomically. Types
+ * are expected to be registered at startup, for example through {@link FilterTypeContributor} beans, and rarely
+ * afterward. Every registration changes the {@link #getVersion() version} of the registry, so that plans compiled
+ * before it are not reused by a {@link FilterPlanCache}.
+ * </p>
+ * <p>
+ * The auto-configuration creates a registry per application context, with the built-in types and the types of its
+ * contributors: the {@link #getDefault() default registry} only holds the built-in types, unless the application
+ * registers types in it.
+ * </p>
+ */
+public final class FilterTypeRegistry {
+
+    /**
+     * The registry used by specifications that do not define their own.
+     */
+    private static final FilterTypeRegistry DEFAULT = new FilterTypeRegistry();
+
+    /**
+     * The factories by field type, in registration order.
+     */
+    private volatile Map<Class<?>, PredicateFilterFactory> factories = Collections.emptyMap();
+
+    /**
+     * The number of registrations, compiled plans are only reused with the same version.
+     */
+    private volatile long version;
+
+    /**
+     * Constructs a new registry with the built-in types: {@code String}, {@code Date}, {@code Integer},
+     * {@code Long}, {@code Float}, {@code Double}, {@code BigDecimal}, {@code Boolean}, {@code UUID},
+     * {@code LocalDate}, {@code LocalDateTime}, {@code Instant} and {@code OffsetDateTime}, and enum types.
+     */
+    public FilterTypeRegistry() {
+        register(String.class, (name, value, dateFormat) -> new StringPredicateFilter<>(name, value));
+        register(Date.class, (name, value, dateFormat) -> {
+            if (dateFormat == null) {
+                return new DatePredicateFilter<>(name, value);
+            }
+
+            return new DatePredicateFilter<>(name, value, dateFormat);
+        });
+        register(Integer.class, (name, value, dateFormat) -> new IntegerPredicateFilter<>(name, value));
+        register(Long.class, (name, value, dateFormat) -> new LongPredicateFilter<>(name, value));
+        register(Float.class, (name, value, dateFormat) -> new FloatPredicateFilter<>(name, value));
+        register(Double.class, (name, value, dateFormat) -> new DoublePredicateFilter<>(name, value));
+        register(BigDecimal.class, (name, value, dateFormat) -> new BigDecimalPredicateFilter<>(name, value));
+        register(Boolean.class, (name, value, dateFormat) -> new BooleanPredicateFilter<>(name, value));
+        register(UUID.class, (name, value, dateFormat) -> new UUIDPredicateFilter<>(name, value));
+        register(LocalDate.class, LocalDatePredicateFilter::new);
+        register(LocalDateTime.class, LocalDateTimePredicateFilter::new);
+        register(Instant.class, InstantPredicateFilter::new);
+        register(OffsetDateTime.class, OffsetDateTimePredicateFilter::new);
+    }
+
+    /**
+     * Gets the registry shared by all specifications that do not define their own, outside of an executor with its
+     * own registry.
+     *
+     * @return the default registry
+     */
+    public static FilterTypeRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Registers the factory of a field type, replacing any previous factory of this type.
+     *
+     * @param type The field type.
+     * @param factory The factory of predicate filters for this type.
+     * @return this registry
+     */
+    public FilterTypeRegistry register(final Class<?> type, final PredicateFilterFactory factory) {
+        Objects.requireNonNull(type, "type");
+        Objects.requireNonNull(factory, "factory");
+
+        synchronized (this) {
+            Map<Class<?>, PredicateFilterFactory> copy = new LinkedHashMap<>(this.factories);
+            copy.put(type, factory);
+            this.factories = Collections.unmodifiableMap(copy);
+            this.version++;
+        }
+
+        return this;
+    }
+
+    /**
+     * Gets the factory of a field type.
+     *
+     * @param type The field type.
+     * @return the factory of this type, the factory of enum filters for an enum type that is not registered, or
+     * {@code null} if the type is not supported
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public PredicateFilterFactory getFactory(final Class<?> type) {
+        PredicateFilterFactory factory = this.factories.get(type);
+
+        if (factory == null && type.isEnum()) {
+            return getEnumFactory((Class) type);
+        }
+
+        return factory;
+    }
+
+    /**
+     * Gets the factory of the filters of an enum type.
+     *
+     * @param enumType The enum type.
+     * @param <E> The type of the enum.
+     * @return the factory of enum filters of this type
+     */
+    private static <E extends Enum<E>> PredicateFilterFactory getEnumFactory(final Class<E> enumType) {
+        return (name, value, dateFormat) -> new EnumPredicateFilter<>(name, value, enumType);
+    }
+
+    /**
+     * Indicates whether a field type is supported.
+     *
+     * @param type The field type.
+     * @return {@code true} if the type has a factory or is an enum type
+     */
+    public boolean supports(final Class<?> type) {
+        return this.factories.containsKey(type) || type.isEnum();
+    }
+
+    /**
+     * Gets the version of the registry, changed by every registration.
+     *
+     * @return the number of registrations of this registry
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Gets the simple names of the registered types, in registration order, separated by commas.
+     *
+     * @return the names of the supported types
+     */
+    public String getTypeNames() {
+        return String.join(", ", this.factories.keySet().stream().map(Class::getSimpleName).toList());
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.zorin95670.specification;
+
+import io.github.zorin95670.predicate.IPredicateFilter;
+
+/**
+ * Factory of predicate filters for one field type, registered in a {@link FilterTypeRegistry}.
+ * <p>
+ * A factory is called once per filter value during the compilation of a {@link SpringQueryFilterSpecification}.
+ * The created filter is extracted afterward by the specification, so the factory only has to instantiate it.
+ * </p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * registry.register(BigDecimal.class, (name, value, dateFormat) -> new BigDecimalPredicateFilter<>(name, value));
+ * }</pre>
+ */
+@FunctionalInterface
+public interface PredicateFilterFactory {
+
+    /**
+     * Creates a predicate filter for a field and one of its filter values.
+     *
+     * @param name The name of the field to filter.
+     * @param value The value to filter by.
+     * @param dateFormat The date format sent with the filters, or {@code null} if none was sent.
+     * @return a new, not yet extracted, predicate filter
+     */
+    IPredicateFilter<?, ?> create(String name, String value, String dateFormat);
+}
@@ -2,16 +2,10 @@ package io.github.zorin95670.specification;
 
 import io.github.zorin95670.exception.SpringQueryFilterException;
 import io.github.zorin95670.mapper.DtoToFiltersMapper;
-import io.github.zorin95670.predicate.BooleanPredicateFilter;
-import io.github.zorin95670.predicate.DatePredicateFilter;
-import io.github.zorin95670.predicate.DoublePredicateFilter;
 import io.github.zorin95670.predicate.FilterType;
-import io.github.zorin95670.predicate.FloatPredicateFilter;
 import io.github.zorin95670.predicate.IPredicateFilter;
-import io.github.zorin95670.predicate.IntegerPredicateFilter;
-import io.github.zorin95670.predicate.LongPredicateFilter;
-import io.github.zorin95670.predicate.StringPredicateFilter;
-import io.github.zorin95670.predicate.UUIDPredicateFilter;
+import io.github.zorin95670.predicate.InListPredicates;
+import io.github.zorin95670.predicate.PredicateFilter;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
@@ -21,11 +15,9 @@ import org.springframework.data.jpa.domain.Specification;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
 /**
  * A specification used for filtering entities based on a map of filters.
@@ -34,9 +26,15 @@ import java.util.UUID;
  * a set of filters.
  * It supports filtering by various field types such as {@code String}, {@code Date}, {@code Integer}, {@code Long},
  * {@code Float},
- * {@code Double}, {@code Boolean}, and {@code UUID}. The filters are specified as a map where the key is the field name
- * and the value is a list of filter values. This class also supports extracting predicates based on annotations
- * defined on entity fields.
+ * {@code Double}, {@code BigDecimal}, {@code Boolean}, {@code UUID}, {@code LocalDate}, {@code LocalDateTime},
+ * {@code Instant}, {@code OffsetDateTime} and enum types. The filters are specified as a map where the key is the
+ * field name and the value is a list of filter values. This class also supports extracting predicates based on
+ * annotations defined on entity fields.
+ * </p>
+ * <p>
+ * Supported types are resolved through a {@link FilterTypeRegistry}: the one set with
+ * {@link #setFilterTypeRegistry(FilterTypeRegistry)}, else the registry of the executor running the specification,
+ * else the default one.
  * </p>
  *
  * @param <T> The entity type for which the specification is created.
@@ -65,6 +63,16 @@ public class SpringQueryFilterSpecification<T> implements Specification<T> {
      */
     private String dateFormatFieldName = "dateFormat";
 
+    /**
+     * The registry used to create the predicate filter of each field type, {@code null} until one is set.
+     */
+    private FilterTypeRegistry filterTypeRegistry;
+
+    /**
+     * Maximum number of values in a single {@code IN} list, applied to every created predicate filter.
+     */
+    private int maxInListSize = InListPredicates.DEFAULT_MAX_SIZE;
+
     /**
      * Constructs a new specification with the provided entity class and filters.
      *
@@ -133,8 +141,79 @@ public class SpringQueryFilterSpecification<T> implements Specification<T> {
         this.dateFormatFieldName = dateFormatFieldName;
     }
 
+    /**
+     * Gets the registry used to create the predicate filter of each field type.
+     *
+     * @return the filter type registry, the default one if none is set
+     */
+    public FilterTypeRegistry getFilterTypeRegistry() {
+        return getFilterTypeRegistry(null);
+    }
+
+    /**
+     * Gets the registry used to create the predicate filter of each field type when this specification is compiled
+     * with {@link #compile(FilterTypeRegistry)}.
+     *
+     * @param defaultRegistry the registry used if none is set, or {@code null} for the default one
+     * @return the filter type registry of this specification, else {@code defaultRegistry}, else the default one
+     */
+    public FilterTypeRegistry getFilterTypeRegistry(final FilterTypeRegistry defaultRegistry) {
+        if (filterTypeRegistry != null) {
+            return filterTypeRegistry;
+        }
+
+        if (defaultRegistry != null) {
+            return defaultRegistry;
+        }
+
+        return FilterTypeRegistry.getDefault();
+    }
+
+    /**
+     * Indicates whether a registry is set on this specification, which executors then keep instead of their own.
+     *
+     * @return {@code true} if a filter type registry is set
+     */
+    public boolean hasFilterTypeRegistry() {
+        return filterTypeRegistry != null;
+    }
+
+    /**
+     * Sets the registry used to create the predicate filter of each field type.
+     *
+     * @param filterTypeRegistry the new filter type registry. Must not be {@code null}.
+     */
+    public void setFilterTypeRegistry(final FilterTypeRegistry filterTypeRegistry) {
+        this.filterTypeRegistry = filterTypeRegistry;
+    }
+
+    /**
+     * Gets the maximum number of values in a single {@code IN} list.
+     *
+     * @return the maximum size of an {@code IN} list
+     */
+    public int getMaxInListSize() {
+        return maxInListSize;
+    }
+
+    /**
+     * Sets the maximum number of values in a single {@code IN} list. Longer lists are split into several lists.
+     * <p>
+     * The default value is {@value InListPredicates#DEFAULT_MAX_SIZE}, the limit of Oracle databases.
+     * </p>
+     *
+     * @param maxInListSize the maximum size of an {@code IN} list. Must be positive.
+     */
+    public void setMaxInListSize(final int maxInListSize) {
+        this.maxInListSize = maxInListSize;
+    }
+
     /**
      * Returns a list of all fields of the entity class, including fields from superclasses.
+     * <p>
+     * This method walks the class hierarchy on every call. Filtering relies on the cached {@link FilterMetadata}
+     * of the entity class instead.
+     * </p>
      *
      * @return A list of {@link Field} objects representing all the fields of the entity and its superclasses.
      */
@@ -153,8 +232,9 @@ public class SpringQueryFilterSpecification<T> implements Specification<T> {
     /**
      * Creates a predicate filter based on the field type.
      * <p>
-     * This method maps the field type (such as {@code STRING}, {@code DATE}, etc.) to the appropriate predicate filter
-     * implementation. If the filter type is unsupported, an exception is thrown.
+     * This method looks the field type up in the {@link FilterTypeRegistry} of this specification and creates the
+     * predicate filter with the registered {@link PredicateFilterFactory}. If the type is not registered, an
+     * exception is thrown.
      * </p>
      *
      * @param type The type of the field to filter.
@@ -164,57 +244,147 @@ public class SpringQueryFilterSpecification<T> implements Specification<T> {
      * @throws SpringQueryFilterException If the filter type is unsupported.
      */
     public IPredicateFilter<T, ?> getPredicateFilter(final Class<?> type, final String name, final String value) {
-        if (String.class.equals(type)) {
-            return new StringPredicateFilter<>(name, value);
+        return createPredicateFilter(getFilterTypeRegistry(), type, name, value);
+    }
+
+    /**
+     * Creates a predicate filter based on the field type, with the given registry.
+     *
+     * @param registry The registry of the field types.
+     * @param type The type of the field to filter.
+     * @param name The name of the field to filter.
+     * @param value The value to filter by.
+     * @return An {@link IPredicateFilter} that can generate a predicate for the specified field.
+     * @throws SpringQueryFilterException If the filter type is unsupported.
+     */
+    @SuppressWarnings("unchecked")
+    private IPredicateFilter<T, ?> createPredicateFilter(final FilterTypeRegistry registry,
+                                                         final Class<?> type,
+                                                         final String name,
+                                                         final String value) {
+        final PredicateFilterFactory factory = registry.getFactory(type);
+
+        if (factory == null) {
+            throw new SpringQueryFilterException(
+                "Unsupported filter type: '" + type.getSimpleName() + "'. Valid types are "
+                    + registry.getTypeNames() + " and enum types.",
+                type.getSimpleName(),
+                name,
+                value
+            );
         }
 
-        if (Date.class.equals(type)) {
-            if (filters.containsKey(getDateFormatFieldName()) && !filters.get(getDateFormatFieldName()).isEmpty()) {
-                return new DatePredicateFilter<>(name, value, filters.get(getDateFormatFieldName()).getFirst());
-            }
+        return (IPredicateFilter<T, ?>) factory.create(name, value, getDateFormat());
+    }
 
-            return new DatePredicateFilter<>(name, value);
-        }
+    /**
+     * Gets the date format sent with the filters, under the {@link #getDateFormatFieldName()} key.
+     *
+     * @return the first date format value, or {@code null} if none was sent
+     */
+    private String getDateFormat() {
+        final List<String> dateFormats = filters.get(getDateFormatFieldName());
 
-        if (Integer.class.equals(type)) {
-            return new IntegerPredicateFilter<>(name, value);
+        if (dateFormats == null || dateFormats.isEmpty()) {
+            return null;
         }
 
-        if (Long.class.equals(type)) {
-            return new LongPredicateFilter<>(name, value);
-        }
+        return dateFormats.getFirst();
+    }
 
-        if (Float.class.equals(type)) {
-            return new FloatPredicateFilter<>(name, value);
-        }
+    /**
+     * Indicates whether the plans of this specification can be shared through a {@link FilterPlanCache}.
+     * <p>
+     * Plans are cached by {@link FilterPlanKey}: the class of the specification, its settings, and its filters. A
+     * subclass whose compilation depends on other state must either add that state to {@link #getPlanCacheKey()}, or
+     * return {@code false} here so that it is compiled on every request.
+     * </p>
+     *
+     * @return {@code true} by default
+     */
+    protected boolean isPlanCacheable() {
+        return true;
+    }
 
-        if (Double.class.equals(type)) {
-            return new DoublePredicateFilter<>(name, value);
-        }
+    /**
+     * Gets the state of this specification, besides its class, settings and filters, on which its compiled plan
+     * depends. Specifications of the same class share a cached plan only if their keys are equal.
+     * <p>
+     * The key must be immutable and implement {@code equals} and {@code hashCode}.
+     * </p>
+     *
+     * @return {@code null} by default, as the plans of this class only depend on its settings and filters
+     */
+    protected Object getPlanCacheKey() {
+        return null;
+    }
 
-        if (Boolean.class.equals(type)) {
-            return new BooleanPredicateFilter<>(name, value);
-        }
+    /**
+     * Compiles the map of filters into an immutable {@link FilterPlan}.
+     * <p>
+     * This method iterates over the filters and looks each key up in the {@link FilterMetadata} of the entity class.
+     * If the key matches a field annotated with {@link FilterType}, a predicate filter is created and extracted for
+     * each of its values. Keys that do not match a filtered field are ignored.
+     * </p>
+     * <p>
+     * The returned plan does not depend on this specification anymore: later changes to the filters are not
+     * reflected in it.
+     * </p>
+     *
+     * @return the compiled filter plan
+     */
+    public FilterPlan<T> compile() {
+        return compile(null);
+    }
 
-        if (UUID.class.equals(type)) {
-            return new UUIDPredicateFilter<>(name, value);
-        }
+    /**
+     * Same as {@link #compile()}, but creates the predicate filters with {@code defaultRegistry} when this
+     * specification has no {@link #hasFilterTypeRegistry() registry of its own}.
+     * <p>
+     * Executors compile with their registry this way, without setting it on the specification.
+     * </p>
+     *
+     * @param defaultRegistry the registry used if none is set, or {@code null} to compile like {@link #compile()}
+     * @return the compiled filter plan
+     */
+    public FilterPlan<T> compile(final FilterTypeRegistry defaultRegistry) {
+        final FilterMetadata metadata = FilterMetadata.of(entityClass);
+        final boolean useDefaultRegistry = defaultRegistry != null && !hasFilterTypeRegistry();
+
+        List<IPredicateFilter<T, ?>> predicateFilters = this.filters.entrySet().stream()
+        .filter(entry -> metadata.getField(entry.getKey()) != null)
+        .<IPredicateFilter<T, ?>>flatMap(entry -> {
+            final FilterField field = metadata.getField(entry.getKey());
+
+            return entry.getValue().stream().map(value -> {
+                IPredicateFilter<T, ?> filter;
+
+                if (useDefaultRegistry) {
+                    filter = createPredicateFilter(defaultRegistry, field.getType(), field.getName(), value);
+                } else {
+                    filter = this.getPredicateFilter(field.getType(), field.getName(), value);
+                }
 
-        throw new SpringQueryFilterException(
-            "Unsupported filter type: '" + type.getSimpleName() + "'. Valid types are String, Date, Integer, Long,"
-                + " Float, Double, Boolean, UUID.",
-            type.getSimpleName(),
-            name,
-            value
-        );
+                if (filter instanceof PredicateFilter<T, ?> predicateFilter) {
+                    predicateFilter.setMaxInListSize(this.maxInListSize);
+                }
+
+                filter.extract();
+
+                return filter;
+            });
+        })
+        .toList();
+
+        return new FilterPlan<>(predicateFilters);
     }
 
     /**
      * Converts the map of filters into a {@link Predicate} that can be used in a JPA query.
      * <p>
-     * This method iterates over the fields of the entity and checks if any field is annotated with {@link FilterType}.
-     * If the field is annotated and its name is present in the filters map, a predicate is created for that field.
-     * The predicates for all fields are then combined using the {@link CriteriaBuilder#and(Predicate...)} method.
+     * The filters are compiled with {@link #compile()}, then the predicates of all fields are combined using the
+     * {@link CriteriaBuilder#and(Predicate...)} method. To build predicates for several queries without parsing the
+     * filters again, compile the specification once and use the resulting {@link FilterPlan} instead.
      * </p>
      *
      * @param root The root of the query, representing the entity.
@@ -225,23 +395,6 @@ public class SpringQueryFilterSpecification<T> implements Specification<T> {
     @Override
     public final Predicate toPredicate(final Root<T> root, final CriteriaQuery<?> query,
                                        final CriteriaBuilder builder) {
-        Predicate[] predicates = this.getFields().stream()
-        .filter(field -> field.isAnnotationPresent(FilterType.class)
-                && this.filters.containsKey(field.getName()))
-        .flatMap(field -> {
-            final String name = field.getName();
-            final FilterType filterType = field.getAnnotation(FilterType.class);
-
-            return this.filters.get(name).stream().map(value -> {
-                IPredicateFilter<T, ?> filter = this.getPredicateFilter(filterType.type(), name, value);
-
-                filter.extract();
-
-                return filter.getPredicate(builder, root, query);
-            });
-        })
-        .toArray(Predicate[]::new);
-
-        return builder.and(predicates);
+        return this.compile().toPredicate(root, query, builder);
     }
 }
@@ -8,9 +8,14 @@ module io.github.zorin95670 {
     requires transitive jakarta.persistence;
     requires spring.data.commons;
     requires spring.data.jpa;
+    requires spring.beans;
+    requires spring.boot;
     requires spring.context;
+    requires spring.tx;
     requires jakarta.annotation;
     requires spring.boot.autoconfigure;
+    requires static org.hibernate.orm.core;
+    requires static java.naming;
 
     opens io.github.zorin95670.specification;
     opens io.github.zorin95670.executor;
@@ -43,5 +43,14 @@ class SpringQueryFilterExceptionTest {
         assertEquals("type4", exception.getQueryFilterType());
         assertEquals("name4", exception.getQueryParameterName());
         assertEquals("value4", exception.getQueryParameterValue());
+        assertEquals(-1, exception.getErrorOffset());
+
+        exception = new SpringQueryFilterException("message5", cause, "type5", "name5", "value5", 5);
+        assertEquals("message5", exception.getMessage());
+        assertEquals(cause, exception.getCause());
+        assertEquals("type5", exception.getQueryFilterType());
+        assertEquals("name5", exception.getQueryParameterName());
+        assertEquals("value5", exception.getQueryParameterValue());
+        assertEquals(5, exception.getErrorOffset());
     }
 }
@@ -0,0 +1,105 @@
+package io.github.zorin95670.executor;
+
+import io.github.zorin95670.specification.SpringQueryFilterSpecification;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = TestExecutorConfig.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class AsyncSpringQueryExecutorImplTest {
+
+    @Autowired
+    private MyEntityRepository repository;
+
+    @Autowired
+    private SpringQueryExecutorImpl executor;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private AsyncSpringQueryExecutor asyncExecutor;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+
+        for (int number = 1; number <= 5; number++) {
+            MyEntity entity = new MyEntity();
+            entity.setText("text" + number);
+            entity.setNumberInteger(100 * number);
+            repository.save(entity);
+        }
+
+        asyncExecutor = new AsyncSpringQueryExecutorImpl(executor, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    Specification<MyEntity> specification(Map<String, List<String>> filters) {
+        return new SpringQueryFilterSpecification<>(MyEntity.class, new HashMap<>(filters));
+    }
+
+    @Test
+    @DisplayName("Test findAsync and findPageAsync: should run queries concurrently and join their results")
+    void testFindAsync() {
+        Sort sort = Sort.by(Sort.Order.asc("text"));
+
+        CompletableFuture<List<String>> texts = asyncExecutor.findAsync(
+            MyEntity.class, String.class, specification(Map.of("numberInteger", List.of("gt_300"))), sort, "text");
+        CompletableFuture<Page<String>> page = asyncExecutor.findPageAsync(
+            MyEntity.class, String.class, specification(Map.of()), PageRequest.of(0, 2, sort), "text");
+        CompletableFuture<List<MyEntity>> entities = asyncExecutor.findAsync(
+            MyEntity.class, MyEntity.class, specification(Map.of("text", List.of("text1"))), new String[0]);
+
+        CompletableFuture.allOf(texts, page, entities).join();
+
+        assertEquals(List.of("text4", "text5"), texts.join());
+        assertEquals(List.of("text1", "text2"), page.join().getContent());
+        assertEquals(5, page.join().getTotalElements());
+        assertEquals(100, entities.join().getFirst().getNumberInteger());
+    }
+
+    @Test
+    @DisplayName("Test executeAsync: should run in a new read-only transaction")
+    void testExecuteAsyncIsReadOnly() {
+        boolean readOnly = asyncExecutor.executeAsync(
+            query -> TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly()).join();
+
+        assertTrue(readOnly);
+    }
+
+    @Test
+    @DisplayName("Test findAsync: should complete exceptionally when the query fails")
+    void testFindAsyncWithInvalidField() {
+        CompletableFuture<List<String>> texts = asyncExecutor.findAsync(
+            MyEntity.class, String.class, specification(Map.of()), Sort.by("unknown"), "text");
+
+        CompletionException exception = assertThrows(CompletionException.class, texts::join);
+        assertTrue(exception.getCause() instanceof RuntimeException);
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.zorin95670.executor;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("unit")
+@DisplayName("Test class: KeysetCursor")
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("Test encode/decode: should keep direction, order and typed values of keys")
+    void testEncodeDecode() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("text", "a|b é");
+        keys.put("integer", 42);
+        keys.put("long", 42L);
+        keys.put("short", (short) 4);
+        keys.put("float", 4.2f);
+        keys.put("double", 4.2d);
+        keys.put("boolean", true);
+        keys.put("decimal", new BigDecimal("4.20"));
+        keys.put("uuid", UUID.randomUUID());
+        keys.put("date", new Date(1234L));
+        keys.put("localDate", LocalDate.of(2024, 2, 29));
+        keys.put("localDateTime", LocalDateTime.of(2024, 2, 29, 10, 30, 0, 1));
+        keys.put("instant", Instant.ofEpochSecond(10, 5));
+        keys.put("offsetDateTime", OffsetDateTime.parse("2024-02-29T10:30:00+02:00"));
+        keys.put("null", null);
+
+        String cursor = KeysetCursor.encode(ScrollPosition.forward(keys));
+        KeysetScrollPosition position = KeysetCursor.decode(cursor);
+
+        assertTrue(cursor.matches("[A-Za-z0-9_-]+"));
+        assertTrue(position.scrollsForward());
+        assertEquals(keys, position.getKeys());
+        assertEquals(keys.keySet().stream().toList(), position.getKeys().keySet().stream().toList());
+        assertTrue(KeysetCursor.decode(KeysetCursor.encode(ScrollPosition.backward(Map.of("id", 1L))))
+            .scrollsBackward());
+    }
+
+    @Test
+    @DisplayName("Test decode: should return the initial position for an empty cursor")
+    void testDecodeEmpty() {
+        assertTrue(KeysetCursor.decode(null).isInitial());
+        assertTrue(KeysetCursor.decode("").isInitial());
+        assertFalse(KeysetCursor.decode(KeysetCursor.encode(ScrollPosition.forward(Map.of("id", 1L)))).isInitial());
+    }
+
+    @Test
+    @DisplayName("Test decode: should reject invalid cursors")
+    void testDecodeInvalid() {
+        String cursor = KeysetCursor.encode(ScrollPosition.forward(Map.of("id", 1L)));
+
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("not a cursor"));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(cursor.substring(0, 4)));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(cursor + "AA"));
+    }
+
+    @Test
+    @DisplayName("Test encode: should reject unsupported key values")
+    void testEncodeUnsupported() {
+        assertThrows(IllegalArgumentException.class,
+            () -> KeysetCursor.encode(ScrollPosition.forward(Map.of("id", new Object()))));
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.zorin95670.executor;
+
+import io.github.zorin95670.predicate.FilterType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.OneToMany;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity
+@NamedEntityGraph(name = "MyCustomer.orders", attributeNodes = @NamedAttributeNode("orders"))
+public class MyCustomer {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @FilterType(type=Long.class)
+    private Long id;
+
+    @Column
+    @FilterType(type=String.class)
+    private String country;
+
+    @OneToMany(mappedBy = "customer")
+    private List<MyOrder> orders = new ArrayList<>();
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getCountry() {
+        return country;
+    }
+
+    public void setCountry(String country) {
+        this.country = country;
+    }
+
+    public List<MyOrder> getOrders() {
+        return orders;
+    }
+
+    public void setOrders(List<MyOrder> orders) {
+        this.orders = orders;
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.zorin95670.executor;
+
+import io.github.zorin95670.predicate.FilterType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+@Entity
+public class MyOrder {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @FilterType(type=Long.class)
+    private Long id;
+
+    @Column
+    @FilterType(type=String.class)
+    private String product;
+
+    @ManyToOne
+    private MyCustomer customer;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getProduct() {
+        return product;
+    }
+
+    public void setProduct(String product) {
+        this.product = product;
+    }
+
+    public MyCustomer getCustomer() {
+        return customer;
+    }
+
+    public void setCustomer(MyCustomer customer) {
+        this.customer = customer;
+    }
+}
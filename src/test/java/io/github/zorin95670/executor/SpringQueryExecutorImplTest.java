@@ -1,27 +1,61 @@
 package io.github.zorin95670.executor;
 
+import io.github.zorin95670.predicate.AttributePaths;
+import io.github.zorin95670.predicate.LongPredicateFilter;
+import io.github.zorin95670.predicate.StringPredicateFilter;
+import io.github.zorin95670.specification.FilterPlan;
+import io.github.zorin95670.specification.FilterPlanKey;
+import io.github.zorin95670.specification.FilterTypeRegistry;
 import io.github.zorin95670.specification.SpringQueryFilterSpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.QueryTimeoutException;
 import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
 import jakarta.transaction.Transactional;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -35,6 +69,18 @@ class SpringQueryExecutorImplTest {
     @Autowired
     private SpringQueryExecutorImpl executor;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private FilterTypeRegistry filterTypeRegistry;
+
     /**
      * DTO used to test multi-field constructor projection. Constructor parameter order must
      * match the order in which {@code text} and {@code numberInteger} are declared relative to
@@ -74,6 +120,13 @@ class SpringQueryExecutorImplTest {
         }
     }
 
+    /**
+     * Record used to test projections bound by record component names, declared in another
+     * order than the fields of {@link MyEntity}.
+     */
+    public record NumberTextRecord(Integer numberInteger, String text) {
+    }
+
     MyEntity createEntity(int number, UUID uuid) {
         MyEntity entity = new MyEntity();
 
@@ -117,6 +170,33 @@ class SpringQueryExecutorImplTest {
         assertEquals(0, fieldNames.length);
     }
 
+    @Test
+    @DisplayName("Test getFieldNames: should skip static and synthetic fields")
+    void testGetFieldNamesSkipsStaticAndSyntheticFields() {
+        class Projection {
+            static final String PREFIX = "text";
+
+            private String text;
+
+            String describe() {
+                return PREFIX + text + executor;
+            }
+        }
+
+        assertArrayEquals(new String[] {"text"}, executor.getFieldNames(Projection.class));
+    }
+
+    @Test
+    @DisplayName("Test getFieldNames: should return the components of a record")
+    void testGetFieldNamesOfRecord() {
+        String[] fieldNames = executor.getFieldNames(NumberTextRecord.class);
+
+        assertArrayEquals(new String[] {"numberInteger", "text"}, fieldNames);
+
+        fieldNames[0] = "changed";
+        assertArrayEquals(new String[] {"numberInteger", "text"}, executor.getFieldNames(NumberTextRecord.class));
+    }
+
     // ------------------------------------------------------------------
     // buildSelection (single field / multi field), via find/findDistinct
     // ------------------------------------------------------------------
@@ -162,6 +242,349 @@ class SpringQueryExecutorImplTest {
         assertTrue(results.contains(new TextNumberProjection("text2", 200)));
     }
 
+    @Test
+    @Transactional
+    @DisplayName("Test find with a record: should bind the projected fields by component name")
+    void testFindRecordProjection() {
+        repository.deleteAll();
+        repository.flush();
+
+        repository.save(createEntity(1, UUID.randomUUID()));
+        repository.save(createEntity(2, UUID.randomUUID()));
+
+        Sort sort = Sort.by("numberInteger");
+        List<NumberTextRecord> expected = List.of(
+            new NumberTextRecord(100, "text1"),
+            new NumberTextRecord(200, "text2"));
+
+        assertEquals(expected, executor.find(MyEntity.class, NumberTextRecord.class, noFilterSpecification(), sort));
+        assertEquals(expected, executor.find(
+            MyEntity.class, NumberTextRecord.class, noFilterSpecification(), sort, "text", "numberInteger"));
+
+        Window<NumberTextRecord> window = executor.findWindow(MyEntity.class, NumberTextRecord.class,
+            noFilterSpecification(), ScrollPosition.keyset(), sort, 2, "text", "numberInteger");
+
+        assertEquals(expected, window.getContent());
+
+        executor.setQueryMode(QueryMode.JPQL);
+
+        assertEquals(expected, executor.find(
+            MyEntity.class, NumberTextRecord.class, noFilterSpecification(), sort, "text", "numberInteger"));
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Test find with a projection without matching constructor: should throw")
+    void testFindProjectionWithoutMatchingConstructor() {
+        assertThrows(InvalidDataAccessApiUsageException.class, () -> executor.find(
+            MyEntity.class, TextNumberProjection.class, noFilterSpecification(), "numberInteger", "text"));
+    }
+
+    // ------------------------------------------------------------------
+    // nested paths
+    // ------------------------------------------------------------------
+
+    /**
+     * Record used to test projections of dotted paths.
+     */
+    public record ProductCountryRecord(String product, String country) {
+    }
+
+    MyCustomer createCustomer(String country) {
+        MyCustomer customer = new MyCustomer();
+
+        customer.setCountry(country);
+        entityManager.persist(customer);
+
+        return customer;
+    }
+
+    void createOrder(String product, MyCustomer customer) {
+        MyOrder order = new MyOrder();
+
+        order.setProduct(product);
+        order.setCustomer(customer);
+        entityManager.persist(order);
+    }
+
+    Specification<MyOrder> orderSpecification(Map<String, List<String>> filters) {
+        return new SpringQueryFilterSpecification<>(MyOrder.class, new HashMap<>(filters));
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Test find with dotted paths: should filter, sort and project through a to-one association")
+    void testFindWithNestedPaths() {
+        MyCustomer france = createCustomer("France");
+        MyCustomer spain = createCustomer("Spain");
+
+        createOrder("book", france);
+        createOrder("pen", france);
+        createOrder("book", spain);
+        createOrder("cup", null);
+        entityManager.flush();
+
+        Specification<MyOrder> french = orderSpecification(Map.of("customer.country", List.of("France")));
+
+        assertEquals(List.of("book", "pen"),
+            executor.find(MyOrder.class, String.class, french, Sort.by("product"), "product"));
+
+        Specification<MyOrder> european = orderSpecification(Map.of("customer.country", List.of("France|Spain")));
+        Sort sort = Sort.by(Sort.Order.desc("customer.country"), Sort.Order.asc("product"));
+        List<ProductCountryRecord> expected = List.of(
+            new ProductCountryRecord("book", "Spain"),
+            new ProductCountryRecord("book", "France"),
+            new ProductCountryRecord("pen", "France"));
+
+        assertEquals(expected, executor.find(
+            MyOrder.class, ProductCountryRecord.class, european, sort, "product", "customer.country"));
+        assertEquals(4, executor.find(MyOrder.class, String.class, orderSpecification(Map.of()),
+            Sort.by("customer.country"), "product").size());
+
+        executor.setQueryMode(QueryMode.JPQL);
+
+        assertEquals(List.of("book", "pen"),
+            executor.find(MyOrder.class, String.class, french, Sort.by("product"), "product"));
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Test find with a dotted path through a to-many association: should not duplicate rows")
+    void testFindWithToManyPath() {
+        MyCustomer france = createCustomer("France");
+        MyCustomer spain = createCustomer("Spain");
+
+        createCustomer("Italy");
+        createOrder("book", france);
+        createOrder("pen", france);
+        createOrder("cup", spain);
+        entityManager.flush();
+
+        Specification<MyCustomer> specification = new SpringQueryFilterSpecification<>(MyCustomer.class,
+            new HashMap<>(Map.of("orders.product", List.of("book|pen|cup"))));
+        Page<String> page = executor.findPage(MyCustomer.class, String.class, specification,
+            PageRequest.of(0, 1, Sort.by("country")), "country");
+
+        assertEquals(List.of("France", "Spain"),
+            executor.find(MyCustomer.class, String.class, specification, Sort.by("country"), "country"));
+        assertEquals(List.of("France"), page.getContent());
+        assertEquals(2, page.getTotalElements());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Test dotted paths: should reject sorts and projections through a to-many association")
+    void testSortAndProjectionOnToManyPath() {
+        createOrder("book", createCustomer("France"));
+        entityManager.flush();
+
+        Specification<MyCustomer> specification = new SpringQueryFilterSpecification<>(MyCustomer.class,
+            new HashMap<>());
+        CriteriaQuery<MyCustomer> query = entityManager.getCriteriaBuilder().createQuery(MyCustomer.class);
+        Root<MyCustomer> root = query.from(MyCustomer.class);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> AttributePaths.getSingleValued(root, "orders.product"));
+
+        assertEquals("Path 'orders.product' goes through a to-many association and cannot be sorted on or projected.",
+            exception.getMessage());
+        assertTrue(root.getJoins().isEmpty());
+        assertThrows(InvalidDataAccessApiUsageException.class, () -> executor.find(MyCustomer.class,
+            MyCustomer.class, specification, Sort.by("orders.product"), new String[0]));
+        assertThrows(InvalidDataAccessApiUsageException.class, () -> executor.find(MyCustomer.class,
+            String.class, specification, Sort.unsorted(), "orders.product"));
+        assertThrows(InvalidDataAccessApiUsageException.class, () -> executor.findPage(MyCustomer.class,
+            String.class, specification, PageRequest.of(0, 1, Sort.by("country")), "orders.product"));
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Test dotted paths: should join an association once per query")
+    void testNestedPathsShareJoins() {
+        CriteriaQuery<MyOrder> query = entityManager.getCriteriaBuilder().createQuery(MyOrder.class);
+        Root<MyOrder> root = query.from(MyOrder.class);
+
+        AttributePaths.get(root, "customer.country");
+        AttributePaths.get(root, "customer.id");
+
+        assertEquals(1, root.getJoins().size());
+        assertEquals(JoinType.LEFT, root.getJoins().iterator().next().getJoinType());
+
+        ResultCacheKey key = new ResultCacheKey(new FilterPlanKey(
+            (SpringQueryFilterSpecification<?>) orderSpecification(Map.of("customer.country", List.of("France")))),
+            MyOrder.class, false, Pageable.unpaged(), null);
+
+        assertEquals(Set.of(MyOrder.class, MyCustomer.class), key.getEntityClasses());
+    }
+
+    // ------------------------------------------------------------------
+    // fetch plans
+    // ------------------------------------------------------------------
+
+    @Test
+    @Transactional
+    @DisplayName("Test find with a fetch plan: should read the fetched collections in the same statement")
+    void testFindWithFetchPlan() {
+        MyCustomer france = createCustomer("France");
+
+        createCustomer("Italy");
+        createOrder("book", france);
+        createOrder("pen", france);
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        PersistenceUnitUtil util = entityManagerFactory.getPersistenceUnitUtil();
+
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        List<MyCustomer> customers = executor.find(MyCustomer.class,
+            new SpringQueryFilterSpecification<>(MyCustomer.class, new HashMap<>()), Sort.by("country"),
+            FetchPlan.attributes("orders"));
+
+        assertEquals(2, customers.size());
+        assertTrue(customers.stream().allMatch(customer -> util.isLoaded(customer, "orders")));
+        assertEquals(2, customers.get(0).getOrders().size());
+        assertEquals(0, customers.get(1).getOrders().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Test findPage with a fetch plan: should page identifiers, then fetch the entities of the page")
+    void testFindPageWithFetchPlan() {
+        MyCustomer france = createCustomer("France");
+        MyCustomer spain = createCustomer("Spain");
+
+        createCustomer("Italy");
+        createOrder("book", france);
+        createOrder("pen", france);
+        createOrder("cup", spain);
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        PersistenceUnitUtil util = entityManagerFactory.getPersistenceUnitUtil();
+
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        Page<MyCustomer> page = executor.findPage(MyCustomer.class,
+            new SpringQueryFilterSpecification<>(MyCustomer.class, new HashMap<>()),
+            PageRequest.of(0, 2, Sort.by("country")), FetchPlan.graph("MyCustomer.orders"));
+
+        assertEquals(List.of("France", "Italy"), page.getContent().stream().map(MyCustomer::getCountry).toList());
+        assertEquals(3, page.getTotalElements());
+        assertTrue(page.getContent().stream().allMatch(customer -> util.isLoaded(customer, "orders")));
+        assertEquals(2, page.getContent().get(0).getOrders().size());
+        // The page of identifiers, its count and the fetch of the entities.
+        assertEquals(3, statistics.getPrepareStatementCount());
+
+        statistics.clear();
+
+        Page<MyCustomer> lastPage = executor.findPage(MyCustomer.class,
+            new SpringQueryFilterSpecification<>(MyCustomer.class, new HashMap<>()),
+            PageRequest.of(1, 2, Sort.by("country")), FetchPlan.attributes("orders").asLoadGraph());
+
+        assertEquals(List.of("Spain"), lastPage.getContent().stream().map(MyCustomer::getCountry).toList());
+        assertEquals(3, lastPage.getTotalElements());
+        assertEquals(1, lastPage.getContent().get(0).getOrders().size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Test FetchPlan: should reject blank graph names and attribute paths")
+    void testFetchPlanValidation() {
+        assertThrows(IllegalArgumentException.class, () -> FetchPlan.graph(" "));
+        assertThrows(IllegalArgumentException.class, FetchPlan::attributes);
+        assertThrows(IllegalArgumentException.class, () -> FetchPlan.attributes("orders", ""));
+        assertEquals(FetchPlan.Type.LOAD, FetchPlan.graph("MyCustomer.orders").asLoadGraph().getType());
+        assertEquals(FetchPlan.attributes("orders"), FetchPlan.attributes("orders"));
+    }
+
+    // ------------------------------------------------------------------
+    // executeBatch
+    // ------------------------------------------------------------------
+
+    @Test
+    @Transactional
+    @DisplayName("Test executeBatch: should return the pages in order, counting totals of an entity together")
+    void testExecuteBatch() {
+        repository.deleteAll();
+        repository.flush();
+
+        for (int number = 1; number <= 5; number++) {
+            repository.save(createEntity(number, UUID.randomUUID()));
+        }
+        repository.flush();
+        entityManager.clear();
+
+        executor.setTransactionManager(transactionManager);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        PageRequest byNumber = PageRequest.of(0, 2, Sort.by("numberInteger"));
+        PageRequest byText = PageRequest.of(0, 2, Sort.by("text"));
+
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        List<CountedPage<?>> pages = executor.executeBatch(List.of(
+            QueryRequest.page(MyEntity.class, MyEntity.class,
+                specification(Map.of("text", List.of("text1|text2|text3"))), byNumber, new String[0]),
+            QueryRequest.page(MyEntity.class, String.class,
+                specification(Map.of("numberInteger", List.of("100|200|300|400"))), byText, "text"),
+            QueryRequest.page(MyEntity.class, String.class,
+                specification(Map.of("text", List.of("text5"))), byText, "text"),
+            QueryRequest.page(MyEntity.class, String.class, noFilterSpecification(), byText, "text").distinct()));
+
+        // Four content queries, the distinct count, and one count of the first two pages.
+        assertEquals(6, statistics.getPrepareStatementCount());
+        assertEquals(4, pages.size());
+        assertEquals(List.of(100, 200), pages.get(0).getContent().stream()
+            .map(entity -> ((MyEntity) entity).getNumberInteger()).toList());
+        assertEquals(3, pages.get(0).getTotalElements());
+        assertEquals(List.of("text1", "text2"), pages.get(1).getContent());
+        assertEquals(4, pages.get(1).getTotalElements());
+        assertEquals(List.of("text5"), pages.get(2).getContent());
+        assertEquals(1, pages.get(2).getTotalElements());
+        assertEquals(5, pages.get(3).getTotalElements());
+        assertTrue(pages.stream().allMatch(page -> page.getTotalAccuracy() == TotalAccuracy.EXACT));
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Test executeBatch: should count a single page of an entity as findPage does")
+    void testExecuteBatchWithSinglePage() {
+        repository.deleteAll();
+        repository.flush();
+
+        for (int number = 1; number <= 3; number++) {
+            repository.save(createEntity(number, UUID.randomUUID()));
+        }
+
+        List<CountedPage<?>> pages = executor.executeBatch(List.of(
+            QueryRequest.page(MyEntity.class, String.class, noFilterSpecification(), PageRequest.of(0, 2), "text")
+                .withCountMode(CountMode.bounded(2)),
+            QueryRequest.page(MyEntity.class, String.class, noFilterSpecification(), PageRequest.of(0, 2), "text")));
+
+        assertEquals(TotalAccuracy.AT_LEAST, pages.get(0).getTotalAccuracy());
+        assertEquals(3, pages.get(1).getTotalElements());
+        assertEquals(TotalAccuracy.EXACT, pages.get(1).getTotalAccuracy());
+        assertEquals(List.of(), executor.executeBatch(List.of()));
+    }
+
+    @Test
+    @DisplayName("Test executeBatch: should fail without a transaction manager nor an active transaction")
+    void testExecuteBatchWithoutTransaction() {
+        executor.setTransactionManager(null);
+
+        List<QueryRequest<MyEntity, String>> requests = List.of(
+            QueryRequest.page(MyEntity.class, String.class, noFilterSpecification(), PageRequest.of(0, 2), "text"));
+
+        assertThrows(InvalidDataAccessApiUsageException.class, () -> executor.executeBatch(requests));
+    }
+
     // ------------------------------------------------------------------
     // find (Sort, fieldNames)
     // ------------------------------------------------------------------
@@ -288,6 +711,427 @@ class SpringQueryExecutorImplTest {
         assertEquals(2, page.getTotalElements());
     }
 
+    @Test
+    @Transactional
+    @DisplayName("Test findPage: should skip the COUNT query when the page is not full")
+    void testFindPageSkipsCount() {
+        repository.deleteAll();
+        repository.flush();
+
+        for (int number = 1; number <= 5; number++) {
+            repository.save(createEntity(number, UUID.randomUUID()));
+        }
+
+        Sort sort = Sort.by(Sort.Order.asc("text"));
+
+        Page<String> firstPage = executor.findPage(
+            MyEntity.class, String.class, noFilterSpecification(), PageRequest.of(0, 10, sort), "text");
+        assertEquals(5, firstPage.getTotalElements());
+        assertEquals(1, executor.getSkippedCountQueries());
+
+        Page<String> lastPage = executor.findPage(
+            MyEntity.class, String.class, noFilterSpecification(), PageRequest.of(1, 3, sort), "text");
+        assertEquals(List.of("text4", "text5"), lastPage.getContent());
+        assertEquals(5, lastPage.getTotalElements());
+        assertEquals(2, executor.getSkippedCountQueries());
+
+        Page<String> fullPage = executor.findPage(
+            MyEntity.class, String.class, noFilterSpecification(), PageRequest.of(0, 5, sort), "text");
+        Page<String> emptyPage = executor.findPage(
+            MyEntity.class, String.class, noFilterSpecification(), PageRequest.of(3, 5, sort), "text");
+        assertEquals(5, fullPage.getTotalElements());
+        assertEquals(5, emptyPage.getTotalElements());
+        assertEquals(2, executor.getSkippedCountQueries());
+    }
+
+    @Test
+    @DisplayName("Test findPage: should count concurrently on a separate entity manager")
+    void testFindPageWithConcurrentCount() {
+        repository.deleteAll();
+
+        for (int number = 1; number <= 5; number++) {
+            repository.save(createEntity(number, UUID.randomUUID()));
+        }
+
+        executor.setConcurrentCount(true);
+        Sort sort = Sort.by(Sort.Order.asc("text"));
+
+        Page<String> page = executor.findPage(
+            MyEntity.class, String.class, noFilterSpecification(), PageRequest.of(0, 2, sort), "text");
+        assertEquals(List.of("text1", "text2"), page.getContent());
+        assertEquals(5, page.getTotalElements());
+
+        Page<String> distinctPage = executor.findDistinctPage(MyEntity.class, String.class,
+            specification(Map.of("numberInteger", List.of("gt_100"))), PageRequest.of(1, 2, sort), "text");
+        assertEquals(List.of("text4", "text5"), distinctPage.getContent());
+        assertEquals(4, distinctPage.getTotalElements());
+
+        Page<String> lastPage = executor.findPage(
+            MyEntity.class, String.class, noFilterSpecification(), PageRequest.of(1, 3, sort), "text");
+        assertEquals(5, lastPage.getTotalElements());
+
+        Specification<MyEntity> failingCount = (root, query, builder) -> {
+            if (Long.class.equals(query.getResultType())) {
+                throw new IllegalStateException("count failure");
+            }
+            return builder.conjunction();
+        };
+        InvalidDataAccessApiUsageException exception = assertThrows(InvalidDataAccessApiUsageException.class,
+            () -> executor.findPage(MyEntity.class, String.class, failingCount, PageRequest.of(0, 2, sort), "text"));
+        assertEquals("count failure", exception.getCause().getMessage());
+
+        repository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Test findPage with concurrent count: should not wait for a count it does not need")
+    void testFindPageWithBlockedConcurrentCount() {
+        repository.deleteAll();
+
+        for (int number = 1; number <= 5; number++) {
+            repository.save(createEntity(number, UUID.randomUUID()));
+        }
+
+        CountDownLatch release = new CountDownLatch(1);
+        Specification<MyEntity> blockedCount = (root, query, builder) -> {
+            if (Long.class.equals(query.getResultType())) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return builder.conjunction();
+        };
+
+        executor.setConcurrentCount(true);
+        long skipped = executor.getSkippedCountQueries();
+        Sort sort = Sort.by(Sort.Order.asc("text"));
+
+        try {
+            long start = System.nanoTime();
+            Page<String> lastPage = executor.findPage(
+                MyEntity.class, String.class, blockedCount, PageRequest.of(1, 3, sort), "text");
+
+            assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(5)) < 0);
+            assertEquals(List.of("text4", "text5"), lastPage.getContent());
+            assertEquals(5, lastPage.getTotalElements());
+            assertEquals(skipped + 1, executor.getSkippedCountQueries());
+
+            Specification<MyEntity> failingContent = (root, query, builder) -> {
+                if (!Long.class.equals(query.getResultType())) {
+                    throw new IllegalStateException("content failure");
+                }
+                return blockedCount.toPredicate(root, query, builder);
+            };
+
+            start = System.nanoTime();
+            assertThrows(InvalidDataAccessApiUsageException.class, () -> executor.findPage(
+                MyEntity.class, String.class, failingContent, PageRequest.of(0, 2, sort), "text"));
+            assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(5)) < 0);
+        } finally {
+            release.countDown();
+            repository.deleteAll();
+        }
+    }
+
+    @Test
+    @DisplayName("Test findPage: should reuse cached totals until an entity is written")
+    void testFindPageWithCountCache() {
+        repository.deleteAll();
+
+        for (int number = 1; number <= 5; number++) {
+            repository.save(createEntity(number, UUID.randomUUID()));
+        }
+
+        CountCache cache = new CountCache();
+        EntityCacheInvalidator.register(entityManagerFactory, cache);
+        executor.setCountCache(cache);
+        Sort sort = Sort.by(Sort.Order.asc("text"));
+        Specification<MyEntity> filters = specification(Map.of("numberInteger", List.of("gt_0")));
+
+        Page<String> first = executor.findPage(
+            MyEntity.class, String.class, filters, PageRequest.of(0, 2, sort), "text");
+        assertEquals(5, first.getTotalElements());
+        assertEquals(0, cache.getHitCount());
+        assertEquals(1, cache.size());
+
+        Page<MyEntity> second = executor.findPage(MyEntity.class, MyEntity.class,
+            specification(Map.of("numberInteger", List.of("gt_0"))), PageRequest.of(1, 2, sort), new String[0]);
+        assertEquals(5, second.getTotalElements());
+        assertEquals(1, cache.getHitCount());
+
+        repository.save(createEntity(6, UUID.randomUUID()));
+        assertEquals(1, cache.getInvalidationCount());
+        assertEquals(0, cache.size());
+
+        Page<String> third = executor.findPage(
+            MyEntity.class, String.class, filters, PageRequest.of(1, 2, sort), "text");
+        assertEquals(6, third.getTotalElements());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+
+        CountCache expiringCache = new CountCache(1, Duration.ofNanos(1));
+        executor.setCountCache(expiringCache);
+        executor.findPage(MyEntity.class, String.class, filters, PageRequest.of(0, 2, sort), "text");
+        executor.findPage(MyEntity.class, String.class, filters, PageRequest.of(1, 2, sort), "text");
+        assertEquals(0, expiringCache.getHitCount());
+        executor.findDistinctPage(MyEntity.class, String.class, filters, PageRequest.of(0, 2, sort), "text");
+        assertEquals(1, expiringCache.getEvictionCount());
+
+        assertThrows(IllegalArgumentException.class, () -> new CountCache(0, Duration.ofMinutes(1)));
+        assertThrows(IllegalArgumentException.class, () -> new CountCache(1, Duration.ZERO));
+
+        repository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Test find and findPage: should reuse cached results until an entity is written")
+    void testFindWithResultCache() {
+        repository.deleteAll();
+
+        for (int number = 1; number <= 3; number++) {
+            repository.save(createEntity(number, UUID.randomUUID()));
+        }
+
+        ResultCache cache = new ResultCache();
+        EntityCacheInvalidator.register(entityManagerFactory, cache);
+        executor.setResultCache(cache);
+        Sort sort = Sort.by(Sort.Order.asc("text"));
+        Specification<MyEntity> filters = specification(Map.of("numberInteger", List.of("gt_0")));
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            assertEquals(List.of("text1", "text2", "text3"),
+                executor.find(MyEntity.class, String.class, filters, sort, "text"));
+        }
+        assertEquals(1, cache.getHitCount());
+
+        Page<MyEntity> page = executor.findPage(
+            MyEntity.class, MyEntity.class, filters, PageRequest.of(0, 2, sort), new String[0]);
+        Page<MyEntity> cachedPage = executor.findPage(
+            MyEntity.class, MyEntity.class, specification(Map.of("numberInteger", List.of("gt_0"))),
+            PageRequest.of(0, 2, sort), new String[0]);
+        assertEquals(2, cache.getHitCount());
+        assertEquals(List.of("text1", "text2"), cachedPage.getContent().stream().map(MyEntity::getText).toList());
+        assertEquals(page.getTotalElements(), cachedPage.getTotalElements());
+        assertEquals(2, cache.size());
+
+        repository.save(createEntity(4, UUID.randomUUID()));
+        assertEquals(2, cache.getInvalidationCount());
+
+        assertEquals(List.of("text1", "text2", "text3", "text4"),
+            executor.find(MyEntity.class, String.class, filters, sort, "text"));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+
+        repository.deleteAll();
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Test find: should bypass cached results of entities written by the current transaction")
+    void testFindWithResultCacheSeesOwnWrites() {
+        repository.deleteAll();
+        repository.flush();
+        repository.save(createEntity(1, UUID.randomUUID()));
+        repository.flush();
+        entityManager.clear();
+
+        ResultCache cache = new ResultCache();
+        EntityCacheInvalidator.register(entityManagerFactory, cache);
+        executor.setResultCache(cache);
+        Sort sort = Sort.by(Sort.Order.asc("text"));
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            assertEquals(List.of("text1"),
+                executor.find(MyEntity.class, String.class, noFilterSpecification(), sort, "text"));
+        }
+        assertEquals(1, cache.getHitCount());
+
+        repository.save(createEntity(2, UUID.randomUUID()));
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            assertEquals(List.of("text1", "text2"),
+                executor.find(MyEntity.class, String.class, noFilterSpecification(), sort, "text"));
+        }
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Test findPage: should stop a bounded count after its limit")
+    void testFindPageWithBoundedCount() {
+        repository.deleteAll();
+        repository.flush();
+
+        for (int number = 1; number <= 10; number++) {
+            repository.save(createEntity(number, UUID.randomUUID()));
+        }
+
+        Sort sort = Sort.by(Sort.Order.asc("numberInteger"));
+
+        CountedPage<String> bounded = executor.findPage(MyEntity.class, String.class, noFilterSpecification(),
+            PageRequest.of(0, 2, sort), CountMode.bounded(3), "text");
+        assertEquals(List.of("text1", "text2"), bounded.getContent());
+        assertEquals(4, bounded.getTotalElements());
+        assertEquals(TotalAccuracy.AT_LEAST, bounded.getTotalAccuracy());
+        assertTrue(bounded.hasNext());
+
+        CountedPage<String> furtherPage = executor.findPage(MyEntity.class, String.class, noFilterSpecification(),
+            PageRequest.of(3, 2, sort), CountMode.bounded(3), "text");
+        assertEquals(List.of("text7", "text8"), furtherPage.getContent());
+        assertEquals(TotalAccuracy.AT_LEAST, furtherPage.getTotalAccuracy());
+        assertTrue(furtherPage.hasNext());
+
+        CountedPage<String> exact = executor.findPage(MyEntity.class, String.class,
+            specification(Map.of("numberInteger", List.of("gt_500"))), PageRequest.of(0, 2, sort),
+            CountMode.bounded(20), "text");
+        assertEquals(5, exact.getTotalElements());
+        assertTrue(exact.isTotalExact());
+
+        CountedPage<String> distinct = executor.findDistinctPage(MyEntity.class, String.class,
+            noFilterSpecification(), PageRequest.of(0, 2, Sort.by("text")), CountMode.bounded(5), "text");
+        assertEquals(6, distinct.getTotalElements());
+        assertEquals(TotalAccuracy.AT_LEAST, distinct.getTotalAccuracy());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Test findPage: should estimate the total with the count estimator")
+    void testFindPageWithEstimatedCount() {
+        repository.deleteAll();
+        repository.flush();
+
+        for (int number = 1; number <= 5; number++) {
+            repository.save(createEntity(number, UUID.randomUUID()));
+        }
+
+        PageRequest pageable = PageRequest.of(0, 2, Sort.by(Sort.Order.asc("text")));
+
+        CountedPage<String> exact = executor.findPage(
+            MyEntity.class, String.class, noFilterSpecification(), pageable, CountMode.estimated(), "text");
+        assertEquals(5, exact.getTotalElements());
+        assertEquals(TotalAccuracy.EXACT, exact.getTotalAccuracy());
+
+        executor.setCountEstimator(
+            (manager, entityClass, specification, distinct, fieldNames) -> OptionalLong.of(1000));
+
+        CountedPage<String> estimated = executor.findPage(
+            MyEntity.class, String.class, noFilterSpecification(), pageable, CountMode.estimated(), "text");
+        assertEquals(List.of("text1", "text2"), estimated.getContent());
+        assertEquals(1000, estimated.getTotalElements());
+        assertEquals(TotalAccuracy.ESTIMATED, estimated.getTotalAccuracy());
+        assertFalse(estimated.isTotalExact());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Test findPage: should return an unknown total when the count exceeds its time budget")
+    void testFindPageWithCountTimeout() {
+        repository.deleteAll();
+        repository.flush();
+
+        for (int number = 1; number <= 5; number++) {
+            repository.save(createEntity(number, UUID.randomUUID()));
+        }
+
+        executor.setCountTimeout(Duration.ofSeconds(1));
+        Sort sort = Sort.by(Sort.Order.asc("text"));
+        Specification<MyEntity> slowCount = (root, query, builder) -> {
+            if (Long.class.equals(query.getResultType())) {
+                throw new QueryTimeoutException();
+            }
+            return builder.conjunction();
+        };
+
+        CountedPage<String> first = executor.findPage(
+            MyEntity.class, String.class, slowCount, PageRequest.of(0, 2, sort), CountMode.exact(), "text");
+        assertEquals(List.of("text1", "text2"), first.getContent());
+        assertEquals(TotalAccuracy.UNKNOWN, first.getTotalAccuracy());
+        assertTrue(first.hasNext());
+        assertEquals(1, executor.getCountTimeoutCount(MyEntity.class));
+
+        CountedPage<String> last = executor.findPage(
+            MyEntity.class, String.class, slowCount, PageRequest.of(1, 3, sort), CountMode.exact(), "text");
+        assertEquals(List.of("text4", "text5"), last.getContent());
+        assertEquals(TotalAccuracy.EXACT, last.getTotalAccuracy());
+        assertFalse(last.hasNext());
+
+        CountedPage<String> fullLast = executor.findPage(
+            MyEntity.class, String.class, slowCount, PageRequest.of(0, 5, sort), CountMode.exact(), "text");
+        assertEquals(5, fullLast.getTotalElements());
+        assertTrue(fullLast.isTotalExact());
+
+        assertEquals(Map.of(MyEntity.class, 1L), executor.getCountTimeoutCounts());
+        assertThrows(InvalidDataAccessApiUsageException.class,
+            () -> executor.setCountTimeout(Duration.ofSeconds(-1)));
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Test findPage: should adapt the count mode of a shape to its recorded counts")
+    void testFindPageWithAdaptiveCount() {
+        repository.deleteAll();
+        repository.flush();
+
+        for (int number = 1; number <= 5; number++) {
+            repository.save(createEntity(number, UUID.randomUUID()));
+        }
+
+        AdaptiveCountPolicy policy = new AdaptiveCountPolicy();
+        policy.setSlowThreshold(Duration.ZERO);
+        policy.setMinSamples(1);
+        policy.setBoundedLimit(3);
+        executor.setAdaptiveCountPolicy(policy);
+
+        String shape = MyEntity.class.getName() + "/numberInteger.SUPERIOR";
+        Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Order.asc("text")));
+
+        CountedPage<String> learning = executor.findPage(MyEntity.class, String.class,
+            specification(Map.of("numberInteger", List.of("gt_0"))), pageable, CountMode.exact(), "text");
+        assertEquals(5, learning.getTotalElements());
+        assertTrue(learning.isTotalExact());
+        assertEquals(1, policy.getSampleCount(shape));
+        assertEquals(5, policy.getAverageTotal(shape));
+        assertEquals(Map.of(shape, CountMode.bounded(3)), policy.getCountModes());
+
+        CountedPage<String> bounded = executor.findPage(MyEntity.class, String.class,
+            specification(Map.of("numberInteger", List.of("gt_50"))), pageable, CountMode.exact(), "text");
+        assertEquals(List.of("text1", "text2"), bounded.getContent());
+        assertEquals(4, bounded.getTotalElements());
+        assertEquals(TotalAccuracy.AT_LEAST, bounded.getTotalAccuracy());
+
+        policy.setBoundedLimit(10);
+        CountedPage<String> uncounted = executor.findPage(MyEntity.class, String.class,
+            specification(Map.of("numberInteger", List.of("gt_0"))), pageable, CountMode.exact(), "text");
+        assertEquals(List.of("text1", "text2"), uncounted.getContent());
+        assertEquals(TotalAccuracy.UNKNOWN, uncounted.getTotalAccuracy());
+        assertTrue(uncounted.hasNext());
+        assertEquals(1, policy.getSampleCount(shape));
+
+        CountedPage<String> requested = executor.findPage(MyEntity.class, String.class,
+            specification(Map.of("numberInteger", List.of("gt_0"))), pageable, CountMode.bounded(4), "text");
+        assertEquals(TotalAccuracy.AT_LEAST, requested.getTotalAccuracy());
+
+        policy.setOverride(shape, CountMode.exact());
+        CountedPage<String> overridden = executor.findPage(MyEntity.class, String.class,
+            specification(Map.of("numberInteger", List.of("gt_0"))), pageable, CountMode.exact(), "text");
+        assertEquals(5, overridden.getTotalElements());
+        assertTrue(overridden.isTotalExact());
+        assertEquals(Map.of(shape, CountMode.exact()), policy.getOverrides());
+
+        CountedPage<String> other = executor.findPage(MyEntity.class, String.class,
+            specification(Map.of("numberInteger", List.of("lt_250"))), pageable, CountMode.exact(), "text");
+        assertEquals(2, other.getTotalElements());
+        assertTrue(other.isTotalExact());
+
+        assertEquals(CountMode.none(), CountMode.valueOf("NONE"));
+        assertEquals(CountMode.bounded(3), CountMode.valueOf(" bounded( 3 ) "));
+        assertThrows(IllegalArgumentException.class, () -> CountMode.valueOf("bounded(x)"));
+        assertThrows(IllegalArgumentException.class, () -> policy.setMinSamples(0));
+    }
+
     @Test
     @Transactional
     @DisplayName("Test findDistinctPage: should deduplicate rows and compute a consistent total for a single field")
@@ -348,6 +1192,146 @@ class SpringQueryExecutorImplTest {
         assertEquals(2, page.getTotalElements());
     }
 
+    // ------------------------------------------------------------------
+    // findSlice / findDistinctSlice
+    // ------------------------------------------------------------------
+
+    @Test
+    @Transactional
+    @DisplayName("Test findSlice: should detect the next slice without counting")
+    void testFindSlice() {
+        repository.deleteAll();
+        repository.flush();
+
+        repository.save(createEntity(1, UUID.randomUUID()));
+        repository.save(createEntity(2, UUID.randomUUID()));
+        repository.save(createEntity(3, UUID.randomUUID()));
+
+        Sort sort = Sort.by(Sort.Order.asc("text"));
+
+        Slice<String> first = executor.findSlice(
+            MyEntity.class, String.class, noFilterSpecification(), PageRequest.of(0, 2, sort), "text");
+        Slice<String> last = executor.findSlice(
+            MyEntity.class, String.class, noFilterSpecification(), PageRequest.of(1, 2, sort), "text");
+        Slice<String> unpaged = executor.findSlice(
+            MyEntity.class, String.class, noFilterSpecification(), Pageable.unpaged(), "text");
+
+        assertEquals(List.of("text1", "text2"), first.getContent());
+        assertTrue(first.hasNext());
+        assertEquals(List.of("text3"), last.getContent());
+        assertFalse(last.hasNext());
+        assertEquals(3, unpaged.getContent().size());
+        assertFalse(unpaged.hasNext());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Test findDistinctSlice: should deduplicate rows before slicing")
+    void testFindDistinctSlice() {
+        repository.deleteAll();
+        repository.flush();
+
+        for (int number = 1; number <= 3; number++) {
+            MyEntity entity = createEntity(number, UUID.randomUUID());
+            entity.setText("same");
+            repository.save(entity);
+        }
+        repository.save(createEntity(4, UUID.randomUUID()));
+
+        Slice<String> slice = executor.findDistinctSlice(
+            MyEntity.class, String.class, noFilterSpecification(),
+            PageRequest.of(0, 2, Sort.by(Sort.Order.asc("text"))), "text");
+
+        assertEquals(List.of("same", "text4"), slice.getContent());
+        assertFalse(slice.hasNext());
+    }
+
+    // ------------------------------------------------------------------
+    // stream / streamDistinct
+    // ------------------------------------------------------------------
+
+    @Test
+    @Transactional
+    @DisplayName("Test stream: should stream the same results as find and keep entities managed by default")
+    void testStream() {
+        repository.deleteAll();
+        repository.flush();
+
+        for (int number = 1; number <= 5; number++) {
+            repository.save(createEntity(number, UUID.randomUUID()));
+        }
+        repository.flush();
+        entityManager.clear();
+
+        Sort sort = Sort.by(Sort.Order.desc("numberInteger"));
+        List<String> expected = executor.find(MyEntity.class, String.class, noFilterSpecification(), sort, "text");
+
+        try (Stream<String> texts = executor.stream(
+            MyEntity.class, String.class, noFilterSpecification(), sort, "text")) {
+            assertEquals(expected, texts.toList());
+        }
+
+        try (Stream<MyEntity> entities = executor.stream(MyEntity.class, MyEntity.class,
+            specification(Map.of("numberInteger", List.of("gt_200"))), sort, new String[0])) {
+            List<MyEntity> results = entities.toList();
+
+            assertEquals(List.of(500, 400, 300), results.stream().map(MyEntity::getNumberInteger).toList());
+            assertTrue(results.stream().allMatch(entityManager::contains));
+            assertTrue(results.stream().noneMatch(entityManager.unwrap(Session.class)::isReadOnly));
+        }
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Test stream: should detach streamed entities once enabled")
+    void testStreamWithDetachedEntities() {
+        repository.deleteAll();
+        repository.flush();
+
+        for (int number = 1; number <= 3; number++) {
+            repository.save(createEntity(number, UUID.randomUUID()));
+        }
+        repository.flush();
+        entityManager.clear();
+
+        assertFalse(executor.isDetachStreamedEntities());
+        executor.setDetachStreamedEntities(true);
+
+        try (Stream<MyEntity> entities = executor.stream(MyEntity.class, MyEntity.class,
+            noFilterSpecification(), Sort.by("numberInteger"), new String[0])) {
+            List<MyEntity> results = entities.toList();
+
+            assertEquals(List.of(100, 200, 300), results.stream().map(MyEntity::getNumberInteger).toList());
+            assertTrue(results.stream().noneMatch(entityManager::contains));
+        }
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Test streamDistinct: should deduplicate streamed rows")
+    void testStreamDistinct() {
+        repository.deleteAll();
+        repository.flush();
+
+        for (int number = 1; number <= 3; number++) {
+            MyEntity entity = createEntity(number, UUID.randomUUID());
+            entity.setText("same");
+            repository.save(entity);
+        }
+        repository.save(createEntity(4, UUID.randomUUID()));
+
+        try (Stream<String> texts = executor.streamDistinct(
+            MyEntity.class, String.class, noFilterSpecification(), Sort.by(Sort.Order.asc("text")), "text")) {
+            assertEquals(List.of("same", "text4"), texts.toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Test setStreamFetchSize: should reject non-positive fetch size")
+    void testSetStreamFetchSizeWithInvalidValue() {
+        assertThrows(InvalidDataAccessApiUsageException.class, () -> executor.setStreamFetchSize(0));
+    }
+
     // ------------------------------------------------------------------
     // countAll / countDistinctEntities / countDistinctSingleField / countDistinctMultipleFields
     // (indirectly via countResults)
@@ -431,6 +1415,138 @@ class SpringQueryExecutorImplTest {
         assertEquals(2, total);
     }
 
+    @Test
+    @Transactional
+    @DisplayName("Test countResults: should count distinct combinations in the database on a large dataset")
+    void testCountResultsDistinctMultipleFieldsOnLargeDataset() {
+        repository.deleteAll();
+        repository.flush();
+
+        entityManager.createNativeQuery("INSERT INTO my_entity (text, number_integer, number_float, number_double) "
+                + "SELECT CASE WHEN MOD(X, 1000) = 0 THEN NULL ELSE 'text' || MOD(X, 1000) END, MOD(X, 7), 0, 0 "
+                + "FROM SYSTEM_RANGE(1, 200000)")
+            .executeUpdate();
+
+        long expected = ((Number) entityManager.createNativeQuery(
+                "SELECT COUNT(*) FROM (SELECT DISTINCT text, number_integer FROM my_entity) combinations")
+            .getSingleResult()).longValue();
+        long total = executor.countResults(
+            MyEntity.class, noFilterSpecification(), true, "text", "numberInteger");
+        long filteredTotal = executor.countResults(
+            MyEntity.class, specification(Map.of("numberInteger", List.of("lt_3"))), true, "text", "numberInteger");
+
+        assertEquals(7000, expected);
+        assertEquals(expected, total);
+        assertEquals(3000, filteredTotal);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Test buildDistinctKey: should not confuse values containing the separator")
+    void testCountResultsDistinctMultipleFieldsWithAmbiguousValues() {
+        repository.deleteAll();
+        repository.flush();
+
+        MyEntity entity1 = createEntity(1, UUID.randomUUID());
+        entity1.setText("1:a");
+        entity1.setNumberInteger(1);
+        repository.save(entity1);
+
+        MyEntity entity2 = createEntity(2, UUID.randomUUID());
+        entity2.setText("1:a1");
+        entity2.setNumberInteger(1);
+        repository.save(entity2);
+
+        MyEntity entity3 = createEntity(3, UUID.randomUUID());
+        entity3.setText(null);
+        entity3.setNumberInteger(1);
+        repository.save(entity3);
+
+        MyEntity entity4 = createEntity(4, UUID.randomUUID());
+        entity4.setText("-");
+        entity4.setNumberInteger(1);
+        repository.save(entity4);
+
+        long total = executor.countResults(
+            MyEntity.class, noFilterSpecification(), true, "text", "numberInteger");
+
+        assertEquals(4, total);
+        assertEquals(total, new CountQueries(executor).countDistinctTuplesInMemory(
+            MyEntity.class, noFilterSpecification(), "text", "numberInteger"));
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Test countResults: should count distinct floating-point and timestamp combinations exactly")
+    void testCountResultsDistinctMultipleFieldsWithInexactStringForms() {
+        repository.deleteAll();
+        repository.flush();
+
+        double[] numbers = {0.1d, 0.1d, 0.1d + Math.ulp(0.1d), 1e20d};
+        long[] times = {1_000L, 1_000L, 1_000L, 1_001L};
+
+        for (int index = 0; index < numbers.length; index++) {
+            MyEntity entity = createEntity(index + 1, UUID.randomUUID());
+            entity.setNumberDouble(numbers[index]);
+            entity.setDate(new Date(times[index]));
+            repository.save(entity);
+        }
+        repository.flush();
+
+        long expected = new CountQueries(executor).countDistinctTuplesInMemory(
+            MyEntity.class, noFilterSpecification(), "numberDouble", "date");
+
+        assertEquals(3, expected);
+        assertEquals(expected, executor.countResults(
+            MyEntity.class, noFilterSpecification(), true, "numberDouble", "date"));
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Test countResults: should count distinct integral and UUID combinations with a key")
+    void testCountResultsDistinctMultipleFieldsWithExactStringForms() {
+        repository.deleteAll();
+        repository.flush();
+
+        UUID uuid = UUID.randomUUID();
+        repository.save(createEntity(1, uuid));
+        repository.save(createEntity(1, uuid));
+        repository.save(createEntity(2, uuid));
+        repository.save(createEntity(2, null));
+        repository.flush();
+
+        assertEquals(3, executor.countResults(
+            MyEntity.class, noFilterSpecification(), true, "numberInteger", "uuid"));
+    }
+
+    // ------------------------------------------------------------------
+    // compile
+    // ------------------------------------------------------------------
+
+    @Test
+    @DisplayName("Test compile: should compile specifications without a registry with the one of the executor")
+    void testCompileWithFilterTypeRegistry() {
+        assertNotSame(FilterTypeRegistry.getDefault(), filterTypeRegistry);
+
+        var registry = new FilterTypeRegistry()
+            .register(String.class, (name, value, dateFormat) -> new LongPredicateFilter<>(name, value));
+        executor.setFilterTypeRegistry(registry);
+
+        var specification = new SpringQueryFilterSpecification<>(MyEntity.class, Map.of("text", List.of("1")));
+        var plan = (FilterPlan<MyEntity>) executor.compile(specification);
+
+        assertFalse(specification.hasFilterTypeRegistry());
+        assertEquals(LongPredicateFilter.class, plan.getPredicateFilters().getFirst().getClass());
+
+        var ownRegistry = new FilterTypeRegistry();
+        var ownSpecification = new SpringQueryFilterSpecification<>(MyEntity.class, Map.of("text", List.of("1")));
+        ownSpecification.setFilterTypeRegistry(ownRegistry);
+        var ownPlan = (FilterPlan<MyEntity>) executor.compile(ownSpecification);
+
+        assertSame(ownRegistry, ownSpecification.getFilterTypeRegistry());
+        assertEquals(StringPredicateFilter.class, ownPlan.getPredicateFilters().getFirst().getClass());
+    }
+
     // ------------------------------------------------------------------
     // buildTypedQuery
     // ------------------------------------------------------------------
@@ -457,4 +1573,223 @@ class SpringQueryExecutorImplTest {
 
         assertEquals(List.of("text1", "text2"), results);
     }
-}
\ No newline at end of file
+
+    // ------------------------------------------------------------------
+    // JPQL query mode
+    // ------------------------------------------------------------------
+
+    Specification<MyEntity> specification(Map<String, List<String>> filters) {
+        return new SpringQueryFilterSpecification<>(MyEntity.class, new HashMap<>(filters));
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Test JPQL query mode: should return the same results as the Criteria mode")
+    void testJpqlQueryMode() {
+        repository.deleteAll();
+        repository.flush();
+
+        for (int number = 1; number <= 5; number++) {
+            repository.save(createEntity(number, UUID.randomUUID()));
+        }
+
+        var filters = Map.of(
+            "text", List.of("text1|text2|lk_*5"),
+            "numberInteger", List.of("not_300", "not_400"));
+        Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Order.desc("numberInteger")));
+
+        Page<String> criteriaPage = executor.findPage(
+            MyEntity.class, String.class, specification(filters), pageable, "text");
+        List<TextNumberProjection> criteriaProjections = executor.findDistinct(
+            MyEntity.class, TextNumberProjection.class, specification(filters), "text", "numberInteger");
+
+        executor.setQueryMode(QueryMode.JPQL);
+
+        Page<String> jpqlPage = executor.findPage(
+            MyEntity.class, String.class, specification(filters), pageable, "text");
+        List<TextNumberProjection> jpqlProjections = executor.findDistinct(
+            MyEntity.class, TextNumberProjection.class, specification(filters), "text", "numberInteger");
+
+        assertEquals(List.of("text5", "text2"), jpqlPage.getContent());
+        assertEquals(criteriaPage.getContent(), jpqlPage.getContent());
+        assertEquals(criteriaPage.getTotalElements(), jpqlPage.getTotalElements());
+        assertEquals(3, jpqlPage.getTotalElements());
+        assertEquals(Set.copyOf(criteriaProjections), Set.copyOf(jpqlProjections));
+        assertEquals(3, executor.countResults(MyEntity.class, specification(filters), true, "text", "numberInteger"));
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Test JPQL query mode: should reuse the same query shape for different values")
+    void testJpqlQueryModeStatistics() {
+        repository.deleteAll();
+        repository.flush();
+
+        repository.save(createEntity(1, UUID.randomUUID()));
+        repository.save(createEntity(2, UUID.randomUUID()));
+
+        executor.setQueryMode(QueryMode.JPQL);
+        executor.getJpqlShapeStatistics().clear();
+
+        assertEquals(1, executor.find(MyEntity.class, MyEntity.class,
+            specification(Map.of("numberInteger", List.of("100"))), new String[0]).size());
+        assertEquals(1, executor.find(MyEntity.class, MyEntity.class,
+            specification(Map.of("numberInteger", List.of("200"))), new String[0]).size());
+        assertEquals(0, executor.find(MyEntity.class, MyEntity.class,
+            specification(Map.of("numberInteger", List.of("300"))), new String[0]).size());
+
+        JpqlShapeStatistics statistics = executor.getJpqlShapeStatistics();
+        assertEquals(3, statistics.getQueryCount());
+        assertEquals(2, statistics.getRepeatCount());
+        assertEquals(1, statistics.getShapeCount());
+        assertEquals(2.0 / 3, statistics.getRepeatRatio());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Test JPQL query mode: should reject invalid attribute names")
+    void testJpqlQueryModeWithInvalidAttributeName() {
+        executor.setQueryMode(QueryMode.JPQL);
+
+        assertThrows(InvalidDataAccessApiUsageException.class, () -> executor.find(
+            MyEntity.class, String.class, noFilterSpecification(), Sort.by("text) OR (1 = 1"), "text"));
+    }
+
+    // ------------------------------------------------------------------
+    // findWindow
+    // ------------------------------------------------------------------
+
+    @Test
+    @Transactional
+    @DisplayName("Test findWindow: should scroll forward and backward with keyset cursors")
+    void testFindWindow() {
+        repository.deleteAll();
+        repository.flush();
+
+        for (int number = 1; number <= 7; number++) {
+            repository.save(createEntity(number, UUID.randomUUID()));
+        }
+
+        Sort sort = Sort.by(Sort.Order.desc("numberInteger"));
+
+        Window<Integer> window1 = executor.findWindow(
+            MyEntity.class, Integer.class, noFilterSpecification(), ScrollPosition.keyset(), sort, 3, "numberInteger");
+        String cursor = KeysetCursor.encode((KeysetScrollPosition) window1.positionAt(window1.size() - 1));
+        Window<Integer> window2 = executor.findWindow(
+            MyEntity.class, Integer.class, noFilterSpecification(), KeysetCursor.decode(cursor), sort, 3,
+            "numberInteger");
+        Window<Integer> window3 = executor.findWindow(
+            MyEntity.class, Integer.class, noFilterSpecification(),
+            (KeysetScrollPosition) window2.positionAt(window2.size() - 1), sort, 3, "numberInteger");
+        Window<Integer> previous = executor.findWindow(
+            MyEntity.class, Integer.class, noFilterSpecification(),
+            ((KeysetScrollPosition) window2.positionAt(0)).backward(), sort, 3, "numberInteger");
+
+        assertEquals(List.of(700, 600, 500), window1.getContent());
+        assertTrue(window1.hasNext());
+        assertEquals(List.of(400, 300, 200), window2.getContent());
+        assertTrue(window2.hasNext());
+        assertEquals(List.of(100), window3.getContent());
+        assertFalse(window3.hasNext());
+        assertEquals(List.of(700, 600, 500), previous.getContent());
+        assertFalse(previous.hasNext());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Test findWindow: should break ties with the identifier and apply filters")
+    void testFindWindowWithTies() {
+        repository.deleteAll();
+        repository.flush();
+
+        for (int number = 1; number <= 5; number++) {
+            MyEntity entity = createEntity(number, UUID.randomUUID());
+            entity.setText("same");
+            repository.save(entity);
+        }
+
+        var specification = specification(Map.of("numberInteger", List.of("not_300")));
+        Sort sort = Sort.by(Sort.Order.asc("text"));
+        List<TextNumberProjection> content = new ArrayList<>();
+        KeysetScrollPosition position = ScrollPosition.keyset();
+        Window<TextNumberProjection> window;
+
+        do {
+            window = executor.findWindow(
+                MyEntity.class, TextNumberProjection.class, specification, position, sort, 2, "text", "numberInteger");
+            content.addAll(window.getContent());
+            if (!window.isEmpty()) {
+                position = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+            }
+        } while (window.hasNext());
+
+        assertEquals(List.of(100, 200, 400, 500), content.stream().map(TextNumberProjection::getNumberInteger).toList());
+    }
+
+    List<Integer> scrollNumbers(Sort sort) {
+        List<Integer> numbers = new ArrayList<>();
+        KeysetScrollPosition position = ScrollPosition.keyset();
+        Window<TextNumberProjection> window;
+
+        do {
+            window = executor.findWindow(MyEntity.class, TextNumberProjection.class, noFilterSpecification(), position,
+                sort, 2, "text", "numberInteger");
+            window.forEach(row -> numbers.add(row.getNumberInteger()));
+            if (!window.isEmpty()) {
+                position = KeysetCursor.decode(
+                    KeysetCursor.encode((KeysetScrollPosition) window.positionAt(window.size() - 1)));
+            }
+        } while (window.hasNext());
+
+        return numbers;
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Test findWindow: should seek after null sort values according to the null handling of the sort")
+    void testFindWindowWithNullSortValues() {
+        repository.deleteAll();
+        repository.flush();
+
+        for (int number = 1; number <= 6; number++) {
+            MyEntity entity = createEntity(number, UUID.randomUUID());
+            if (number == 2 || number == 5) {
+                entity.setText(null);
+            }
+            repository.save(entity);
+        }
+
+        assertEquals(List.of(100, 300, 400, 600, 200, 500), scrollNumbers(Sort.by(Sort.Order.asc("text"))));
+        assertEquals(List.of(200, 500, 600, 400, 300, 100), scrollNumbers(Sort.by(Sort.Order.desc("text"))));
+        assertEquals(List.of(200, 500, 100, 300, 400, 600),
+            scrollNumbers(Sort.by(Sort.Order.asc("text").nullsFirst())));
+        assertEquals(List.of(600, 400, 300, 100, 200, 500),
+            scrollNumbers(Sort.by(Sort.Order.desc("text").nullsLast())));
+
+        Sort sort = Sort.by(Sort.Order.asc("text"));
+        Map<String, Object> keys = new HashMap<>();
+        keys.put("text", null);
+        keys.put("id", repository.findAll().stream()
+            .filter(entity -> entity.getNumberInteger() == 500)
+            .findFirst()
+            .orElseThrow()
+            .getId());
+        Window<Integer> previous = executor.findWindow(MyEntity.class, Integer.class, noFilterSpecification(),
+            ScrollPosition.backward(keys), sort, 2, "numberInteger");
+
+        assertEquals(List.of(600, 200), previous.getContent());
+        assertTrue(previous.hasNext());
+    }
+
+    @Test
+    @DisplayName("Test findWindow: should reject invalid limits and positions")
+    void testFindWindowWithInvalidArguments() {
+        Sort sort = Sort.by("text");
+
+        assertThrows(InvalidDataAccessApiUsageException.class, () -> executor.findWindow(
+            MyEntity.class, MyEntity.class, noFilterSpecification(), ScrollPosition.keyset(), sort, 0));
+        assertThrows(InvalidDataAccessApiUsageException.class, () -> executor.findWindow(
+            MyEntity.class, MyEntity.class, noFilterSpecification(), ScrollPosition.forward(Map.of("text", "a")),
+            sort, 10));
+    }
+}
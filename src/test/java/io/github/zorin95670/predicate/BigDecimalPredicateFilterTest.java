@@ -0,0 +1,47 @@
+package io.github.zorin95670.predicate;
+
+import io.github.zorin95670.exception.SpringQueryFilterException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@Tag("unit")
+@DisplayName("Test class: BigDecimalPredicateFilter")
+class BigDecimalPredicateFilterTest {
+
+    @Test
+    @DisplayName("Test parseValue, should return valid BigDecimal")
+    void testParseValue() {
+        var predicateFilter = new BigDecimalPredicateFilter<>("name", "value");
+
+        assertEquals(new BigDecimal("1.10"), predicateFilter.parseValue("1.10"));
+        assertEquals(new BigDecimal("12345678901234567890.123456789"),
+            predicateFilter.parseValue("12345678901234567890.123456789"));
+    }
+
+    @Test
+    @DisplayName("Test parseValue, should throw exception on invalid value")
+    void testParseValueThrowException() {
+        var predicateFilter = new BigDecimalPredicateFilter<>("name", "value");
+
+        SpringQueryFilterException exception = null;
+
+        try {
+            predicateFilter.parseValue("bad");
+        } catch (SpringQueryFilterException e) {
+            exception = e;
+        }
+
+        assertNotNull(exception);
+        assertEquals("Invalid number format: Unable to parse the value 'bad' as a decimal.", exception.getMessage());
+        assertNotNull(exception.getCause());
+        assertEquals("BIGDECIMAL", exception.getQueryFilterType());
+        assertEquals("name", exception.getQueryParameterName());
+        assertEquals("bad", exception.getQueryParameterValue());
+    }
+}
@@ -4,6 +4,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @Tag("unit")
@@ -48,4 +50,17 @@ class ComparablePredicateFilterTest {
         assertEquals(PredicateOperator.BETWEEN, predicateFilter.getOperator(1));
         assertEquals("value3_BT_value4", predicateFilter.getValue(1));
     }
+
+    @Test
+    @DisplayName("Test parseOperands, should parse both bounds of between operator")
+    void testParseOperandsBetween() {
+        var predicateFilter = new TestPredicateFilter<>("name", "value1_bt_value2|value3_BT_value4|lt_value5");
+        predicateFilter.extract();
+
+        assertEquals("value1", predicateFilter.getOperand(0, 0));
+        assertEquals("value2", predicateFilter.getOperand(0, 1));
+        assertEquals("value3", predicateFilter.getOperand(1, 0));
+        assertEquals("value4", predicateFilter.getOperand(1, 1));
+        assertEquals(List.of("value5"), predicateFilter.parseOperands(2));
+    }
 }
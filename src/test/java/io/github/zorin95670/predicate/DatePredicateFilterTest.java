@@ -105,4 +105,37 @@ class DatePredicateFilterTest {
         assertEquals("name", exception.getQueryParameterName());
         assertEquals("bad", exception.getQueryParameterValue());
     }
+
+    @Test
+    @DisplayName("Test setDateFormat: should share formatters of the same format")
+    void testSetDateFormatSharesFormatter() throws ParseException {
+        var predicateFilter1 = new DatePredicateFilter<>("name", "value", "yyyy-MM");
+        var predicateFilter2 = new DatePredicateFilter<>("name", "value", "yyyy-MM");
+
+        assertSame(DateTimeFormatters.ofPattern("yyyy-MM"), DateTimeFormatters.ofPattern("yyyy-MM"));
+        assertEquals("yyyy-MM", predicateFilter1.getDateFormat());
+        assertEquals(new SimpleDateFormat("yyyy-MM").parse("2024-02"), predicateFilter2.parseValue("2024-02"));
+        assertEquals(new SimpleDateFormat("HH:mm").parse("10:15"),
+            new DatePredicateFilter<>("name", "value", "HH:mm").parseValue("10:15"));
+    }
+
+    @Test
+    @DisplayName("Test setDateFormat: should parse SimpleDateFormat patterns as SimpleDateFormat does")
+    void testSetDateFormatWithSimpleDateFormatPatterns() throws ParseException {
+        var patterns = new String[][] {
+            {"yyyy-MM-dd HH:mm:ss.S", "2024-01-01 10:15:30.5"},
+            {"yyyy-MM-dd u", "2024-01-01 1"},
+            {"yyyy#MM#dd", "2024#02#03"},
+            {"yyyy-MM-dd 'at' HH 'o''clock'", "2024-02-03 at 10 o'clock"},
+            {"''yyyyMMdd''", "'20240203'"},
+            {"dd/MM/yyyy kk:mm", "03/02/2024 24:30"},
+        };
+
+        for (String[] pattern : patterns) {
+            assertEquals(new SimpleDateFormat(pattern[0]).parse(pattern[1]),
+                new DatePredicateFilter<>("name", "value", pattern[0]).parseValue(pattern[1]), pattern[0]);
+        }
+
+        assertThrows(SpringQueryFilterException.class, () -> new DatePredicateFilter<>("name", "value", "yyyy'MM"));
+    }
 }
@@ -0,0 +1,58 @@
+package io.github.zorin95670.predicate;
+
+import io.github.zorin95670.exception.SpringQueryFilterException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@Tag("unit")
+@DisplayName("Test class: EnumPredicateFilter")
+class EnumPredicateFilterTest {
+
+    @Test
+    @DisplayName("Test parseValue, should return the constant with the value as name")
+    void testParseValue() {
+        var predicateFilter = new EnumPredicateFilter<>("name", "value", DayOfWeek.class);
+
+        assertEquals(DayOfWeek.class, predicateFilter.getEnumType());
+        assertEquals(DayOfWeek.MONDAY, predicateFilter.parseValue("MONDAY"));
+    }
+
+    @Test
+    @DisplayName("Test extract, should parse the constants of every value")
+    void testExtract() {
+        var predicateFilter = new EnumPredicateFilter<>("name", "MONDAY|not_SUNDAY", DayOfWeek.class);
+
+        predicateFilter.extract();
+
+        assertEquals(DayOfWeek.MONDAY, predicateFilter.getOperand(0, 0));
+        assertEquals(DayOfWeek.SUNDAY, predicateFilter.getOperand(1, 0));
+    }
+
+    @Test
+    @DisplayName("Test parseValue, should throw exception on unknown constant")
+    void testParseValueThrowException() {
+        var predicateFilter = new EnumPredicateFilter<>("name", "value", DayOfWeek.class);
+
+        SpringQueryFilterException exception = null;
+
+        try {
+            predicateFilter.parseValue("monday");
+        } catch (SpringQueryFilterException e) {
+            exception = e;
+        }
+
+        assertNotNull(exception);
+        assertEquals("Invalid enum value: Unable to parse the value 'monday' as a constant of DayOfWeek.",
+            exception.getMessage());
+        assertNotNull(exception.getCause());
+        assertEquals("ENUM", exception.getQueryFilterType());
+        assertEquals("name", exception.getQueryParameterName());
+        assertEquals("monday", exception.getQueryParameterValue());
+    }
+}
@@ -0,0 +1,92 @@
+package io.github.zorin95670.predicate;
+
+import io.github.zorin95670.exception.SpringQueryFilterException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("unit")
+@DisplayName("Test class: FilterValueParser")
+class FilterValueParserTest {
+
+    FilterValueParser comparableParser() {
+        return new FilterValueParser(
+            EnumSet.of(PredicateOperator.INFERIOR, PredicateOperator.SUPERIOR, PredicateOperator.BETWEEN));
+    }
+
+    @Test
+    @DisplayName("Test parse: should split alternatives like String.split")
+    void testParseAlternatives() {
+        var parser = new FilterValueParser(Set.of());
+
+        assertEquals(1, parser.parse("").size());
+        assertEquals(0, parser.parse("|").size());
+        assertEquals(2, parser.parse("a|b||").size());
+
+        var terms = parser.parse("a||b");
+        assertEquals(3, terms.size());
+        assertEquals("a", terms.get(0).getAlternative());
+        assertEquals("", terms.get(1).getAlternative());
+        assertEquals("b", terms.get(2).getAlternative());
+    }
+
+    @Test
+    @DisplayName("Test parse: should read prefixes and offsets of each term")
+    void testParseTerms() {
+        var terms = comparableParser().parse("NOT_eq_1|null|gt_2|not_3_BT_4|lk_5");
+
+        assertTrue(terms.get(0).isNegated());
+        assertEquals(PredicateOperator.EQUALS, terms.get(0).getOperator());
+        assertEquals("1", terms.get(0).getLiteral());
+        assertEquals(7, terms.get(0).getStart());
+
+        assertFalse(terms.get(1).isNegated());
+        assertEquals(PredicateOperator.NULL, terms.get(1).getOperator());
+
+        assertEquals(PredicateOperator.SUPERIOR, terms.get(2).getOperator());
+        assertEquals("2", terms.get(2).getLiteral());
+        assertEquals(17, terms.get(2).getStart());
+
+        assertTrue(terms.get(3).isNegated());
+        assertEquals(PredicateOperator.BETWEEN, terms.get(3).getOperator());
+        assertEquals("3", terms.get(3).getLowerBound());
+        assertEquals("4", terms.get(3).getUpperBound());
+        assertEquals(28, terms.get(3).getUpperBoundStart());
+
+        assertEquals(PredicateOperator.EQUALS, terms.get(4).getOperator());
+        assertEquals("lk_5", terms.get(4).getLiteral());
+    }
+
+    @Test
+    @DisplayName("Test parse: should only read supported operators")
+    void testParseSupportedOperators() {
+        var parser = new FilterValueParser(EnumSet.of(PredicateOperator.LIKE));
+        var terms = parser.parse("lk_a|lt_b|c_bt_d");
+
+        assertEquals(PredicateOperator.LIKE, terms.get(0).getOperator());
+        assertEquals("a", terms.get(0).getLiteral());
+        assertEquals(PredicateOperator.EQUALS, terms.get(1).getOperator());
+        assertEquals("lt_b", terms.get(1).getLiteral());
+        assertEquals(PredicateOperator.EQUALS, terms.get(2).getOperator());
+    }
+
+    @Test
+    @DisplayName("Test extract: should report offset of invalid literal")
+    void testExtractReportsErrorOffset() {
+        var filter = new IntegerPredicateFilter<>("name", "1|2_bt_x");
+
+        var exception = assertThrows(SpringQueryFilterException.class, filter::extract);
+
+        assertEquals("Invalid number format: Unable to parse the value 'x' as a integer.", exception.getMessage());
+        assertEquals("x", exception.getQueryParameterValue());
+        assertEquals(7, exception.getErrorOffset());
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.zorin95670.predicate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Tag("unit")
+@DisplayName("Test class: InListPredicates")
+class InListPredicatesTest {
+
+    @Test
+    @DisplayName("Test pad: should pad to next power of two")
+    void testPad() {
+        assertEquals(List.of(1), InListPredicates.pad(List.of(1), 1000));
+        assertEquals(List.of(1, 2), InListPredicates.pad(List.of(1, 2), 1000));
+        assertEquals(List.of(1, 2, 3, 3), InListPredicates.pad(List.of(1, 2, 3), 1000));
+        assertEquals(List.of(1, 2, 3, 4, 5, 5, 5, 5), InListPredicates.pad(List.of(1, 2, 3, 4, 5), 1000));
+        assertEquals(List.of(1, 2, 3, 4, 5, 5), InListPredicates.pad(List.of(1, 2, 3, 4, 5), 6));
+    }
+
+    @Test
+    @DisplayName("Test chunk: should split values according to max size")
+    void testChunk() {
+        var values = IntStream.rangeClosed(1, 2500).boxed().toList();
+
+        var chunks = InListPredicates.chunk(values, 1000);
+
+        assertEquals(3, chunks.size());
+        assertEquals(1000, chunks.get(0).size());
+        assertEquals(1000, chunks.get(1).size());
+        assertEquals(512, chunks.get(2).size());
+        assertEquals(1001, chunks.get(1).getFirst());
+        assertEquals(2500, chunks.get(2).getLast());
+        assertEquals(1, InListPredicates.chunk(List.of(1, 2, 3), 1000).size());
+        assertThrows(IllegalArgumentException.class, () -> InListPredicates.chunk(values, 0));
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.zorin95670.predicate;
+
+import io.github.zorin95670.exception.SpringQueryFilterException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Tag("unit")
+@DisplayName("Test class: InstantPredicateFilter")
+class InstantPredicateFilterTest {
+
+    @Test
+    @DisplayName("Test parseValue, should parse ISO-8601 values and timestamps")
+    void testParseValue() {
+        var predicateFilter = new InstantPredicateFilter<>("name", "value");
+
+        assertNull(predicateFilter.getDateFormat());
+        assertEquals(Instant.parse("2024-01-31T10:15:30Z"), predicateFilter.parseValue("2024-01-31T10:15:30Z"));
+        assertEquals(Instant.ofEpochMilli(1000), predicateFilter.parseValue("1000"));
+    }
+
+    @Test
+    @DisplayName("Test parseValue, should parse values with date format")
+    void testParseValueWithDateFormat() {
+        var predicateFilter = new InstantPredicateFilter<>("name", "value", "yyyy-MM-dd HH:mm XXX");
+
+        assertEquals("yyyy-MM-dd HH:mm XXX", predicateFilter.getDateFormat());
+        assertEquals(Instant.parse("2024-01-31T09:15:00Z"), predicateFilter.parseValue("2024-01-31 10:15 +01:00"));
+    }
+
+    @Test
+    @DisplayName("Test parseValue, should throw exception on invalid value")
+    void testParseValueThrowException() {
+        var predicateFilter = new InstantPredicateFilter<>("name", "value");
+
+        var exception = assertThrows(SpringQueryFilterException.class, () -> predicateFilter.parseValue("bad"));
+
+        assertEquals("Invalid date format: Unable to parse the value 'bad' as a timestamp or an ISO-8601 date.",
+            exception.getMessage());
+        assertEquals("DATE", exception.getQueryFilterType());
+        assertEquals("name", exception.getQueryParameterName());
+        assertEquals("bad", exception.getQueryParameterValue());
+    }
+
+    @Test
+    @DisplayName("Test extract, should support between operator")
+    void testExtractBetween() {
+        var predicateFilter = new InstantPredicateFilter<>("name", "2024-01-31T10:15:30Z_bt_1000");
+
+        predicateFilter.extract();
+
+        assertEquals(PredicateOperator.BETWEEN, predicateFilter.getOperator(0));
+        assertEquals(Instant.parse("2024-01-31T10:15:30Z"), predicateFilter.getOperand(0, 0));
+        assertEquals(Instant.ofEpochMilli(1000), predicateFilter.getOperand(0, 1));
+    }
+}
@@ -0,0 +1,86 @@
+package io.github.zorin95670.predicate;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("unit")
+@DisplayName("Test class: JpqlWriter")
+class JpqlWriterTest {
+
+    String render(PredicateFilter<?, ?> filter, JpqlWriter writer) {
+        filter.extract();
+        filter.renderJpql(writer);
+        return writer.getJpql();
+    }
+
+    @Test
+    @DisplayName("Test appendParameter: should name parameters in order")
+    void testAppendParameter() {
+        var writer = new JpqlWriter("e");
+
+        writer.appendPath("id").append(" BETWEEN ").appendParameter(1).append(" AND ").appendParameter(2);
+
+        assertEquals("e.id BETWEEN :p0 AND :p1", writer.getJpql());
+        assertEquals(List.of(1, 2), writer.getParameters());
+        assertEquals("e.id", writer.getPath("id"));
+    }
+
+    @Test
+    @DisplayName("Test renderJpql: should render string filters with uppercase comparisons and IN list")
+    void testRenderStringFilter() {
+        var writer = new JpqlWriter("e");
+
+        assertEquals(
+            "(UPPER(e.text) LIKE :p0 OR (UPPER(e.text) IN (:p1, :p2)))",
+            render(new StringPredicateFilter<>("text", "a|b|lk_c*"), writer));
+        assertEquals(List.of("C%", "A", "B"), writer.getParameters());
+    }
+
+    @Test
+    @DisplayName("Test renderJpql: should render comparable filters with negation and null checks")
+    void testRenderComparableFilter() {
+        var writer = new JpqlWriter("e");
+
+        assertEquals(
+            "(NOT (e.count BETWEEN :p0 AND :p1) OR e.count > :p2 OR e.count IS NULL)",
+            render(new IntegerPredicateFilter<>("count", "not_1_bt_5|gt_10|null"), writer));
+        assertEquals(List.of(1, 5, 10), writer.getParameters());
+    }
+
+    @Test
+    @DisplayName("Test renderJpql: should render the same text for the same shape")
+    void testRenderSameShape() {
+        var writer1 = new JpqlWriter("e");
+        var writer2 = new JpqlWriter("e");
+
+        assertEquals(
+            render(new IntegerPredicateFilter<>("count", "1|2|3"), writer1),
+            render(new IntegerPredicateFilter<>("count", "7|8|9|10"), writer2));
+        assertEquals(List.of(1, 2, 3, 3), writer1.getParameters());
+    }
+
+    @Test
+    @DisplayName("Test isJpqlRenderable: should reject subclasses overriding predicates")
+    void testIsJpqlRenderable() {
+        var custom = new IntegerPredicateFilter<>("count", "1") {
+            @Override
+            public Predicate getPredicate(int index, CriteriaBuilder builder, Expression<Integer> field) {
+                return super.getPredicate(index, builder, field);
+            }
+        };
+
+        assertTrue(new IntegerPredicateFilter<>("count", "1").isJpqlRenderable());
+        assertTrue(new StringPredicateFilter<>("text", "a").isJpqlRenderable());
+        assertFalse(custom.isJpqlRenderable());
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.zorin95670.predicate;
+
+import io.github.zorin95670.exception.SpringQueryFilterException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Tag("unit")
+@DisplayName("Test class: LocalDateTimePredicateFilter")
+class LocalDateTimePredicateFilterTest {
+
+    @Test
+    @DisplayName("Test parseValue, should parse ISO-8601 values and timestamps")
+    void testParseValue() {
+        var predicateFilter = new LocalDateTimePredicateFilter<>("name", "value");
+
+        assertNull(predicateFilter.getDateFormat());
+        assertEquals(LocalDateTime.of(2024, 1, 31, 10, 15, 30), predicateFilter.parseValue("2024-01-31T10:15:30"));
+        assertEquals(LocalDateTime.ofInstant(Instant.ofEpochMilli(1000), ZoneId.systemDefault()), predicateFilter.parseValue("1000"));
+    }
+
+    @Test
+    @DisplayName("Test parseValue, should parse values with date format")
+    void testParseValueWithDateFormat() {
+        var predicateFilter = new LocalDateTimePredicateFilter<>("name", "value", "yyyy-MM-dd HH:mm");
+
+        assertEquals("yyyy-MM-dd HH:mm", predicateFilter.getDateFormat());
+        assertEquals(LocalDateTime.of(2024, 1, 31, 10, 15), predicateFilter.parseValue("2024-01-31 10:15"));
+    }
+
+    @Test
+    @DisplayName("Test parseValue, should throw exception on invalid value")
+    void testParseValueThrowException() {
+        var predicateFilter = new LocalDateTimePredicateFilter<>("name", "value");
+
+        var exception = assertThrows(SpringQueryFilterException.class, () -> predicateFilter.parseValue("bad"));
+
+        assertEquals("Invalid date format: Unable to parse the value 'bad' as a timestamp or an ISO-8601 date.",
+            exception.getMessage());
+        assertEquals("DATE", exception.getQueryFilterType());
+        assertEquals("name", exception.getQueryParameterName());
+        assertEquals("bad", exception.getQueryParameterValue());
+    }
+
+    @Test
+    @DisplayName("Test extract, should support between operator")
+    void testExtractBetween() {
+        var predicateFilter = new LocalDateTimePredicateFilter<>("name", "2024-01-31T10:15:30_bt_1000");
+
+        predicateFilter.extract();
+
+        assertEquals(PredicateOperator.BETWEEN, predicateFilter.getOperator(0));
+        assertEquals(LocalDateTime.of(2024, 1, 31, 10, 15, 30), predicateFilter.getOperand(0, 0));
+        assertEquals(LocalDateTime.ofInstant(Instant.ofEpochMilli(1000), ZoneId.systemDefault()), predicateFilter.getOperand(0, 1));
+    }
+}
@@ -4,20 +4,27 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 @Tag("unit")
 @DisplayName("Test class: PredicateFilter")
 class PredicateFilterTest {
 
     class TestPredicateFilter<T> extends PredicateFilter<T, String> {
+        int parseCount = 0;
+
         TestPredicateFilter(String name, String value) {
             super(name, value);
         }
 
         @Override
         public String parseValue(String value) {
+            parseCount++;
             return value;
         }
     }
@@ -39,4 +46,49 @@ class PredicateFilterTest {
         assertEquals("value2", values[1]);
         assertEquals("value3", values[2]);
     }
+
+    @Test
+    @DisplayName("Test extract, should copy each value from the raw value once")
+    void testExtractCopiesValuesOnce() {
+        var raw = "value1";
+        var filter = new TestPredicateFilter<>("name", raw);
+        filter.extract();
+
+        assertEquals(1, filter.getValueCount());
+        assertSame(raw, filter.getValue(0));
+
+        filter = new TestPredicateFilter<>("name", "not_value1|eq_value2");
+        assertEquals("not_value1", filter.getValue(0));
+        filter.extract();
+
+        assertEquals("value1", filter.getValue(0));
+        assertEquals("value2", filter.getValue(1));
+        assertSame(filter.getValue(1), filter.getValue(1));
+
+        filter.setValue(1, null);
+        assertNull(filter.getValue(1));
+    }
+
+    @Test
+    @DisplayName("Test extract, should parse operands once")
+    void testExtractParsesOperandsOnce() {
+        var filter = new TestPredicateFilter<>("name", "eq_value1|null|not_value2");
+        filter.extract();
+
+        assertEquals(2, filter.parseCount);
+        assertEquals("value1", filter.getOperand(0, 0));
+        assertEquals(List.of(), filter.parseOperands(1));
+        assertEquals("value2", filter.getOperand(2, 0));
+        assertEquals("value2", filter.getOperand(2, 0));
+        assertEquals(2, filter.parseCount);
+    }
+
+    @Test
+    @DisplayName("Test getOperand, should parse value when filter is not extracted")
+    void testGetOperandWithoutExtract() {
+        var filter = new TestPredicateFilter<>("name", "value1");
+
+        assertEquals("value1", filter.getOperand(0, 0));
+        assertEquals(1, filter.parseCount);
+    }
 }
@@ -0,0 +1,98 @@
+package io.github.zorin95670.specification;
+
+import io.github.zorin95670.predicate.FilterType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@Tag("unit")
+@DisplayName("Test class: FilterMetadata")
+class FilterMetadataTest {
+
+    static class ParentEntity {
+        @FilterType(type = Long.class)
+        private Long id;
+
+        @FilterType(type = Integer.class)
+        private String shadowed;
+    }
+
+    static class ChildEntity extends ParentEntity {
+        @FilterType(type = String.class)
+        private String shadowed;
+
+        private String unfiltered;
+    }
+
+    static class CustomerEntity {
+        @FilterType(type = String.class)
+        private String country;
+    }
+
+    static class OrderEntity {
+        @FilterType(type = Long.class)
+        private Long id;
+
+        private CustomerEntity customer;
+
+        private List<OrderEntity> children;
+    }
+
+    @Test
+    @DisplayName("Test of: should index all fields annotated with FilterType")
+    void testOf() {
+        FilterMetadata metadata = FilterMetadata.of(MyEntity.class);
+
+        assertEquals(Set.of("id", "text", "date", "uuid", "numberInteger", "numberFloat", "numberDouble"),
+            metadata.getFieldNames());
+        assertEquals(Date.class, metadata.getField("date").getType());
+        assertEquals(UUID.class, metadata.getField("uuid").getType());
+        assertEquals("text", metadata.getField("text").getName());
+        assertNull(metadata.getField("unfilteredField"));
+        assertNull(metadata.getField("unknown"));
+        assertNull(metadata.getField(null));
+    }
+
+    @Test
+    @DisplayName("Test of: should resolve metadata once per class")
+    void testOfIsCached() {
+        assertSame(FilterMetadata.of(MyEntity.class), FilterMetadata.of(MyEntity.class));
+    }
+
+    @Test
+    @DisplayName("Test of: should include inherited fields and prefer the subclass declaration")
+    void testOfWithInheritance() {
+        FilterMetadata metadata = FilterMetadata.of(ChildEntity.class);
+
+        assertEquals(Set.of("id", "shadowed"), metadata.getFieldNames());
+        assertNotNull(metadata.getField("id"));
+        assertEquals(String.class, metadata.getField("shadowed").getType());
+    }
+
+    @Test
+    @DisplayName("Test getField: should resolve dotted paths through associated classes")
+    void testGetFieldWithDottedPath() {
+        FilterMetadata metadata = FilterMetadata.of(OrderEntity.class);
+
+        assertEquals(Set.of("id"), metadata.getFieldNames());
+        assertEquals(String.class, metadata.getField("customer.country").getType());
+        assertEquals("customer.country", metadata.getField("customer.country").getName());
+        assertEquals(Long.class, metadata.getField("children.id").getType());
+        assertEquals(String.class, metadata.getField("children.customer.country").getType());
+        assertNull(metadata.getField("customer.unknown"));
+        assertNull(metadata.getField("unknown.country"));
+        assertEquals(List.of(OrderEntity.class, CustomerEntity.class),
+            metadata.getJoinedClasses("children.customer.country"));
+        assertEquals(List.of(), metadata.getJoinedClasses("id"));
+    }
+}
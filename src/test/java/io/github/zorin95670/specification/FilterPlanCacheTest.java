@@ -0,0 +1,190 @@
+package io.github.zorin95670.specification;
+
+import io.github.zorin95670.predicate.PredicateFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("unit")
+@DisplayName("Test class: FilterPlanCache")
+class FilterPlanCacheTest {
+
+    SpringQueryFilterSpecification<MyEntity> specification(Map<String, List<String>> filters) {
+        return new SpringQueryFilterSpecification<>(MyEntity.class, new HashMap<>(filters));
+    }
+
+    static class TenantSpecification extends SpringQueryFilterSpecification<MyEntity> {
+        final String tenant;
+
+        TenantSpecification(String tenant, Map<String, List<String>> filters) {
+            super(MyEntity.class, new HashMap<>(filters));
+            this.tenant = tenant;
+        }
+
+        @Override
+        protected Object getPlanCacheKey() {
+            return tenant;
+        }
+    }
+
+    static class UncacheableSpecification extends SpringQueryFilterSpecification<MyEntity> {
+        UncacheableSpecification(Map<String, List<String>> filters) {
+            super(MyEntity.class, new HashMap<>(filters));
+        }
+
+        @Override
+        protected boolean isPlanCacheable() {
+            return false;
+        }
+    }
+
+    @Test
+    @DisplayName("Test get: should compile on miss and reuse plan on hit")
+    void testGet() {
+        var cache = new FilterPlanCache();
+
+        var plan1 = cache.get(specification(Map.of("text", List.of("lk_a*"))));
+        var plan2 = cache.get(specification(Map.of("text", List.of("lk_a*"))));
+        var plan3 = cache.get(specification(Map.of("text", List.of("lk_b*"))));
+
+        assertSame(plan1, plan2);
+        assertNotSame(plan1, plan3);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(0, cache.getEvictionCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    @DisplayName("Test get: should evict least recently used plan")
+    void testGetEviction() {
+        var cache = new FilterPlanCache(2);
+
+        var plan1 = cache.get(specification(Map.of("id", List.of("1"))));
+        cache.get(specification(Map.of("id", List.of("2"))));
+        cache.get(specification(Map.of("id", List.of("1"))));
+        cache.get(specification(Map.of("id", List.of("3"))));
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertSame(plan1, cache.get(specification(Map.of("id", List.of("1")))));
+        cache.get(specification(Map.of("id", List.of("2"))));
+        assertEquals(4, cache.getMissCount());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Test constructor: should reject invalid size")
+    void testConstructorWithInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new FilterPlanCache(0));
+    }
+
+    @Test
+    @DisplayName("Test FilterPlanKey: should ignore unknown filters and keep date format")
+    void testFilterPlanKey() {
+        var key1 = new FilterPlanKey(specification(Map.of("id", List.of("1"), "page", List.of("2"))));
+        var key2 = new FilterPlanKey(specification(Map.of("id", List.of("1"))));
+        var key3 = new FilterPlanKey(specification(Map.of("id", List.of("1"), "dateFormat", List.of("yyyy"))));
+
+        assertEquals(key1, key2);
+        assertEquals(key1.hashCode(), key2.hashCode());
+        assertNotEquals(key1, key3);
+        assertEquals(Map.of("id", List.of("1")), key1.getFilters());
+        assertEquals(MyEntity.class, key1.getEntityClass());
+    }
+
+    @Test
+    @DisplayName("Test get: should compile again after a registration in the registry")
+    void testGetAfterRegistration() {
+        var cache = new FilterPlanCache();
+        var registry = new FilterTypeRegistry();
+        var specification1 = specification(Map.of("text", List.of("lk_a*")));
+        var specification2 = specification(Map.of("text", List.of("lk_a*")));
+        specification1.setFilterTypeRegistry(registry);
+        specification2.setFilterTypeRegistry(registry);
+
+        var plan1 = cache.get(specification1);
+        registry.register(Timestamp.class, registry.getFactory(Date.class));
+        var plan2 = cache.get(specification2);
+
+        assertNotSame(plan1, plan2);
+        assertSame(plan2, cache.get(specification2));
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("Test get: should key plans by the default registry without setting it on the specification")
+    void testGetWithDefaultRegistry() {
+        var cache = new FilterPlanCache();
+        var registry = new FilterTypeRegistry();
+        var specification = specification(Map.of("text", List.of("lk_a*")));
+
+        var plan1 = cache.get(specification, registry);
+        var plan2 = cache.get(specification);
+
+        assertNotSame(plan1, plan2);
+        assertSame(plan1, cache.get(specification, registry));
+        assertFalse(specification.hasFilterTypeRegistry());
+        assertNotEquals(new FilterPlanKey(specification, registry), new FilterPlanKey(specification));
+    }
+
+    @Test
+    @DisplayName("Test get: should freeze the filters of cached plans")
+    void testGetFreezesFilters() {
+        var cache = new FilterPlanCache();
+        var plan = cache.get(specification(Map.of("text", List.of("lk_a*"))));
+        var filter = (PredicateFilter<MyEntity, ?>) plan.getPredicateFilters().getFirst();
+
+        assertTrue(filter.isFrozen());
+        assertThrows(IllegalStateException.class, () -> filter.setValue(0, "b"));
+        assertThrows(IllegalStateException.class, () -> filter.setMaxInListSize(1));
+        assertThrows(IllegalStateException.class, filter::extract);
+        assertEquals("A%", filter.getValue(0));
+    }
+
+    @Test
+    @DisplayName("Test get: should key plans by the state of the specification")
+    void testGetWithPlanCacheKey() {
+        var cache = new FilterPlanCache();
+        var filters = Map.of("text", List.of("lk_a*"));
+
+        var plan1 = cache.get(new TenantSpecification("a", filters));
+        var plan2 = cache.get(new TenantSpecification("b", filters));
+
+        assertNotSame(plan1, plan2);
+        assertSame(plan1, cache.get(new TenantSpecification("a", filters)));
+        assertNotEquals(new FilterPlanKey(new TenantSpecification("a", filters)),
+            new FilterPlanKey(new TenantSpecification("b", filters)));
+    }
+
+    @Test
+    @DisplayName("Test get: should not cache plans of specifications that opt out")
+    void testGetWithUncacheableSpecification() {
+        var cache = new FilterPlanCache();
+        var filters = Map.of("text", List.of("lk_a*"));
+
+        var plan1 = cache.get(new UncacheableSpecification(filters));
+        var plan2 = cache.get(new UncacheableSpecification(filters));
+
+        assertNotSame(plan1, plan2);
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.zorin95670.specification;
+
+import io.github.zorin95670.exception.SpringQueryFilterException;
+import io.github.zorin95670.predicate.BigDecimalPredicateFilter;
+import io.github.zorin95670.predicate.DatePredicateFilter;
+import io.github.zorin95670.predicate.EnumPredicateFilter;
+import io.github.zorin95670.predicate.LongPredicateFilter;
+import io.github.zorin95670.predicate.StringPredicateFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("unit")
+@DisplayName("Test class: FilterTypeRegistry")
+class FilterTypeRegistryTest {
+
+    @Test
+    @DisplayName("Test constructor: should register built-in types")
+    void testConstructor() {
+        var registry = new FilterTypeRegistry();
+
+        assertEquals("String, Date, Integer, Long, Float, Double, BigDecimal, Boolean, UUID, LocalDate, LocalDateTime, Instant, OffsetDateTime", registry.getTypeNames());
+        assertTrue(registry.supports(String.class));
+        assertFalse(registry.supports(Timestamp.class));
+        assertNull(registry.getFactory(Timestamp.class));
+        assertEquals(StringPredicateFilter.class, registry.getFactory(String.class).create("a", "b", null).getClass());
+    }
+
+    @Test
+    @DisplayName("Test register: should add or replace a type")
+    void testRegister() {
+        var registry = new FilterTypeRegistry();
+
+        assertSame(registry, registry.register(Timestamp.class,
+            (name, value, dateFormat) -> new DatePredicateFilter<>(name, value, dateFormat)));
+        registry.register(String.class, (name, value, dateFormat) -> new LongPredicateFilter<>(name, value));
+
+        assertTrue(registry.supports(Timestamp.class));
+        assertEquals(2, registry.getVersion() - new FilterTypeRegistry().getVersion());
+        assertEquals(LongPredicateFilter.class, registry.getFactory(String.class).create("a", "1", null).getClass());
+        assertEquals("String, Date, Integer, Long, Float, Double, BigDecimal, Boolean, UUID, LocalDate, LocalDateTime, Instant, OffsetDateTime, Timestamp", registry.getTypeNames());
+    }
+
+    @Test
+    @DisplayName("Test getPredicateFilter: should use the registry of the specification")
+    void testSpecificationRegistry() {
+        Map<String, List<String>> filters = new HashMap<>();
+        filters.put("dateFormat", List.of("yyyy"));
+        var specification = new SpringQueryFilterSpecification<>(MyEntity.class, filters);
+
+        assertSame(FilterTypeRegistry.getDefault(), specification.getFilterTypeRegistry());
+        assertThrows(SpringQueryFilterException.class,
+            () -> specification.getPredicateFilter(Timestamp.class, "date", "2020"));
+
+        FilterTypeContributor contributor = registry -> registry.register(Timestamp.class,
+            (name, value, dateFormat) -> new DatePredicateFilter<>(name, value, dateFormat));
+        var registry = new FilterTypeRegistry();
+        contributor.contribute(registry);
+        specification.setFilterTypeRegistry(registry);
+
+        var filter = (DatePredicateFilter<?>) specification.getPredicateFilter(Timestamp.class, "date", "2020");
+        assertEquals(new DatePredicateFilter<>("date", "2020", "yyyy").parseValue("2020"), filter.parseValue("2020"));
+        assertEquals(DatePredicateFilter.class, specification.getPredicateFilter(Date.class, "date", "2020").getClass());
+    }
+
+    @Test
+    @DisplayName("Test getFactory: should support BigDecimal and enum types")
+    void testBuiltInTypes() {
+        var registry = new FilterTypeRegistry();
+
+        assertTrue(registry.supports(BigDecimal.class));
+        assertEquals(BigDecimalPredicateFilter.class,
+            registry.getFactory(BigDecimal.class).create("a", "1.5", null).getClass());
+
+        assertTrue(registry.supports(DayOfWeek.class));
+        var filter = (EnumPredicateFilter<?, ?>) registry.getFactory(DayOfWeek.class).create("a", "MONDAY", null);
+        assertEquals(DayOfWeek.class, filter.getEnumType());
+        assertEquals(DayOfWeek.MONDAY, filter.parseValue("MONDAY"));
+
+        registry.register(DayOfWeek.class, (name, value, dateFormat) -> new StringPredicateFilter<>(name, value));
+        assertEquals(StringPredicateFilter.class,
+            registry.getFactory(DayOfWeek.class).create("a", "MONDAY", null).getClass());
+    }
+
+    @Test
+    @DisplayName("Test getDefault: should not be modified by a new registry")
+    void testDefaultRegistryIsolation() {
+        var registry = new FilterTypeRegistry()
+            .register(Timestamp.class, (name, value, dateFormat) -> new DatePredicateFilter<>(name, value));
+
+        assertTrue(registry.supports(Timestamp.class));
+        assertFalse(FilterTypeRegistry.getDefault().supports(Timestamp.class));
+        assertNotSame(FilterTypeRegistry.getDefault(), registry);
+    }
+}
@@ -7,8 +7,12 @@ import io.github.zorin95670.predicate.DoublePredicateFilter;
 import io.github.zorin95670.predicate.FloatPredicateFilter;
 import io.github.zorin95670.predicate.IntegerPredicateFilter;
 import io.github.zorin95670.predicate.LongPredicateFilter;
+import io.github.zorin95670.predicate.PredicateOperator;
 import io.github.zorin95670.predicate.StringPredicateFilter;
 import io.github.zorin95670.predicate.UUIDPredicateFilter;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,7 +32,9 @@ import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest(classes = TestSpecificationConfig.class)
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
@@ -80,7 +86,8 @@ class SpringQueryFilterSpecificationTest {
 
         assertNotNull(exception);
         assertEquals("Unsupported filter type: 'Timestamp'. Valid types are String, Date, Integer, Long, Float,"
-            + " Double, Boolean, UUID.", exception.getMessage());
+            + " Double, BigDecimal, Boolean, UUID, LocalDate, LocalDateTime, Instant, OffsetDateTime and enum types.",
+            exception.getMessage());
         assertEquals("Timestamp", exception.getQueryFilterType());
         assertEquals("name", exception.getQueryParameterName());
         assertEquals("value", exception.getQueryParameterValue());
@@ -350,4 +357,144 @@ class SpringQueryFilterSpecificationTest {
         assertEquals(1, entities.size());
         assertEquals(entity1, entities.getFirst());
     }
+
+    @Test
+    @Transactional
+    @DisplayName("should reuse a compiled plan for several queries")
+    void testShouldReuseCompiledPlan() {
+        repository.deleteAll();
+        repository.flush();
+
+        MyEntity entity1 = repository.save(createEntity(1, UUID.randomUUID()));
+        repository.save(createEntity(2, UUID.randomUUID()));
+
+        Map<String, List<String>> filters = new HashMap<>();
+        filters.put("numberInteger", List.of("lt_150"));
+        filters.put("unknown", List.of("ignored"));
+        var specification = new SpringQueryFilterSpecification<>(MyEntity.class, filters);
+        var plan = specification.compile();
+        var pageable = PageRequest.of(0, 10);
+
+        assertEquals(1, plan.getPredicateFilters().size());
+
+        filters.put("numberInteger", List.of("gt_150"));
+
+        List<MyEntity> entities = repository.findAll(plan, pageable);
+        assertEquals(List.of(entity1), entities);
+
+        entities = repository.findAll(plan, pageable);
+        assertEquals(List.of(entity1), entities);
+    }
+
+    @Test
+    @DisplayName("should describe the shape of a compiled plan without its operands")
+    void testShouldBuildPlanShape() {
+        Map<String, List<String>> filters = new HashMap<>();
+        filters.put("text", List.of("not_lk_a*|b"));
+        filters.put("numberInteger", List.of("gt_150"));
+
+        var plan = new SpringQueryFilterSpecification<>(MyEntity.class, filters).compile();
+        assertEquals("numberInteger.SUPERIOR/text.EQUALS|NOT_LIKE", plan.getShape());
+
+        filters.put("text", List.of("c|not_lk_d*"));
+        filters.put("numberInteger", List.of("gt_10"));
+        var samePlan = new SpringQueryFilterSpecification<>(MyEntity.class, filters).compile();
+        assertEquals(plan.getShape(), samePlan.getShape());
+
+        assertEquals("", new SpringQueryFilterSpecification<>(MyEntity.class, new HashMap<>()).compile().getShape());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("should filter equality lists with IN and NOT IN predicates")
+    void testShouldFilterWithInLists() {
+        repository.deleteAll();
+        repository.flush();
+
+        MyEntity entity1 = repository.save(createEntity(1, UUID.randomUUID()));
+        MyEntity entity2 = repository.save(createEntity(2, UUID.randomUUID()));
+        MyEntity entity3 = repository.save(createEntity(3, UUID.randomUUID()));
+        MyEntity entity4 = repository.save(createEntity(4, UUID.randomUUID()));
+        var pageable = PageRequest.of(0, 10, Sort.by(Sort.Order.asc("text")));
+
+        Map<String, List<String>> filters = new HashMap<>();
+        filters.put("numberInteger", List.of("100|300|400|500|lt_0"));
+        var specification = new SpringQueryFilterSpecification<>(MyEntity.class, filters);
+        specification.setMaxInListSize(2);
+        List<MyEntity> entities = repository.findAll(specification, pageable);
+        assertEquals(List.of(entity1, entity3, entity4), entities);
+
+        filters = new HashMap<>();
+        filters.put("text", List.of("TEXT1|text2"));
+        entities = repository.findAll(new SpringQueryFilterSpecification<>(MyEntity.class, filters), pageable);
+        assertEquals(List.of(entity1, entity2), entities);
+
+        filters = new HashMap<>();
+        filters.put("text", List.of("not_text1", "not_TEXT3"));
+        entities = repository.findAll(new SpringQueryFilterSpecification<>(MyEntity.class, filters), pageable);
+        assertEquals(List.of(entity2, entity4), entities);
+
+        filters = new HashMap<>();
+        filters.put("numberInteger", List.of("not_100|not_200"));
+        entities = repository.findAll(new SpringQueryFilterSpecification<>(MyEntity.class, filters), pageable);
+        assertEquals(List.of(entity1, entity2, entity3, entity4), entities);
+    }
+
+    /**
+     * Integer filter whose equalities match the values within 50 of the operand.
+     */
+    static class TolerantIntegerPredicateFilter<T> extends IntegerPredicateFilter<T> {
+
+        TolerantIntegerPredicateFilter(final String name, final String value) {
+            super(name, value);
+        }
+
+        @Override
+        public Predicate getPredicate(final int index, final CriteriaBuilder builder, final Expression<Integer> field) {
+            if (!PredicateOperator.EQUALS.equals(this.getOperator(index))) {
+                return super.getPredicate(index, builder, field);
+            }
+
+            Integer operand = this.getOperand(index, 0);
+            Predicate predicate = builder.between(field, operand - 50, operand + 50);
+
+            if (this.getIsNotOperator(index)) {
+                return builder.not(predicate);
+            }
+            return predicate;
+        }
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("should keep the equalities of a filter overriding its predicates out of IN and NOT IN predicates")
+    void testShouldNotCombineOverriddenEqualities() {
+        repository.deleteAll();
+        repository.flush();
+
+        MyEntity entity1 = repository.save(createEntity(1, UUID.randomUUID()));
+        MyEntity entity2 = repository.save(createEntity(2, UUID.randomUUID()));
+        MyEntity entity3 = repository.save(createEntity(3, UUID.randomUUID()));
+        MyEntity entity4 = repository.save(createEntity(4, UUID.randomUUID()));
+        var pageable = PageRequest.of(0, 10, Sort.by(Sort.Order.asc("text")));
+        var registry = new FilterTypeRegistry()
+            .register(Integer.class, (name, value, dateFormat) -> new TolerantIntegerPredicateFilter<>(name, value));
+
+        assertFalse(new TolerantIntegerPredicateFilter<>("numberInteger", "1").isInListCombinable());
+        assertTrue(new IntegerPredicateFilter<>("numberInteger", "1").isInListCombinable());
+
+        Map<String, List<String>> filters = new HashMap<>();
+        filters.put("numberInteger", List.of("120|290"));
+        var specification = new SpringQueryFilterSpecification<>(MyEntity.class, filters);
+        specification.setFilterTypeRegistry(registry);
+        List<MyEntity> entities = repository.findAll(specification, pageable);
+        assertEquals(List.of(entity1, entity3), entities);
+
+        filters = new HashMap<>();
+        filters.put("numberInteger", List.of("not_120", "not_290"));
+        specification = new SpringQueryFilterSpecification<>(MyEntity.class, filters);
+        specification.setFilterTypeRegistry(registry);
+        entities = repository.findAll(specification, pageable);
+        assertEquals(List.of(entity2, entity4), entities);
+    }
 }